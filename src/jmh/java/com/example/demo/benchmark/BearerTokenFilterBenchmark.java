@@ -0,0 +1,157 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.filter.CustomBearerTokenAuthenticationFilter;
+import com.example.demo.auth.model.enums.TokenClaims;
+import com.example.demo.auth.model.enums.UserType;
+import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
+import com.example.demo.auth.repository.UserRepository;
+import com.example.demo.auth.service.TokenEpochService;
+import com.example.demo.auth.service.impl.TokenEpochServiceImpl;
+import com.example.demo.auth.service.impl.TokenServiceImpl;
+import com.example.demo.auth.service.impl.VerifiedTokenCacheServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the authentication cost of a request carrying a bearer token.
+ * {@code filter} runs {@link CustomBearerTokenAuthenticationFilter} with a reused token, which is served by the
+ * verified token cache and the token epoch cache; {@code filterWithoutCache} verifies the token once per request;
+ * {@code parseThreeTimes} reproduces the cost of building a parser and verifying the RSA signature for the validation, the token ID and the
+ * authentication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BearerTokenFilterBenchmark {
+
+    private static final InvalidTokenService NO_INVALID_TOKENS = new InvalidTokenService() {
+
+        @Override
+        public void invalidateTokens(final Map<String, Instant> tokenExpirations) {
+        }
+
+        @Override
+        public void checkForInvalidityOfToken(final String tokenId) {
+        }
+
+    };
+
+    private static final VerifiedTokenCacheService NO_CACHE = new VerifiedTokenCacheService() {
+
+        @Override
+        public UsernamePasswordAuthenticationToken get(final String jwt,
+                                                       final Supplier<UsernamePasswordAuthenticationToken> loader) {
+            return loader.get();
+        }
+
+        @Override
+        public void evict(final Set<String> tokenIds) {
+        }
+
+    };
+
+    private TokenConfigurationParameter tokenConfigurationParameter;
+
+    private CustomBearerTokenAuthenticationFilter filter;
+
+    private CustomBearerTokenAuthenticationFilter uncachedFilter;
+
+    private String accessToken;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+
+        tokenConfigurationParameter = new TokenConfigurationParameter();
+
+        final TokenServiceImpl tokenService = new TokenServiceImpl(tokenConfigurationParameter, NO_INVALID_TOKENS,
+                new VerifiedTokenCacheServiceImpl(tokenConfigurationParameter, new SimpleMeterRegistry()));
+
+        final TokenEpochService tokenEpochService = new TokenEpochServiceImpl(
+                Mockito.mock(UserRepository.class), tokenConfigurationParameter, new SimpleMeterRegistry());
+
+        filter = new CustomBearerTokenAuthenticationFilter(tokenService, tokenEpochService);
+
+        uncachedFilter = new CustomBearerTokenAuthenticationFilter(
+                new TokenServiceImpl(tokenConfigurationParameter, NO_INVALID_TOKENS, NO_CACHE), tokenEpochService);
+
+        accessToken = tokenService.generateToken(Map.of(
+                TokenClaims.USER_ID.getValue(), "benchmark-user",
+                TokenClaims.USER_TYPE.getValue(), UserType.USER.name()
+        )).getAccessToken();
+
+        request = new MockHttpServletRequest("GET", "/api/v1/flights");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        return run(filter);
+    }
+
+    @Benchmark
+    public Object filterWithoutCache() throws ServletException, IOException {
+        return run(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object parseThreeTimes() {
+
+        for (int parse = 0; parse < 2; parse++) {
+            Jwts.parser()
+                    .verifyWith(tokenConfigurationParameter.getPublicKey())
+                    .build()
+                    .parseSignedClaims(accessToken);
+        }
+
+        final Jws<Claims> claims = Jwts.parser()
+                .verifyWith(tokenConfigurationParameter.getPublicKey())
+                .build()
+                .parseSignedClaims(accessToken);
+
+        return claims.getPayload().getId();
+
+    }
+
+    private Object run(final CustomBearerTokenAuthenticationFilter bearerFilter) throws ServletException, IOException {
+
+        final FilterChain filterChain = new MockFilterChain();
+
+        // OncePerRequestFilter marks the request as filtered, so every invocation needs a fresh attribute set.
+        request.removeAttribute(bearerFilter.getClass().getName() + ".FILTERED");
+        bearerFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        final Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+
+        return authentication;
+
+    }
+
+}
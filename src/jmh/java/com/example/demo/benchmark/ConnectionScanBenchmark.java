@@ -0,0 +1,108 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.timetable.ConnectionScanQuery;
+import com.example.demo.flight.timetable.ConnectionScanner;
+import com.example.demo.flight.timetable.ConnectionTimetable;
+import com.example.demo.flight.timetable.Journey;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ConnectionScanner} on a synthetic two-day network.
+ * Flights are drawn between a few hubs and many spokes so that most searches need one or two connections,
+ * which is the worst case for the Pareto bags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionScanBenchmark {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    private static final int QUERIES = 256;
+
+    @Param({"20000", "50000"})
+    private int flightsPerDay;
+
+    @Param({"300"})
+    private int airports;
+
+    private ConnectionTimetable timetable;
+
+    private ConnectionScanQuery[] queries;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+
+        final SplittableRandom random = new SplittableRandom(42);
+        final int hubs = Math.max(2, airports / 20);
+        final List<FlightEntity> flights = new ArrayList<>(flightsPerDay * 2);
+
+        for (int index = 0; index < flightsPerDay * 2; index++) {
+
+            final int from = random.nextInt(4) == 0 ? random.nextInt(airports) : random.nextInt(hubs);
+            int to = random.nextInt(2) == 0 ? random.nextInt(hubs) : random.nextInt(airports);
+            if (to == from) {
+                to = (to + 1) % airports;
+            }
+
+            final LocalDateTime departure = DAY.atStartOfDay().plusMinutes(random.nextInt(2 * 24 * 60));
+
+            flights.add(FlightEntity.builder()
+                    .id("F" + index)
+                    .fromAirport(airport(from))
+                    .toAirport(airport(to))
+                    .departureTime(departure)
+                    .arrivalTime(departure.plusMinutes(45 + random.nextInt(6 * 60)))
+                    .price(30.0 + random.nextInt(50_000) / 100.0)
+                    .build());
+
+        }
+
+        timetable = ConnectionTimetable.of(flights);
+
+        final LocalDateTime start = DAY.atStartOfDay();
+        queries = new ConnectionScanQuery[QUERIES];
+        for (int index = 0; index < QUERIES; index++) {
+            queries[index] = new ConnectionScanQuery(
+                    timetable.stopOf("A" + (hubs + random.nextInt(airports - hubs))),
+                    timetable.stopOf("A" + (hubs + random.nextInt(airports - hubs))),
+                    ConnectionTimetable.toEpochSecond(start),
+                    ConnectionTimetable.toEpochSecond(start.plusDays(1)) - 1,
+                    ConnectionTimetable.toEpochSecond(start.plusDays(2)) - 1,
+                    3,
+                    Duration.ofMinutes(45).toSeconds()
+            );
+        }
+
+    }
+
+    @Benchmark
+    public List<Journey> scan() {
+        final ConnectionScanQuery query = queries[next++ & (QUERIES - 1)];
+        return ConnectionScanner.scan(timetable, query);
+    }
+
+    private static AirportSnapshot airport(final int index) {
+        return AirportSnapshot.builder()
+                .id("A" + index)
+                .name("Airport " + index)
+                .cityName("City " + index)
+                .build();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.demo.auth.config;
+
+import com.example.demo.auth.model.RevocationRegistryStatus;
+import com.example.demo.auth.service.RevocationRegistryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the revoked token registry under {@code /actuator/revocations}.
+ * A {@code POST} reloads the registry from {@code invalid-token-collection}; both operations require the
+ * {@code ADMIN} authority (see {@link SecurityConfig}).
+ */
+@Component
+@Endpoint(id = "revocations")
+@RequiredArgsConstructor
+public class RevocationRegistryEndpoint {
+
+    private final RevocationRegistryService revocationRegistryService;
+
+    /**
+     * Returns the current state of the registry.
+     *
+     * @return the {@link RevocationRegistryStatus} of the registry.
+     */
+    @ReadOperation
+    public RevocationRegistryStatus status() {
+        return revocationRegistryService.status();
+    }
+
+    /**
+     * Reloads the registry and returns its new state.
+     *
+     * @return the {@link RevocationRegistryStatus} of the reloaded registry.
+     */
+    @WriteOperation
+    public RevocationRegistryStatus resync() {
+        revocationRegistryService.resync();
+        return revocationRegistryService.status();
+    }
+
+}
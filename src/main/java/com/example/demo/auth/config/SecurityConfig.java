@@ -1,6 +1,7 @@
 package com.example.demo.auth.config;
 
 import com.example.demo.auth.filter.CustomBearerTokenAuthenticationFilter;
+import com.example.demo.auth.model.enums.UserType;
 import com.example.demo.auth.security.CustomAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +51,8 @@ public class SecurityConfig {
 
     /**
      * Configures the security filter chain for handling HTTP security.
+     * Actuator endpoints are public, except {@code /actuator/revocations}, which can force a reload of the revoked
+     * tokens and is restricted to admins.
      *
      * @param httpSecurity the {@link HttpSecurity} to configure.
      * @param customBearerTokenAuthenticationFilter a custom filter for handling bearer token authentication.
@@ -70,6 +73,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(customizer -> customizer
                         .requestMatchers(HttpMethod.POST, "/api/v1/authentication/**").permitAll()
+                        .requestMatchers("/actuator/revocations", "/actuator/revocations/**")
+                        .hasAuthority(UserType.ADMIN.name())
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
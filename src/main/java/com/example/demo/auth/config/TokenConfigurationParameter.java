@@ -21,6 +21,9 @@ public class TokenConfigurationParameter {
     private final String issuer;
     private final int accessTokenExpireMinute;
     private final int refreshTokenExpireDay;
+    private final long verifiedTokenCacheMaxSize;
+    private final long tokenEpochCacheMaxSize;
+    private final int tokenEpochRefreshSecond;
     private final PublicKey publicKey;
     private final PrivateKey privateKey;
 
@@ -32,6 +35,10 @@ public class TokenConfigurationParameter {
      *   <li>Issuer: {@code ConfigurationParameter.ISSUER}</li>
      *   <li>Access token expiration (minutes): {@code ConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE}</li>
      *   <li>Refresh token expiration (days): {@code ConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY}</li>
+     *   <li>Verified token cache size (tokens, 0 to disable):
+     *       {@code ConfigurationParameter.AUTH_VERIFIED_TOKEN_CACHE_MAX_SIZE}</li>
+     *   <li>Token epoch cache size (users): {@code ConfigurationParameter.AUTH_TOKEN_EPOCH_CACHE_MAX_SIZE}</li>
+     *   <li>Token epoch refresh interval (seconds): {@code ConfigurationParameter.AUTH_TOKEN_EPOCH_REFRESH_SECOND}</li>
      *   <li>Public key: {@code ConfigurationParameter.AUTH_PUBLIC_KEY}</li>
      *   <li>Private key: {@code ConfigurationParameter.AUTH_PRIVATE_KEY}</li>
      * </ul>
@@ -50,6 +57,18 @@ public class TokenConfigurationParameter {
                 ConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.getDefaultValue()
         );
 
+        this.verifiedTokenCacheMaxSize = Long.parseLong(
+                ConfigurationParameter.AUTH_VERIFIED_TOKEN_CACHE_MAX_SIZE.getDefaultValue()
+        );
+
+        this.tokenEpochCacheMaxSize = Long.parseLong(
+                ConfigurationParameter.AUTH_TOKEN_EPOCH_CACHE_MAX_SIZE.getDefaultValue()
+        );
+
+        this.tokenEpochRefreshSecond = Integer.parseInt(
+                ConfigurationParameter.AUTH_TOKEN_EPOCH_REFRESH_SECOND.getDefaultValue()
+        );
+
         this.publicKey = KeyConverter.convertPublicKey(
                 ConfigurationParameter.AUTH_PUBLIC_KEY.getDefaultValue()
         );
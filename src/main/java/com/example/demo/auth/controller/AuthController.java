@@ -130,4 +130,24 @@ public class AuthController {
         return CustomResponse.SUCCESS;
     }
 
+    /**
+     * Endpoint to log out a user from every session.
+     *
+     * @param tokenInvalidateRequest The {@link TokenInvalidateRequest} object containing the access token of the user.
+     * @return A {@link CustomResponse} indicating the success of the logout operation.
+     */
+    @Operation(
+            summary = "Log out a user everywhere",
+            description = "Revokes every token issued to the user of the provided access token.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logout successful"),
+                    @ApiResponse(responseCode = "400", description = "Invalid token provided")
+            }
+    )
+    @PostMapping("/logout-all")
+    public CustomResponse<Void> logoutEverywhere(@RequestBody @Valid final TokenInvalidateRequest tokenInvalidateRequest) {
+        logoutService.logoutEverywhere(tokenInvalidateRequest);
+        return CustomResponse.SUCCESS;
+    }
+
 }
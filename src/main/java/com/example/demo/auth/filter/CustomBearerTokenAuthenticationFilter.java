@@ -1,7 +1,7 @@
 package com.example.demo.auth.filter;
 
 import com.example.demo.auth.model.Token;
-import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,6 +13,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,6 +23,9 @@ import java.io.IOException;
  * Custom filter for handling Bearer token authentication.
  * This filter extracts the Bearer token from the HTTP `Authorization` header, validates the token,
  * checks if it has been invalidated, and sets the authentication in the {@link SecurityContextHolder}.
+ * The token is authenticated with {@link TokenService#authenticate(String)}, which verifies it once and caches its
+ * authentication until it expires or is invalidated, and its epoch is then checked against the current token epoch of
+ * its user with {@link TokenEpochService#checkTokenEpoch}, so tokens revoked by logging out everywhere are rejected.
  * Extends {@link OncePerRequestFilter} to ensure the filter is executed only once per request.
  */
 @Slf4j
@@ -30,7 +34,7 @@ import java.io.IOException;
 public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final InvalidTokenService invalidTokenService;
+    private final TokenEpochService tokenEpochService;
 
     /**
      * Performs filtering logic for each HTTP request to validate Bearer tokens.
@@ -54,14 +58,9 @@ public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter
 
             final String jwt = Token.getJwt(authorizationHeader);
 
-            tokenService.verifyAndValidate(jwt);
+            final UsernamePasswordAuthenticationToken authentication = tokenService.authenticate(jwt);
 
-            final String tokenId = tokenService.getId(jwt);
-
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
-
-            final UsernamePasswordAuthenticationToken authentication = tokenService
-                    .getAuthentication(jwt);
+            tokenEpochService.checkTokenEpoch(((Jwt) authentication.getPrincipal()).getClaims());
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -0,0 +1,79 @@
+package com.example.demo.auth.job;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.model.entity.InvalidTokenEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * InvalidTokenExpiryMigration is a one-shot startup job that fills in the expiration ({@code EXPIRES_AT}) of
+ * invalidated token records saved before it existed, so that MongoDB purges them as well.
+ * The expiration of their token is not known, so each record is kept for the longest token lifetime after it was
+ * created, the bound the revocation registry already applies to such records.
+ * The expirations are computed by the server with a single pipeline update, so no record is read by the application.
+ * Once every record has an expiration the update matches nothing and the job is a no-op.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class InvalidTokenExpiryMigration implements ApplicationRunner {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String EXPIRES_AT = "EXPIRES_AT";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final TokenConfigurationParameter tokenConfigurationParameter;
+
+    /**
+     * Runs the migration once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        final long migrated = migrate();
+        if (migrated > 0) {
+            log.info("Set the expiration of {} invalidated tokens", migrated);
+        }
+    }
+
+    /**
+     * Sets the expiration of every invalidated token record that has a creation time but no expiration yet.
+     *
+     * @return the number of migrated records.
+     */
+    public long migrate() {
+
+        final Duration retention = Collections.max(List.of(
+                Duration.ofDays(tokenConfigurationParameter.getRefreshTokenExpireDay()),
+                Duration.ofMinutes(tokenConfigurationParameter.getAccessTokenExpireMinute())));
+
+        final Query query = Query.query(Criteria.where(EXPIRES_AT).exists(false)
+                .and(CREATED_AT).exists(true));
+
+        final AggregationUpdate update = AggregationUpdate.update()
+                .set(EXPIRES_AT)
+                .toValue(ArithmeticOperators.Add.valueOf(CREATED_AT).add(retention.toMillis()));
+
+        return mongoTemplate.updateMulti(query, update, mongoTemplate.getCollectionName(InvalidTokenEntity.class))
+                .getModifiedCount();
+
+    }
+
+}
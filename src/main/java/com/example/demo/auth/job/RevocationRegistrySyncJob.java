@@ -0,0 +1,47 @@
+package com.example.demo.auth.job;
+
+import com.example.demo.auth.service.RevocationRegistryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * RevocationRegistrySyncJob loads the revoked token registry once the application has started and synchronises it
+ * periodically with the revocations recorded by other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevocationRegistrySyncJob implements ApplicationRunner {
+
+    private final RevocationRegistryService revocationRegistryService;
+
+    /**
+     * Loads the registry once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        syncRegistry();
+    }
+
+    /**
+     * Synchronises the registry, every 5 seconds by default ({@code auth.revocation.sync-interval}).
+     * A registry that cannot be synchronised keeps serving its previous revocations, and its sync lag grows.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT5S}")
+    public void syncRegistry() {
+
+        try {
+            log.debug("Revocation registry synchronised with {} new revoked tokens", revocationRegistryService.sync());
+        } catch (RuntimeException exception) {
+            log.warn("Could not synchronise the revocation registry", exception);
+        }
+
+    }
+
+}
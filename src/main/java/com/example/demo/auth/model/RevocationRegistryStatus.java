@@ -0,0 +1,21 @@
+package com.example.demo.auth.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Represents the state of the in-memory registry of revoked tokens.
+ * It tells whether the registry is loaded, how many revoked token IDs it holds and when it was last synchronised
+ * with {@code invalid-token-collection}.
+ */
+@Getter
+@Builder
+public class RevocationRegistryStatus {
+
+    private final boolean loaded;
+    private final int revokedTokens;
+    private final Instant lastSyncedAt;
+
+}
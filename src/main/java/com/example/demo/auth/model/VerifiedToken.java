@@ -0,0 +1,41 @@
+package com.example.demo.auth.model;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Represents a JWT whose signature and expiration have been verified.
+ * It keeps the header and claims parsed during verification, so the ID, the claims and the authentication of a token
+ * are read without parsing it or checking its signature again.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private final String jwt;
+    private final JwsHeader header;
+    private final Claims claims;
+
+    /**
+     * Returns the unique identifier ({@code jti}) of the token.
+     *
+     * @return the ID of the token.
+     */
+    public String getId() {
+        return claims.getId();
+    }
+
+    /**
+     * Returns the expiration ({@code exp}) of the token.
+     *
+     * @return the time the token expires.
+     */
+    public Instant getExpiresAt() {
+        return claims.getExpiration().toInstant();
+    }
+
+}
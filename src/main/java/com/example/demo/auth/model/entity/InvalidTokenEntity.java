@@ -4,13 +4,19 @@ import com.example.demo.common.model.entity.BaseEntity;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents an entity for storing invalidated tokens in MongoDB.
  * Each token is uniquely identified by {@code tokenId}.
+ * Records keep the expiration of their token, and MongoDB purges them once it has passed, since an expired token is
+ * rejected without checking whether it was invalidated.
+ * Records are indexed by {@code createdAt}, since the revocation registry reads the ones created since its last poll.
  * Extends {@link BaseEntity} for common timestamp fields.
  */
 @Getter
@@ -20,6 +26,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "invalid-token-collection")
+@CompoundIndex(name = "created_at_idx", def = "{ 'createdAt': 1 }")
 public class InvalidTokenEntity extends BaseEntity {
 
     @Id
@@ -27,6 +34,11 @@ public class InvalidTokenEntity extends BaseEntity {
     private String id;
 
     @Field(name = "TOKEN_ID")
+    @Indexed(unique = true)
     private String tokenId;
 
+    @Field(name = "EXPIRES_AT")
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
 }
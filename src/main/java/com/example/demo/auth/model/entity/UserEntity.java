@@ -18,6 +18,7 @@ import java.util.Map;
  * Represents a user entity in the system, storing personal and authentication details.
  * Mapped to the MongoDB {@code user-collection}, with {@code id} as the unique identifier.
  * Extends {@link BaseEntity}, inheriting common properties like timestamps.
+ * The {@code tokenEpoch} is embedded in every token issued to the user; incrementing it revokes all of them at once.
  */
 @Getter
 @Setter
@@ -55,6 +56,9 @@ public class UserEntity extends BaseEntity {
     @Field(name = "USER_STATUS")
     private UserStatus userStatus = UserStatus.ACTIVE;
 
+    @Field(name = "TOKEN_EPOCH")
+    private long tokenEpoch;
+
     /**
      * Generates a map of claims associated with the user.
      * This method creates a map of key-value pairs representing the user's claims,
@@ -73,6 +77,7 @@ public class UserEntity extends BaseEntity {
         claims.put(TokenClaims.USER_LAST_NAME.getValue(), this.lastName);
         claims.put(TokenClaims.USER_EMAIL.getValue(), this.email);
         claims.put(TokenClaims.USER_PHONE_NUMBER.getValue(), this.phoneNumber);
+        claims.put(TokenClaims.TOKEN_EPOCH.getValue(), this.tokenEpoch);
 
         return claims;
     }
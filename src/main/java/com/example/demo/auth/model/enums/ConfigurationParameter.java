@@ -16,6 +16,9 @@ public enum ConfigurationParameter {
 
     AUTH_ACCESS_TOKEN_EXPIRE_MINUTE("30"),
     AUTH_REFRESH_TOKEN_EXPIRE_DAY("1"),
+    AUTH_VERIFIED_TOKEN_CACHE_MAX_SIZE("10000"),
+    AUTH_TOKEN_EPOCH_CACHE_MAX_SIZE("10000"),
+    AUTH_TOKEN_EPOCH_REFRESH_SECOND("5"),
     AUTH_PUBLIC_KEY("""
             -----BEGIN PUBLIC KEY-----
             MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEA1HmZ3A379M6Rv9UnMt9R
@@ -20,6 +20,7 @@ public enum TokenClaims {
     USER_LAST_NAME("userLastName"),
     USER_EMAIL("userEmail"),
     USER_PHONE_NUMBER("userPhoneNumber"),
+    TOKEN_EPOCH("tokenEpoch"),
     STORE_TITLE("storeTitle"),
     ISSUED_AT("iat"),
     EXPIRES_AT("exp"),
@@ -2,8 +2,10 @@ package com.example.demo.auth.repository;
 
 import com.example.demo.auth.model.entity.InvalidTokenEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Repository interface for managing {@link InvalidTokenEntity} objects in Couchbase.
@@ -13,12 +15,23 @@ import java.util.Optional;
 public interface InvalidTokenRepository extends MongoRepository<InvalidTokenEntity, String> {
 
     /**
-     * Finds an {@link InvalidTokenEntity} by its token ID.
-     * This method is used to retrieve an invalid token entity based on the unique token ID.
+     * Checks whether an {@link InvalidTokenEntity} exists for the given token ID.
+     * The check counts at most one entry of the unique {@code TOKEN_ID} index and loads no document.
      *
      * @param tokenId The unique ID of the token to search for.
-     * @return An {@link Optional} containing the {@link InvalidTokenEntity} if found, or {@link Optional#empty()} if not found.
+     * @return {@code true} if the token was invalidated, otherwise {@code false}.
      */
-    Optional<InvalidTokenEntity> findByTokenId(final String tokenId);
+    boolean existsByTokenId(final String tokenId);
+
+    /**
+     * Finds the invalid tokens recorded at or after the given time, reading only their token ID, creation time and
+     * token expiration.
+     * This method is used to load and synchronise the in-memory revocation registry.
+     *
+     * @param createdAt The earliest creation time to include.
+     * @return The {@link InvalidTokenEntity} objects recorded since {@code createdAt}.
+     */
+    @Query(value = "{ 'createdAt': { $gte: ?0 } }", fields = "{ 'TOKEN_ID': 1, 'createdAt': 1, 'EXPIRES_AT': 1 }")
+    List<InvalidTokenEntity> findRecordedSince(final LocalDateTime createdAt);
 
 }
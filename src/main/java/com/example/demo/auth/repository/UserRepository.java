@@ -2,6 +2,8 @@ package com.example.demo.auth.repository;
 
 import com.example.demo.auth.model.entity.UserEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
 import java.util.Optional;
 
@@ -30,4 +32,24 @@ public interface UserRepository extends MongoRepository<UserEntity, String> {
      */
     Optional<UserEntity> findUserEntityByEmail(final String email);
 
+    /**
+     * Finds a {@link UserEntity} by its ID, reading only its token epoch.
+     * This method is used to load the token epochs checked on every authenticated request.
+     *
+     * @param id The ID of the user.
+     * @return An {@link Optional} containing the {@link UserEntity} if found, or {@link Optional#empty()} if not found.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'TOKEN_EPOCH': 1 }")
+    Optional<UserEntity> findTokenEpochById(final String id);
+
+    /**
+     * Increments the token epoch of a {@link UserEntity}, revoking every token issued to the user so far.
+     *
+     * @param id The ID of the user.
+     * @return The number of users updated, {@code 0} if no user has the given ID.
+     */
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'TOKEN_EPOCH': 1 } }")
+    long incrementTokenEpochById(final String id);
+
 }
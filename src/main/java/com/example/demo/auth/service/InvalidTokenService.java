@@ -1,6 +1,7 @@
 package com.example.demo.auth.service;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Map;
 
 /**
  * Service interface for managing and validating invalidated tokens.
@@ -13,10 +14,11 @@ public interface InvalidTokenService {
      * Invalidates the tokens with the given token IDs.
      * This method marks the tokens as invalid, making them unusable for authentication or authorization.
      * It can be used to invalidate tokens that have been revoked or are no longer valid.
+     * Each invalidation is kept until its token expires.
      *
-     * @param tokenIds A set of token IDs to invalidate.
+     * @param tokenExpirations The IDs of the tokens to invalidate, mapped to the expiration of each token.
      */
-    void invalidateTokens(final Set<String> tokenIds);
+    void invalidateTokens(final Map<String, Instant> tokenExpirations);
 
     /**
      * Checks if the given token ID is invalidated.
@@ -18,4 +18,13 @@ public interface LogoutService {
      */
     void logout(final TokenInvalidateRequest tokenInvalidateRequest);
 
+    /**
+     * Logs out a user from every session by revoking all the tokens issued to them so far.
+     * The user is identified by the access token of the request; no token ID is stored, the user's token epoch is
+     * incremented instead.
+     *
+     * @param tokenInvalidateRequest The request containing the access token of the user to log out everywhere.
+     */
+    void logoutEverywhere(final TokenInvalidateRequest tokenInvalidateRequest);
+
 }
@@ -0,0 +1,54 @@
+package com.example.demo.auth.service;
+
+import com.example.demo.auth.model.RevocationRegistryStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Service interface for the in-memory registry of revoked token IDs.
+ * The registry answers whether a token was revoked without querying the database; it is loaded from
+ * {@code invalid-token-collection} at startup, updated locally when tokens are revoked and synchronised periodically
+ * with the revocations recorded by other instances.
+ */
+public interface RevocationRegistryService {
+
+    /**
+     * Tells whether a token was revoked.
+     * Until the registry is loaded, the database is queried instead.
+     *
+     * @param tokenId the ID of the token.
+     * @return {@code true} if the token was revoked, otherwise {@code false}.
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Adds tokens revoked by this instance to the registry, so they are rejected before the next synchronisation.
+     *
+     * @param tokenExpirations the IDs of the revoked tokens, mapped to the expiration of each token.
+     */
+    void revoke(Map<String, Instant> tokenExpirations);
+
+    /**
+     * Reads the revocations recorded since the previous synchronisation and adds them to the registry, loading it
+     * if it is not loaded yet.
+     *
+     * @return the number of token IDs the registry did not hold yet.
+     */
+    long sync();
+
+    /**
+     * Replaces the registry with every revocation whose token may still be valid.
+     *
+     * @return the number of revoked token IDs the registry holds.
+     */
+    long resync();
+
+    /**
+     * Returns the state of the registry.
+     *
+     * @return the {@link RevocationRegistryStatus} of the registry.
+     */
+    RevocationRegistryStatus status();
+
+}
@@ -0,0 +1,28 @@
+package com.example.demo.auth.service;
+
+import java.util.Map;
+
+/**
+ * Service interface for the per-user token epochs.
+ * Every token carries the epoch of its user at the time it was issued; a token whose epoch is older than the current
+ * epoch of its user is revoked, so all the tokens of a user are revoked by incrementing the epoch once.
+ */
+public interface TokenEpochService {
+
+    /**
+     * Checks that the token with the given claims was issued in the current epoch of its user.
+     *
+     * @param claims the claims of the token.
+     * @throws com.example.demo.auth.exception.TokenAlreadyInvalidatedException if the token was revoked by a later
+     *         epoch.
+     */
+    void checkTokenEpoch(Map<String, Object> claims);
+
+    /**
+     * Revokes every token issued to a user so far by incrementing the user's epoch.
+     *
+     * @param userId the ID of the user.
+     */
+    void revokeAllTokens(String userId);
+
+}
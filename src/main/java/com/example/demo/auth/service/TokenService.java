@@ -1,6 +1,7 @@
 package com.example.demo.auth.service;
 
 import com.example.demo.auth.model.Token;
+import com.example.demo.auth.model.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,6 +13,8 @@ import java.util.Set;
  * Service interface for handling JWT token-related operations.
  * This interface defines methods for generating, validating, and extracting information from JWT tokens.
  * It provides functionality to create tokens, verify their validity, retrieve claims, and authenticate users.
+ * A token used more than once within a request should be verified with {@link #verify(String)} and the resulting
+ * {@link VerifiedToken} passed on, since every method taking the raw JWT parses it and checks its signature again.
  */
 public interface TokenService {
 
@@ -36,6 +39,24 @@ public interface TokenService {
      */
     Token generateToken(final Map<String, Object> claims, final String refreshToken);
 
+    /**
+     * Generates a new authentication token based on the provided claims and an already verified refresh token.
+     *
+     * @param claims The claims to be included in the JWT token.
+     * @param refreshToken The verified refresh token to include in the generated JWT token.
+     * @return A {@link Token} object containing the generated JWT token.
+     */
+    Token generateToken(final Map<String, Object> claims, final VerifiedToken refreshToken);
+
+    /**
+     * Verifies the signature and expiration of the provided JWT token, parsing it once.
+     *
+     * @param jwt The JWT token to verify.
+     * @return A {@link VerifiedToken} holding the header and claims of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is invalid or cannot be verified.
+     */
+    VerifiedToken verify(final String jwt);
+
     /**
      * Extracts the authentication information from the provided JWT token.
      * This method parses the JWT token and returns an {@link UsernamePasswordAuthenticationToken} containing the user authentication information.
@@ -46,6 +67,25 @@ public interface TokenService {
      */
     UsernamePasswordAuthenticationToken getAuthentication(final String token);
 
+    /**
+     * Builds the authentication information of an already verified token.
+     *
+     * @param token The verified token to extract the authentication information from.
+     * @return A {@link UsernamePasswordAuthenticationToken} containing the extracted authentication information.
+     */
+    UsernamePasswordAuthenticationToken getAuthentication(final VerifiedToken token);
+
+    /**
+     * Authenticates a request carrying the provided access token.
+     * The token is verified, checked against the invalidated tokens and turned into its authentication; the result is
+     * cached until the token expires or is invalidated, so a token used again is authenticated without verifying it.
+     *
+     * @param jwt The JWT token of the request.
+     * @return A {@link UsernamePasswordAuthenticationToken} containing the authentication information of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is invalid or cannot be verified.
+     */
+    UsernamePasswordAuthenticationToken authenticate(final String jwt);
+
     /**
      * Verifies the validity of the provided JWT token.
      * This method checks if the provided JWT token is valid, including verifying its signature, expiration, and other factors.
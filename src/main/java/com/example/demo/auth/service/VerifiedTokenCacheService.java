@@ -0,0 +1,31 @@
+package com.example.demo.auth.service;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for caching the authentication of verified access tokens in memory.
+ * A cached token is authenticated without verifying its signature or checking whether it was invalidated, so
+ * entries must be evicted as soon as their token is invalidated.
+ */
+public interface VerifiedTokenCacheService {
+
+    /**
+     * Returns the cached authentication of a token, loading and caching it on a miss.
+     *
+     * @param jwt the raw token.
+     * @param loader verifies the token and builds its authentication when it is not cached.
+     * @return the {@link UsernamePasswordAuthenticationToken} of the token.
+     */
+    UsernamePasswordAuthenticationToken get(String jwt, Supplier<UsernamePasswordAuthenticationToken> loader);
+
+    /**
+     * Drops the cached authentications of the given tokens.
+     *
+     * @param tokenIds the IDs of the invalidated tokens.
+     */
+    void evict(Set<String> tokenIds);
+
+}
@@ -4,9 +4,16 @@ import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.demo.auth.model.entity.InvalidTokenEntity;
 import com.example.demo.auth.repository.InvalidTokenRepository;
 import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.RevocationRegistryService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,36 +27,51 @@ import java.util.stream.Collectors;
 public class InvalidTokenServiceImpl implements InvalidTokenService {
 
     private final InvalidTokenRepository invalidTokenRepository;
+    private final RevocationRegistryService revocationRegistryService;
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
 
     /**
      * Invalidates the tokens with the given token IDs.
      * This method marks the tokens as invalid, making them unusable for authentication or authorization.
      * It can be used to invalidate tokens that have been revoked or are no longer valid.
+     * Each invalidation is stored with the expiration of its token, after which MongoDB purges it.
+     * They are added to the revocation registry and their cached authentications are evicted, so they are rejected
+     * by the next request.
      *
-     * @param tokenIds A set of token IDs to invalidate.
+     * @param tokenExpirations The IDs of the tokens to invalidate, mapped to the expiration of each token.
+     * @throws TokenAlreadyInvalidatedException if one of the tokens was invalidated concurrently.
      */
     @Override
-    public void invalidateTokens(Set<String> tokenIds) {
-        final Set<InvalidTokenEntity> invalidTokenEntities = tokenIds.stream()
-                .map(tokenId -> InvalidTokenEntity.builder()
-                        .tokenId(tokenId)
+    public void invalidateTokens(Map<String, Instant> tokenExpirations) {
+        final Set<InvalidTokenEntity> invalidTokenEntities = tokenExpirations.entrySet().stream()
+                .map(tokenExpiration -> InvalidTokenEntity.builder()
+                        .tokenId(tokenExpiration.getKey())
+                        .expiresAt(LocalDateTime.ofInstant(tokenExpiration.getValue(), ZoneId.systemDefault()))
                         .build()
                 )
                 .collect(Collectors.toSet());
 
-        invalidTokenRepository.saveAll(invalidTokenEntities);
+        try {
+            invalidTokenRepository.saveAll(invalidTokenEntities);
+        } catch (DuplicateKeyException exception) {
+            throw new TokenAlreadyInvalidatedException();
+        }
+
+        revocationRegistryService.revoke(tokenExpirations);
+        verifiedTokenCacheService.evict(tokenExpirations.keySet());
     }
 
     /**
      * Checks if the given token ID is invalidated.
      * This method checks whether a specific token has been invalidated and is no longer valid for use.
      * It is typically used to validate if a token is still active before allowing access to protected resources.
+     * The check is answered by the in-memory revocation registry once it is loaded.
      *
      * @param tokenId The token ID to check for invalidity.
      */
     @Override
     public void checkForInvalidityOfToken(String tokenId) {
-        final boolean isTokenInvalid = invalidTokenRepository.findByTokenId(tokenId).isPresent();
+        final boolean isTokenInvalid = revocationRegistryService.isRevoked(tokenId);
 
         if (isTokenInvalid) {
             throw new TokenAlreadyInvalidatedException(tokenId);
@@ -1,13 +1,16 @@
 package com.example.demo.auth.service.impl;
 
+import com.example.demo.auth.model.VerifiedToken;
 import com.example.demo.auth.model.dto.request.TokenInvalidateRequest;
+import com.example.demo.auth.model.enums.TokenClaims;
 import com.example.demo.auth.service.InvalidTokenService;
 import com.example.demo.auth.service.LogoutService;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Service implementation for handling user logout functionality.
@@ -20,6 +23,7 @@ public class LogoutServiceImpl implements LogoutService {
 
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
+    private final TokenEpochService tokenEpochService;
 
     /**
      * Logs out a user by invalidating their authentication token.
@@ -31,27 +35,43 @@ public class LogoutServiceImpl implements LogoutService {
     @Override
     public void logout(TokenInvalidateRequest tokenInvalidateRequest) {
 
-        tokenService.verifyAndValidate(
-                Set.of(
-                        tokenInvalidateRequest.getAccessToken(),
-                        tokenInvalidateRequest.getRefreshToken()
-                )
-        );
+        final VerifiedToken accessToken = tokenService.verify(tokenInvalidateRequest.getAccessToken());
 
-        final String accessTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getAccessToken())
-                .getId();
+        final VerifiedToken refreshToken = tokenService.verify(tokenInvalidateRequest.getRefreshToken());
+
+        final String accessTokenId = accessToken.getId();
 
         invalidTokenService.checkForInvalidityOfToken(accessTokenId);
 
 
-        final String refreshTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getRefreshToken())
-                .getId();
+        final String refreshTokenId = refreshToken.getId();
 
         invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
 
-        invalidTokenService.invalidateTokens(Set.of(accessTokenId,refreshTokenId));
+        invalidTokenService.invalidateTokens(Map.of(
+                accessTokenId, accessToken.getExpiresAt(),
+                refreshTokenId, refreshToken.getExpiresAt()
+        ));
+
+    }
+
+    /**
+     * Logs out a user from every session by incrementing their token epoch.
+     * The access token must still be valid; every token issued to its user until now is then rejected, without
+     * storing any token ID.
+     *
+     * @param tokenInvalidateRequest The request containing the access token of the user to log out everywhere.
+     */
+    @Override
+    public void logoutEverywhere(TokenInvalidateRequest tokenInvalidateRequest) {
+
+        final VerifiedToken accessToken = tokenService.verify(tokenInvalidateRequest.getAccessToken());
+
+        invalidTokenService.checkForInvalidityOfToken(accessToken.getId());
+
+        tokenEpochService.checkTokenEpoch(accessToken.getClaims());
+
+        tokenEpochService.revokeAllTokens(accessToken.getClaims().get(TokenClaims.USER_ID.getValue()).toString());
 
     }
 
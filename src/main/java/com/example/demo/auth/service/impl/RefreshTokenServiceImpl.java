@@ -3,12 +3,14 @@ package com.example.demo.auth.service.impl;
 import com.example.demo.auth.exception.UserNotFoundException;
 import com.example.demo.auth.exception.UserStatusNotValidException;
 import com.example.demo.auth.model.Token;
+import com.example.demo.auth.model.VerifiedToken;
 import com.example.demo.auth.model.dto.request.TokenRefreshRequest;
 import com.example.demo.auth.model.entity.UserEntity;
 import com.example.demo.auth.model.enums.TokenClaims;
 import com.example.demo.auth.model.enums.UserStatus;
 import com.example.demo.auth.repository.UserRepository;
 import com.example.demo.auth.service.RefreshTokenService;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final TokenEpochService tokenEpochService;
 
     /**
      * Refreshes the user's authentication token.
@@ -35,10 +38,9 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
      */
     @Override
     public Token refreshToken(TokenRefreshRequest tokenRefreshRequest) {
-        tokenService.verifyAndValidate(tokenRefreshRequest.getRefreshToken());
+        final VerifiedToken refreshToken = tokenService.verify(tokenRefreshRequest.getRefreshToken());
 
-        final String adminId = tokenService
-                .getPayload(tokenRefreshRequest.getRefreshToken())
+        final String adminId = refreshToken.getClaims()
                 .get(TokenClaims.USER_ID.getValue())
                 .toString();
 
@@ -48,9 +50,11 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
         this.validateAdminStatus(userEntityFromDB);
 
+        tokenEpochService.checkTokenEpoch(refreshToken.getClaims());
+
         return tokenService.generateToken(
                 userEntityFromDB.getClaims(),
-                tokenRefreshRequest.getRefreshToken()
+                refreshToken
         );
     }
 
@@ -0,0 +1,313 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.model.RevocationRegistryStatus;
+import com.example.demo.auth.model.entity.InvalidTokenEntity;
+import com.example.demo.auth.repository.InvalidTokenRepository;
+import com.example.demo.auth.service.RevocationRegistryService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
+import com.example.demo.common.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation keeping the IDs of revoked tokens in memory.
+ * A {@link BloomFilter} answers most lookups, since most tokens were never revoked; the IDs it cannot rule out are
+ * checked against the exact set of revoked IDs, so a valid token is accepted without a database query.
+ * Revocations are kept until their token expires, or for the longest token lifetime after they were recorded when
+ * their record has no expiration, and the filter is rebuilt from the exact set once it holds more IDs than it was
+ * sized for.
+ * Other instances are followed by polling {@code invalid-token-collection} for records created since the previous
+ * poll, minus {@link #SYNC_OVERLAP} to allow for clock skew and late writes; tokens they revoked are evicted from the
+ * verified token cache.
+ * Lookups are counted under {@value #LOOKUP_METRIC} tagged {@code outcome=rejected|checked|unloaded}, the time since
+ * the last synchronisation is exported as {@value #SYNC_LAG_METRIC} and the number of revoked IDs as
+ * {@value #SIZE_METRIC}.
+ */
+@Service
+public class RevocationRegistryServiceImpl implements RevocationRegistryService {
+
+    public static final String LOOKUP_METRIC = "auth.revocations.lookups";
+
+    public static final String SYNC_LAG_METRIC = "auth.revocations.sync.lag";
+
+    public static final String SIZE_METRIC = "auth.revocations.size";
+
+    static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    static final long MIN_CAPACITY = 1_024;
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final InvalidTokenRepository invalidTokenRepository;
+
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
+
+    private final Duration retention;
+
+    private volatile Revocations revocations;
+
+    private volatile Instant lastSyncedAt;
+
+    private LocalDateTime highWaterMark;
+
+    private final Counter rejected;
+    private final Counter checked;
+    private final Counter unloaded;
+
+    /**
+     * Creates an empty registry and registers its metrics.
+     *
+     * @param invalidTokenRepository the repository the revocations are read from.
+     * @param verifiedTokenCacheService the cache tokens revoked by other instances are evicted from.
+     * @param tokenConfigurationParameter the token configuration, giving the longest token lifetime.
+     * @param meterRegistry the registry the metrics are registered in.
+     */
+    public RevocationRegistryServiceImpl(final InvalidTokenRepository invalidTokenRepository,
+                                         final VerifiedTokenCacheService verifiedTokenCacheService,
+                                         final TokenConfigurationParameter tokenConfigurationParameter,
+                                         final MeterRegistry meterRegistry) {
+
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.verifiedTokenCacheService = verifiedTokenCacheService;
+        this.retention = Collections.max(List.of(
+                Duration.ofDays(tokenConfigurationParameter.getRefreshTokenExpireDay()),
+                Duration.ofMinutes(tokenConfigurationParameter.getAccessTokenExpireMinute())));
+
+        this.rejected = lookups(meterRegistry, "rejected");
+        this.checked = lookups(meterRegistry, "checked");
+        this.unloaded = lookups(meterRegistry, "unloaded");
+
+        Gauge.builder(SYNC_LAG_METRIC, this, registry -> registry.secondsSinceLastSync())
+                .description("Time since the revoked tokens were last synchronised with the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        Gauge.builder(SIZE_METRIC, this, registry -> registry.status().getRevokedTokens())
+                .description("Revoked token IDs held in memory")
+                .register(meterRegistry);
+
+    }
+
+    /**
+     * Tells whether a token was revoked, querying the database only until the registry is loaded.
+     *
+     * @param tokenId the ID of the token.
+     * @return {@code true} if the token was revoked, otherwise {@code false}.
+     */
+    @Override
+    public boolean isRevoked(final String tokenId) {
+
+        final Revocations current = revocations;
+
+        if (current == null) {
+            unloaded.increment();
+            return invalidTokenRepository.existsByTokenId(tokenId);
+        }
+
+        if (!current.filter().mightContain(tokenId)) {
+            rejected.increment();
+            return false;
+        }
+
+        checked.increment();
+        return current.expiries().containsKey(tokenId);
+
+    }
+
+    /**
+     * Adds tokens revoked by this instance to the registry.
+     * Before the registry is loaded there is nothing to update: the load reads them from the database.
+     *
+     * @param tokenExpirations the IDs of the revoked tokens, mapped to the expiration of each token.
+     */
+    @Override
+    public synchronized void revoke(final Map<String, Instant> tokenExpirations) {
+
+        if (revocations == null) {
+            return;
+        }
+
+        tokenExpirations.forEach(this::add);
+
+    }
+
+    /**
+     * Reads the revocations recorded since the previous synchronisation, evicts the tokens this instance did not know
+     * were revoked from the verified token cache and forgets the revocations whose tokens have all expired.
+     *
+     * @return the number of token IDs the registry did not hold yet.
+     */
+    @Override
+    public synchronized long sync() {
+
+        if (revocations == null) {
+            return resync();
+        }
+
+        final LocalDateTime pollStartedAt = LocalDateTime.now();
+        final Set<String> added = new HashSet<>();
+
+        for (final InvalidTokenEntity invalidToken : invalidTokenRepository.findRecordedSince(
+                highWaterMark.minus(SYNC_OVERLAP))) {
+            if (add(invalidToken.getTokenId(), expiryOf(invalidToken))) {
+                added.add(invalidToken.getTokenId());
+            }
+        }
+
+        final Instant now = Instant.now();
+        revocations.expiries().values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+        if (!added.isEmpty()) {
+            verifiedTokenCacheService.evict(added);
+        }
+
+        highWaterMark = pollStartedAt;
+        lastSyncedAt = now;
+
+        return added.size();
+
+    }
+
+    /**
+     * Replaces the registry with the revocations recorded within the longest token lifetime whose token has not
+     * expired.
+     *
+     * @return the number of revoked token IDs the registry holds.
+     */
+    @Override
+    public synchronized long resync() {
+
+        final LocalDateTime pollStartedAt = LocalDateTime.now();
+        final Instant now = Instant.now();
+        final Map<String, Instant> expiries = new ConcurrentHashMap<>();
+
+        invalidTokenRepository.findRecordedSince(pollStartedAt.minus(retention)).stream()
+                .filter(invalidToken -> !expiryOf(invalidToken).isBefore(now))
+                .forEach(invalidToken -> expiries.put(invalidToken.getTokenId(), expiryOf(invalidToken)));
+
+        final Revocations previous = revocations;
+        revocations = Revocations.of(expiries);
+
+        final Set<String> added = new HashSet<>(expiries.keySet());
+
+        if (previous != null) {
+            added.removeAll(previous.expiries().keySet());
+        }
+
+        if (!added.isEmpty()) {
+            verifiedTokenCacheService.evict(added);
+        }
+
+        highWaterMark = pollStartedAt;
+        lastSyncedAt = Instant.now();
+
+        return expiries.size();
+
+    }
+
+    /**
+     * Returns whether the registry is loaded, how many IDs it holds and when it was last synchronised.
+     *
+     * @return the {@link RevocationRegistryStatus} of the registry.
+     */
+    @Override
+    public RevocationRegistryStatus status() {
+
+        final Revocations current = revocations;
+
+        return RevocationRegistryStatus.builder()
+                .loaded(current != null)
+                .revokedTokens(current == null ? 0 : current.expiries().size())
+                .lastSyncedAt(lastSyncedAt)
+                .build();
+
+    }
+
+    /**
+     * Adds a revoked ID, rebuilding the filter from the exact set once it holds more IDs than it was sized for.
+     *
+     * @return {@code true} if the ID was not held yet.
+     */
+    private boolean add(final String tokenId, final Instant expiresAt) {
+
+        final Revocations current = revocations;
+
+        if (current.expiries().containsKey(tokenId)) {
+            return false;
+        }
+
+        // Set the filter bits first, so a concurrent lookup never rules out an ID that is already in the set.
+        current.filter().put(tokenId);
+        current.expiries().put(tokenId, expiresAt);
+
+        if (current.expiries().size() > current.capacity()) {
+            revocations = Revocations.of(current.expiries());
+        }
+
+        return true;
+
+    }
+
+    private Instant expiryOf(final InvalidTokenEntity invalidToken) {
+
+        if (invalidToken.getExpiresAt() != null) {
+            return invalidToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        return invalidToken.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().plus(retention);
+
+    }
+
+    private double secondsSinceLastSync() {
+
+        final Instant synced = lastSyncedAt;
+
+        if (synced == null) {
+            return Double.NaN;
+        }
+
+        return Duration.between(synced, Instant.now()).toMillis() / 1_000.0;
+
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("Revocation lookups ruled out by the filter, checked in memory or sent to the database")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The revoked IDs with the time they can be forgotten, and the filter in front of them.
+     * The filter is sized for twice the IDs it was built with, so revocations can be added until the next rebuild.
+     */
+    private record Revocations(Map<String, Instant> expiries, BloomFilter filter, long capacity) {
+
+        static Revocations of(final Map<String, Instant> expiries) {
+
+            final long capacity = Math.max(MIN_CAPACITY, expiries.size() * 2L);
+            final BloomFilter filter = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+
+            expiries.keySet().forEach(filter::put);
+
+            return new Revocations(expiries, filter, capacity);
+
+        }
+
+    }
+
+}
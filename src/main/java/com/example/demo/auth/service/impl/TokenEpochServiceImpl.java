@@ -0,0 +1,128 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.demo.auth.exception.UserNotFoundException;
+import com.example.demo.auth.model.entity.UserEntity;
+import com.example.demo.auth.model.enums.TokenClaims;
+import com.example.demo.auth.repository.UserRepository;
+import com.example.demo.auth.service.TokenEpochService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Service implementation keeping the token epoch of the active users in a Caffeine cache.
+ * Checking a token is a single lookup of its user's epoch; an epoch is read from {@code user-collection} when the
+ * user is first seen and re-read in the background once it is older than half the refresh interval. An epoch older
+ * than the whole interval is expired and read again before it is used, so an epoch incremented by another instance is
+ * enforced within that interval even for users whose background refresh did not complete. Users idle for an access
+ * token lifetime are dropped, and hit and miss statistics are exported under the {@code cache.*} meters tagged
+ * {@code cache=tokenEpochs}.
+ * Tokens issued before epochs existed carry no epoch claim and are treated as epoch {@code 0}.
+ */
+@Service
+public class TokenEpochServiceImpl implements TokenEpochService {
+
+    static final String CACHE_NAME = "tokenEpochs";
+
+    private final UserRepository userRepository;
+
+    private final LoadingCache<String, Long> epochs;
+
+    /**
+     * Creates the epoch cache from the token configuration and binds its statistics to the meter registry.
+     *
+     * @param userRepository the repository the epochs are read from and incremented in.
+     * @param tokenConfigurationParameter the token configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     */
+    @Autowired
+    public TokenEpochServiceImpl(final UserRepository userRepository,
+                                 final TokenConfigurationParameter tokenConfigurationParameter,
+                                 final MeterRegistry meterRegistry) {
+        this(userRepository, tokenConfigurationParameter, meterRegistry, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates the epoch cache with the given time source.
+     *
+     * @param userRepository the repository the epochs are read from and incremented in.
+     * @param tokenConfigurationParameter the token configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     * @param ticker the time source the refresh and expiry of the epochs are measured with.
+     */
+    TokenEpochServiceImpl(final UserRepository userRepository,
+                          final TokenConfigurationParameter tokenConfigurationParameter,
+                          final MeterRegistry meterRegistry,
+                          final Ticker ticker) {
+
+        this.userRepository = userRepository;
+
+        final Duration refreshInterval = Duration.ofSeconds(tokenConfigurationParameter.getTokenEpochRefreshSecond());
+
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(tokenConfigurationParameter.getTokenEpochCacheMaxSize())
+                .refreshAfterWrite(refreshInterval.dividedBy(2))
+                .expireAfterWrite(refreshInterval)
+                .expireAfterAccess(Duration.ofMinutes(tokenConfigurationParameter.getAccessTokenExpireMinute()))
+                .recordStats()
+                .ticker(ticker)
+                .build(this::loadEpoch);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, CACHE_NAME);
+
+    }
+
+    /**
+     * Checks that the token with the given claims was issued in the current epoch of its user.
+     *
+     * @param claims the claims of the token.
+     * @throws TokenAlreadyInvalidatedException if the token was revoked by a later epoch.
+     */
+    @Override
+    public void checkTokenEpoch(final Map<String, Object> claims) {
+
+        final String userId = claims.get(TokenClaims.USER_ID.getValue()).toString();
+
+        if (epochOf(claims) < epochs.get(userId)) {
+            throw new TokenAlreadyInvalidatedException(String.valueOf(claims.get(TokenClaims.JWT_ID.getValue())));
+        }
+
+    }
+
+    /**
+     * Increments the epoch of a user and drops the cached one, so this instance enforces it on the next request.
+     *
+     * @param userId the ID of the user.
+     * @throws UserNotFoundException if no user has the given ID.
+     */
+    @Override
+    public void revokeAllTokens(final String userId) {
+
+        if (userRepository.incrementTokenEpochById(userId) == 0) {
+            throw new UserNotFoundException();
+        }
+
+        epochs.invalidate(userId);
+
+    }
+
+    private Long loadEpoch(final String userId) {
+        return userRepository.findTokenEpochById(userId)
+                .map(UserEntity::getTokenEpoch)
+                .orElse(0L);
+    }
+
+    private static long epochOf(final Map<String, Object> claims) {
+        return claims.get(TokenClaims.TOKEN_EPOCH.getValue()) instanceof Number epoch ? epoch.longValue() : 0L;
+    }
+
+}
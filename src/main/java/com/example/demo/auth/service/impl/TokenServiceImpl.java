@@ -2,15 +2,18 @@ package com.example.demo.auth.service.impl;
 
 import com.example.demo.auth.config.TokenConfigurationParameter;
 import com.example.demo.auth.model.Token;
+import com.example.demo.auth.model.VerifiedToken;
 import com.example.demo.auth.model.enums.ConfigurationParameter;
 import com.example.demo.auth.model.enums.TokenClaims;
 import com.example.demo.auth.model.enums.TokenType;
 import com.example.demo.auth.model.enums.UserType;
 import com.example.demo.auth.service.InvalidTokenService;
 import com.example.demo.auth.service.TokenService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.time.DateUtils;
@@ -19,12 +22,17 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import java.security.PublicKey;
 import java.util.*;
 
 /**
  * Service implementation for handling JWT token-related operations.
  * This interface defines methods for generating, validating, and extracting information from JWT tokens.
  * It provides functionality to create tokens, verify their validity, retrieve claims, and authenticate users.
+ * Tokens are parsed with a single {@link JwtParser}, which is immutable and thread-safe; it is built on first use for
+ * the configured public key instead of once per parsed token.
+ * Requests are authenticated through the {@link VerifiedTokenCacheService}, so a reused access token costs a digest and
+ * a cache lookup rather than a signature verification and an invalidation lookup.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,11 +40,15 @@ public class TokenServiceImpl implements TokenService {
 
     private final TokenConfigurationParameter tokenConfigurationParameter;
     private final InvalidTokenService invalidTokenService;
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
+
+    private volatile KeyedParser keyedParser;
 
     /**
      * Generates a new authentication token based on the provided claims.
      * This method creates a new JWT token using the specified claims.
      * The claims typically contain user-specific information such as the username, roles, and other custom attributes.
+     * The refresh token only carries the user ID and the token epoch, so it is rejected once the epoch is incremented.
      *
      * @param claims The claims to be included in the JWT token.
      * @return A {@link Token} object containing the generated JWT token.
@@ -80,6 +92,7 @@ public class TokenServiceImpl implements TokenService {
                 .expiration(refreshTokenExpiresAt)
                 .signWith(tokenConfigurationParameter.getPrivateKey())
                 .claim(TokenClaims.USER_ID.getValue(), claims.get(TokenClaims.USER_ID.getValue()))
+                .claim(TokenClaims.TOKEN_EPOCH.getValue(), claims.get(TokenClaims.TOKEN_EPOCH.getValue()))
                 .compact();
 
         return Token.builder()
@@ -100,12 +113,23 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public Token generateToken(Map<String, Object> claims, String refreshToken) {
+        return generateToken(claims, verify(refreshToken));
+    }
 
-        final long currentTimeMillis = System.currentTimeMillis();
+    /**
+     * Generates a new authentication token based on the provided claims and an already verified refresh token.
+     * The refresh token must not have been invalidated.
+     *
+     * @param claims The claims to be included in the JWT token.
+     * @param refreshToken The verified refresh token to include in the generated JWT token.
+     * @return A {@link Token} object containing the generated JWT token.
+     */
+    @Override
+    public Token generateToken(Map<String, Object> claims, VerifiedToken refreshToken) {
 
-        final String refreshTokenId = this.getId(refreshToken);
+        final long currentTimeMillis = System.currentTimeMillis();
 
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
+        invalidTokenService.checkForInvalidityOfToken(refreshToken.getId());
 
         final Date accessTokenIssuedAt = new Date(currentTimeMillis);
 
@@ -129,7 +153,26 @@ public class TokenServiceImpl implements TokenService {
         return Token.builder()
                 .accessToken(accessToken)
                 .accessTokenExpiresAt(accessTokenExpiresAt.toInstant().getEpochSecond())
-                .refreshToken(refreshToken)
+                .refreshToken(refreshToken.getJwt())
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration of the provided JWT token, parsing it once.
+     *
+     * @param jwt The JWT token to verify.
+     * @return A {@link VerifiedToken} holding the header and claims of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is invalid or cannot be verified.
+     */
+    @Override
+    public VerifiedToken verify(String jwt) {
+
+        final Jws<Claims> claimsJws = parser().parseSignedClaims(jwt);
+
+        return VerifiedToken.builder()
+                .jwt(jwt)
+                .header(claimsJws.getHeader())
+                .claims(claimsJws.getPayload())
                 .build();
     }
 
@@ -143,17 +186,23 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        return getAuthentication(verify(token));
+    }
 
-        final Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
+    /**
+     * Builds the authentication information of an already verified token.
+     *
+     * @param token The verified token to extract the authentication information from.
+     * @return A {@link UsernamePasswordAuthenticationToken} containing the extracted authentication information.
+     */
+    @Override
+    public UsernamePasswordAuthenticationToken getAuthentication(VerifiedToken token) {
 
-        final JwsHeader jwsHeader = claimsJws.getHeader();
-        final Claims payload = claimsJws.getPayload();
+        final JwsHeader jwsHeader = token.getHeader();
+        final Claims payload = token.getClaims();
 
         final Jwt jwt = new org.springframework.security.oauth2.jwt.Jwt(
-                token,
+                token.getJwt(),
                 payload.getIssuedAt().toInstant(),
                 payload.getExpiration().toInstant(),
                 Map.of(
@@ -173,6 +222,24 @@ public class TokenServiceImpl implements TokenService {
                 .authenticated(jwt, null, authorities);
     }
 
+    /**
+     * Authenticates a request carrying the provided access token.
+     * On a cache miss the token is verified, checked against the invalidated tokens and turned into its
+     * authentication, which is cached until the token expires or is invalidated.
+     *
+     * @param jwt The JWT token of the request.
+     * @return A {@link UsernamePasswordAuthenticationToken} containing the authentication information of the token.
+     * @throws io.jsonwebtoken.JwtException If the token is invalid or cannot be verified.
+     */
+    @Override
+    public UsernamePasswordAuthenticationToken authenticate(String jwt) {
+        return verifiedTokenCacheService.get(jwt, () -> {
+            final VerifiedToken verifiedToken = verify(jwt);
+            invalidTokenService.checkForInvalidityOfToken(verifiedToken.getId());
+            return getAuthentication(verifiedToken);
+        });
+    }
+
     /**
      * Verifies the validity of the provided JWT token.
      * This method checks if the provided JWT token is valid, including verifying its signature, expiration, and other factors.
@@ -182,10 +249,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public void verifyAndValidate(String jwt) {
-        Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt);
+        parser().parseSignedClaims(jwt);
     }
 
     /**
@@ -211,10 +275,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public Jws<Claims> getClaims(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt);
+        return parser().parseSignedClaims(jwt);
     }
 
     /**
@@ -226,11 +287,7 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public Claims getPayload(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload();
+        return verify(jwt).getClaims();
     }
 
     /**
@@ -242,12 +299,34 @@ public class TokenServiceImpl implements TokenService {
      */
     @Override
     public String getId(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload()
-                .getId();
+        return verify(jwt).getId();
+    }
+
+    /**
+     * Returns the parser verifying tokens with the configured public key, building it only when the key changes.
+     *
+     * @return the shared {@link JwtParser}.
+     */
+    private JwtParser parser() {
+
+        final PublicKey publicKey = tokenConfigurationParameter.getPublicKey();
+        final KeyedParser current = keyedParser;
+
+        if (current != null && current.publicKey() == publicKey) {
+            return current.parser();
+        }
+
+        final KeyedParser built = new KeyedParser(publicKey, Jwts.parser().verifyWith(publicKey).build());
+        keyedParser = built;
+
+        return built.parser();
+
+    }
+
+    /**
+     * A parser together with the public key it verifies signatures with.
+     */
+    private record KeyedParser(PublicKey publicKey, JwtParser parser) {
     }
 
 }
@@ -0,0 +1,161 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
+import com.example.demo.common.utils.CacheInvalidationGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation caching the authentication of verified access tokens with Caffeine.
+ * Entries are keyed by the SHA-256 digest of the token, so raw tokens are not kept as keys, and expire at the
+ * expiration of their token; the cache is bounded by the number of tokens, and hit and miss statistics are exported
+ * to Micrometer under the {@code cache.*} meters tagged {@code cache=verifiedTokens}.
+ * Invalidating a token evicts it right away; an authentication whose load overlapped an invalidation is returned but
+ * not kept cached, since the token may have been invalidated after it was checked (see {@link CacheInvalidationGuard}).
+ */
+@Service
+public class VerifiedTokenCacheServiceImpl implements VerifiedTokenCacheService {
+
+    static final String CACHE_NAME = "verifiedTokens";
+
+    private final Cache<String, UsernamePasswordAuthenticationToken> cache;
+
+    private final boolean enabled;
+
+    private final CacheInvalidationGuard invalidationGuard = new CacheInvalidationGuard();
+
+    /**
+     * Creates the cache from the token configuration and binds its statistics to the meter registry.
+     *
+     * @param tokenConfigurationParameter the token configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     */
+    public VerifiedTokenCacheServiceImpl(final TokenConfigurationParameter tokenConfigurationParameter,
+                                         final MeterRegistry meterRegistry) {
+
+        this.enabled = tokenConfigurationParameter.getVerifiedTokenCacheMaxSize() > 0;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tokenConfigurationParameter.getVerifiedTokenCacheMaxSize())
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+    }
+
+    /**
+     * Returns the cached authentication of a token, loading and caching it on a miss.
+     * Failed loads are not cached.
+     *
+     * @param jwt the raw token.
+     * @param loader verifies the token and builds its authentication when it is not cached.
+     * @return the {@link UsernamePasswordAuthenticationToken} of the token.
+     */
+    @Override
+    public UsernamePasswordAuthenticationToken get(final String jwt,
+                                                   final Supplier<UsernamePasswordAuthenticationToken> loader) {
+
+        if (!enabled) {
+            return loader.get();
+        }
+
+        final String digest = digest(jwt);
+        final UsernamePasswordAuthenticationToken cached = cache.getIfPresent(digest);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final long generation = invalidationGuard.generation();
+        final UsernamePasswordAuthenticationToken loaded = loader.get();
+
+        invalidationGuard.put(cache, digest, loaded, generation);
+
+        return loaded;
+
+    }
+
+    /**
+     * Drops the cached authentications of the given tokens.
+     *
+     * @param tokenIds the IDs of the invalidated tokens.
+     */
+    @Override
+    public void evict(final Set<String> tokenIds) {
+        invalidationGuard.invalidate(() -> cache.asMap().values()
+                .removeIf(authentication -> tokenIds.contains(tokenOf(authentication).getId())));
+    }
+
+    private static Jwt tokenOf(final UsernamePasswordAuthenticationToken authentication) {
+        return (Jwt) authentication.getPrincipal();
+    }
+
+    /**
+     * Hashes a token with SHA-256.
+     */
+    static String digest(final String jwt) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported", exception);
+        }
+    }
+
+    /**
+     * Keeps an authentication cached until its token expires; reads and replacements do not extend it.
+     */
+    private static final class UntilTokenExpires implements Expiry<String, UsernamePasswordAuthenticationToken> {
+
+        @Override
+        public long expireAfterCreate(final String digest,
+                                      final UsernamePasswordAuthenticationToken authentication,
+                                      final long currentTime) {
+
+            final Instant expiresAt = tokenOf(authentication).getExpiresAt();
+
+            if (expiresAt == null) {
+                return 0L;
+            }
+
+            return Math.max(0L, Duration.between(Instant.now(), expiresAt).toNanos());
+
+        }
+
+        @Override
+        public long expireAfterUpdate(final String digest,
+                                      final UsernamePasswordAuthenticationToken authentication,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(digest, authentication, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String digest,
+                                    final UsernamePasswordAuthenticationToken authentication,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.demo.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Configuration class to enable asynchronous execution of {@code @Async} methods.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+}
@@ -1,13 +1,28 @@
 package com.example.demo.common.config;
 
+import com.example.demo.common.utils.MongoReplyBytes;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
 /**
  * Configuration class to enable auditing for MongoDB entities.
+ * It also registers {@link MongoReplyBytes} with the MongoDB client, so the bytes read by measured queries
+ * can be reported.
  */
 @Configuration
 @EnableMongoAuditing
 public class MongoConfig {
 
+    /**
+     * Adds the {@link MongoReplyBytes} command listener to the MongoDB client.
+     *
+     * @return a customizer of the MongoDB client settings.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoReplyBytesCustomizer() {
+        return builder -> builder.addCommandListener(new MongoReplyBytes());
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.example.demo.common.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the result of {@link MongoIndexReconciler#verify()} under
+ * {@code /actuator/mongoindexes}, listing missing, undeclared and changed indexes per collection.
+ */
+@Component
+@Endpoint(id = "mongoindexes")
+@RequiredArgsConstructor
+public class MongoIndexEndpoint {
+
+    private final MongoIndexReconciler mongoIndexReconciler;
+
+    /**
+     * Returns the current index report.
+     *
+     * @return one {@link MongoIndexReconciler.CollectionIndexReport} per mapped collection.
+     */
+    @ReadOperation
+    public List<MongoIndexReconciler.CollectionIndexReport> indexes() {
+        return mongoIndexReconciler.verify();
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.example.demo.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciles the indexes declared on the mapped entities ({@code @Indexed}, {@code @CompoundIndex}) with the
+ * indexes that actually exist in MongoDB.
+ * Automatic index creation is disabled by default in Spring Boot, so this component creates missing indexes
+ * on startup and reports both missing and undeclared ("extra") indexes.
+ * An existing index on the declared keys whose {@code unique} or {@code expireAfterSeconds} option differs from the
+ * declaration is reported as "changed"; it is not rebuilt, since dropping it is left to a migration.
+ * When {@code mongo.index.strict} is enabled (as in the {@code strict} profile), any remaining mismatch fails the startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexReconciler implements ApplicationRunner {
+
+    static final String STRICT_PROPERTY = "mongo.index.strict";
+
+    private static final String ID_INDEX_KEYS = "_id:1";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+    private final Environment environment;
+
+    /**
+     * Creates missing indexes and verifies the result once the application has started.
+     *
+     * @param args the application arguments.
+     * @throws IllegalStateException if strict mode is enabled and the indexes do not match.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+
+        createMissingIndexes();
+
+        final List<CollectionIndexReport> mismatches = verify().stream()
+                .filter(report -> !report.isConsistent())
+                .toList();
+
+        mismatches.forEach(report -> log.warn("Index mismatch on {}: missing={}, extra={}, changed={}",
+                report.collection(), report.missing(), report.extra(), report.changed()));
+
+        if (!mismatches.isEmpty() && environment.getProperty(STRICT_PROPERTY, Boolean.class, false)) {
+            throw new IllegalStateException("MongoDB indexes do not match the entity declarations: " + mismatches);
+        }
+
+    }
+
+    /**
+     * Creates every declared index that does not exist yet.
+     */
+    public void createMissingIndexes() {
+
+        declaredIndexes().forEach((collection, definitions) -> {
+
+            final IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+            final Set<String> existing = existingIndexes(indexOperations).keySet();
+
+            definitions.forEach((keys, definition) -> {
+                if (existing.contains(keys)) {
+                    return;
+                }
+                try {
+                    indexOperations.ensureIndex(definition);
+                    log.info("Created index {} on {}", keys, collection);
+                } catch (RuntimeException exception) {
+                    log.error("Could not create index {} on {}", keys, collection, exception);
+                }
+            });
+
+        });
+
+    }
+
+    /**
+     * Compares the declared indexes of every mapped collection with the existing ones.
+     *
+     * @return one {@link CollectionIndexReport} per mapped collection.
+     */
+    public List<CollectionIndexReport> verify() {
+
+        return declaredIndexes().entrySet().stream()
+                .map(entry -> {
+
+                    final Map<String, IndexDefinition> definitions = entry.getValue();
+                    final Set<String> declared = definitions.keySet();
+                    final Map<String, IndexInfo> existing = existingIndexes(mongoTemplate.indexOps(entry.getKey()));
+
+                    final List<String> missing = declared.stream()
+                            .filter(keys -> !existing.containsKey(keys))
+                            .sorted()
+                            .toList();
+
+                    final List<String> extra = existing.entrySet().stream()
+                            .filter(index -> !declared.contains(index.getKey()))
+                            .map(index -> index.getValue().getName())
+                            .sorted()
+                            .toList();
+
+                    final List<String> changed = existing.entrySet().stream()
+                            .filter(index -> declared.contains(index.getKey()))
+                            .filter(index -> !optionsMatch(definitions.get(index.getKey()), index.getValue()))
+                            .map(index -> index.getValue().getName())
+                            .sorted()
+                            .toList();
+
+                    return new CollectionIndexReport(entry.getKey(), missing, extra, changed);
+
+                })
+                .toList();
+
+    }
+
+    /**
+     * Resolves the index definitions declared on each mapped entity, keyed by collection and index keys.
+     * The implicit {@code _id} index is left out since MongoDB always maintains it.
+     */
+    private Map<String, Map<String, IndexDefinition>> declaredIndexes() {
+
+        final IndexResolver indexResolver = IndexResolver.create(mongoMappingContext);
+        final Map<String, Map<String, IndexDefinition>> declared = new TreeMap<>();
+
+        for (MongoPersistentEntity<?> entity : mongoMappingContext.getPersistentEntities()) {
+
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+
+            final Map<String, IndexDefinition> definitions =
+                    declared.computeIfAbsent(entity.getCollection(), collection -> new LinkedHashMap<>());
+
+            for (IndexDefinition definition : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+                final String keys = toKeys(definition.getIndexKeys());
+                if (!ID_INDEX_KEYS.equals(keys)) {
+                    definitions.put(keys, definition);
+                }
+            }
+
+        }
+
+        return declared;
+
+    }
+
+    /**
+     * Returns the existing indexes of a collection keyed by index keys.
+     */
+    private Map<String, IndexInfo> existingIndexes(final IndexOperations indexOperations) {
+
+        return indexOperations.getIndexInfo().stream()
+                .filter(indexInfo -> !ID_INDEX_KEYS.equals(toKeys(indexInfo)))
+                .collect(Collectors.toMap(this::toKeys, indexInfo -> indexInfo, (first, second) -> first));
+
+    }
+
+    /**
+     * Checks whether an existing index has the uniqueness and time to live of its declaration.
+     */
+    private boolean optionsMatch(final IndexDefinition definition, final IndexInfo indexInfo) {
+
+        final Document options = definition.getIndexOptions();
+
+        final Optional<Duration> expireAfter = Optional.ofNullable(options.get("expireAfterSeconds", Number.class))
+                .map(seconds -> Duration.ofSeconds(seconds.longValue()));
+
+        return options.getBoolean("unique", false) == indexInfo.isUnique()
+                && expireAfter.equals(indexInfo.getExpireAfter());
+
+    }
+
+    private String toKeys(final Document indexKeys) {
+        return indexKeys.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    private String toKeys(final IndexInfo indexInfo) {
+        return indexInfo.getIndexFields().stream()
+                .map(field -> field.getKey() + ":" + (field.getDirection() == Sort.Direction.DESC ? -1 : 1))
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * The result of comparing the declared and existing indexes of one collection.
+     *
+     * @param collection the collection name.
+     * @param missing    the keys of declared indexes that do not exist.
+     * @param extra      the names of existing indexes that are not declared.
+     * @param changed    the names of existing indexes whose unique or TTL option differs from their declaration.
+     */
+    public record CollectionIndexReport(String collection, List<String> missing, List<String> extra,
+                                        List<String> changed) {
+
+        /**
+         * Checks whether the collection has exactly the declared indexes.
+         *
+         * @return {@code true} if nothing is missing, extra or changed.
+         */
+        public boolean isConsistent() {
+            return missing.isEmpty() && extra.isEmpty() && changed.isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.demo.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class to enable the execution of {@code @Scheduled} methods.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
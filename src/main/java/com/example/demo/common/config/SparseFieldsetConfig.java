@@ -0,0 +1,55 @@
+package com.example.demo.common.config;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+
+/**
+ * Configuration class for sparse fieldsets, letting clients ask for only some fields of a response.
+ * Response classes opt in with {@code @JsonFilter(SparseFieldsetConfig.FILTER_ID)}; the application
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} writes every field of them unless the
+ * {@link SparseFieldsetResponseAdvice} applies the fields requested with the {@value #FIELDS_PARAMETER} parameter.
+ */
+@Configuration
+public class SparseFieldsetConfig {
+
+    /**
+     * The ID of the Jackson filter of the response classes supporting sparse fieldsets.
+     */
+    public static final String FILTER_ID = "sparseFieldset";
+
+    /**
+     * The request parameter listing the fields to return.
+     */
+    public static final String FIELDS_PARAMETER = "fields";
+
+    /**
+     * Registers the filter writing every field, used when no fields are requested.
+     *
+     * @return a customizer adding the filter to the application {@link com.fasterxml.jackson.databind.ObjectMapper}.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder -> builder.filters(filters(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * Creates the filters writing only the given fields.
+     *
+     * @param fields the names of the fields to write.
+     * @return the {@link FilterProvider} to write a response with.
+     */
+    static FilterProvider only(final Collection<String> fields) {
+        return filters(SimpleBeanPropertyFilter.filterOutAllExcept(fields.toArray(String[]::new)));
+    }
+
+    private static FilterProvider filters(final SimpleBeanPropertyFilter filter) {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.demo.common.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes only the requested fields of the responses of endpoints declaring the
+ * {@value SparseFieldsetConfig#FIELDS_PARAMETER} parameter.
+ * The fields are given as repeated parameters or separated by commas, and apply to every object of the response
+ * whose class carries the {@link SparseFieldsetConfig#FILTER_ID} filter; without the parameter every field is written.
+ * The endpoints validate the field names themselves.
+ */
+@RestControllerAdvice
+public class SparseFieldsetResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * Applies to the endpoints declaring the {@value SparseFieldsetConfig#FIELDS_PARAMETER} request parameter.
+     *
+     * @param returnType the return type of the endpoint.
+     * @param converterType the converter writing the response.
+     * @return {@code true} if the response may be written with a sparse fieldset.
+     */
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        final Method method = returnType.getMethod();
+
+        return super.supports(returnType, converterType) && method != null
+                && Arrays.stream(method.getParameters())
+                .map(parameter -> parameter.getAnnotation(RequestParam.class))
+                .filter(Objects::nonNull)
+                .anyMatch(requestParam -> SparseFieldsetConfig.FIELDS_PARAMETER.equals(requestParam.name()));
+
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(final MappingJacksonValue bodyContainer,
+                                           final MediaType contentType,
+                                           final MethodParameter returnType,
+                                           final ServerHttpRequest request,
+                                           final ServerHttpResponse response) {
+
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        final String[] values = servletRequest.getServletRequest()
+                .getParameterValues(SparseFieldsetConfig.FIELDS_PARAMETER);
+
+        if (values == null) {
+            return;
+        }
+
+        final List<String> fields = Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .toList();
+
+        if (!fields.isEmpty()) {
+            bodyContainer.setFilters(SparseFieldsetConfig.only(fields));
+        }
+
+    }
+
+}
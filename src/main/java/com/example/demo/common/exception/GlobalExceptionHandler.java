@@ -4,6 +4,8 @@ import com.example.demo.auth.exception.*;
 import com.example.demo.common.model.CustomError;
 import com.example.demo.flight.exception.AirportNameAlreadyExistException;
 import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.exception.FlightSearchTimeoutException;
+import com.example.demo.flight.exception.InvalidCursorException;
 import jakarta.validation.ConstraintViolationException;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
@@ -307,4 +309,48 @@ class GlobalExceptionHandler {
 
     }
 
+    /**
+     * Handles FlightSearchTimeoutException, which is thrown when a flight search does not complete within its deadline.
+     * The response contains the error message and a custom status code provided by the exception.
+     *
+     * @param ex The FlightSearchTimeoutException that was thrown.
+     * @return ResponseEntity containing the custom error message and the custom status code.
+     */
+    @ExceptionHandler(FlightSearchTimeoutException.class)
+    protected ResponseEntity<CustomError> handleFlightSearchTimeoutException(final FlightSearchTimeoutException ex) {
+
+        CustomError error = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(FlightSearchTimeoutException.STATUS)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, FlightSearchTimeoutException.STATUS);
+
+    }
+
+    /**
+     * Handles InvalidCursorException, which is thrown when a pagination cursor cannot be decoded.
+     * The response contains the error message and a custom status code provided by the exception.
+     *
+     * @param ex The InvalidCursorException that was thrown.
+     * @return ResponseEntity containing the custom error message and the custom status code.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<CustomError> handleInvalidCursorException(final InvalidCursorException ex) {
+
+        CustomError error = CustomError.builder()
+                .time(LocalDateTime.now())
+                .httpStatus(InvalidCursorException.STATUS)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, InvalidCursorException.STATUS);
+
+    }
+
 }
@@ -2,6 +2,7 @@ package com.example.demo.common.model;
 
 import lombok.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -30,6 +31,12 @@ public class CustomPage<T> {
 
     private Integer totalPageCount;
 
+    private String nextCursor;
+
+    private Boolean hasNext;
+
+    private Long approximateTotalElementCount;
+
     /**
      * A utility method to create a `CustomPage` instance from a list of domain models and a Spring Data `Page` object.
      * <p>
@@ -52,4 +59,51 @@ public class CustomPage<T> {
                 .build();
     }
 
+    /**
+     * A utility method to create a `CustomPage` instance from a list of domain models and a Spring Data `Slice` object.
+     * <p>
+     * Slices are read without a count query, so the page carries `hasNext` instead of the exact totals,
+     * optionally along with an approximate total element count.
+     *
+     * @param <C> The type of the content in the new `CustomPage`.
+     * @param <X> The type of the content in the provided `Slice`.
+     * @param domainModels A list of domain models to include in the page's content.
+     * @param slice The Spring Data `Slice` object containing pagination metadata.
+     * @param hasNext Whether a next page exists.
+     * @param approximateTotalElementCount The approximate number of matching elements, or `null` if unknown.
+     * @return A new `CustomPage` instance containing the domain models and slice details.
+     */
+    public static <C, X> CustomPage<C> ofSlice(final List<C> domainModels,
+                                               final Slice<X> slice,
+                                               final boolean hasNext,
+                                               final Long approximateTotalElementCount) {
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageNumber(slice.getNumber() + 1)
+                .pageSize(slice.getSize())
+                .hasNext(hasNext)
+                .approximateTotalElementCount(approximateTotalElementCount)
+                .build();
+    }
+
+    /**
+     * A utility method to create a cursor-paginated `CustomPage` instance.
+     * <p>
+     * Cursor pages carry no page number or totals; the client resumes with `nextCursor`,
+     * which is `null` on the last page.
+     *
+     * @param <C> The type of the content in the new `CustomPage`.
+     * @param domainModels A list of domain models to include in the page's content.
+     * @param pageSize The requested page size.
+     * @param nextCursor The opaque cursor of the next page, or `null` if there is none.
+     * @return A new `CustomPage` instance containing the domain models and the next cursor.
+     */
+    public static <C> CustomPage<C> ofCursor(final List<C> domainModels, final int pageSize, final String nextCursor) {
+        return CustomPage.<C>builder()
+                .content(domainModels)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.example.demo.common.model;
 
+import com.example.demo.common.model.enums.PagingMode;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,6 +14,9 @@ import lombok.experimental.SuperBuilder;
  * It is typically used in APIs to handle pagination for large datasets, where only a subset of data is returned at a time.
  * This class ensures that the page number and page size provided by the user meet the minimum constraints.
  * The page number is expected to be 1-based, but internally it is converted to 0-based indexing.
+ * In {@link PagingMode#CURSOR} mode the page number is ignored and the {@code cursor} returned by the previous page
+ * is used instead; it is omitted for the first page.
+ * In {@link PagingMode#SLICE} mode pages are addressed by number but no total count is computed.
  *
  * @see #getPageNumber() for how the page number is adjusted.
  */
@@ -29,6 +33,10 @@ public class CustomPaging {
     @Min(value = 1, message = "Page size must be bigger than 0")
     private Integer pageSize;
 
+    private PagingMode mode;
+
+    private String cursor;
+
     /**
      * Returns the 0-based page number for internal use in pagination.
      * This method adjusts the page number by subtracting 1 from the provided 1-based index.
@@ -40,4 +48,13 @@ public class CustomPaging {
         return pageNumber - 1;
     }
 
+    /**
+     * Returns the paging mode of the request, defaulting to {@link PagingMode#PAGE} for compatibility.
+     *
+     * @return the requested {@link PagingMode}.
+     */
+    public PagingMode getMode() {
+        return mode == null ? PagingMode.PAGE : mode;
+    }
+
 }
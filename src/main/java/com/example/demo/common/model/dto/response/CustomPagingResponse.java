@@ -1,6 +1,7 @@
 package com.example.demo.common.model.dto.response;
 
 import com.example.demo.common.model.CustomPage;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,6 +11,8 @@ import java.util.List;
  * Represents a custom paging response that holds paginated data along with
  * pagination details such as the current page number, page size, total element count,
  * and total page count.
+ * Cursor-paginated responses carry a {@code nextCursor} instead of the page number and totals,
+ * and slice-paginated responses carry {@code hasNext} and, when known, an approximate total instead of the totals.
  * This class is used to encapsulate the response for a paginated query.
  *
  * @param <T> The type of the elements in the paginated response.
@@ -28,6 +31,15 @@ public class CustomPagingResponse<T> {
 
     private Integer totalPageCount;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long approximateTotalElementCount;
+
     /**
      * Builder class for {@link CustomPagingResponse}. It provides a custom builder method
      * to create a {@link CustomPagingResponse} from a {@link CustomPage}.
@@ -41,7 +53,10 @@ public class CustomPagingResponse<T> {
                     .pageNumber(customPage.getPageNumber())
                     .pageSize(customPage.getPageSize())
                     .totalElementCount(customPage.getTotalElementCount())
-                    .totalPageCount(customPage.getTotalPageCount());
+                    .totalPageCount(customPage.getTotalPageCount())
+                    .nextCursor(customPage.getNextCursor())
+                    .hasNext(customPage.getHasNext())
+                    .approximateTotalElementCount(customPage.getApproximateTotalElementCount());
         }
 
     }
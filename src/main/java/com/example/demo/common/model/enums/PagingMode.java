@@ -0,0 +1,19 @@
+package com.example.demo.common.model.enums;
+
+/**
+ * Enum representing how a paginated request navigates through its results.
+ * <ul>
+ *   <li>{@code PAGE}: offset pagination by page number, including the total element and page counts.</li>
+ *   <li>{@code CURSOR}: keyset pagination resuming after the last returned row through an opaque cursor.
+ *   Every page costs the same, but no totals are returned.</li>
+ *   <li>{@code SLICE}: offset pagination by page number that reads one extra row to tell whether a next page exists
+ *   instead of counting all matches.</li>
+ * </ul>
+ */
+public enum PagingMode {
+
+    PAGE,
+    CURSOR,
+    SLICE
+
+}
@@ -0,0 +1,139 @@
+package com.example.demo.common.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over strings: a set that can answer "definitely absent" or "possibly present" in constant time
+ * and a few bits per element.
+ * A string that was added is always reported as possibly present; a string that was not is reported as possibly
+ * present with roughly the false-positive rate the filter was sized for, as long as no more strings than expected
+ * are added.
+ * Bits are set with atomic updates, so strings can be added while other threads query the filter.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(final long bitCount, final int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of strings and false-positive rate.
+     *
+     * @param expectedInsertions the number of strings expected to be added.
+     * @param falsePositiveRate the rate at which absent strings may be reported as present, between 0 and 1.
+     * @return an empty {@link BloomFilter}.
+     */
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        final long insertions = Math.max(1, expectedInsertions);
+        final long bitCount = Math.max(Long.SIZE,
+                (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+
+        return new BloomFilter(bitCount, hashCount);
+
+    }
+
+    /**
+     * Adds a string to the filter.
+     *
+     * @param value the string to add.
+     */
+    public void put(final String value) {
+
+        final long hash = hash(value);
+        final long first = mix(hash);
+        final long second = mix(hash ^ FNV_PRIME) | 1;
+
+        for (int index = 0; index < hashCount; index++) {
+            final long bit = Math.floorMod(first + index * second, bitCount);
+            final long mask = 1L << bit;
+            words.getAndUpdate((int) (bit >>> 6), word -> word | mask);
+        }
+
+    }
+
+    /**
+     * Tells whether a string may have been added to the filter.
+     *
+     * @param value the string to look up.
+     * @return {@code false} if the string was definitely never added, {@code true} otherwise.
+     */
+    public boolean mightContain(final String value) {
+
+        final long hash = hash(value);
+        final long first = mix(hash);
+        final long second = mix(hash ^ FNV_PRIME) | 1;
+
+        for (int index = 0; index < hashCount; index++) {
+            final long bit = Math.floorMod(first + index * second, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    /**
+     * Returns the number of bits of the filter.
+     *
+     * @return the size of the bit array.
+     */
+    long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Returns the number of bits set per string.
+     *
+     * @return the number of hash functions.
+     */
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Hashes the characters of a string with 64-bit FNV-1a.
+     */
+    private static long hash(final String value) {
+
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+        }
+
+        return hash;
+
+    }
+
+    /**
+     * Spreads the bits of a hash with the MurmurHash3 finalizer, deriving the two hashes the bit positions are
+     * combined from.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
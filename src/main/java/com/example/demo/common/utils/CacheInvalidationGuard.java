@@ -0,0 +1,66 @@
+package com.example.demo.common.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps values loaded outside of a cache from being cached after an invalidation that may make them stale.
+ * Every invalidation advances a generation before removing its entries. A value is only cached if no invalidation
+ * started since its load began; since an invalidation can still start between that check and the write, the
+ * generation is read again after the write and the entry is dropped if it changed. Either the invalidation finds
+ * the written entry, or the writer sees the new generation, so a stale value never stays cached.
+ * <pre>{@code
+ * final long generation = guard.generation();
+ * final V loaded = loader.get();
+ * guard.put(cache, key, loaded, generation);
+ * }</pre>
+ */
+public class CacheInvalidationGuard {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the current generation, to be read before a load starts.
+     *
+     * @return the number of invalidations started so far.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a loaded value unless an invalidation started after its load began.
+     *
+     * @param cache the cache to write to.
+     * @param key the key of the value.
+     * @param value the loaded value.
+     * @param loadGeneration the {@link #generation()} read before the load started.
+     * @param <K> the key type.
+     * @param <V> the value type.
+     */
+    public <K, V> void put(final Cache<K, V> cache, final K key, final V value, final long loadGeneration) {
+
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+
+        cache.put(key, value);
+
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+
+    }
+
+    /**
+     * Starts an invalidation, then removes its entries.
+     *
+     * @param removal removes the invalidated entries from the cache.
+     */
+    public void invalidate(final Runnable removal) {
+        generation.incrementAndGet();
+        removal.run();
+    }
+
+}
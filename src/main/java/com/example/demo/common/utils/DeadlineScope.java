@@ -0,0 +1,87 @@
+package com.example.demo.common.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * A scope for running blocking tasks concurrently under a shared deadline.
+ * Tasks are forked onto the given executor (typically one virtual thread per task) and joined with
+ * {@link #join(Future)}, which never waits past the deadline of the scope.
+ * Closing the scope cancels every task that has not completed yet, so when one task fails or the deadline
+ * expires its siblings are interrupted instead of being left running.
+ * <pre>{@code
+ * try (DeadlineScope scope = new DeadlineScope(executor, Duration.ofSeconds(5))) {
+ *     Future<A> a = scope.fork(this::loadA);
+ *     Future<B> b = scope.fork(this::loadB);
+ *     return combine(scope.join(a), scope.join(b));
+ * }
+ * }</pre>
+ */
+public class DeadlineScope implements AutoCloseable {
+
+    private final ExecutorService executorService;
+    private final long deadlineNanos;
+    private final List<Future<?>> tasks = new ArrayList<>();
+
+    /**
+     * Creates a scope whose deadline starts now.
+     *
+     * @param executorService the executor the tasks are forked onto.
+     * @param timeout the time budget shared by all tasks of the scope.
+     */
+    public DeadlineScope(final ExecutorService executorService, final Duration timeout) {
+        this.executorService = executorService;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Starts a task in the scope.
+     *
+     * @param task the task to run.
+     * @param <T> the result type of the task.
+     * @return the {@link Future} of the task, to be passed to {@link #join(Future)}.
+     */
+    public <T> Future<T> fork(final Callable<T> task) {
+        final Future<T> future = executorService.submit(task);
+        tasks.add(future);
+        return future;
+    }
+
+    /**
+     * Waits for a task of the scope until the deadline.
+     * If the task failed with an unchecked exception, that exception is rethrown as is.
+     *
+     * @param future the {@link Future} returned by {@link #fork(Callable)}.
+     * @param <T> the result type of the task.
+     * @return the result of the task.
+     * @throws TimeoutException if the deadline expires before the task completes.
+     */
+    public <T> T join(final Future<T> future) throws TimeoutException {
+
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+
+        try {
+            return future.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a task");
+        }
+
+    }
+
+    /**
+     * Cancels every task of the scope that has not completed yet.
+     */
+    @Override
+    public void close() {
+        tasks.forEach(task -> task.cancel(true));
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.example.demo.common.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * Tells, without a database query, that an ID definitely does not exist.
+ * The IDs of a collection are held in a {@link BloomFilter}, which never reports an added ID as absent; IDs the
+ * filter cannot rule out but the database did not find are remembered for a short time in a negative cache.
+ * The filter starts empty and answers "unknown" until its first {@link #rebuild}; created IDs must be
+ * {@link #add added} as they are written, and a periodic rebuild drops deleted IDs and picks up IDs written by
+ * other processes.
+ * Lookups are counted under {@value #LOOKUP_METRIC}, tagged with the filter name and
+ * {@code outcome=rejected|cached|passed|unloaded}; the first two are the queries avoided.
+ * Passed IDs the database did not find are counted under {@value #FALSE_POSITIVE_METRIC}, and IDs found by a rebuild
+ * that the previous filter would have rejected under {@value #FALSE_NEGATIVE_METRIC}, which stays at zero unless IDs
+ * are written without being added.
+ */
+public class IdExistenceFilter {
+
+    public static final String LOOKUP_METRIC = "id.filter.lookups";
+
+    public static final String FALSE_POSITIVE_METRIC = "id.filter.false.positives";
+
+    public static final String FALSE_NEGATIVE_METRIC = "id.filter.false.negatives";
+
+    /**
+     * The smallest number of IDs a filter is sized for, so a small collection can grow before the next rebuild.
+     */
+    static final long MIN_CAPACITY = 1_024;
+
+    private final double falsePositiveRate;
+
+    private final Cache<String, Boolean> missingIds;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter building;
+
+    private final Counter rejected;
+    private final Counter cached;
+    private final Counter passed;
+    private final Counter unloaded;
+    private final Counter falsePositives;
+    private final Counter falseNegatives;
+
+    /**
+     * Creates an empty filter whose metrics are tagged with the given name.
+     *
+     * @param name the name of the filter, e.g. the entity whose IDs it holds.
+     * @param falsePositiveRate the rate at which absent IDs may pass the Bloom filter, between 0 and 1.
+     * @param missingIdTtl how long an ID the database did not find is remembered.
+     * @param missingIdMaxEntries the number of missing IDs remembered.
+     * @param meterRegistry the registry the counters are registered in.
+     */
+    public IdExistenceFilter(final String name,
+                             final double falsePositiveRate,
+                             final Duration missingIdTtl,
+                             final long missingIdMaxEntries,
+                             final MeterRegistry meterRegistry) {
+
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(missingIdMaxEntries)
+                .expireAfterWrite(missingIdTtl)
+                .build();
+
+        this.rejected = lookups(meterRegistry, name, "rejected");
+        this.cached = lookups(meterRegistry, name, "cached");
+        this.passed = lookups(meterRegistry, name, "passed");
+        this.unloaded = lookups(meterRegistry, name, "unloaded");
+
+        this.falsePositives = Counter.builder(FALSE_POSITIVE_METRIC)
+                .description("IDs the filter could not rule out that the database did not find")
+                .tag("filter", name)
+                .register(meterRegistry);
+
+        this.falseNegatives = Counter.builder(FALSE_NEGATIVE_METRIC)
+                .description("Existing IDs the filter would have ruled out, found when it was rebuilt")
+                .tag("filter", name)
+                .register(meterRegistry);
+
+    }
+
+    /**
+     * Tells whether an ID definitely does not exist, in which case it need not be looked up.
+     *
+     * @param id the ID to check.
+     * @return {@code true} if the ID is not in the filter or was recently not found, {@code false} if it may exist
+     *         or the filter is not loaded yet.
+     */
+    public boolean isDefinitelyMissing(final String id) {
+
+        final BloomFilter current = filter;
+
+        if (current == null) {
+            unloaded.increment();
+            return false;
+        }
+
+        if (!current.mightContain(id)) {
+            rejected.increment();
+            return true;
+        }
+
+        if (missingIds.getIfPresent(id) != null) {
+            cached.increment();
+            return true;
+        }
+
+        passed.increment();
+        return false;
+
+    }
+
+    /**
+     * Remembers that the database did not find an ID that passed the filter.
+     *
+     * @param id the ID that was not found.
+     */
+    public void recordMissing(final String id) {
+        falsePositives.increment();
+        missingIds.put(id, Boolean.TRUE);
+    }
+
+    /**
+     * Adds a written ID to the filter, including the one being rebuilt, and forgets that it was missing.
+     *
+     * @param id the created ID.
+     */
+    public void add(final String id) {
+
+        // Read the filter being built first: if there is none, a rebuild starting later scans this ID itself.
+        final BloomFilter next = building;
+        final BloomFilter current = filter;
+
+        if (next != null) {
+            next.put(id);
+        }
+
+        if (current != null) {
+            current.put(id);
+        }
+
+        missingIds.invalidate(id);
+
+    }
+
+    /**
+     * Replaces the filter with one holding the given IDs, sized for twice their number so the IDs created until the
+     * next rebuild keep the false-positive rate.
+     * IDs added while the rebuild runs are added to both filters.
+     *
+     * @param expectedIds the number of IDs the stream is expected to hold.
+     * @param ids the IDs of every existing entity; the stream is closed.
+     * @return the number of IDs read.
+     */
+    public synchronized long rebuild(final long expectedIds, final Stream<String> ids) {
+
+        final BloomFilter next = BloomFilter.create(Math.max(MIN_CAPACITY, expectedIds * 2), falsePositiveRate);
+        final BloomFilter previous = filter;
+        final long[] read = {0};
+
+        building = next;
+
+        try (ids) {
+            ids.forEach(id -> {
+                next.put(id);
+                read[0]++;
+                if (previous != null && !previous.mightContain(id)) {
+                    falseNegatives.increment();
+                }
+            });
+            filter = next;
+        } finally {
+            building = null;
+        }
+
+        return read[0];
+
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String name, final String outcome) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("ID lookups ruled out by the filter or the missing-ID cache, or passed to the database")
+                .tag("filter", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
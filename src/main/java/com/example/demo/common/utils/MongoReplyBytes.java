@@ -0,0 +1,84 @@
+package com.example.demo.common.utils;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+import java.util.concurrent.Callable;
+import java.util.function.LongConsumer;
+
+/**
+ * Measures the bytes of the replies MongoDB sends to the queries of a task.
+ * The synchronous driver notifies command listeners on the thread running the command, so while a task is
+ * {@link #measure measured}, the listener adds the size of every reply received on its thread to the task.
+ * Replies reach the listener as the raw BSON read from the connection, so measuring them decodes nothing.
+ * Commands run outside a measured task are not counted.
+ */
+public final class MongoReplyBytes implements CommandListener {
+
+    private static final ThreadLocal<long[]> MEASURED = new ThreadLocal<>();
+
+    /**
+     * Runs a task and reports the bytes of the MongoDB replies it received, even if it fails.
+     * A measured task nested in another counts towards both.
+     *
+     * @param task the task running MongoDB queries on the calling thread.
+     * @param bytesConsumer receives the number of reply bytes once the task completes.
+     * @param <T> the result type.
+     * @return the result of the task.
+     * @throws Exception if the task fails.
+     */
+    public static <T> T measure(final Callable<T> task, final LongConsumer bytesConsumer) throws Exception {
+
+        final long[] outer = MEASURED.get();
+        final long[] bytes = {0};
+
+        MEASURED.set(bytes);
+
+        try {
+            return task.call();
+        } finally {
+            if (outer == null) {
+                MEASURED.remove();
+            } else {
+                outer[0] += bytes[0];
+                MEASURED.set(outer);
+            }
+            bytesConsumer.accept(bytes[0]);
+        }
+
+    }
+
+    /**
+     * Adds the size of a reply to the task measured on the current thread, if any.
+     *
+     * @param event the succeeded command.
+     */
+    @Override
+    public void commandSucceeded(final CommandSucceededEvent event) {
+
+        final long[] bytes = MEASURED.get();
+
+        if (bytes != null) {
+            bytes[0] += sizeOf(event.getResponse());
+        }
+
+    }
+
+    /**
+     * Returns the encoded size of a reply, which the driver hands over as a {@link RawBsonDocument}.
+     */
+    static long sizeOf(final BsonDocument response) {
+
+        if (response instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+
+        return response == null ? 0 : new RawBsonDocument(response, new BsonDocumentCodec())
+                .getByteBuffer().remaining();
+
+    }
+
+}
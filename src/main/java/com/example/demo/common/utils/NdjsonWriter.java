@@ -0,0 +1,65 @@
+package com.example.demo.common.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes values to an output stream as newline-delimited JSON ({@code application/x-ndjson}), one document per line.
+ * Values are serialized straight into the stream, and writes block while the stream cannot accept more bytes,
+ * so a producer feeding the writer is held back by a slow reader.
+ * I/O failures, such as a client closing the connection, are rethrown as {@link UncheckedIOException}
+ * so the writer can be used from functional callbacks.
+ */
+public class NdjsonWriter {
+
+    private static final int NEWLINE = '\n';
+
+    private final ObjectWriter objectWriter;
+
+    private final OutputStream outputStream;
+
+    /**
+     * Creates a writer serializing with the given mapper; the output stream is left open after each value.
+     *
+     * @param objectMapper the mapper used to serialize the values.
+     * @param outputStream the stream to write to.
+     */
+    public NdjsonWriter(final ObjectMapper objectMapper, final OutputStream outputStream) {
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Writes one value followed by a newline.
+     *
+     * @param value the value to write.
+     * @throws UncheckedIOException if the value cannot be written.
+     */
+    public void write(final Object value) {
+        try {
+            objectWriter.writeValue(outputStream, value);
+            outputStream.write(NEWLINE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Flushes the written lines to the client.
+     *
+     * @throws UncheckedIOException if the stream cannot be flushed.
+     */
+    public void flush() {
+        try {
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
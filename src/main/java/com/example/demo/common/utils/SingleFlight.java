@@ -0,0 +1,109 @@
+package com.example.demo.common.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller of a key (the leader) runs the supplier; callers arriving while it is in flight wait for
+ * its result instead of running the supplier again. A waiting caller gives up after the maximum wait and
+ * runs the supplier itself, so a slow leader never holds its followers longer than that.
+ * Outcomes are counted in the given meter, tagged {@code outcome=executed|coalesced|timeout}.
+ *
+ * @param <K> the key type; keys must implement {@code equals} and {@code hashCode}.
+ * @param <V> the result type.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    /**
+     * Creates a coalescer whose outcomes are recorded under the given meter name.
+     *
+     * @param meterRegistry the registry the outcome counters are registered in.
+     * @param metricName the name of the outcome counter.
+     */
+    public SingleFlight(final MeterRegistry meterRegistry, final String metricName) {
+        this.executed = counter(meterRegistry, metricName, "executed");
+        this.coalesced = counter(meterRegistry, metricName, "coalesced");
+        this.timedOut = counter(meterRegistry, metricName, "timeout");
+    }
+
+    /**
+     * Returns the result of the in-flight call for the key, or runs the supplier if there is none.
+     * If the shared call fails with an unchecked exception, every waiting caller receives that exception.
+     *
+     * @param key the key identifying identical calls.
+     * @param supplier the call to run.
+     * @param maxWait how long to wait for an in-flight call before running the supplier independently.
+     * @return the result of the call.
+     */
+    public V execute(final K key, final Supplier<V> supplier, final Duration maxWait) {
+
+        final CompletableFuture<V> call = new CompletableFuture<>();
+        final CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+
+        if (leader == null) {
+            return lead(key, call, supplier);
+        }
+
+        try {
+            final V result = leader.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return result;
+        } catch (TimeoutException exception) {
+            timedOut.increment();
+            return supplier.get();
+        } catch (ExecutionException exception) {
+            coalesced.increment();
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for an in-flight call");
+        }
+
+    }
+
+    private V lead(final K key, final CompletableFuture<V> call, final Supplier<V> supplier) {
+
+        executed.increment();
+
+        try {
+            final V result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            call.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, call);
+        }
+
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String name, final String outcome) {
+        return Counter.builder(name)
+                .description("Calls that ran, joined an in-flight call, or gave up waiting for one")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
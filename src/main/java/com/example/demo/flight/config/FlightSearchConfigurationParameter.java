@@ -0,0 +1,235 @@
+package com.example.demo.flight.config;
+
+import lombok.Getter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for flight search parameters.
+ * Each parameter can be overridden through the application properties; otherwise the default value is used.
+ */
+@Getter
+@Configuration
+public class FlightSearchConfigurationParameter {
+
+    static final Duration DEFAULT_SEARCH_DEADLINE = Duration.ofSeconds(5);
+
+    static final Duration DEFAULT_APPROXIMATE_COUNT_TTL = Duration.ofMinutes(5);
+
+    static final int DEFAULT_APPROXIMATE_COUNT_MAX_ENTRIES = 10_000;
+
+    static final Duration DEFAULT_RESULT_CACHE_TTL = Duration.ofSeconds(30);
+
+    static final long DEFAULT_RESULT_CACHE_MAX_FLIGHTS = 100_000L;
+
+    static final Duration DEFAULT_COALESCING_MAX_WAIT = Duration.ofSeconds(2);
+
+    static final Duration DEFAULT_MIN_CONNECTION_TIME = Duration.ofMinutes(45);
+
+    static final Duration DEFAULT_TIMETABLE_TTL = Duration.ofMinutes(10);
+
+    static final int DEFAULT_TIMETABLE_MAX_DAYS = 14;
+
+    static final int DEFAULT_CALENDAR_CACHE_MAX_ENTRIES = 10_000;
+
+    static final boolean DEFAULT_INDEX_ENABLED = true;
+
+    static final int DEFAULT_INDEX_DAYS = 30;
+
+    static final int DEFAULT_SUMMARY_CHECK_DAYS = 7;
+
+    static final Duration DEFAULT_ROUND_TRIP_MIN_STAY = Duration.ofHours(2);
+
+    static final int DEFAULT_ROUND_TRIP_MAX_COMBINATIONS = 1_000;
+
+    static final int DEFAULT_STREAM_BATCH_SIZE = 500;
+
+    static final int DEFAULT_BATCH_MAX_CONCURRENCY = 8;
+
+    static final int DEFAULT_BATCH_MERGE_MAX_FLIGHTS = 5_000;
+
+    static final double DEFAULT_ID_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    static final Duration DEFAULT_ID_FILTER_MISSING_TTL = Duration.ofSeconds(30);
+
+    static final int DEFAULT_ID_FILTER_MISSING_MAX_ENTRIES = 10_000;
+
+    private final Duration searchDeadline;
+
+    private final Duration approximateCountTtl;
+
+    private final int approximateCountMaxEntries;
+
+    private final Duration resultCacheTtl;
+
+    private final long resultCacheMaxFlights;
+
+    private final Duration coalescingMaxWait;
+
+    private final Duration minConnectionTime;
+
+    private final Duration timetableTtl;
+
+    private final int timetableMaxDays;
+
+    private final int calendarCacheMaxEntries;
+
+    private final boolean indexEnabled;
+
+    private final int indexDays;
+
+    private final int summaryCheckDays;
+
+    private final Duration roundTripMinStay;
+
+    private final int roundTripMaxCombinations;
+
+    private final int streamBatchSize;
+
+    private final int batchMaxConcurrency;
+
+    private final int batchMergeMaxFlights;
+
+    private final double idFilterFalsePositiveRate;
+
+    private final Duration idFilterMissingTtl;
+
+    private final int idFilterMissingMaxEntries;
+
+    /**
+     * Initializes the flight search configuration parameters.
+     * <ul>
+     *   <li>Search deadline: {@code flight.search.deadline}, the time budget shared by all queries of a search</li>
+     *   <li>Approximate count TTL: {@code flight.search.approximate-count.ttl}, how long a cached route/day count
+     *   is served before it is refreshed; {@code 0} disables approximate counts</li>
+     *   <li>Approximate count max entries: {@code flight.search.approximate-count.max-entries},
+     *   the number of route/day counts kept in memory</li>
+     *   <li>Result cache TTL: {@code flight.search.result-cache.ttl}, how long a search result is cached;
+     *   {@code 0} disables the cache</li>
+     *   <li>Result cache max flights: {@code flight.search.result-cache.max-flights},
+     *   the total number of flights the cached results may hold</li>
+     *   <li>Coalescing max wait: {@code flight.search.coalescing.max-wait}, how long a search waits for an identical
+     *   in-flight search before running its own queries</li>
+     *   <li>Minimum connection time: {@code flight.itinerary.min-connection-time}, the minimum layover between
+     *   two flights of an itinerary</li>
+     *   <li>Timetable TTL: {@code flight.itinerary.timetable.ttl}, how long the in-memory timetable of a day is kept</li>
+     *   <li>Timetable max days: {@code flight.itinerary.timetable.max-days}, the number of day timetables kept in memory</li>
+     *   <li>Calendar cache max entries: {@code flight.search.calendar.max-entries}, the number of route price
+     *   calendars cached; they expire after the result cache TTL</li>
+     *   <li>Index enabled: {@code flight.search.index.enabled}, whether direct searches are served from
+     *   the in-memory flight index</li>
+     *   <li>Index days: {@code flight.search.index.days}, the number of departure days, starting today,
+     *   kept in the in-memory flight index</li>
+     *   <li>Summary check days: {@code flight.search.summary.check-days}, the number of departure days, starting today,
+     *   whose route/day summaries are periodically compared with the flights</li>
+     *   <li>Round-trip minimum stay: {@code flight.search.round-trip.min-stay}, the minimum time between the arrival
+     *   of the outbound flight and the departure of the return flight</li>
+     *   <li>Round-trip max combinations: {@code flight.search.round-trip.max-combinations}, the number of best
+     *   combinations a round-trip search can page through</li>
+     *   <li>Stream batch size: {@code flight.search.stream.batch-size}, the number of flights a streamed response
+     *   fetches from MongoDB and writes at a time</li>
+     *   <li>Batch max concurrency: {@code flight.search.batch.max-concurrency}, the number of searches of a batch
+     *   that run at the same time</li>
+     *   <li>Batch merge max flights: {@code flight.search.batch.merge-max-flights}, the largest number of flights
+     *   a single query shared by the searches of a batch on the same route may read</li>
+     *   <li>ID filter false-positive rate: {@code flight.search.id-filter.false-positive-rate}, the rate at which
+     *   unknown airport and flight IDs pass the in-memory ID filters and are looked up anyway</li>
+     *   <li>ID filter missing TTL: {@code flight.search.id-filter.missing-ttl}, how long an ID that passed the filters
+     *   but was not found is answered as missing without a query</li>
+     *   <li>ID filter missing max entries: {@code flight.search.id-filter.missing-max-entries}, the number of such
+     *   missing IDs remembered per filter</li>
+     * </ul>
+     *
+     * @param environment the Spring {@link Environment} to read the parameters from.
+     */
+    public FlightSearchConfigurationParameter(final Environment environment) {
+
+        this.searchDeadline = environment.getProperty(
+                "flight.search.deadline", Duration.class, DEFAULT_SEARCH_DEADLINE
+        );
+
+        this.approximateCountTtl = environment.getProperty(
+                "flight.search.approximate-count.ttl", Duration.class, DEFAULT_APPROXIMATE_COUNT_TTL
+        );
+
+        this.approximateCountMaxEntries = environment.getProperty(
+                "flight.search.approximate-count.max-entries", Integer.class, DEFAULT_APPROXIMATE_COUNT_MAX_ENTRIES
+        );
+
+        this.resultCacheTtl = environment.getProperty(
+                "flight.search.result-cache.ttl", Duration.class, DEFAULT_RESULT_CACHE_TTL
+        );
+
+        this.resultCacheMaxFlights = environment.getProperty(
+                "flight.search.result-cache.max-flights", Long.class, DEFAULT_RESULT_CACHE_MAX_FLIGHTS
+        );
+
+        this.coalescingMaxWait = environment.getProperty(
+                "flight.search.coalescing.max-wait", Duration.class, DEFAULT_COALESCING_MAX_WAIT
+        );
+
+        this.minConnectionTime = environment.getProperty(
+                "flight.itinerary.min-connection-time", Duration.class, DEFAULT_MIN_CONNECTION_TIME
+        );
+
+        this.timetableTtl = environment.getProperty(
+                "flight.itinerary.timetable.ttl", Duration.class, DEFAULT_TIMETABLE_TTL
+        );
+
+        this.timetableMaxDays = environment.getProperty(
+                "flight.itinerary.timetable.max-days", Integer.class, DEFAULT_TIMETABLE_MAX_DAYS
+        );
+
+        this.calendarCacheMaxEntries = environment.getProperty(
+                "flight.search.calendar.max-entries", Integer.class, DEFAULT_CALENDAR_CACHE_MAX_ENTRIES
+        );
+
+        this.indexEnabled = environment.getProperty(
+                "flight.search.index.enabled", Boolean.class, DEFAULT_INDEX_ENABLED
+        );
+
+        this.indexDays = environment.getProperty(
+                "flight.search.index.days", Integer.class, DEFAULT_INDEX_DAYS
+        );
+
+        this.summaryCheckDays = environment.getProperty(
+                "flight.search.summary.check-days", Integer.class, DEFAULT_SUMMARY_CHECK_DAYS
+        );
+
+        this.roundTripMinStay = environment.getProperty(
+                "flight.search.round-trip.min-stay", Duration.class, DEFAULT_ROUND_TRIP_MIN_STAY
+        );
+
+        this.roundTripMaxCombinations = environment.getProperty(
+                "flight.search.round-trip.max-combinations", Integer.class, DEFAULT_ROUND_TRIP_MAX_COMBINATIONS
+        );
+
+        this.streamBatchSize = environment.getProperty(
+                "flight.search.stream.batch-size", Integer.class, DEFAULT_STREAM_BATCH_SIZE
+        );
+
+        this.batchMaxConcurrency = environment.getProperty(
+                "flight.search.batch.max-concurrency", Integer.class, DEFAULT_BATCH_MAX_CONCURRENCY
+        );
+
+        this.batchMergeMaxFlights = environment.getProperty(
+                "flight.search.batch.merge-max-flights", Integer.class, DEFAULT_BATCH_MERGE_MAX_FLIGHTS
+        );
+
+        this.idFilterFalsePositiveRate = environment.getProperty(
+                "flight.search.id-filter.false-positive-rate", Double.class, DEFAULT_ID_FILTER_FALSE_POSITIVE_RATE
+        );
+
+        this.idFilterMissingTtl = environment.getProperty(
+                "flight.search.id-filter.missing-ttl", Duration.class, DEFAULT_ID_FILTER_MISSING_TTL
+        );
+
+        this.idFilterMissingMaxEntries = environment.getProperty(
+                "flight.search.id-filter.missing-max-entries", Integer.class, DEFAULT_ID_FILTER_MISSING_MAX_ENTRIES
+        );
+
+    }
+
+}
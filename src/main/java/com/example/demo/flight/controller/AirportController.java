@@ -10,17 +10,24 @@ import com.example.demo.flight.model.dto.request.airport.UpdateAirportRequest;
 import com.example.demo.flight.model.dto.response.airport.AirportResponse;
 import com.example.demo.flight.model.mapper.airport.AirportToAirportResponseMapper;
 import com.example.demo.flight.model.mapper.airport.CustomPageAirportToCustomPagingAirportResponseMapper;
+import com.example.demo.flight.service.airport.AirportAutocompleteService;
 import com.example.demo.flight.service.airport.AirportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * RestController for managing airports.
  * Provides endpoints for creating, retrieving, updating, and deleting airport information.
@@ -120,6 +127,36 @@ public class AirportController {
         return CustomResponse.successOf(response);
     }
 
+    /**
+     * Suggests airports while the user types their name or city.
+     *
+     * @param query the typed prefix of a word of the airport name or city.
+     * @param limit the maximum number of airports to return.
+     * @return a response containing the best matching airports, best first.
+     */
+    @Operation(
+            summary = "Autocomplete airports",
+            description = "Suggests the airports whose name or city has a word starting with the query, ranked by name matches first, from an in-memory index. Accessible by both ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Airports successfully suggested"),
+                    @ApiResponse(responseCode = "400", description = "Invalid query or limit provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<List<AirportResponse>> suggestAirports(
+            @RequestParam @NotBlank @Size(max = 100) final String query,
+            @RequestParam(defaultValue = "" + AirportAutocompleteService.DEFAULT_LIMIT)
+            @Min(1) @Max(AirportAutocompleteService.MAX_LIMIT) final int limit) {
+
+        final List<Airport> airports = airportService.suggestAirports(query, limit);
+
+        return CustomResponse.successOf(airportToAirportResponseMapper.map(airports));
+
+    }
+
     /**
      * Updates an existing airport by its ID.
      *
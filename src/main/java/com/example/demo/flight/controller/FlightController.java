@@ -1,8 +1,10 @@
 package com.example.demo.flight.controller;
 
+import com.example.demo.common.config.SparseFieldsetConfig;
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.dto.response.CustomPagingResponse;
 import com.example.demo.common.model.dto.response.CustomResponse;
+import com.example.demo.common.utils.NdjsonWriter;
 import com.example.demo.flight.model.Flight;
 import com.example.demo.flight.model.dto.request.airport.AirportPagingRequest;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
@@ -11,15 +13,23 @@ import com.example.demo.flight.model.dto.response.flight.FlightResponse;
 import com.example.demo.flight.model.mapper.flight.CustomPageFlightToCustomPagingFlightResponseMapper;
 import com.example.demo.flight.model.mapper.flight.FlightToFlightResponseMapper;
 import com.example.demo.flight.service.flight.FlightService;
+import com.example.demo.flight.service.flight.FlightStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * RestController for managing flights.
@@ -35,6 +45,10 @@ public class FlightController {
 
     private final FlightService flightService;
 
+    private final FlightStreamService flightStreamService;
+
+    private final ObjectMapper objectMapper;
+
     private final FlightToFlightResponseMapper flightToFlightResponseMapper  =  FlightToFlightResponseMapper.initialize();
 
     private final CustomPageFlightToCustomPagingFlightResponseMapper customPageFlightToCustomPagingFlightResponseMapper
@@ -98,6 +112,7 @@ public class FlightController {
      * Retrieves a paginated list of flights.
      *
      * @param request the request body containing pagination and sorting information.
+     * @param fields the fields of the flights to return, all of them if absent.
      * @return a paginated response containing a list of flights.
      */
     @Operation(
@@ -113,7 +128,10 @@ public class FlightController {
     )
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
-    public CustomResponse<CustomPagingResponse<FlightResponse>> getAllFlights(@RequestBody @Valid final AirportPagingRequest request){
+    public CustomResponse<CustomPagingResponse<FlightResponse>> getAllFlights(
+            @RequestBody @Valid final AirportPagingRequest request,
+            @RequestParam(name = SparseFieldsetConfig.FIELDS_PARAMETER, required = false)
+            final List<@Pattern(regexp = FlightResponse.FIELD_NAMES) String> fields){
         final CustomPage<Flight> flightCustomPage= flightService.getAllFlights(request);
 
         final CustomPagingResponse<FlightResponse> response = customPageFlightToCustomPagingFlightResponseMapper
@@ -122,6 +140,40 @@ public class FlightController {
         return CustomResponse.successOf(response);
     }
 
+    /**
+     * Streams every flight as newline-delimited JSON, one {@link FlightResponse} per line, ordered by departure time.
+     * The flights are written batch by batch while they are read from MongoDB, so the server never holds
+     * the whole collection.
+     *
+     * @return the streamed flights.
+     */
+    @Operation(
+            summary = "Stream all flights",
+            description = "Streams every flight as application/x-ndjson, one flight per line, ordered by departure time. Accessible by both ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Flights successfully streamed"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public ResponseEntity<StreamingResponseBody> streamAllFlights() {
+
+        final StreamingResponseBody body = outputStream -> {
+            final NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+            flightStreamService.streamAll(flights -> {
+                flights.forEach(flight -> writer.write(flightToFlightResponseMapper.map(flight)));
+                writer.flush();
+            });
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+
+    }
+
     /**
      * Updates an existing flight by its ID.
      *
@@ -2,23 +2,55 @@ package com.example.demo.flight.controller;
 
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.dto.response.CustomPagingResponse;
+import com.example.demo.common.config.SparseFieldsetConfig;
 import com.example.demo.common.model.dto.response.CustomResponse;
+import com.example.demo.common.utils.NdjsonWriter;
+import com.example.demo.flight.model.BatchSearchResult;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.request.flight.BatchSearchFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.FlightCalendarRequest;
+import com.example.demo.flight.model.dto.request.flight.ItinerarySearchRequest;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+import com.example.demo.flight.model.dto.response.flight.BatchSearchFlightResponse;
+import com.example.demo.flight.model.dto.response.flight.FlightCalendarDayResponse;
 import com.example.demo.flight.model.dto.response.flight.FlightResponse;
+import com.example.demo.flight.model.dto.response.flight.ItineraryResponse;
+import com.example.demo.flight.model.dto.response.flight.RoundTripResponse;
+import com.example.demo.flight.model.mapper.flight.BatchSearchResultToBatchSearchFlightResponseMapper;
 import com.example.demo.flight.model.mapper.flight.CustomPageFlightToCustomPagingFlightResponseMapper;
+import com.example.demo.flight.model.mapper.flight.CustomPageRoundTripToCustomPagingRoundTripResponseMapper;
+import com.example.demo.flight.model.mapper.flight.FlightCalendarDayToFlightCalendarDayResponseMapper;
+import com.example.demo.flight.model.mapper.flight.FlightToFlightResponseMapper;
+import com.example.demo.flight.model.mapper.flight.ItineraryToItineraryResponseMapper;
+import com.example.demo.flight.service.flight.CityFlightSearchService;
+import com.example.demo.flight.service.flight.FlightCalendarService;
+import com.example.demo.flight.service.flight.FlightStreamService;
+import com.example.demo.flight.service.flight.ItinerarySearchService;
 import com.example.demo.flight.service.flight.SearchFlightService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * RestController for searching flights based on given criteria.
@@ -32,14 +64,35 @@ import org.springframework.web.bind.annotation.RestController;
 public class SearchFlightController {
 
     private final SearchFlightService searchFlightService;
+    private final ItinerarySearchService itinerarySearchService;
+    private final FlightCalendarService flightCalendarService;
+    private final FlightStreamService flightStreamService;
+    private final CityFlightSearchService cityFlightSearchService;
+    private final ObjectMapper objectMapper;
 
     private final CustomPageFlightToCustomPagingFlightResponseMapper customPageFlightToCustomPagingFlightResponseMapper =
             CustomPageFlightToCustomPagingFlightResponseMapper.initialize();
 
+    private final FlightToFlightResponseMapper flightToFlightResponseMapper =
+            FlightToFlightResponseMapper.initialize();
+
+    private final CustomPageRoundTripToCustomPagingRoundTripResponseMapper customPageRoundTripToCustomPagingRoundTripResponseMapper =
+            CustomPageRoundTripToCustomPagingRoundTripResponseMapper.initialize();
+
+    private final ItineraryToItineraryResponseMapper itineraryToItineraryResponseMapper =
+            ItineraryToItineraryResponseMapper.initialize();
+
+    private final FlightCalendarDayToFlightCalendarDayResponseMapper flightCalendarDayToFlightCalendarDayResponseMapper =
+            FlightCalendarDayToFlightCalendarDayResponseMapper.initialize();
+
+    private final BatchSearchResultToBatchSearchFlightResponseMapper batchSearchResultToBatchSearchFlightResponseMapper =
+            BatchSearchResultToBatchSearchFlightResponseMapper.initialize();
+
     /**
      * Searches for flights based on given criteria.
      *
      * @param request the search criteria and pagination details.
+     * @param fields the fields of the flights to return, all of them if absent.
      * @return a paginated response containing a list of matching flights.
      */
     @Operation(
@@ -55,7 +108,9 @@ public class SearchFlightController {
     @PostMapping
     @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
     public CustomResponse<CustomPagingResponse<FlightResponse>> searchFlights(
-            @RequestBody @Valid SearchFlightRequest request) {
+            @RequestBody @Valid SearchFlightRequest request,
+            @RequestParam(name = SparseFieldsetConfig.FIELDS_PARAMETER, required = false)
+            final List<@Pattern(regexp = FlightResponse.FIELD_NAMES) String> fields) {
 
         CustomPage<Flight> flightPage = searchFlightService.searchFlights(request);
 
@@ -66,4 +121,185 @@ public class SearchFlightController {
 
     }
 
+    /**
+     * Searches for flights between two cities or groups of airports.
+     *
+     * @param request the cities or airports of both sides, the search criteria and pagination details.
+     * @param fields the fields of the flights to return, all of them if absent.
+     * @return a paginated response containing the merged flights of every airport pair.
+     */
+    @Operation(
+            summary = "Search for flights between cities",
+            description = "Searches for flights between every airport of a city or list of airports and every airport of another, merged into one page ordered by departure time, price or flight time. Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Flights successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden"),
+                    @ApiResponse(responseCode = "404", description = "No airport found in a city")
+            }
+    )
+    @PostMapping("/cities")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<CustomPagingResponse<FlightResponse>> searchFlightsBetweenCities(
+            @RequestBody @Valid CitySearchFlightRequest request,
+            @RequestParam(name = SparseFieldsetConfig.FIELDS_PARAMETER, required = false)
+            final List<@Pattern(regexp = FlightResponse.FIELD_NAMES) String> fields) {
+
+        CustomPage<Flight> flightPage = cityFlightSearchService.searchFlights(request);
+
+        CustomPagingResponse<FlightResponse> response =
+                customPageFlightToCustomPagingFlightResponseMapper.toPagingResponse(flightPage);
+
+        return CustomResponse.successOf(response);
+
+    }
+
+    /**
+     * Runs several flight searches in one call.
+     *
+     * @param request the searches to run.
+     * @return the page or the error of every search, in the order of the request.
+     */
+    @Operation(
+            summary = "Search for flights in batch",
+            description = "Runs up to 50 flight searches in one call, concurrently, and returns the page or the error of each search in the order of the request; one failing search does not fail the others. Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Searches successfully run"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<List<BatchSearchFlightResponse>> searchFlightsBatch(
+            @RequestBody @Valid BatchSearchFlightRequest request) {
+
+        List<BatchSearchResult> results = searchFlightService.searchFlightsBatch(request.getSearches());
+
+        return CustomResponse.successOf(batchSearchResultToBatchSearchFlightResponseMapper.map(results));
+
+    }
+
+    /**
+     * Streams every flight matching the given criteria as newline-delimited JSON, one {@link FlightResponse} per line.
+     * The flights are written batch by batch while they are read from MongoDB, so the response starts with the first
+     * batch and the server never holds the whole result; the pagination of the request is ignored.
+     *
+     * @param request the search criteria.
+     * @return the streamed flights, the outbound leg first and then the optional return leg.
+     */
+    @Operation(
+            summary = "Stream flight search results",
+            description = "Streams every flight matching the search criteria as application/x-ndjson, one flight per line, without paging. Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Flights successfully streamed"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @PostMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public ResponseEntity<StreamingResponseBody> streamFlights(@RequestBody @Valid SearchFlightRequest request) {
+
+        StreamingResponseBody body = outputStream -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+            flightStreamService.streamSearch(request, flights -> {
+                flights.forEach(flight -> writer.write(flightToFlightResponseMapper.map(flight)));
+                writer.flush();
+            });
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+
+    }
+
+    /**
+     * Searches for round trips between two airports.
+     *
+     * @param request the round-trip search criteria, ranking and pagination details.
+     * @return a paginated response containing the best outbound and return flight combinations.
+     */
+    @Operation(
+            summary = "Search for round trips",
+            description = "Pairs the outbound flights of the departure date with the return flights of the return date that leave after the minimum stay, and pages through the combinations ranked by total price or total flight time. Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Round trips successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @PostMapping("/round-trips")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<CustomPagingResponse<RoundTripResponse>> searchRoundTrips(
+            @RequestBody @Valid RoundTripSearchRequest request) {
+
+        CustomPage<RoundTrip> roundTripPage = searchFlightService.searchRoundTrips(request);
+
+        CustomPagingResponse<RoundTripResponse> response =
+                customPageRoundTripToCustomPagingRoundTripResponseMapper.toPagingResponse(roundTripPage);
+
+        return CustomResponse.successOf(response);
+
+    }
+
+    /**
+     * Searches for direct and connecting itineraries between two airports.
+     *
+     * @param request the itinerary search criteria.
+     * @return the Pareto-optimal itineraries by arrival time, price and number of flights.
+     */
+    @Operation(
+            summary = "Search for itineraries",
+            description = "Searches for direct and connecting itineraries (up to 2 stops) departing on the given date, returning every itinerary that is not beaten on arrival time, price and number of flights at once. Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Itineraries successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @PostMapping("/itineraries")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<List<ItineraryResponse>> searchItineraries(
+            @RequestBody @Valid ItinerarySearchRequest request) {
+
+        List<Itinerary> itineraries = itinerarySearchService.searchItineraries(request);
+
+        return CustomResponse.successOf(itineraryToItineraryResponseMapper.map(itineraries));
+
+    }
+
+    /**
+     * Returns the price calendar of a route around a departure date.
+     *
+     * @param request the route, departure date and number of flexible days.
+     * @return the cheapest price and number of flights of every day of the window.
+     */
+    @Operation(
+            summary = "Get the price calendar of a route",
+            description = "Returns the cheapest price and number of flights for every day from flexDays before to flexDays after the departure date (3 by default, at most 7). Accessible by ADMIN and USER roles.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Calendar successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid calendar criteria provided"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized, authentication is required"),
+                    @ApiResponse(responseCode = "403", description = "Access forbidden")
+            }
+    )
+    @PostMapping("/calendar")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public CustomResponse<List<FlightCalendarDayResponse>> getCalendar(
+            @RequestBody @Valid FlightCalendarRequest request) {
+
+        List<FlightCalendarDay> calendar = flightCalendarService.getCalendar(request);
+
+        return CustomResponse.successOf(flightCalendarDayToFlightCalendarDayResponseMapper.map(calendar));
+
+    }
+
 }
@@ -0,0 +1,46 @@
+package com.example.demo.flight.event;
+
+import com.example.demo.flight.model.entity.AirportSnapshot;
+
+import java.util.Objects;
+
+/**
+ * Event published whenever an airport is created, changed or deleted.
+ * Carries the state of the airport before and after the change so listeners can decide
+ * whether the denormalized copies embedded in flights have to be refreshed.
+ *
+ * @param previous the airport as it was before the change, {@code null} if it was created.
+ * @param current  the airport as it is after the change, {@code null} if it was deleted.
+ */
+public record AirportChangedEvent(AirportSnapshot previous, AirportSnapshot current) {
+
+    /**
+     * Returns the ID of the changed airport.
+     *
+     * @return the airport ID.
+     */
+    public String airportId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    /**
+     * Checks whether any of the fields copied into flights has changed.
+     *
+     * @return {@code true} if the embedded snapshots are stale, {@code false} otherwise.
+     */
+    public boolean isSnapshotChanged() {
+        return previous == null || !previous.equals(current);
+    }
+
+    /**
+     * Checks whether the airport joined or left a city, including by being created or deleted.
+     *
+     * @return {@code true} if the city of the airport is not the same before and after the change.
+     */
+    public boolean isCityChanged() {
+        return previous == null
+                || current == null
+                || !Objects.equals(previous.getCityName(), current.getCityName());
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo.flight.event;
+
+import com.example.demo.flight.model.FlightRouteDay;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Event published whenever a flight is created, updated or deleted.
+ * Carries the route and departure day of the flight before and after the change, so listeners can
+ * invalidate exactly the search results that may contain it.
+ *
+ * @param previous the route and day before the change, or {@code null} if the flight was created.
+ * @param current  the route and day after the change, or {@code null} if the flight was deleted.
+ */
+public record FlightChangedEvent(FlightRouteDay previous, FlightRouteDay current) {
+
+    /**
+     * Returns the distinct route/days affected by the change.
+     *
+     * @return the affected {@link FlightRouteDay} values.
+     */
+    public Stream<FlightRouteDay> affectedRouteDays() {
+        return Stream.of(previous, current)
+                .filter(Objects::nonNull)
+                .distinct();
+    }
+
+}
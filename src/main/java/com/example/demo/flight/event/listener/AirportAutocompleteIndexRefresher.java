@@ -0,0 +1,34 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.service.airport.AirportAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that applies airport creations, renames and deletions to the in-memory airport autocomplete index.
+ */
+@Component
+@RequiredArgsConstructor
+public class AirportAutocompleteIndexRefresher {
+
+    private final AirportAutocompleteService airportAutocompleteService;
+
+    /**
+     * Updates the index when the name or city of an airport changed, or the airport was created or deleted.
+     *
+     * @param event the {@link AirportChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onAirportChanged(final AirportChangedEvent event) {
+
+        if (!event.isSnapshotChanged()) {
+            return;
+        }
+
+        airportAutocompleteService.update(event.previous(), event.current());
+
+    }
+
+}
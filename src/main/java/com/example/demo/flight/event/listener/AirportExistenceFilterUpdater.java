@@ -0,0 +1,34 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that adds created airports to the in-memory airport ID filter, so they are never ruled out as missing.
+ */
+@Component
+@RequiredArgsConstructor
+public class AirportExistenceFilterUpdater {
+
+    private final AirportExistenceService airportExistenceService;
+
+    /**
+     * Adds the airport to the filter when it was created.
+     *
+     * @param event the {@link AirportChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onAirportChanged(final AirportChangedEvent event) {
+
+        if (event.previous() != null || event.current() == null) {
+            return;
+        }
+
+        airportExistenceService.add(event.current().getId());
+
+    }
+
+}
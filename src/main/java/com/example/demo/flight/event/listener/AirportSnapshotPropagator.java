@@ -0,0 +1,65 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that keeps the {@link AirportSnapshot} copies embedded in flights in sync with the
+ * {@code airport-collection}. Each side of the flight is refreshed with a single multi-document update.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AirportSnapshotPropagator {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Propagates the new name and city of a changed airport to every flight departing from or arriving at it.
+     *
+     * @param event the {@link AirportChangedEvent} describing the change.
+     */
+    @Async
+    @EventListener
+    public void onAirportChanged(final AirportChangedEvent event) {
+
+        // A created airport has no flights yet and a deleted one keeps the copies it was last rendered with.
+        if (event.previous() == null || event.current() == null || !event.isSnapshotChanged()) {
+            return;
+        }
+
+        final AirportSnapshot current = event.current();
+
+        final long fromCount = propagate("fromAirport", current);
+        final long toCount = propagate("toAirport", current);
+
+        log.debug("Airport {} propagated to {} departing and {} arriving flights",
+                current.getId(), fromCount, toCount);
+
+    }
+
+    private long propagate(final String side, final AirportSnapshot current) {
+
+        final Query query = Query.query(Criteria.where(side + ".id").is(current.getId()));
+
+        final Update update = new Update()
+                .set(side + ".name", current.getName())
+                .set(side + ".cityName", current.getCityName());
+
+        final UpdateResult result = mongoTemplate.updateMulti(query, update, FlightEntity.class);
+        return result.getModifiedCount();
+
+    }
+
+}
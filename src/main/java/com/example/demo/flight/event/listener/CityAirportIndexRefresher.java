@@ -0,0 +1,35 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.service.airport.CityAirportIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that keeps the in-memory city to airport index current with airport writes.
+ * The index is rebuilt synchronously, so a city search issued after an airport write already sees it.
+ */
+@Component
+@RequiredArgsConstructor
+public class CityAirportIndexRefresher {
+
+    private final CityAirportIndexService cityAirportIndexService;
+
+    /**
+     * Rebuilds the index when an airport is created, deleted or moved to another city.
+     *
+     * @param event the {@link AirportChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onAirportChanged(final AirportChangedEvent event) {
+
+        if (!event.isCityChanged()) {
+            return;
+        }
+
+        cityAirportIndexService.rebuild();
+
+    }
+
+}
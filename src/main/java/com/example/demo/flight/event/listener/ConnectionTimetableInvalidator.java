@@ -0,0 +1,35 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.service.flight.ConnectionTimetableService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that drops the in-memory timetables containing a changed flight, so the next itinerary search
+ * of those days rebuilds them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionTimetableInvalidator {
+
+    private final ConnectionTimetableService connectionTimetableService;
+
+    /**
+     * Invalidates the timetables of every departure day touched by the changed flight.
+     *
+     * @param event the {@link FlightChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onFlightChanged(final FlightChangedEvent event) {
+
+        event.affectedRouteDays()
+                .map(FlightRouteDay::departureDate)
+                .distinct()
+                .forEach(connectionTimetableService::invalidate);
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that keeps the in-memory flight index current with flight and airport writes.
+ * Flight changes are handled first and synchronously, so by the time the search result cache is invalidated
+ * no search can read the changed route/day from the index any more.
+ */
+@Component
+@RequiredArgsConstructor
+public class DirectFlightIndexRefresher {
+
+    private final DirectFlightIndexService directFlightIndexService;
+
+    /**
+     * Reloads every route/day touched by the changed flight.
+     *
+     * @param event the {@link FlightChangedEvent} describing the change.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onFlightChanged(final FlightChangedEvent event) {
+        event.affectedRouteDays().forEach(directFlightIndexService::refresh);
+    }
+
+    /**
+     * Updates the copy of a renamed airport used to render indexed flights.
+     *
+     * @param event the {@link AirportChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onAirportChanged(final AirportChangedEvent event) {
+
+        if (event.current() == null || !event.isSnapshotChanged()) {
+            return;
+        }
+
+        directFlightIndexService.updateAirport(event.current());
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener for MongoDB lifecycle events keeping the materialized flight time of a {@link FlightEntity}
+ * in line with its departure and arrival times, whichever code path saves the flight.
+ */
+@Component
+public class FlightDurationListener extends AbstractMongoEventListener<FlightEntity> {
+
+    /**
+     * Derives the flight time before converting the flight to a MongoDB document.
+     *
+     * @param event the event triggered before entity conversion.
+     */
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<FlightEntity> event) {
+        FlightEntity flight = event.getSource();
+        flight.setDurationMinutes(flight.computeDurationMinutes());
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.service.flight.ApproximateFlightCountService;
+import com.example.demo.flight.service.flight.FlightCalendarService;
+import com.example.demo.flight.service.flight.FlightSearchCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener that drops the cached search results, price calendars and approximate counts affected by a flight change.
+ * It runs synchronously, so the change is visible to searches by the time the write request completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlightSearchCacheInvalidator {
+
+    private final FlightSearchCacheService flightSearchCacheService;
+    private final ApproximateFlightCountService approximateFlightCountService;
+    private final FlightCalendarService flightCalendarService;
+
+    /**
+     * Invalidates every route/day touched by the changed flight.
+     *
+     * @param event the {@link FlightChangedEvent} describing the change.
+     */
+    @EventListener
+    public void onFlightChanged(final FlightChangedEvent event) {
+
+        event.affectedRouteDays().forEach(routeDay -> {
+            flightSearchCacheService.invalidate(routeDay);
+            approximateFlightCountService.invalidate(routeDay);
+            flightCalendarService.invalidate(routeDay);
+        });
+
+    }
+
+}
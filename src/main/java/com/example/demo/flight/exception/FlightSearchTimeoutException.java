@@ -0,0 +1,38 @@
+package com.example.demo.flight.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+/**
+ * Custom exception thrown when a flight search does not complete within its deadline.
+ * The queries still running when the deadline expires are cancelled.
+ */
+public class FlightSearchTimeoutException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -3842113786540571093L;
+
+    public static final HttpStatus STATUS = HttpStatus.GATEWAY_TIMEOUT;
+
+    private static final String DEFAULT_MESSAGE = """
+            Flight search timed out!
+            """;
+
+    /**
+     * Constructs a new FlightSearchTimeoutException with the default error message.
+     */
+    public FlightSearchTimeoutException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    /**
+     * Constructs a new FlightSearchTimeoutException with a custom error message.
+     *
+     * @param message the custom message to be appended to the default error message.
+     */
+    public FlightSearchTimeoutException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message);
+    }
+
+}
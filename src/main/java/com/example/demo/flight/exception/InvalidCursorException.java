@@ -0,0 +1,37 @@
+package com.example.demo.flight.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+/**
+ * Custom exception thrown when a pagination cursor sent by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 5168046329118760572L;
+
+    public static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    private static final String DEFAULT_MESSAGE = """
+            Invalid cursor!
+            """;
+
+    /**
+     * Constructs a new InvalidCursorException with the default error message.
+     */
+    public InvalidCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    /**
+     * Constructs a new InvalidCursorException with a custom error message.
+     *
+     * @param message the custom message to be appended to the default error message.
+     */
+    public InvalidCursorException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message);
+    }
+
+}
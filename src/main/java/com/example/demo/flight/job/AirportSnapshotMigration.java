@@ -0,0 +1,165 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.mongodb.DBRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AirportSnapshotMigration is a one-shot startup job that rewrites flights still referencing
+ * their airports through {@code DBRef} into the embedded {@code AirportSnapshot} layout.
+ * Once every flight has been migrated the query finds nothing and the job is a no-op.
+ * It runs before the other startup jobs, which read the airports of flights in the embedded layout.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AirportSnapshotMigration implements ApplicationRunner {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String FROM_AIRPORT = "FROM_AIRPORT";
+    private static final String TO_AIRPORT = "TO_AIRPORT";
+    private static final String AIRPORT_ID = "AIRPORT_ID";
+
+    private final MongoTemplate mongoTemplate;
+    private final AirportRepository airportRepository;
+
+    /**
+     * Runs the migration once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        final long migrated = migrate();
+        if (migrated > 0) {
+            log.info("Migrated {} flights to embedded airport snapshots", migrated);
+        }
+    }
+
+    /**
+     * Migrates every flight whose airports are not yet embedded.
+     * Flights are processed in batches; each batch loads its airports with a single query
+     * and is written back with a single bulk operation.
+     *
+     * @return the number of migrated flights.
+     */
+    public long migrate() {
+
+        final String collectionName = mongoTemplate.getCollectionName(FlightEntity.class);
+
+        final Query query = Query.query(new Criteria().orOperator(
+                Criteria.where(FROM_AIRPORT).exists(true).and(FROM_AIRPORT + "." + AIRPORT_ID).exists(false),
+                Criteria.where(TO_AIRPORT).exists(true).and(TO_AIRPORT + "." + AIRPORT_ID).exists(false)
+        ));
+        query.cursorBatchSize(BATCH_SIZE);
+
+        long migrated = 0;
+
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collectionName)) {
+
+            final Iterator<Document> iterator = documents.iterator();
+            final List<Document> batch = new ArrayList<>(BATCH_SIZE);
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                    migrated += migrateBatch(batch, collectionName);
+                    batch.clear();
+                }
+            }
+
+        }
+
+        return migrated;
+
+    }
+
+    private long migrateBatch(final List<Document> batch, final String collectionName) {
+
+        final Set<String> airportIds = new HashSet<>();
+        for (Document document : batch) {
+            Optional.ofNullable(extractAirportId(document.get(FROM_AIRPORT))).ifPresent(airportIds::add);
+            Optional.ofNullable(extractAirportId(document.get(TO_AIRPORT))).ifPresent(airportIds::add);
+        }
+
+        final Map<String, AirportEntity> airports = airportRepository.findAllById(airportIds).stream()
+                .collect(Collectors.toMap(AirportEntity::getId, Function.identity()));
+
+        final BulkOperations bulkOperations =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+
+        for (Document document : batch) {
+            bulkOperations.updateOne(
+                    Query.query(Criteria.where("_id").is(document.get("_id"))),
+                    new Update()
+                            .set(FROM_AIRPORT, toSnapshot(document.get(FROM_AIRPORT), airports))
+                            .set(TO_AIRPORT, toSnapshot(document.get(TO_AIRPORT), airports))
+            );
+        }
+
+        return bulkOperations.execute().getModifiedCount();
+
+    }
+
+    /**
+     * Builds the embedded snapshot for a legacy airport reference.
+     * If the referenced airport no longer exists only its ID is kept.
+     */
+    private Document toSnapshot(final Object reference, final Map<String, AirportEntity> airports) {
+
+        final String airportId = extractAirportId(reference);
+        if (airportId == null) {
+            return null;
+        }
+
+        final Document snapshot = new Document(AIRPORT_ID, airportId);
+        final AirportEntity airport = airports.get(airportId);
+        if (airport != null) {
+            snapshot.append("AIRPORT_NAME", airport.getName())
+                    .append("CITY_NAME", airport.getCityName());
+        }
+        return snapshot;
+
+    }
+
+    /**
+     * Extracts the airport ID from a legacy reference, which the driver returns either as a
+     * {@link DBRef} or as a plain {@code { $ref, $id }} document.
+     */
+    private String extractAirportId(final Object reference) {
+
+        if (reference instanceof DBRef dbRef) {
+            return String.valueOf(dbRef.getId());
+        }
+
+        if (reference instanceof Document document) {
+            final Object id = document.containsKey(AIRPORT_ID) ? document.get(AIRPORT_ID) : document.get("$id");
+            return id != null ? String.valueOf(id) : null;
+        }
+
+        return null;
+
+    }
+
+}
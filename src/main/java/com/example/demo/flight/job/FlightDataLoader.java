@@ -1,9 +1,13 @@
 package com.example.demo.flight.job;
 
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,10 +25,14 @@ public class FlightDataLoader {
 
     private final FlightRepository flightRepository;
     private final AirportRepository airportRepository;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final AirportExistenceService airportExistenceService;
+    private final FlightExistenceService flightExistenceService;
 
     /**
      * Loads sample airport and flight data into the database.
-     * Creates airport entities and associated flights with dynamic schedules.
+     * Creates airport entities and associated flights with dynamic schedules,
+     * adds the flights to the summaries of their routes and days, and adds every ID to the ID filters.
      */
     public void loadFlightDumpyData(){
 
@@ -46,7 +54,8 @@ public class FlightDataLoader {
                 .cityName("Chicago")
                 .build();
 
-        airportRepository.saveAll(List.of(airport1, airport2, airport3));
+        airportRepository.saveAll(List.of(airport1, airport2, airport3))
+                .forEach(airport -> airportExistenceService.add(airport.getId()));
 
         List<AirportEntity> airports = airportRepository.findAll();
 
@@ -66,8 +75,8 @@ public class FlightDataLoader {
         // Create dummy flights
         FlightEntity flight1 = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(airports.get(0)) // Los Angeles
-                .toAirport(airports.get(1)) // New York
+                .fromAirport(AirportSnapshot.of(airports.get(0))) // Los Angeles
+                .toAirport(AirportSnapshot.of(airports.get(1))) // New York
                 .departureTime(departureFlight1)
                 .arrivalTime(arrivalFlight1)
                 .price(250.0)
@@ -75,8 +84,8 @@ public class FlightDataLoader {
 
         FlightEntity flight2 = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(airports.get(1)) // New York
-                .toAirport(airports.get(0)) // Los Angeles (Return flight)
+                .fromAirport(AirportSnapshot.of(airports.get(1))) // New York
+                .toAirport(AirportSnapshot.of(airports.get(0))) // Los Angeles (Return flight)
                 .departureTime(departureFlight2)
                 .arrivalTime(arrivalFlight2)
                 .price(260.0)
@@ -84,14 +93,18 @@ public class FlightDataLoader {
 
         FlightEntity flight3 = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(airports.get(1)) // New York
-                .toAirport(airports.get(2)) // Chicago
+                .fromAirport(AirportSnapshot.of(airports.get(1))) // New York
+                .toAirport(AirportSnapshot.of(airports.get(2))) // Chicago
                 .departureTime(departureFlight3)
                 .arrivalTime(arrivalFlight3)
                 .price(180.0)
                 .build();
 
-        flightRepository.saveAll(List.of(flight1, flight2, flight3));
+        flightRepository.saveAll(List.of(flight1, flight2, flight3))
+                .forEach(flight -> {
+                    flightRouteDaySummaryService.recordCreated(flight);
+                    flightExistenceService.add(flight.getId());
+                });
 
     }
 
@@ -0,0 +1,75 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * FlightDurationMigration is a one-shot startup job that fills in the materialized flight time
+ * ({@code DURATION_MINUTES}) of flights saved before it existed.
+ * The flight times are computed by the server with a single pipeline update, so no flight is read by the application.
+ * Once every flight has a duration the update matches nothing and the job is a no-op.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class FlightDurationMigration implements ApplicationRunner {
+
+    private static final String DEPARTURE_TIME = "DEPARTURE_TIME";
+    private static final String ARRIVAL_TIME = "ARRIVAL_TIME";
+    private static final String DURATION_MINUTES = "DURATION_MINUTES";
+
+    private static final int MILLIS_PER_MINUTE = 60_000;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Runs the migration once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        final long migrated = migrate();
+        if (migrated > 0) {
+            log.info("Computed the duration of {} flights", migrated);
+        }
+    }
+
+    /**
+     * Sets the duration of every flight that has departure and arrival times but no duration yet.
+     * The duration is truncated to whole minutes, as {@link FlightEntity#computeDurationMinutes()} does.
+     *
+     * @return the number of migrated flights.
+     */
+    public long migrate() {
+
+        final Query query = Query.query(Criteria.where(DURATION_MINUTES).exists(false)
+                .and(DEPARTURE_TIME).exists(true)
+                .and(ARRIVAL_TIME).exists(true));
+
+        final AggregationUpdate update = AggregationUpdate.update()
+                .set(DURATION_MINUTES)
+                .toValue(ConvertOperators.ToLong.toLong(ArithmeticOperators.Floor.floorValueOf(
+                        ArithmeticOperators.Divide.valueOf(
+                                        ArithmeticOperators.Subtract.valueOf(ARRIVAL_TIME).subtract(DEPARTURE_TIME))
+                                .divideBy(MILLIS_PER_MINUTE))));
+
+        return mongoTemplate.updateMulti(query, update, mongoTemplate.getCollectionName(FlightEntity.class))
+                .getModifiedCount();
+
+    }
+
+}
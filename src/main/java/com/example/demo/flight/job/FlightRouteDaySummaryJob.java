@@ -0,0 +1,69 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * FlightRouteDaySummaryJob keeps the per route/day flight summaries in line with the flights.
+ * On startup it builds the summaries if none exist yet; afterwards it periodically checks the upcoming days,
+ * which are the ones searches read, and rebuilds every summary once a day.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlightRouteDaySummaryJob implements ApplicationRunner {
+
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    /**
+     * Builds the summaries once the application has started if the summary collection is empty.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        flightRouteDaySummaryService.rebuildIfEmpty();
+    }
+
+    /**
+     * Checks and repairs the summaries of the next {@code flight.search.summary.check-days} departure days,
+     * every 15 minutes by default ({@code flight.search.summary.check-cron}).
+     */
+    @Scheduled(cron = "${flight.search.summary.check-cron:0 */15 * * * *}")
+    public void checkSummaries() {
+
+        final LocalDate today = LocalDate.now();
+
+        try {
+            flightRouteDaySummaryService.checkConsistency(
+                    today, today.plusDays(flightSearchConfigurationParameter.getSummaryCheckDays() - 1L));
+        } catch (RuntimeException exception) {
+            log.warn("Could not check the flight route/day summaries", exception);
+        }
+
+    }
+
+    /**
+     * Rebuilds every summary, at 03:30 by default ({@code flight.search.summary.rebuild-cron}).
+     */
+    @Scheduled(cron = "${flight.search.summary.rebuild-cron:0 30 3 * * *}")
+    public void rebuildSummaries() {
+
+        try {
+            flightRouteDaySummaryService.rebuild();
+        } catch (RuntimeException exception) {
+            log.warn("Could not rebuild the flight route/day summaries", exception);
+        }
+
+    }
+
+}
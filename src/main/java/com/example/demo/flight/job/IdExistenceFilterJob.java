@@ -0,0 +1,55 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * IdExistenceFilterJob loads the airport and flight ID filters once the application has started and rebuilds them
+ * periodically, so deleted IDs are dropped and IDs written by other processes are picked up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdExistenceFilterJob implements ApplicationRunner {
+
+    private final AirportExistenceService airportExistenceService;
+    private final FlightExistenceService flightExistenceService;
+
+    /**
+     * Loads the filters once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildFilters();
+    }
+
+    /**
+     * Rebuilds both filters, every 10 minutes by default ({@code flight.search.id-filter.rebuild-cron}).
+     * A filter that cannot be rebuilt keeps serving its previous IDs.
+     */
+    @Scheduled(cron = "${flight.search.id-filter.rebuild-cron:0 */10 * * * *}")
+    public void rebuildFilters() {
+
+        try {
+            log.debug("Airport ID filter rebuilt with {} airports", airportExistenceService.rebuild());
+        } catch (RuntimeException exception) {
+            log.warn("Could not rebuild the airport ID filter", exception);
+        }
+
+        try {
+            log.debug("Flight ID filter rebuilt with {} flights", flightExistenceService.rebuild());
+        } catch (RuntimeException exception) {
+            log.warn("Could not rebuild the flight ID filter", exception);
+        }
+
+    }
+
+}
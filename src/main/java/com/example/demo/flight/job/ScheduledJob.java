@@ -1,14 +1,17 @@
 package com.example.demo.flight.job;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * ScheduledJob is a scheduled task that runs at midnight every day
  * to load mock flight data into the database.
+ * It is only registered when {@code flight.mock-data.enabled} is {@code true}.
  */
 @Component
+@ConditionalOnProperty(name = "flight.mock-data.enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class ScheduledJob {
 
@@ -0,0 +1,57 @@
+package com.example.demo.flight.model;
+
+import com.example.demo.common.model.CustomError;
+import com.example.demo.common.model.CustomPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents the outcome of one search of a batch: either its page of flights or the error it failed with.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BatchSearchResult {
+
+    private CustomPage<Flight> page;
+    private CustomError error;
+
+    /**
+     * Creates the result of a search that succeeded.
+     *
+     * @param page the flights found by the search.
+     * @return the successful result.
+     */
+    public static BatchSearchResult success(final CustomPage<Flight> page) {
+        return BatchSearchResult.builder()
+                .page(page)
+                .build();
+    }
+
+    /**
+     * Creates the result of a search that failed.
+     *
+     * @param httpStatus the status the search would have failed with on its own.
+     * @param header the header of the error.
+     * @param message the message of the error.
+     * @return the failed result.
+     */
+    public static BatchSearchResult failure(final HttpStatus httpStatus,
+                                            final CustomError.Header header,
+                                            final String message) {
+        return BatchSearchResult.builder()
+                .error(CustomError.builder()
+                        .httpStatus(httpStatus)
+                        .header(header.getName())
+                        .message(message)
+                        .build())
+                .build();
+    }
+
+}
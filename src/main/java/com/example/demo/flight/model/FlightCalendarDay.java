@@ -0,0 +1,26 @@
+package com.example.demo.flight.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the flights of a route on one day of a price calendar.
+ * A day without flights has a flight count of {@code 0} and no cheapest price.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class FlightCalendarDay {
+
+    private LocalDate date;
+    private Double cheapestPrice;
+    private Long flightCount;
+
+}
@@ -0,0 +1,207 @@
+package com.example.demo.flight.model;
+
+import com.example.demo.flight.exception.InvalidCursorException;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * An opaque keyset pagination cursor over flights ordered by a {@link FlightSort}, {@code (departureTime, id)}
+ * unless stated otherwise.
+ * A cursor holds one {@link Position} per independently paginated leg (one for a one-way search or a listing,
+ * two for a round-trip search) and is exchanged with clients as a URL-safe Base64 string.
+ *
+ * @param positions the position of each leg, in leg order.
+ */
+public record FlightCursor(List<Position> positions) {
+
+    private static final String LEG_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String END_TOKEN = "~";
+
+    /**
+     * Returns a cursor positioned before the first flight of every leg.
+     *
+     * @param legs the number of legs.
+     * @return the initial {@link FlightCursor}.
+     */
+    public static FlightCursor start(final int legs) {
+        return new FlightCursor(new ArrayList<>(Collections.nCopies(legs, Position.START)));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     * A {@code null} or blank value means the first page.
+     *
+     * @param value the encoded cursor.
+     * @param legs the number of legs the cursor must hold.
+     * @return the decoded {@link FlightCursor}.
+     * @throws InvalidCursorException if the value was not produced by {@link #encode()} for the same number of legs.
+     */
+    public static FlightCursor decode(final String value, final int legs) {
+        return decode(value, legs, FlightSort.DEPARTURE);
+    }
+
+    /**
+     * Decodes a cursor received from a client for flights in the given order.
+     * A {@code null} or blank value means the first page.
+     *
+     * @param value the encoded cursor.
+     * @param legs the number of legs the cursor must hold.
+     * @param sort the order of the paginated flights.
+     * @return the decoded {@link FlightCursor}.
+     * @throws InvalidCursorException if the value was not produced by {@link #encode()} for the same number of legs
+     *                                and order.
+     */
+    public static FlightCursor decode(final String value, final int legs, final FlightSort sort) {
+
+        if (value == null || value.isBlank()) {
+            return start(legs);
+        }
+
+        try {
+
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final String[] tokens = decoded.split(LEG_SEPARATOR, -1);
+
+            if (tokens.length != legs) {
+                throw new InvalidCursorException("Cursor does not match the requested search");
+            }
+
+            final List<Position> positions = new ArrayList<>(legs);
+            for (String token : tokens) {
+                if (END_TOKEN.equals(token)) {
+                    positions.add(Position.END);
+                    continue;
+                }
+                final int separator = token.indexOf(FIELD_SEPARATOR);
+                if (separator < 0) {
+                    throw new InvalidCursorException("Malformed cursor");
+                }
+                final String sortValue = token.substring(0, separator);
+                positions.add(new Position(
+                        sortValue.isEmpty() ? null : sort.parse(sortValue),
+                        token.substring(separator + 1)
+                ));
+            }
+
+            return new FlightCursor(positions);
+
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+    }
+
+    /**
+     * Returns the position of the given leg.
+     *
+     * @param leg the index of the leg.
+     * @return the {@link Position} of the leg.
+     */
+    public Position position(final int leg) {
+        return positions.get(leg);
+    }
+
+    /**
+     * Checks whether every leg has been read to the end.
+     *
+     * @return {@code true} if there is no next page.
+     */
+    public boolean isExhausted() {
+        return positions.stream().allMatch(Position::isEnd);
+    }
+
+    /**
+     * Encodes the cursor for a client, or returns {@code null} when there is no next page.
+     *
+     * @return the opaque cursor value, or {@code null}.
+     */
+    public String encode() {
+
+        if (isExhausted()) {
+            return null;
+        }
+
+        final String raw = positions.stream()
+                .map(position -> position.isEnd()
+                        ? END_TOKEN
+                        : Objects.toString(position.value(), "") + FIELD_SEPARATOR + position.id())
+                .collect(Collectors.joining(LEG_SEPARATOR));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+    }
+
+    /**
+     * The position of one leg: either before the first flight, after a given flight, or past the last flight.
+     *
+     * @param value the sorted value of the last returned flight, its departure time unless stated otherwise.
+     * @param id the ID of the last returned flight.
+     */
+    public record Position(Object value, String id) {
+
+        public static final Position START = new Position(null, null);
+
+        public static final Position END = new Position(LocalDateTime.MAX, null);
+
+        /**
+         * Creates the position right after the given flight.
+         *
+         * @param flight the last returned flight.
+         * @return the {@link Position} after {@code flight}.
+         */
+        public static Position after(final FlightEntity flight) {
+            return after(flight, FlightSort.DEPARTURE);
+        }
+
+        /**
+         * Creates the position right after the given flight among flights in the given order.
+         *
+         * @param flight the last returned flight.
+         * @param sort the order of the paginated flights.
+         * @return the {@link Position} after {@code flight}.
+         */
+        public static Position after(final FlightEntity flight, final FlightSort sort) {
+            return new Position(sort.valueOf(flight), flight.getId());
+        }
+
+        /**
+         * Returns the departure time of the last returned flight, for flights ordered by departure.
+         *
+         * @return the sorted value as a departure time.
+         */
+        public LocalDateTime departureTime() {
+            return (LocalDateTime) value;
+        }
+
+        /**
+         * Checks whether the leg has been read to the end.
+         *
+         * @return {@code true} if there are no more flights in the leg.
+         */
+        public boolean isEnd() {
+            return END.equals(this);
+        }
+
+        /**
+         * Checks whether the leg has not been read yet.
+         *
+         * @return {@code true} if the leg starts from its first flight.
+         */
+        public boolean isStart() {
+            return START.equals(this);
+        }
+
+    }
+
+}
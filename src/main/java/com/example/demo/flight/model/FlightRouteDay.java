@@ -0,0 +1,30 @@
+package com.example.demo.flight.model;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.time.LocalDate;
+
+/**
+ * A route on a given departure day, the unit flight search results are cached and invalidated by.
+ *
+ * @param fromAirportId the ID of the departure airport.
+ * @param toAirportId   the ID of the arrival airport.
+ * @param departureDate the departure day.
+ */
+public record FlightRouteDay(String fromAirportId, String toAirportId, LocalDate departureDate) {
+
+    /**
+     * Returns the route and departure day of a flight.
+     *
+     * @param flightEntity the flight.
+     * @return the {@link FlightRouteDay} of the flight.
+     */
+    public static FlightRouteDay of(final FlightEntity flightEntity) {
+        return new FlightRouteDay(
+                flightEntity.getFromAirport().getId(),
+                flightEntity.getToAirport().getId(),
+                flightEntity.getDepartureTime().toLocalDate()
+        );
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.demo.flight.model;
+
+import com.example.demo.common.model.CustomPaging;
+import com.example.demo.common.model.enums.PagingMode;
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+import com.example.demo.flight.model.enums.FlightSort;
+
+import java.time.LocalDate;
+
+/**
+ * The normalized form of a {@link SearchFlightRequest} used as the key of cached search results.
+ * Departure and return times are reduced to their day, since a search always covers whole days.
+ *
+ * @param fromAirportId the ID of the departure airport.
+ * @param toAirportId   the ID of the arrival airport.
+ * @param departureDate the departure day.
+ * @param returnDate    the return day, or {@code null} for one-way searches.
+ * @param mode          the paging mode.
+ * @param pageNumber    the 0-based page number, or {@code null} in {@link PagingMode#CURSOR} mode.
+ * @param pageSize      the page size.
+ * @param cursor        the cursor of the page in {@link PagingMode#CURSOR} mode, or {@code null} for the first page.
+ * @param sortBy        the order of the flights.
+ * @param maxPrice      the maximum price, or {@code null}.
+ * @param departureHourFrom the first departure hour, or {@code null}.
+ * @param departureHourTo   the last departure hour, or {@code null}.
+ * @param maxDurationMinutes the maximum flight time in minutes, or {@code null}.
+ */
+public record FlightSearchCacheKey(String fromAirportId,
+                                   String toAirportId,
+                                   LocalDate departureDate,
+                                   LocalDate returnDate,
+                                   PagingMode mode,
+                                   Integer pageNumber,
+                                   Integer pageSize,
+                                   String cursor,
+                                   FlightSort sortBy,
+                                   Double maxPrice,
+                                   Integer departureHourFrom,
+                                   Integer departureHourTo,
+                                   Long maxDurationMinutes) {
+
+    /**
+     * Normalizes a search request into a cache key.
+     *
+     * @param request the search request.
+     * @return the {@link FlightSearchCacheKey} of the request.
+     */
+    public static FlightSearchCacheKey of(final SearchFlightRequest request) {
+
+        final CustomPaging pagination = request.getPagination();
+        final boolean cursorMode = pagination.getMode() == PagingMode.CURSOR;
+
+        return new FlightSearchCacheKey(
+                request.getFromAirportId(),
+                request.getToAirportId(),
+                request.getDepartureTime().toLocalDate(),
+                request.getArrivalTime() == null ? null : request.getArrivalTime().toLocalDate(),
+                pagination.getMode(),
+                cursorMode ? null : pagination.getPageNumber(),
+                pagination.getPageSize(),
+                cursorMode && pagination.getCursor() != null && !pagination.getCursor().isBlank()
+                        ? pagination.getCursor()
+                        : null,
+                request.getSortBy(),
+                request.getMaxPrice(),
+                request.getDepartureHourFrom(),
+                request.getDepartureHourTo(),
+                request.getMaxDurationMinutes()
+        );
+
+    }
+
+    /**
+     * Checks whether the cached result may contain flights of the given route and day, on either leg.
+     *
+     * @param routeDay the route and departure day.
+     * @return {@code true} if the result covers the route/day.
+     */
+    public boolean covers(final FlightRouteDay routeDay) {
+
+        final boolean outbound = fromAirportId.equals(routeDay.fromAirportId())
+                && toAirportId.equals(routeDay.toAirportId())
+                && departureDate.equals(routeDay.departureDate());
+
+        final boolean inbound = returnDate != null
+                && toAirportId.equals(routeDay.fromAirportId())
+                && fromAirportId.equals(routeDay.toAirportId())
+                && returnDate.equals(routeDay.departureDate());
+
+        return outbound || inbound;
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.example.demo.flight.model;
+
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters applied when reading flights page by page.
+ * A {@code null} component is not filtered on, so {@link #all()} matches every flight.
+ *
+ * @param fromAirportId      the ID of the departure airport.
+ * @param toAirportId        the ID of the destination airport.
+ * @param departureStart     the start of the departure time range (inclusive).
+ * @param departureEnd       the end of the departure time range (inclusive).
+ * @param maxPrice           the highest price (inclusive).
+ * @param maxDurationMinutes the longest flight time in minutes (inclusive).
+ */
+public record FlightSearchCriteria(String fromAirportId,
+                                   String toAirportId,
+                                   LocalDateTime departureStart,
+                                   LocalDateTime departureEnd,
+                                   Double maxPrice,
+                                   Long maxDurationMinutes) {
+
+    /**
+     * Creates criteria filtering on the route and departure time range only.
+     *
+     * @param fromAirportId  the ID of the departure airport.
+     * @param toAirportId    the ID of the destination airport.
+     * @param departureStart the start of the departure time range (inclusive).
+     * @param departureEnd   the end of the departure time range (inclusive).
+     */
+    public FlightSearchCriteria(final String fromAirportId,
+                                final String toAirportId,
+                                final LocalDateTime departureStart,
+                                final LocalDateTime departureEnd) {
+        this(fromAirportId, toAirportId, departureStart, departureEnd, null, null);
+    }
+
+    /**
+     * Returns criteria matching every flight.
+     *
+     * @return the unrestricted {@link FlightSearchCriteria}.
+     */
+    public static FlightSearchCriteria all() {
+        return new FlightSearchCriteria(null, null, null, null);
+    }
+
+    /**
+     * Returns the criteria of a search leg departing within the given day, narrowed to the requested departure hours
+     * and limited by the requested price and flight time.
+     *
+     * @param request       the search request.
+     * @param fromAirportId the ID of the departure airport of the leg.
+     * @param toAirportId   the ID of the destination airport of the leg.
+     * @param dayStart      the start of the departure day.
+     * @param dayEnd        the end of the departure day.
+     * @return the {@link FlightSearchCriteria} of the leg.
+     */
+    public static FlightSearchCriteria of(final SearchFlightRequest request,
+                                          final String fromAirportId,
+                                          final String toAirportId,
+                                          final LocalDateTime dayStart,
+                                          final LocalDateTime dayEnd) {
+
+        final LocalDateTime start = request.getDepartureHourFrom() == null
+                ? dayStart
+                : dayStart.plusHours(request.getDepartureHourFrom());
+
+        final LocalDateTime end = request.getDepartureHourTo() == null
+                ? dayEnd
+                : dayStart.plusHours(request.getDepartureHourTo() + 1L).minusNanos(1);
+
+        return new FlightSearchCriteria(
+                fromAirportId, toAirportId, start, end, request.getMaxPrice(), request.getMaxDurationMinutes());
+
+    }
+
+    /**
+     * Checks whether the criteria filter on anything besides the route and departure time range,
+     * which the in-memory flight index and the route/day summaries cannot answer.
+     *
+     * @return {@code true} if a price or flight time limit is set.
+     */
+    public boolean hasFlightFilters() {
+        return maxPrice != null || maxDurationMinutes != null;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.example.demo.flight.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents a journey from one airport to another made of one or more connecting flights.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Itinerary {
+
+    private List<Flight> flights;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private Double totalPrice;
+    private Integer stops;
+
+}
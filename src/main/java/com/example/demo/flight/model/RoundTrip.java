@@ -0,0 +1,25 @@
+package com.example.demo.flight.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents a round trip made of an outbound flight and a return flight departing after the minimum stay.
+ * The total price is {@code null} if either flight has no price.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RoundTrip {
+
+    private Flight outboundFlight;
+    private Flight returnFlight;
+    private Double totalPrice;
+    private Long totalDurationMinutes;
+
+}
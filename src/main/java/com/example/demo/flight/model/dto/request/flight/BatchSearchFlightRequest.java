@@ -0,0 +1,28 @@
+package com.example.demo.flight.model.dto.request.flight;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request class used for running several flight searches in one call.
+ * Every search is validated like a single search, and at most {@value #MAX_SEARCHES} searches can be sent at once.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BatchSearchFlightRequest {
+
+    public static final int MAX_SEARCHES = 50;
+
+    @NotEmpty(message = "Searches field cannot be empty")
+    @Size(max = MAX_SEARCHES, message = "Searches must not contain more than " + MAX_SEARCHES + " searches")
+    private List<@Valid @NotNull(message = "Search cannot be null") SearchFlightRequest> searches;
+
+}
@@ -0,0 +1,100 @@
+package com.example.demo.flight.model.dto.request.flight;
+
+import com.example.demo.common.model.dto.request.CustomPagingRequest;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.utils.CustomLocalDateTimeDeserializer;
+import com.example.demo.flight.utils.annotations.ValidArrivalTime;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request class used for searching flights between two cities or groups of airports.
+ * Each side is given either as a city name, matching every airport of that city, or as a list of airport IDs.
+ * Inherits from the base class {@link CustomPagingRequest}; city searches are always paged by page number
+ * with totals, whatever the requested paging mode.
+ * Flights of all airport pairs are merged and ordered by {@code sortBy}, the departure time by default.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidArrivalTime
+public class CitySearchFlightRequest extends CustomPagingRequest {
+
+    public static final int MAX_AIRPORTS = 20;
+
+    private String fromCityName;
+
+    @Size(max = MAX_AIRPORTS)
+    private List<@NotBlank String> fromAirportIds;
+
+    private String toCityName;
+
+    @Size(max = MAX_AIRPORTS)
+    private List<@NotBlank String> toAirportIds;
+
+    @NotNull
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime departureTime;
+
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime arrivalTime; // Nullable for one-way flights
+
+    private FlightSort sortBy;
+
+    /**
+     * Returns the order of the flights, defaulting to {@link FlightSort#DEPARTURE}.
+     *
+     * @return the requested {@link FlightSort}.
+     */
+    public FlightSort getSortBy() {
+        return sortBy == null ? FlightSort.DEPARTURE : sortBy;
+    }
+
+    /**
+     * Checks that the departure side is given either by city or by airports.
+     *
+     * @return {@code true} if exactly one of {@code fromCityName} and {@code fromAirportIds} is set.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Either from city name or from airport IDs must be given!")
+    public boolean isFromValid() {
+        return isBlank(fromCityName) != isEmpty(fromAirportIds);
+    }
+
+    /**
+     * Checks that the destination side is given either by city or by airports.
+     *
+     * @return {@code true} if exactly one of {@code toCityName} and {@code toAirportIds} is set.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Either to city name or to airport IDs must be given!")
+    public boolean isToValid() {
+        return isBlank(toCityName) != isEmpty(toAirportIds);
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean isEmpty(final List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.demo.flight.model.dto.request.flight;
+
+import com.example.demo.flight.utils.CustomLocalDateTimeDeserializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request class used for the price calendar of a route.
+ * The calendar covers the departure day and {@code flexDays} days on either side of it (3 by default).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class FlightCalendarRequest {
+
+    @NotBlank(message = "From airport ID field cannot be empty")
+    private String fromAirportId;
+
+    @NotBlank(message = "To airport ID field cannot be empty")
+    private String toAirportId;
+
+    @NotNull(message = "Departure time field cannot be null")
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime departureTime;
+
+    @Min(value = 0, message = "Flex days must not be negative")
+    @Max(value = 7, message = "Flex days must not be bigger than 7")
+    private Integer flexDays;
+
+    /**
+     * Returns the number of days on either side of the departure day, defaulting to 3.
+     *
+     * @return the number of flexible days.
+     */
+    public Integer getFlexDays() {
+        return flexDays == null ? 3 : flexDays;
+    }
+
+}
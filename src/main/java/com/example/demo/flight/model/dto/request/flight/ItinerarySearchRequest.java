@@ -0,0 +1,49 @@
+package com.example.demo.flight.model.dto.request.flight;
+
+import com.example.demo.flight.utils.CustomLocalDateTimeDeserializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request class used for searching itineraries, including connecting flights, between two airports.
+ * The itineraries depart on the given day and have at most {@code maxStops} stops (2 by default).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ItinerarySearchRequest {
+
+    @NotBlank(message = "From airport ID field cannot be empty")
+    private String fromAirportId;
+
+    @NotBlank(message = "To airport ID field cannot be empty")
+    private String toAirportId;
+
+    @NotNull(message = "Departure time field cannot be null")
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime departureTime;
+
+    @Min(value = 0, message = "Max stops must not be negative")
+    @Max(value = 2, message = "Max stops must not be bigger than 2")
+    private Integer maxStops;
+
+    /**
+     * Returns the maximum number of stops, defaulting to 2.
+     *
+     * @return the maximum number of stops.
+     */
+    public Integer getMaxStops() {
+        return maxStops == null ? 2 : maxStops;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.example.demo.flight.model.dto.request.flight;
+
+import com.example.demo.common.model.dto.request.CustomPagingRequest;
+import com.example.demo.flight.model.enums.RoundTripSort;
+import com.example.demo.flight.utils.CustomLocalDateTimeDeserializer;
+import com.example.demo.flight.utils.annotations.ValidArrivalTime;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request class used for searching round trips between two airports.
+ * Inherits from the base class {@link CustomPagingRequest}; round trips are always paged by page number
+ * with totals, whatever the requested paging mode.
+ * Combinations are ranked by {@code sortBy}, the total price by default.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidArrivalTime(message = "Return time must be the same as or later than departure time!")
+public class RoundTripSearchRequest extends CustomPagingRequest {
+
+    @NotNull
+    private String fromAirportId;
+
+    @NotNull
+    private String toAirportId;
+
+    @NotNull
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime departureTime;
+
+    @NotNull
+    @JsonDeserialize(using = CustomLocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime returnTime;
+
+    private RoundTripSort sortBy;
+
+    /**
+     * Returns how the combinations are ranked, defaulting to {@link RoundTripSort#PRICE}.
+     *
+     * @return the requested {@link RoundTripSort}.
+     */
+    public RoundTripSort getSortBy() {
+        return sortBy == null ? RoundTripSort.PRICE : sortBy;
+    }
+
+}
@@ -1,11 +1,17 @@
 package com.example.demo.flight.model.dto.request.flight;
 
 import com.example.demo.common.model.dto.request.CustomPagingRequest;
+import com.example.demo.flight.model.enums.FlightSort;
 import com.example.demo.flight.utils.CustomLocalDateTimeDeserializer;
 import com.example.demo.flight.utils.annotations.ValidArrivalTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +24,8 @@ import java.time.LocalDateTime;
  * Request class used for searching flights with specific criteria.
  * Inherits from the base class {@link CustomPagingRequest}, which provides pagination details such as page number and size.
  * This class is used to request a paginated list of flights based on specific search parameters.
+ * Flights are ordered by {@code sortBy}, the departure time by default, and can be limited to a maximum price,
+ * a range of departure hours (both inclusive) and a maximum flight time; the limits apply to both legs.
  */
 @Getter
 @Setter
@@ -42,4 +50,50 @@ public class SearchFlightRequest extends CustomPagingRequest {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDateTime arrivalTime; // Nullable for one-way flights
 
+    private FlightSort sortBy;
+
+    @Positive
+    private Double maxPrice;
+
+    @Min(0)
+    @Max(23)
+    private Integer departureHourFrom;
+
+    @Min(0)
+    @Max(23)
+    private Integer departureHourTo;
+
+    @Positive
+    private Long maxDurationMinutes;
+
+    /**
+     * Returns the order of the flights, defaulting to {@link FlightSort#DEPARTURE}.
+     *
+     * @return the requested {@link FlightSort}.
+     */
+    public FlightSort getSortBy() {
+        return sortBy == null ? FlightSort.DEPARTURE : sortBy;
+    }
+
+    /**
+     * Checks that the departure hour range does not end before it starts.
+     *
+     * @return {@code true} if the range is open on either side or ordered.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Departure hour from must be the same as or earlier than departure hour to!")
+    public boolean isDepartureHourRangeValid() {
+        return departureHourFrom == null || departureHourTo == null || departureHourFrom <= departureHourTo;
+    }
+
+    /**
+     * Checks whether the search narrows the flights of the day with any filter.
+     *
+     * @return {@code true} if a price, departure hour or flight time limit is set.
+     */
+    @JsonIgnore
+    public boolean hasFilters() {
+        return maxPrice != null || departureHourFrom != null || departureHourTo != null || maxDurationMinutes != null;
+    }
+
 }
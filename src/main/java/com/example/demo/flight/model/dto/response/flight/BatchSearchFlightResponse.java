@@ -0,0 +1,29 @@
+package com.example.demo.flight.model.dto.response.flight;
+
+import com.example.demo.common.model.CustomError;
+import com.example.demo.common.model.dto.response.CustomPagingResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response class representing the outcome of one search of a batch.
+ * Exactly one of the fields is set:
+ * - The paginated flights of the search if it succeeded.
+ * - The error of the search if it failed.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchSearchFlightResponse {
+
+    private CustomPagingResponse<FlightResponse> result;
+    private CustomError error;
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo.flight.model.dto.response.flight;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Response class representing one day of a route price calendar.
+ * This class provides information about the day, including:
+ * - The departure date.
+ * - The cheapest price of the day, or {@code null} if there is no flight.
+ * - The number of flights of the day.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class FlightCalendarDayResponse {
+
+    private LocalDate date;
+    private Double cheapestPrice;
+    private Long flightCount;
+
+}
@@ -1,6 +1,8 @@
 package com.example.demo.flight.model.dto.response.flight;
 
+import com.example.demo.common.config.SparseFieldsetConfig;
 import com.example.demo.flight.model.dto.response.airport.AirportResponse;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -12,6 +14,8 @@ import java.time.LocalDateTime;
  * - The departure and arrival airports.
  * - The departure and arrival times.
  * - The ticket price.
+ * Clients can ask for only some of these fields, listed in {@link #FIELD_NAMES}, with the
+ * {@value SparseFieldsetConfig#FIELDS_PARAMETER} parameter of the search and listing endpoints.
  *
  */
 @NoArgsConstructor
@@ -19,8 +23,14 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
+@JsonFilter(SparseFieldsetConfig.FILTER_ID)
 public class FlightResponse {
 
+    /**
+     * The pattern of the field names that can be requested with {@value SparseFieldsetConfig#FIELDS_PARAMETER}.
+     */
+    public static final String FIELD_NAMES = "id|fromAirport|toAirport|departureTime|arrivalTime|price";
+
     private String id;
     private AirportResponse fromAirport;
     private AirportResponse toAirport;
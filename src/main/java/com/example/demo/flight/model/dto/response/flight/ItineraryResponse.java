@@ -0,0 +1,32 @@
+package com.example.demo.flight.model.dto.response.flight;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response class representing an itinerary.
+ * This class provides information about an itinerary, including:
+ * - The flights of the itinerary in travel order.
+ * - The departure time of the first flight and the arrival time of the last flight.
+ * - The total price and the number of stops.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ItineraryResponse {
+
+    private List<FlightResponse> flights;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private Double totalPrice;
+    private Integer stops;
+
+}
@@ -0,0 +1,28 @@
+package com.example.demo.flight.model.dto.response.flight;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response class representing a round trip.
+ * This class provides information about a round trip, including:
+ * - The outbound flight and the return flight.
+ * - The total price of both flights.
+ * - The total flight time of both flights in minutes.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RoundTripResponse {
+
+    private FlightResponse outboundFlight;
+    private FlightResponse returnFlight;
+    private Double totalPrice;
+    private Long totalDurationMinutes;
+
+}
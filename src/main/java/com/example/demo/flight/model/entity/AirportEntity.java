@@ -27,6 +27,7 @@ public class AirportEntity extends BaseEntity {
     private String id;
 
     @Field(name = "AIRPORT_NAME")
+    @Indexed
     private String name;
 
     @Field(name = "CITY_NAME")
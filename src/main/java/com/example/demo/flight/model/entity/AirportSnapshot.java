@@ -0,0 +1,47 @@
+package com.example.demo.flight.model.entity;
+
+import lombok.*;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * Represents a denormalized copy of an airport embedded in a {@link FlightEntity}.
+ * Only the fields required to render a flight ({@code id}, {@code name} and {@code cityName}) are kept,
+ * so reading a flight never needs an extra lookup against the {@code airport-collection}.
+ */
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class AirportSnapshot {
+
+    @Field(name = "AIRPORT_ID")
+    private String id;
+
+    @Field(name = "AIRPORT_NAME")
+    private String name;
+
+    @Field(name = "CITY_NAME")
+    private String cityName;
+
+    /**
+     * Creates a snapshot of the given {@link AirportEntity}.
+     *
+     * @param airportEntity the airport to copy.
+     * @return a new {@link AirportSnapshot}, or {@code null} if {@code airportEntity} is {@code null}.
+     */
+    public static AirportSnapshot of(final AirportEntity airportEntity) {
+
+        if (airportEntity == null) {
+            return null;
+        }
+
+        return AirportSnapshot.builder()
+                .id(airportEntity.getId())
+                .name(airportEntity.getName())
+                .cityName(airportEntity.getCityName())
+                .build();
+    }
+
+}
@@ -4,39 +4,74 @@ import com.example.demo.common.model.entity.BaseEntity;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
  * Represents a flight entity stored in the MongoDB {@code flight-collection}.
  * Contains details about the flight, including departure and destination airports,
  * departure time, and price.
- * Extends {@link BaseEntity} for common timestamp fields.
+ * The airports are embedded as {@link AirportSnapshot} copies rather than references,
+ * so a page of flights is read with a single query.
+ * The compound indexes end with {@code _id} so that keyset pagination over {@code (departureTime, id)}
+ * is served by an index scan.
+ * The price and duration indexes follow the equality, sort, range rule: the route is matched by equality, the sort key
+ * and {@code _id} come next so that sorted searches need no in-memory sort, and the departure time range is checked
+ * on the index keys before any document is fetched.
+ * The flight time is stored in {@code DURATION_MINUTES} so that it can be sorted and filtered on;
+ * it is derived from the departure and arrival times whenever the flight is saved.
+ * Extends {@link BaseEntity} for common timestamp fields; flights read to be returned leave them out with
+ * {@link #RESPONSE_PROJECTION}.
  */
 @Getter
 @Setter
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "flight-collection")
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "route_departure_id_idx",
+                def = "{ 'FROM_AIRPORT.AIRPORT_ID': 1, 'TO_AIRPORT.AIRPORT_ID': 1, 'DEPARTURE_TIME': 1, '_id': 1 }"
+        ),
+        @CompoundIndex(
+                name = "departure_id_idx",
+                def = "{ 'DEPARTURE_TIME': 1, '_id': 1 }"
+        ),
+        @CompoundIndex(
+                name = "route_price_id_departure_idx",
+                def = "{ 'FROM_AIRPORT.AIRPORT_ID': 1, 'TO_AIRPORT.AIRPORT_ID': 1, 'PRICE': 1, '_id': 1, 'DEPARTURE_TIME': 1 }"
+        ),
+        @CompoundIndex(
+                name = "route_duration_id_departure_idx",
+                def = "{ 'FROM_AIRPORT.AIRPORT_ID': 1, 'TO_AIRPORT.AIRPORT_ID': 1, 'DURATION_MINUTES': 1, '_id': 1, 'DEPARTURE_TIME': 1 }"
+        )
+})
 public class FlightEntity extends BaseEntity {
 
+    /**
+     * The projection of flights read to be returned: every field but the audit fields of {@link BaseEntity},
+     * which no response shows. Flights read with it must not be saved, since their audit fields would be lost.
+     */
+    public static final String RESPONSE_PROJECTION =
+            "{ 'createdAt': 0, 'createdBy': 0, 'updatedAt': 0, 'updatedBy': 0 }";
+
     @Id
     @Indexed(unique = true)
     private String id;
 
-    @DBRef
     @Field(name = "FROM_AIRPORT")
-    private AirportEntity fromAirport;
+    private AirportSnapshot fromAirport;
 
-    @DBRef
     @Field(name = "TO_AIRPORT")
-    private AirportEntity toAirport;
+    private AirportSnapshot toAirport;
 
     @Field(name = "DEPARTURE_TIME")
     private LocalDateTime departureTime;
@@ -47,4 +82,19 @@ public class FlightEntity extends BaseEntity {
     @Field(name = "PRICE")
     private Double price;
 
+    @Field(name = "DURATION_MINUTES")
+    private Long durationMinutes;
+
+    /**
+     * Derives {@link #durationMinutes} from the departure and arrival times.
+     *
+     * @return the flight time in whole minutes, or {@code null} if either time is missing.
+     */
+    public Long computeDurationMinutes() {
+        if (departureTime == null || arrivalTime == null) {
+            return null;
+        }
+        return Duration.between(departureTime, arrivalTime).toMinutes();
+    }
+
 }
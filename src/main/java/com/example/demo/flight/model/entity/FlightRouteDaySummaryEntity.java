@@ -0,0 +1,89 @@
+package com.example.demo.flight.model.entity;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Represents the aggregate of the flights of one route on one departure day, stored in the MongoDB
+ * {@code flight-route-day-summary-collection}.
+ * Summaries are maintained incrementally on every flight write, so totals, price calendars and existence checks
+ * read a single small document instead of scanning the {@code flight-collection}.
+ * A route/day without flights has no summary.
+ * The ID is derived from the route/day (see {@link #idOf(FlightRouteDay)}), so a summary is addressed without an index.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "flight-route-day-summary-collection")
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "route_departure_date_idx",
+                def = "{ 'FROM_AIRPORT_ID': 1, 'TO_AIRPORT_ID': 1, 'DEPARTURE_DATE': 1 }"
+        ),
+        @CompoundIndex(
+                name = "departure_date_idx",
+                def = "{ 'DEPARTURE_DATE': 1 }"
+        )
+})
+public class FlightRouteDaySummaryEntity {
+
+    @Id
+    private String id;
+
+    @Field(name = "FROM_AIRPORT_ID")
+    private String fromAirportId;
+
+    @Field(name = "TO_AIRPORT_ID")
+    private String toAirportId;
+
+    @Field(name = "DEPARTURE_DATE")
+    private LocalDate departureDate;
+
+    @Field(name = "FLIGHT_COUNT")
+    private long flightCount;
+
+    @Field(name = "MIN_PRICE")
+    private Double minPrice;
+
+    @Field(name = "MAX_PRICE")
+    private Double maxPrice;
+
+    @Field(name = "EARLIEST_DEPARTURE")
+    private LocalDateTime earliestDeparture;
+
+    @Field(name = "LATEST_DEPARTURE")
+    private LocalDateTime latestDeparture;
+
+    @Field(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Returns the ID of the summary of a route/day.
+     *
+     * @param routeDay the route and departure day.
+     * @return the summary ID.
+     */
+    public static String idOf(final FlightRouteDay routeDay) {
+        return routeDay.fromAirportId() + "|" + routeDay.toAirportId() + "|" + routeDay.departureDate();
+    }
+
+    /**
+     * Returns the route and departure day the summary aggregates.
+     *
+     * @return the {@link FlightRouteDay} of the summary.
+     */
+    public FlightRouteDay routeDay() {
+        return new FlightRouteDay(fromAirportId, toAirportId, departureDate);
+    }
+
+}
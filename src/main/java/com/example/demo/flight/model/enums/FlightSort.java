@@ -0,0 +1,64 @@
+package com.example.demo.flight.model.enums;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Enum representing the order flights of a search are returned in.
+ * Every order ends with the flight ID, so it is total and pages never overlap.
+ * <ul>
+ *   <li>{@code DEPARTURE}: earliest departure first.</li>
+ *   <li>{@code PRICE}: cheapest first.</li>
+ *   <li>{@code DURATION}: shortest flight time first.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public enum FlightSort {
+
+    DEPARTURE("departureTime", FlightEntity::getDepartureTime, LocalDateTime::parse),
+    PRICE("price", FlightEntity::getPrice, Double::valueOf),
+    DURATION("durationMinutes", FlightEntity::getDurationMinutes, Long::valueOf);
+
+    @Getter
+    private final String property;
+
+    private final Function<FlightEntity, Object> valueExtractor;
+
+    private final Function<String, Object> valueParser;
+
+    /**
+     * Returns the Spring Data {@link Sort} of this order.
+     *
+     * @return the ascending sort by the sorted property, then by ID.
+     */
+    public Sort toSort() {
+        return Sort.by(Sort.Direction.ASC, property, "id");
+    }
+
+    /**
+     * Returns the value a flight is sorted by.
+     *
+     * @param flight the flight.
+     * @return the value of the sorted property of the flight.
+     */
+    public Object valueOf(final FlightEntity flight) {
+        return valueExtractor.apply(flight);
+    }
+
+    /**
+     * Parses a sorted value from its {@link Object#toString()} form, as written into pagination cursors.
+     *
+     * @param value the text form of the value.
+     * @return the parsed value.
+     * @throws RuntimeException if the text is not a value of the sorted property.
+     */
+    public Object parse(final String value) {
+        return valueParser.apply(value);
+    }
+
+}
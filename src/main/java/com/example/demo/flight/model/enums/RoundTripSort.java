@@ -0,0 +1,15 @@
+package com.example.demo.flight.model.enums;
+
+/**
+ * Enum representing how round-trip combinations are ranked.
+ * <ul>
+ *   <li>{@code PRICE}: by the total price of both flights; flights without a price rank last.</li>
+ *   <li>{@code DURATION}: by the total flight time of both flights, excluding the stay at the destination.</li>
+ * </ul>
+ */
+public enum RoundTripSort {
+
+    PRICE,
+    DURATION
+
+}
@@ -0,0 +1,67 @@
+package com.example.demo.flight.model.mapper.flight;
+
+import com.example.demo.flight.model.BatchSearchResult;
+import com.example.demo.flight.model.dto.response.flight.BatchSearchFlightResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper interface that converts the {@link BatchSearchResult}s of a batch to {@link BatchSearchFlightResponse}s.
+ * It leverages MapStruct for automatic mapping between domain and DTO objects.
+ */
+@Mapper
+public interface BatchSearchResultToBatchSearchFlightResponseMapper {
+
+    CustomPageFlightToCustomPagingFlightResponseMapper customPageFlightToCustomPagingFlightResponseMapper =
+            Mappers.getMapper(CustomPageFlightToCustomPagingFlightResponseMapper.class);
+
+    /**
+     * Converts a {@link BatchSearchResult} to a {@link BatchSearchFlightResponse}.
+     *
+     * @param result the outcome of one search
+     * @return the mapped {@link BatchSearchFlightResponse}, or {@code null} if {@code result} is {@code null}
+     */
+    default BatchSearchFlightResponse map(BatchSearchResult result) {
+
+        if (result == null) {
+            return null;
+        }
+
+        return BatchSearchFlightResponse.builder()
+                .result(customPageFlightToCustomPagingFlightResponseMapper.toPagingResponse(result.getPage()))
+                .error(result.getError())
+                .build();
+
+    }
+
+    /**
+     * Converts the outcomes of a batch to {@link BatchSearchFlightResponse}s, keeping their order.
+     *
+     * @param results the outcomes of the searches of a batch
+     * @return the mapped {@link BatchSearchFlightResponse} list, or {@code null} if {@code results} is {@code null}
+     */
+    default List<BatchSearchFlightResponse> map(List<BatchSearchResult> results) {
+
+        if (results == null) {
+            return null;
+        }
+
+        return results.stream()
+                .map(this::map)
+                .collect(Collectors.toList());
+
+    }
+
+    /**
+     * Initializes and returns an instance of the {@link BatchSearchResultToBatchSearchFlightResponseMapper}.
+     *
+     * @return an instance of the mapper
+     */
+    static BatchSearchResultToBatchSearchFlightResponseMapper initialize() {
+        return Mappers.getMapper(BatchSearchResultToBatchSearchFlightResponseMapper.class);
+    }
+
+}
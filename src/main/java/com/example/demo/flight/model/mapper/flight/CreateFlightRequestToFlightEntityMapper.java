@@ -3,6 +3,7 @@ package com.example.demo.flight.model.mapper.flight;
 import com.example.demo.common.model.mapper.BaseMapper;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.airport.CreateAirportRequestToAirportEntityMapper;
 import org.mapstruct.Mapper;
@@ -30,8 +31,8 @@ public interface CreateFlightRequestToFlightEntityMapper extends BaseMapper<Crea
     @Named("mapForSaving")
     default FlightEntity mapForSaving(CreateFlightRequest request, AirportEntity fromAirport, AirportEntity toAirport) {
         return FlightEntity.builder()
-                .fromAirport(fromAirport)
-                .toAirport(toAirport)
+                .fromAirport(AirportSnapshot.of(fromAirport))
+                .toAirport(AirportSnapshot.of(toAirport))
                 .departureTime(request.getDepartureTime())
                 .arrivalTime(request.getArrivalTime())
                 .price(request.getPrice())
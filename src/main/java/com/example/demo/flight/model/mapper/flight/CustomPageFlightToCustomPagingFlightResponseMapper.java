@@ -37,6 +37,9 @@ public interface CustomPageFlightToCustomPagingFlightResponseMapper {
                 .totalPageCount(flightPage.getTotalPageCount())
                 .pageNumber(flightPage.getPageNumber())
                 .pageSize(flightPage.getPageSize())
+                .nextCursor(flightPage.getNextCursor())
+                .hasNext(flightPage.getHasNext())
+                .approximateTotalElementCount(flightPage.getApproximateTotalElementCount())
                 .build();
 
     }
@@ -0,0 +1,51 @@
+package com.example.demo.flight.model.mapper.flight;
+
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.model.dto.response.CustomPagingResponse;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.response.flight.RoundTripResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface that converts a {@link CustomPage} of {@link RoundTrip} models to a {@link CustomPagingResponse}
+ * of {@link RoundTripResponse}.
+ */
+@Mapper
+public interface CustomPageRoundTripToCustomPagingRoundTripResponseMapper {
+
+    RoundTripToRoundTripResponseMapper roundTripToRoundTripResponseMapper = RoundTripToRoundTripResponseMapper.initialize();
+
+    /**
+     * Converts a {@link CustomPage} of {@link RoundTrip} models to a {@link CustomPagingResponse} containing
+     * {@link RoundTripResponse} DTOs.
+     *
+     * @param roundTripPage the {@link CustomPage} containing a list of {@link RoundTrip} models
+     * @return a {@link CustomPagingResponse} with the mapped {@link RoundTripResponse} list, or {@code null} if {@code roundTripPage} is {@code null}
+     */
+    default CustomPagingResponse<RoundTripResponse> toPagingResponse(CustomPage<RoundTrip> roundTripPage) {
+
+        if (roundTripPage == null) {
+            return null;
+        }
+
+        return CustomPagingResponse.<RoundTripResponse>builder()
+                .content(roundTripToRoundTripResponseMapper.map(roundTripPage.getContent()))
+                .totalElementCount(roundTripPage.getTotalElementCount())
+                .totalPageCount(roundTripPage.getTotalPageCount())
+                .pageNumber(roundTripPage.getPageNumber())
+                .pageSize(roundTripPage.getPageSize())
+                .build();
+
+    }
+
+    /**
+     * Initializes and returns an instance of the {@link CustomPageRoundTripToCustomPagingRoundTripResponseMapper}.
+     *
+     * @return an instance of the mapper
+     */
+    static CustomPageRoundTripToCustomPagingRoundTripResponseMapper initialize() {
+        return Mappers.getMapper(CustomPageRoundTripToCustomPagingRoundTripResponseMapper.class);
+    }
+
+}
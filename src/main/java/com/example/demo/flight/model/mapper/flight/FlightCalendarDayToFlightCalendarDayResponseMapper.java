@@ -0,0 +1,25 @@
+package com.example.demo.flight.model.mapper.flight;
+
+import com.example.demo.common.model.mapper.BaseMapper;
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.dto.response.flight.FlightCalendarDayResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface for converting a {@link FlightCalendarDay} to a {@link FlightCalendarDayResponse}.
+ */
+@Mapper
+public interface FlightCalendarDayToFlightCalendarDayResponseMapper
+        extends BaseMapper<FlightCalendarDay, FlightCalendarDayResponse> {
+
+    /**
+     * Initializes and returns an instance of the {@link FlightCalendarDayToFlightCalendarDayResponseMapper}.
+     *
+     * @return an instance of the mapper
+     */
+    static FlightCalendarDayToFlightCalendarDayResponseMapper initialize() {
+        return Mappers.getMapper(FlightCalendarDayToFlightCalendarDayResponseMapper.class);
+    }
+
+}
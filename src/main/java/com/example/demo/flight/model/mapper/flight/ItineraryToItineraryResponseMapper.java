@@ -0,0 +1,25 @@
+package com.example.demo.flight.model.mapper.flight;
+
+import com.example.demo.common.model.mapper.BaseMapper;
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.dto.response.flight.ItineraryResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface for converting an {@link Itinerary} to an {@link ItineraryResponse}.
+ * The flights of the itinerary are converted with {@link FlightToFlightResponseMapper}.
+ */
+@Mapper(uses = FlightToFlightResponseMapper.class)
+public interface ItineraryToItineraryResponseMapper extends BaseMapper<Itinerary, ItineraryResponse> {
+
+    /**
+     * Initializes and returns an instance of the {@link ItineraryToItineraryResponseMapper}.
+     *
+     * @return an instance of the mapper
+     */
+    static ItineraryToItineraryResponseMapper initialize() {
+        return Mappers.getMapper(ItineraryToItineraryResponseMapper.class);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.demo.flight.model.mapper.flight;
+
+import com.example.demo.common.model.mapper.BaseMapper;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.response.flight.RoundTripResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface for converting a {@link RoundTrip} to a {@link RoundTripResponse}.
+ * The flights of the round trip are converted with {@link FlightToFlightResponseMapper}.
+ */
+@Mapper(uses = FlightToFlightResponseMapper.class)
+public interface RoundTripToRoundTripResponseMapper extends BaseMapper<RoundTrip, RoundTripResponse> {
+
+    /**
+     * Initializes and returns an instance of the {@link RoundTripToRoundTripResponseMapper}.
+     *
+     * @return an instance of the mapper
+     */
+    static RoundTripToRoundTripResponseMapper initialize() {
+        return Mappers.getMapper(RoundTripToRoundTripResponseMapper.class);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.example.demo.flight.model.mapper.flight;
 import com.example.demo.common.model.mapper.BaseMapper;
 import com.example.demo.flight.model.dto.request.flight.UpdateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.entity.FlightEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Named;
@@ -27,13 +28,13 @@ public interface UpdateFlightRequestToFlightEntityMapper extends BaseMapper<Upda
     @Named("mapForUpdate")
     default void updateFlightMapper(final FlightEntity flightEntity, final UpdateFlightRequest updateFlightRequest,
                                     AirportEntity departureAirportEntity, AirportEntity arrivalAirportEntity) {
-        flightEntity.setFromAirport(AirportEntity.builder()
+        flightEntity.setFromAirport(AirportSnapshot.builder()
                 .id(updateFlightRequest.getFromAirportId())
                 .name(departureAirportEntity.getName())
                 .cityName(departureAirportEntity.getCityName())
                 .build());
 
-        flightEntity.setToAirport(AirportEntity.builder()
+        flightEntity.setToAirport(AirportSnapshot.builder()
                 .id(updateFlightRequest.getToAirportId())
                 .name(arrivalAirportEntity.getName())
                 .cityName(arrivalAirportEntity.getCityName())
@@ -2,6 +2,9 @@ package com.example.demo.flight.repository;
 
 import com.example.demo.flight.model.entity.AirportEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link AirportEntity} entities in the MongoDB database.
@@ -17,4 +20,12 @@ public interface AirportRepository extends MongoRepository<AirportEntity,String>
      */
     boolean existsByName(String name);
 
+    /**
+     * Streams every airport with only its ID read, for rebuilding the in-memory airport ID filter.
+     *
+     * @return the airports, holding nothing but their IDs; the stream must be closed.
+     */
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    Stream<AirportEntity> streamAllIds();
+
 }
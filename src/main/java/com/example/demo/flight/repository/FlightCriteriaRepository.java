@@ -0,0 +1,104 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for reading flights matching {@link FlightSearchCriteria}, including the optional price and
+ * flight time limits, in the order of the {@link Pageable} sort.
+ * Only the criteria that are set are added to the query, so the filters and the sort are evaluated by MongoDB
+ * on the compound indexes of {@link FlightEntity} rather than on every flight of the day.
+ */
+public interface FlightCriteriaRepository {
+
+    /**
+     * Finds the flights of the requested page matching the criteria.
+     *
+     * @param criteria the filters to apply.
+     * @param pageable pagination details and order.
+     * @return the matching flights of the page.
+     */
+    List<FlightEntity> findFlightsMatching(FlightSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Finds the flights of the requested page matching the criteria without counting all matches,
+     * reading one extra row to tell whether a next page exists.
+     *
+     * @param criteria the filters to apply.
+     * @param pageable pagination details and order.
+     * @return a {@link Slice} of the matching flights telling whether a next page exists.
+     */
+    Slice<FlightEntity> findFlightSliceMatching(FlightSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Counts the flights matching the criteria.
+     *
+     * @param criteria the filters to apply.
+     * @return the number of matching flights.
+     */
+    long countFlightsMatching(FlightSearchCriteria criteria);
+
+    /**
+     * Finds every flight of a route departing on any of the given days with a single query, so that searches of
+     * the same route on different days can share one round trip to the database.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param days the departure days.
+     * @return the flights of the route on those days ordered by {@code (departureTime, id)}.
+     */
+    List<FlightEntity> findRouteFlightsOnDays(String fromAirportId, String toAirportId, Collection<LocalDate> days);
+
+    /**
+     * Finds the flights of the requested page departing from any of the given airports to any of the others,
+     * such as the airports of two cities, with a single {@code $in} query.
+     *
+     * @param fromAirportIds the IDs of the departure airports.
+     * @param toAirportIds the IDs of the destination airports.
+     * @param departureStart the start of the departure time range (inclusive).
+     * @param departureEnd the end of the departure time range (inclusive).
+     * @param pageable pagination details and order.
+     * @return the matching flights of the page.
+     */
+    List<FlightEntity> findFlightsBetween(Collection<String> fromAirportIds,
+                                          Collection<String> toAirportIds,
+                                          LocalDateTime departureStart,
+                                          LocalDateTime departureEnd,
+                                          Pageable pageable);
+
+    /**
+     * Counts the flights departing from any of the given airports to any of the others.
+     *
+     * @param fromAirportIds the IDs of the departure airports.
+     * @param toAirportIds the IDs of the destination airports.
+     * @param departureStart the start of the departure time range (inclusive).
+     * @param departureEnd the end of the departure time range (inclusive).
+     * @return the number of matching flights.
+     */
+    long countFlightsBetween(Collection<String> fromAirportIds,
+                             Collection<String> toAirportIds,
+                             LocalDateTime departureStart,
+                             LocalDateTime departureEnd);
+
+    /**
+     * Streams every flight matching the criteria from a MongoDB cursor.
+     * Flights are fetched from the server {@code batchSize} at a time, and the next batch is only requested once
+     * the stream has consumed the previous one. The stream holds the cursor open and must be closed.
+     *
+     * @param criteria the filters to apply.
+     * @param sort the order of the flights.
+     * @param batchSize the number of flights fetched per round trip to the server.
+     * @return a lazily fetched {@link Stream} of the matching flights.
+     */
+    Stream<FlightEntity> streamFlightsMatching(FlightSearchCriteria criteria, Sort sort, int batchSize);
+
+}
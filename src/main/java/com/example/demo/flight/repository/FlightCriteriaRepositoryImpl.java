@@ -0,0 +1,234 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.FlightEntity;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link FlightCriteriaRepository}.
+ * Flights are read with {@link FlightEntity#RESPONSE_PROJECTION}, so their audit fields are neither transferred
+ * nor decoded.
+ */
+@RequiredArgsConstructor
+public class FlightCriteriaRepositoryImpl implements FlightCriteriaRepository {
+
+    private static final String[] AUDIT_FIELDS =
+            Document.parse(FlightEntity.RESPONSE_PROJECTION).keySet().toArray(String[]::new);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Finds the flights of the requested page matching the criteria.
+     *
+     * @param criteria the filters to apply.
+     * @param pageable pagination details and order.
+     * @return the matching flights of the page.
+     */
+    @Override
+    public List<FlightEntity> findFlightsMatching(final FlightSearchCriteria criteria, final Pageable pageable) {
+        return mongoTemplate.find(forResponse(matching(criteria).with(pageable)), FlightEntity.class);
+    }
+
+    /**
+     * Finds the flights of the requested page matching the criteria, reading one extra row.
+     *
+     * @param criteria the filters to apply.
+     * @param pageable pagination details and order.
+     * @return a {@link Slice} of the matching flights telling whether a next page exists.
+     */
+    @Override
+    public Slice<FlightEntity> findFlightSliceMatching(final FlightSearchCriteria criteria, final Pageable pageable) {
+
+        final Query query = matching(criteria)
+                .with(pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+
+        final List<FlightEntity> rows = mongoTemplate.find(forResponse(query), FlightEntity.class);
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+
+    }
+
+    /**
+     * Counts the flights matching the criteria.
+     *
+     * @param criteria the filters to apply.
+     * @return the number of matching flights.
+     */
+    @Override
+    public long countFlightsMatching(final FlightSearchCriteria criteria) {
+        return mongoTemplate.count(matching(criteria), FlightEntity.class);
+    }
+
+    /**
+     * Finds every flight of a route departing on any of the given days with a single query.
+     * Each day is its own departure range, so the query reads the route index once per day and never the days
+     * in between.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param days the departure days.
+     * @return the flights of the route on those days ordered by {@code (departureTime, id)}.
+     */
+    @Override
+    public List<FlightEntity> findRouteFlightsOnDays(final String fromAirportId,
+                                                     final String toAirportId,
+                                                     final Collection<LocalDate> days) {
+
+        if (days.isEmpty()) {
+            return List.of();
+        }
+
+        final Criteria[] dayRanges = days.stream()
+                .map(day -> Criteria.where("departureTime")
+                        .gte(day.atStartOfDay())
+                        .lt(day.plusDays(1).atStartOfDay()))
+                .toArray(Criteria[]::new);
+
+        final Query query = new Query(Criteria.where("fromAirport.id").is(fromAirportId)
+                .and("toAirport.id").is(toAirportId)
+                .orOperator(dayRanges))
+                .with(FlightKeysetRepository.FLIGHT_ORDER);
+
+        return mongoTemplate.find(forResponse(query), FlightEntity.class);
+
+    }
+
+    /**
+     * Finds the flights of the requested page between any of the given airports with a single query.
+     * The airports are matched with {@code $in} on the leading fields of the route indexes, so MongoDB reads one
+     * index range per airport pair and merges them in the requested order instead of sorting the flights in memory.
+     *
+     * @param fromAirportIds the IDs of the departure airports.
+     * @param toAirportIds the IDs of the destination airports.
+     * @param departureStart the start of the departure time range (inclusive).
+     * @param departureEnd the end of the departure time range (inclusive).
+     * @param pageable pagination details and order.
+     * @return the matching flights of the page.
+     */
+    @Override
+    public List<FlightEntity> findFlightsBetween(final Collection<String> fromAirportIds,
+                                                 final Collection<String> toAirportIds,
+                                                 final LocalDateTime departureStart,
+                                                 final LocalDateTime departureEnd,
+                                                 final Pageable pageable) {
+        return mongoTemplate.find(
+                forResponse(between(fromAirportIds, toAirportIds, departureStart, departureEnd).with(pageable)),
+                FlightEntity.class);
+    }
+
+    /**
+     * Counts the flights between any of the given airports.
+     *
+     * @param fromAirportIds the IDs of the departure airports.
+     * @param toAirportIds the IDs of the destination airports.
+     * @param departureStart the start of the departure time range (inclusive).
+     * @param departureEnd the end of the departure time range (inclusive).
+     * @return the number of matching flights.
+     */
+    @Override
+    public long countFlightsBetween(final Collection<String> fromAirportIds,
+                                    final Collection<String> toAirportIds,
+                                    final LocalDateTime departureStart,
+                                    final LocalDateTime departureEnd) {
+        return mongoTemplate.count(
+                between(fromAirportIds, toAirportIds, departureStart, departureEnd), FlightEntity.class);
+    }
+
+    /**
+     * Streams every flight matching the criteria from a MongoDB cursor fetching {@code batchSize} flights at a time.
+     *
+     * @param criteria the filters to apply.
+     * @param sort the order of the flights.
+     * @param batchSize the number of flights fetched per round trip to the server.
+     * @return a lazily fetched {@link Stream} of the matching flights, to be closed by the caller.
+     */
+    @Override
+    public Stream<FlightEntity> streamFlightsMatching(final FlightSearchCriteria criteria,
+                                                      final Sort sort,
+                                                      final int batchSize) {
+        return mongoTemplate.stream(
+                forResponse(matching(criteria).with(sort).cursorBatchSize(batchSize)), FlightEntity.class);
+    }
+
+    /**
+     * Builds the MongoDB filters of the criteria components that are set.
+     *
+     * @param criteria the filters to apply.
+     * @return the filters, empty if the criteria match every flight.
+     */
+    static List<Criteria> filters(final FlightSearchCriteria criteria) {
+
+        final List<Criteria> filters = new ArrayList<>();
+
+        if (criteria.fromAirportId() != null) {
+            filters.add(Criteria.where("fromAirport.id").is(criteria.fromAirportId()));
+        }
+
+        if (criteria.toAirportId() != null) {
+            filters.add(Criteria.where("toAirport.id").is(criteria.toAirportId()));
+        }
+
+        if (criteria.departureStart() != null) {
+            filters.add(Criteria.where("departureTime").gte(criteria.departureStart()));
+        }
+
+        if (criteria.departureEnd() != null) {
+            filters.add(Criteria.where("departureTime").lte(criteria.departureEnd()));
+        }
+
+        if (criteria.maxPrice() != null) {
+            filters.add(Criteria.where("price").lte(criteria.maxPrice()));
+        }
+
+        if (criteria.maxDurationMinutes() != null) {
+            filters.add(Criteria.where("durationMinutes").lte(criteria.maxDurationMinutes()));
+        }
+
+        return filters;
+
+    }
+
+    /**
+     * Leaves the audit fields out of the flights read by a query.
+     *
+     * @param query the query reading flights to be returned.
+     * @return the same query, projected with {@link FlightEntity#RESPONSE_PROJECTION}.
+     */
+    static Query forResponse(final Query query) {
+        query.fields().exclude(AUDIT_FIELDS);
+        return query;
+    }
+
+    private Query between(final Collection<String> fromAirportIds,
+                          final Collection<String> toAirportIds,
+                          final LocalDateTime departureStart,
+                          final LocalDateTime departureEnd) {
+        return new Query(Criteria.where("fromAirport.id").in(fromAirportIds)
+                .and("toAirport.id").in(toAirportIds)
+                .and("departureTime").gte(departureStart).lte(departureEnd));
+    }
+
+    private Query matching(final FlightSearchCriteria criteria) {
+        final List<Criteria> filters = filters(criteria);
+        return new Query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters));
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Repository fragment for reading flights with keyset (seek) pagination.
+ * Flights are ordered by {@code (departureTime, id)}, or by the key of another {@link FlightSort} followed by {@code id},
+ * and each page resumes right after the last row of the previous one, so the cost of a page does not depend on
+ * how deep it is.
+ */
+public interface FlightKeysetRepository {
+
+    /**
+     * The order flights are paginated in. The trailing {@code id} makes it total, so no row is skipped or repeated
+     * between pages when several flights depart at the same time.
+     */
+    Sort FLIGHT_ORDER = Sort.by(Sort.Direction.ASC, "departureTime", "id");
+
+    /**
+     * Finds the flights matching the criteria that come after the given position.
+     *
+     * @param criteria the filters to apply.
+     * @param after the position to resume after; {@link FlightCursor.Position#START} reads from the first flight.
+     * @param limit the maximum number of flights to return.
+     * @return the matching flights ordered by {@code (departureTime, id)}.
+     */
+    default List<FlightEntity> findFlightsAfter(FlightSearchCriteria criteria, FlightCursor.Position after, int limit) {
+        return findFlightsAfter(criteria, FlightSort.DEPARTURE, after, limit);
+    }
+
+    /**
+     * Finds the flights matching the criteria that come after the given position in the given order.
+     *
+     * @param criteria the filters to apply.
+     * @param sort the order of the flights.
+     * @param after the position to resume after; {@link FlightCursor.Position#START} reads from the first flight.
+     * @param limit the maximum number of flights to return.
+     * @return the matching flights ordered by {@code (sort key, id)}.
+     */
+    List<FlightEntity> findFlightsAfter(FlightSearchCriteria criteria,
+                                        FlightSort sort,
+                                        FlightCursor.Position after,
+                                        int limit);
+
+}
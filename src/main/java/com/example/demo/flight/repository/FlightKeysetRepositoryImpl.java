@@ -0,0 +1,62 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link FlightKeysetRepository}.
+ */
+@RequiredArgsConstructor
+public class FlightKeysetRepositoryImpl implements FlightKeysetRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Finds the flights matching the criteria that come after the given position in the given order.
+     * A position without a sort value (a flight without a price) is followed by the remaining flights without
+     * a value and then by every flight with one, since missing values sort first.
+     *
+     * @param criteria the filters to apply.
+     * @param sort the order of the flights.
+     * @param after the position to resume after.
+     * @param limit the maximum number of flights to return.
+     * @return the matching flights ordered by {@code (sort key, id)}, without their audit fields.
+     */
+    @Override
+    public List<FlightEntity> findFlightsAfter(final FlightSearchCriteria criteria,
+                                               final FlightSort sort,
+                                               final FlightCursor.Position after,
+                                               final int limit) {
+
+        if (after.isEnd()) {
+            return List.of();
+        }
+
+        final List<Criteria> filters = FlightCriteriaRepositoryImpl.filters(criteria);
+
+        if (!after.isStart()) {
+            filters.add(new Criteria().orOperator(
+                    after.value() == null
+                            ? Criteria.where(sort.getProperty()).ne(null)
+                            : Criteria.where(sort.getProperty()).gt(after.value()),
+                    Criteria.where(sort.getProperty()).is(after.value()).and("id").gt(after.id())
+            ));
+        }
+
+        final Query query = new Query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters))
+                .with(sort.toSort())
+                .limit(limit);
+
+        return mongoTemplate.find(FlightCriteriaRepositoryImpl.forResponse(query), FlightEntity.class);
+
+    }
+
+}
@@ -2,12 +2,46 @@ package com.example.demo.flight.repository;
 
 
 import com.example.demo.flight.model.entity.FlightEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link FlightRepository} entities in the Couchbase database.
  * Provides CRUD operations and custom query methods for handling {@link FlightEntity} records.
  */
-public interface FlightRepository extends MongoRepository<FlightEntity,String> {
+public interface FlightRepository extends MongoRepository<FlightEntity,String>, FlightKeysetRepository {
+
+    /**
+     * Finds all flights departing within the given time range, without their audit fields.
+     *
+     * @param start the start of the departure time range (inclusive).
+     * @param end the end of the departure time range (inclusive).
+     * @return the flights departing within the range.
+     */
+    @Query(value = "{ 'departureTime': { $gte: ?0, $lte: ?1 } }", fields = FlightEntity.RESPONSE_PROJECTION)
+    List<FlightEntity> findByDepartureTimeWithin(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Finds the flights of the requested page without their audit fields, for listing flights.
+     *
+     * @param pageable pagination details and order.
+     * @return a {@link Page} of flights read with {@link FlightEntity#RESPONSE_PROJECTION}.
+     */
+    @Query(value = "{}", fields = FlightEntity.RESPONSE_PROJECTION)
+    Page<FlightEntity> findAllFlights(Pageable pageable);
+
+    /**
+     * Streams every flight with only its ID read, for rebuilding the in-memory flight ID filter.
+     *
+     * @return the flights, holding nothing but their IDs; the stream must be closed.
+     */
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    Stream<FlightEntity> streamAllIds();
 
 }
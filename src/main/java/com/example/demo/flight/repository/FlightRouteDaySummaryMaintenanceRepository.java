@@ -0,0 +1,66 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for maintaining the per route/day flight summaries.
+ */
+public interface FlightRouteDaySummaryMaintenanceRepository {
+
+    /**
+     * Adds a flight to the summary of its route/day with a single atomic upsert, creating the summary if needed.
+     *
+     * @param flight the added flight.
+     */
+    void addFlight(FlightEntity flight);
+
+    /**
+     * Removes a flight from the summary of its route/day with a single atomic update.
+     * The summary is deleted once it no longer counts any flight.
+     * The price and departure bounds are left as they are, since they cannot be narrowed without reading the flights.
+     *
+     * @param flight the removed flight, as it was stored.
+     * @return the updated summary, or an empty {@link Optional} if it was deleted or did not exist.
+     */
+    Optional<FlightRouteDaySummaryEntity> removeFlight(FlightEntity flight);
+
+    /**
+     * Computes the summary of a route/day from its flights, using the route/departure index.
+     *
+     * @param routeDay the route and departure day.
+     * @return the summary, or an empty {@link Optional} if the route/day has no flights.
+     */
+    Optional<FlightRouteDaySummaryEntity> aggregateSummary(FlightRouteDay routeDay);
+
+    /**
+     * Computes the summaries of every route for a range of departure days from the flights, using the departure index.
+     *
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the route/days that have flights.
+     */
+    List<FlightRouteDaySummaryEntity> aggregateSummaries(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Computes the summaries of every route/day from the flights.
+     * The caller must close the returned stream.
+     *
+     * @return a {@link Stream} of all summaries.
+     */
+    Stream<FlightRouteDaySummaryEntity> aggregateAllSummaries();
+
+    /**
+     * Replaces the given summaries, or inserts them if they do not exist, with a single bulk operation.
+     *
+     * @param summaries the summaries to write.
+     */
+    void replaceSummaries(List<FlightRouteDaySummaryEntity> summaries);
+
+}
@@ -0,0 +1,257 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link FlightRouteDaySummaryMaintenanceRepository}.
+ */
+@RequiredArgsConstructor
+public class FlightRouteDaySummaryMaintenanceRepositoryImpl implements FlightRouteDaySummaryMaintenanceRepository {
+
+    private static final String DAY_FORMAT = "%Y-%m-%d";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Increments the flight count and widens the price and departure bounds of the summary of the flight's route/day.
+     *
+     * @param flight the added flight.
+     */
+    @Override
+    public void addFlight(final FlightEntity flight) {
+
+        final FlightRouteDay routeDay = FlightRouteDay.of(flight);
+
+        final Update update = new Update()
+                .setOnInsert("fromAirportId", routeDay.fromAirportId())
+                .setOnInsert("toAirportId", routeDay.toAirportId())
+                .setOnInsert("departureDate", routeDay.departureDate())
+                .inc("flightCount", 1)
+                .min("earliestDeparture", flight.getDepartureTime())
+                .max("latestDeparture", flight.getDepartureTime())
+                .set("updatedAt", LocalDateTime.now());
+
+        if (flight.getPrice() != null) {
+            update.min("minPrice", flight.getPrice()).max("maxPrice", flight.getPrice());
+        }
+
+        mongoTemplate.upsert(byId(routeDay), update, FlightRouteDaySummaryEntity.class);
+
+    }
+
+    /**
+     * Decrements the flight count of the summary of the flight's route/day and deletes the summary if it reaches zero.
+     *
+     * @param flight the removed flight, as it was stored.
+     * @return the updated summary, or an empty {@link Optional} if it was deleted or did not exist.
+     */
+    @Override
+    public Optional<FlightRouteDaySummaryEntity> removeFlight(final FlightEntity flight) {
+
+        final FlightRouteDay routeDay = FlightRouteDay.of(flight);
+
+        final FlightRouteDaySummaryEntity updated = mongoTemplate.findAndModify(
+                byId(routeDay),
+                new Update().inc("flightCount", -1).set("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                FlightRouteDaySummaryEntity.class
+        );
+
+        if (updated == null) {
+            return Optional.empty();
+        }
+
+        if (updated.getFlightCount() <= 0) {
+            // Only delete while still empty, a concurrent insert may already have incremented the count again
+            mongoTemplate.remove(byId(routeDay).addCriteria(Criteria.where("flightCount").lte(0)),
+                    FlightRouteDaySummaryEntity.class);
+            return Optional.empty();
+        }
+
+        return Optional.of(updated);
+
+    }
+
+    /**
+     * Aggregates the flights of a single route/day.
+     *
+     * @param routeDay the route and departure day.
+     * @return the summary, or an empty {@link Optional} if the route/day has no flights.
+     */
+    @Override
+    public Optional<FlightRouteDaySummaryEntity> aggregateSummary(final FlightRouteDay routeDay) {
+
+        final LocalDateTime start = routeDay.departureDate().atStartOfDay();
+
+        return aggregate(Criteria.where("fromAirport.id").is(routeDay.fromAirportId())
+                .and("toAirport.id").is(routeDay.toAirportId())
+                .and("departureTime").gte(start).lte(start.plusDays(1).minusNanos(1)))
+                .stream()
+                .findFirst();
+
+    }
+
+    /**
+     * Aggregates the flights of every route departing within a range of days.
+     *
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the route/days that have flights.
+     */
+    @Override
+    public List<FlightRouteDaySummaryEntity> aggregateSummaries(final LocalDate firstDay, final LocalDate lastDay) {
+
+        return aggregate(Criteria.where("departureTime")
+                .gte(firstDay.atStartOfDay())
+                .lte(lastDay.plusDays(1).atStartOfDay().minusNanos(1)));
+
+    }
+
+    /**
+     * Aggregates every flight, letting the server spill the grouping to disk.
+     *
+     * @return a {@link Stream} of all summaries.
+     */
+    @Override
+    public Stream<FlightRouteDaySummaryEntity> aggregateAllSummaries() {
+
+        final TypedAggregation<FlightEntity> aggregation = summaryAggregation(null)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregateStream(aggregation, Document.class).map(this::toSummary);
+
+    }
+
+    /**
+     * Writes the summaries with a single unordered bulk operation, stamping them with the current time.
+     *
+     * @param summaries the summaries to write.
+     */
+    @Override
+    public void replaceSummaries(final List<FlightRouteDaySummaryEntity> summaries) {
+
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        final BulkOperations bulkOperations =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FlightRouteDaySummaryEntity.class);
+
+        for (FlightRouteDaySummaryEntity summary : summaries) {
+            summary.setUpdatedAt(now);
+            bulkOperations.replaceOne(
+                    Query.query(Criteria.where("id").is(summary.getId())),
+                    summary,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+
+        bulkOperations.execute();
+
+    }
+
+    private List<FlightRouteDaySummaryEntity> aggregate(final Criteria criteria) {
+        return mongoTemplate.aggregate(summaryAggregation(criteria), Document.class).getMappedResults().stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    /**
+     * Groups the flights by route and departure day, optionally restricted to the flights matching the criteria.
+     * Departure times are stored as instants in the JVM's zone, so days are taken in that zone, like the
+     * {@link FlightRouteDay} of the flights updated one by one.
+     */
+    private TypedAggregation<FlightEntity> summaryAggregation(final Criteria criteria) {
+
+        final List<AggregationOperation> operations = new ArrayList<>();
+
+        if (criteria != null) {
+            operations.add(Aggregation.match(criteria));
+        }
+
+        operations.add(Aggregation.project("price", "departureTime")
+                .and("fromAirport.id").as("fromAirportId")
+                .and("toAirport.id").as("toAirportId")
+                .and(DateOperators.DateToString.dateOf("departureTime")
+                        .toString(DAY_FORMAT)
+                        .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId())))
+                .as("day"));
+
+        operations.add(Aggregation.group("fromAirportId", "toAirportId", "day")
+                .count().as("flightCount")
+                .min("price").as("minPrice")
+                .max("price").as("maxPrice")
+                .min("departureTime").as("earliestDeparture")
+                .max("departureTime").as("latestDeparture"));
+
+        return Aggregation.newAggregation(FlightEntity.class, operations);
+
+    }
+
+    private FlightRouteDaySummaryEntity toSummary(final Document document) {
+
+        final Document group = document.get("_id", Document.class);
+
+        final FlightRouteDay routeDay = new FlightRouteDay(
+                group.getString("fromAirportId"),
+                group.getString("toAirportId"),
+                LocalDate.parse(group.getString("day"))
+        );
+
+        return FlightRouteDaySummaryEntity.builder()
+                .id(FlightRouteDaySummaryEntity.idOf(routeDay))
+                .fromAirportId(routeDay.fromAirportId())
+                .toAirportId(routeDay.toAirportId())
+                .departureDate(routeDay.departureDate())
+                .flightCount(document.get("flightCount", Number.class).longValue())
+                .minPrice(toDouble(document.get("minPrice")))
+                .maxPrice(toDouble(document.get("maxPrice")))
+                .earliestDeparture(toLocalDateTime(document.get("earliestDeparture")))
+                .latestDeparture(toLocalDateTime(document.get("latestDeparture")))
+                .build();
+
+    }
+
+    private Query byId(final FlightRouteDay routeDay) {
+        return Query.query(Criteria.where("id").is(FlightRouteDaySummaryEntity.idOf(routeDay)));
+    }
+
+    private Double toDouble(final Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    /**
+     * Converts a date read from an aggregation the same way the mapping layer reads {@link LocalDateTime} fields.
+     */
+    private LocalDateTime toLocalDateTime(final Object value) {
+        return value == null
+                ? null
+                : mongoTemplate.getConverter().getConversionService().convert(value, LocalDateTime.class);
+    }
+
+}
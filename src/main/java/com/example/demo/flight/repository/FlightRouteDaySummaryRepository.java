@@ -0,0 +1,52 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the per route/day flight summaries.
+ * Incremental maintenance and the aggregations the summaries are rebuilt from are provided by
+ * {@link FlightRouteDaySummaryMaintenanceRepository}.
+ */
+public interface FlightRouteDaySummaryRepository
+        extends MongoRepository<FlightRouteDaySummaryEntity, String>, FlightRouteDaySummaryMaintenanceRepository {
+
+    /**
+     * Finds the summaries of a route for a range of departure days.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the days that have flights.
+     */
+    @Query("{ 'fromAirportId': ?0, 'toAirportId': ?1, 'departureDate': { $gte: ?2, $lte: ?3 } }")
+    List<FlightRouteDaySummaryEntity> findRouteSummaries(String fromAirportId,
+                                                         String toAirportId,
+                                                         LocalDate firstDay,
+                                                         LocalDate lastDay);
+
+    /**
+     * Finds the summaries of every route for a range of departure days.
+     *
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the route/days that have flights.
+     */
+    @Query("{ 'departureDate': { $gte: ?0, $lte: ?1 } }")
+    List<FlightRouteDaySummaryEntity> findDaySummaries(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Deletes the summaries that were last written before the given time.
+     *
+     * @param time the time a rebuild started.
+     * @return the number of deleted summaries.
+     */
+    long deleteByUpdatedAtBefore(LocalDateTime time);
+
+}
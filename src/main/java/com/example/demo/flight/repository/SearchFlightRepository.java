@@ -1,30 +1,56 @@
 package com.example.demo.flight.repository;
 
 import com.example.demo.flight.model.entity.FlightEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Repository interface for searching flights.
+ * Search totals are read from the route/day summaries ({@link FlightRouteDaySummaryRepository}), so no query counts flights.
+ * {@link #findFlightSlice} reads one extra row to tell whether a next page exists without knowing the total.
+ * Keyset pagination is provided by {@link FlightKeysetRepository}, and searches with a sort or price and flight time
+ * limits are read through {@link FlightCriteriaRepository}.
  */
-public interface SearchFlightRepository extends MongoRepository<FlightEntity, String> {
+public interface SearchFlightRepository
+        extends MongoRepository<FlightEntity, String>, FlightKeysetRepository, FlightCriteriaRepository {
 
     /**
-     * Finds flights based on the specified criteria and returns a paginated result.
+     * Finds the flights of the requested page matching the specified criteria.
      *
      * @param fromAirportId the ID of the departure airport.
      * @param toAirportId the ID of the destination airport.
      * @param start the start of the departure time range.
      * @param end the end of the departure time range.
      * @param pageable pagination details.
-     * @return a {@link Page} of {@link FlightEntity} matching the search criteria.
+     * @return a {@link List} of {@link FlightEntity} matching the search criteria.
      */
-    @Query("{ 'fromAirport.id': ?0, 'toAirport.id': ?1, 'departureTime': { $gte: ?2, $lte: ?3 } }")
-    Page<FlightEntity> findFlights(
+    @Query(value = "{ 'fromAirport.id': ?0, 'toAirport.id': ?1, 'departureTime': { $gte: ?2, $lte: ?3 } }",
+            fields = FlightEntity.RESPONSE_PROJECTION)
+    List<FlightEntity> findFlights(
+            String fromAirportId,
+            String toAirportId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Pageable pageable);
+
+    /**
+     * Finds the flights of the requested page matching the specified criteria without counting all matches.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param start the start of the departure time range.
+     * @param end the end of the departure time range.
+     * @param pageable pagination details.
+     * @return a {@link Slice} of {@link FlightEntity} telling whether a next page exists.
+     */
+    @Query(value = "{ 'fromAirport.id': ?0, 'toAirport.id': ?1, 'departureTime': { $gte: ?2, $lte: ?3 } }",
+            fields = FlightEntity.RESPONSE_PROJECTION)
+    Slice<FlightEntity> findFlightSlice(
             String fromAirportId,
             String toAirportId,
             LocalDateTime start,
@@ -0,0 +1,40 @@
+package com.example.demo.flight.service.airport;
+
+import com.example.demo.flight.model.Airport;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+
+import java.util.List;
+
+/**
+ * Service interface for suggesting airports by the prefix of their name or city, answered from memory.
+ */
+public interface AirportAutocompleteService {
+
+    /**
+     * The number of suggestions returned when the caller does not ask for a limit.
+     */
+    int DEFAULT_LIMIT = 10;
+
+    /**
+     * The largest number of suggestions a caller can ask for.
+     */
+    int MAX_LIMIT = 20;
+
+    /**
+     * Suggests the airports whose name or city has a word starting with the query, best matches first.
+     *
+     * @param query the typed prefix.
+     * @param limit the maximum number of airports to return.
+     * @return at most {@code limit} airports.
+     */
+    List<Airport> suggest(String query, int limit);
+
+    /**
+     * Applies an airport write to the index.
+     *
+     * @param previous the airport before the write, {@code null} if it was created.
+     * @param current the airport after the write, {@code null} if it was deleted.
+     */
+    void update(AirportSnapshot previous, AirportSnapshot current);
+
+}
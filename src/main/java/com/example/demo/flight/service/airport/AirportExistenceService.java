@@ -0,0 +1,67 @@
+package com.example.demo.flight.service.airport;
+
+import com.example.demo.flight.model.entity.AirportEntity;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Service interface for the in-memory filter telling that an airport ID does not exist without querying the database.
+ * The filter never rules out an airport that was created through the application; IDs it cannot rule out are
+ * looked up as usual.
+ */
+public interface AirportExistenceService {
+
+    /**
+     * Tells whether an airport definitely does not exist.
+     *
+     * @param airportId the ID of the airport.
+     * @return {@code true} if the airport does not exist, {@code false} if it may exist.
+     */
+    boolean isDefinitelyMissing(String airportId);
+
+    /**
+     * Remembers for a short time that an airport the filter could not rule out was not found.
+     *
+     * @param airportId the ID of the airport that was not found.
+     */
+    void recordMissing(String airportId);
+
+    /**
+     * Reads an airport unless the filter rules it out, remembering an ID the filter passed but the read missed.
+     *
+     * @param airportId the ID of the airport.
+     * @param finder reads the airport from the database, e.g. {@code repository::findById}.
+     * @return the airport, or an empty {@link Optional} if it does not exist.
+     */
+    default Optional<AirportEntity> find(final String airportId, final Function<String, Optional<AirportEntity>> finder) {
+
+        if (isDefinitelyMissing(airportId)) {
+            return Optional.empty();
+        }
+
+        final Optional<AirportEntity> airportEntity = finder.apply(airportId);
+
+        if (airportEntity.isEmpty()) {
+            recordMissing(airportId);
+        }
+
+        return airportEntity;
+
+    }
+
+    /**
+     * Adds a created airport to the filter.
+     *
+     * @param airportId the ID of the created airport.
+     */
+    void add(String airportId);
+
+    /**
+     * Rebuilds the filter from the IDs in the {@code airport-collection}, dropping deleted airports.
+     *
+     * @return the number of airports in the filter.
+     */
+    long rebuild();
+
+}
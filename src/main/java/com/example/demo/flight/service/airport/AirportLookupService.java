@@ -0,0 +1,37 @@
+package com.example.demo.flight.service.airport;
+
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for loading the airports used by flights in batches.
+ * Every method issues at most one query against the {@code airport-collection}, regardless of how many
+ * airports are involved, and records that round trip in the {@code flight.airport.round.trips} metric.
+ */
+public interface AirportLookupService {
+
+    /**
+     * Loads the departure and arrival airports of a flight with a single query.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the arrival airport.
+     * @param operation the name of the flight operation, used to tag the metric.
+     * @return the airports keyed by their IDs.
+     * @throws com.example.demo.flight.exception.AirportNotFoundException if either airport does not exist.
+     */
+    Map<String, AirportEntity> getFlightAirports(String fromAirportId, String toAirportId, String operation);
+
+    /**
+     * Completes the airport snapshots embedded in the given flights.
+     * Snapshots without a name (e.g. migrated from a reference to an airport that could not be loaded at the time)
+     * are filled in from a single {@code $in} query over all their distinct airport IDs.
+     *
+     * @param flightEntities the flights to resolve.
+     * @param operation the name of the flight operation, used to tag the metric.
+     */
+    void resolveAirportSnapshots(List<FlightEntity> flightEntities, String operation);
+
+}
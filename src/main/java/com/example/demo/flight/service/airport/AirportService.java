@@ -6,6 +6,8 @@ import com.example.demo.flight.model.Airport;
 import com.example.demo.flight.model.dto.request.airport.CreateAirportRequest;
 import com.example.demo.flight.model.dto.request.airport.UpdateAirportRequest;
 
+import java.util.List;
+
 /**
  * Service interface for managing an airport in the system.
  */
@@ -35,6 +37,15 @@ public interface AirportService {
      */
     CustomPage<Airport> getAllAirports(final CustomPagingRequest customPagingRequest);
 
+    /**
+     * Suggests the airports whose name or city has a word starting with the query, best matches first.
+     *
+     * @param query the typed prefix.
+     * @param limit the maximum number of airports to return.
+     * @return at most {@code limit} airports.
+     */
+    List<Airport> suggestAirports(final String query, final int limit);
+
     /**
      * Updates an existing an airport by its ID.
      *
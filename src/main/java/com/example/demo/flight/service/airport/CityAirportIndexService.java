@@ -0,0 +1,23 @@
+package com.example.demo.flight.service.airport;
+
+import java.util.Set;
+
+/**
+ * Service interface for the in-memory index resolving a city to the IDs of its airports without querying the database.
+ */
+public interface CityAirportIndexService {
+
+    /**
+     * Finds the airports of a city; city names are matched ignoring case and surrounding blanks.
+     *
+     * @param cityName the name of the city.
+     * @return the IDs of the airports of the city, empty if no airport is in that city.
+     */
+    Set<String> findAirportIds(String cityName);
+
+    /**
+     * Rebuilds the index from the {@code airport-collection} after an airport joined or left a city.
+     */
+    void rebuild();
+
+}
@@ -0,0 +1,119 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.flight.model.Airport;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation suggesting airports from an in-memory {@link AirportPrefixIndex}.
+ * The index is loaded from the {@code airport-collection} once the application has started, or by the first lookup
+ * if that comes earlier; afterwards airport writes are applied from their events without reading the database,
+ * by building a new index from the airports held in memory and publishing it at once.
+ * Lookups only read the current index, so they never wait for a write and never query MongoDB.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AirportAutocompleteServiceImpl implements AirportAutocompleteService, ApplicationRunner {
+
+    private final AirportRepository airportRepository;
+
+    private final Map<String, AirportSnapshot> airports = new HashMap<>();
+
+    private volatile AirportPrefixIndex index;
+
+    /**
+     * Loads the index once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(final ApplicationArguments args) {
+        load();
+    }
+
+    /**
+     * Suggests the airports whose name or city has a word starting with the query, best matches first.
+     *
+     * @param query the typed prefix.
+     * @param limit the maximum number of airports to return.
+     * @return at most {@code limit} airports.
+     */
+    @Override
+    public List<Airport> suggest(final String query, final int limit) {
+
+        AirportPrefixIndex current = index;
+
+        if (current == null) {
+            current = load();
+        }
+
+        return current.suggest(query, limit).stream()
+                .map(AirportAutocompleteServiceImpl::toAirport)
+                .toList();
+
+    }
+
+    /**
+     * Applies an airport write to the index; writes arriving before the index is loaded are read by the load itself.
+     *
+     * @param previous the airport before the write, {@code null} if it was created.
+     * @param current the airport after the write, {@code null} if it was deleted.
+     */
+    @Override
+    public synchronized void update(final AirportSnapshot previous, final AirportSnapshot current) {
+
+        if (index == null) {
+            return;
+        }
+
+        if (previous != null) {
+            airports.remove(previous.getId());
+        }
+
+        if (current != null) {
+            airports.put(current.getId(), current);
+        }
+
+        index = new AirportPrefixIndex(airports.values());
+
+    }
+
+    private static Airport toAirport(final AirportSnapshot airport) {
+        return Airport.builder()
+                .id(airport.getId())
+                .name(airport.getName())
+                .cityName(airport.getCityName())
+                .build();
+    }
+
+    /**
+     * Loads every airport into the index unless it has been loaded already.
+     */
+    private synchronized AirportPrefixIndex load() {
+
+        if (index != null) {
+            return index;
+        }
+
+        airportRepository.findAll().forEach(airport -> airports.put(airport.getId(), AirportSnapshot.of(airport)));
+
+        index = new AirportPrefixIndex(airports.values());
+
+        log.debug("Airport autocomplete index loaded with {} airports", index.size());
+
+        return index;
+
+    }
+
+}
@@ -1,14 +1,17 @@
 package com.example.demo.flight.service.airport.impl;
 
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.model.Airport;
 import com.example.demo.flight.model.dto.request.airport.CreateAirportRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper;
 import com.example.demo.flight.model.mapper.airport.CreateAirportRequestToAirportEntityMapper;
 import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.service.airport.AirportCreateService;
 import com.example.demo.flight.utils.AirportUtilityClass;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,6 +23,8 @@ public class AirportCreateServiceImpl implements AirportCreateService {
 
     private final AirportRepository airportRepository;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     private final CreateAirportRequestToAirportEntityMapper createAirportRequestToAirportEntityMapper =
             CreateAirportRequestToAirportEntityMapper.initialize();
 
@@ -28,6 +33,7 @@ public class AirportCreateServiceImpl implements AirportCreateService {
 
     /**
      * Create a new airport to the database.
+     * Publishes an {@link AirportChangedEvent} so the airports of its city include it.
      *
      * @param createAirportRequest the request object containing the details of the CreateAirportRequest to be saved.
      * @return the saved {@link Airport} domain object.
@@ -41,6 +47,10 @@ public class AirportCreateServiceImpl implements AirportCreateService {
 
         AirportEntity savedAirportEntity = airportRepository.save(airportEntityToBeSaved);
 
+        applicationEventPublisher.publishEvent(
+                new AirportChangedEvent(null, AirportSnapshot.of(savedAirportEntity))
+        );
+
         return airportEntityToAirportMapper.map(savedAirportEntity);
 
     }
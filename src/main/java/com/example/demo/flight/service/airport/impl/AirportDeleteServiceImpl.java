@@ -1,10 +1,13 @@
 package com.example.demo.flight.service.airport.impl;
 
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.service.airport.AirportDeleteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,8 +19,11 @@ public class AirportDeleteServiceImpl implements AirportDeleteService {
 
     private final AirportRepository airportRepository;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     /**
      * Deletes an airport by its ID.
+     * Publishes an {@link AirportChangedEvent} so the airports of its city no longer include it.
      *
      * @param id the ID of the airport to be deleted.
      */
@@ -29,6 +35,10 @@ public class AirportDeleteServiceImpl implements AirportDeleteService {
 
         airportRepository.delete(airportEntityToBeDeleted);
 
+        applicationEventPublisher.publishEvent(
+                new AirportChangedEvent(AirportSnapshot.of(airportEntityToBeDeleted), null)
+        );
+
     }
 
 }
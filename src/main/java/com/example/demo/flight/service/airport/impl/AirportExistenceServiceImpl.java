@@ -0,0 +1,84 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.common.utils.IdExistenceFilter;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation holding the airport IDs in an {@link IdExistenceFilter} tagged {@code filter=airport}.
+ * Until the filter is first rebuilt no airport is ruled out.
+ */
+@Service
+public class AirportExistenceServiceImpl implements AirportExistenceService {
+
+    static final String FILTER_NAME = "airport";
+
+    private final AirportRepository airportRepository;
+
+    private final IdExistenceFilter filter;
+
+    /**
+     * Creates the airport ID filter from the flight search configuration.
+     *
+     * @param airportRepository the repository the airport IDs are read from.
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the filter metrics are exported to.
+     */
+    public AirportExistenceServiceImpl(final AirportRepository airportRepository,
+                                       final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                       final MeterRegistry meterRegistry) {
+        this.airportRepository = airportRepository;
+        this.filter = new IdExistenceFilter(
+                FILTER_NAME,
+                flightSearchConfigurationParameter.getIdFilterFalsePositiveRate(),
+                flightSearchConfigurationParameter.getIdFilterMissingTtl(),
+                flightSearchConfigurationParameter.getIdFilterMissingMaxEntries(),
+                meterRegistry);
+    }
+
+    /**
+     * Tells whether an airport definitely does not exist, from the filter or the recently missing IDs.
+     *
+     * @param airportId the ID of the airport.
+     * @return {@code true} if the airport does not exist, {@code false} if it may exist.
+     */
+    @Override
+    public boolean isDefinitelyMissing(final String airportId) {
+        return filter.isDefinitelyMissing(airportId);
+    }
+
+    /**
+     * Remembers that an airport the filter could not rule out was not found.
+     *
+     * @param airportId the ID of the airport that was not found.
+     */
+    @Override
+    public void recordMissing(final String airportId) {
+        filter.recordMissing(airportId);
+    }
+
+    /**
+     * Adds a created airport to the filter.
+     *
+     * @param airportId the ID of the created airport.
+     */
+    @Override
+    public void add(final String airportId) {
+        filter.add(airportId);
+    }
+
+    /**
+     * Rebuilds the filter from the IDs of every airport, read without the rest of the documents.
+     *
+     * @return the number of airports in the filter.
+     */
+    @Override
+    public long rebuild() {
+        return filter.rebuild(airportRepository.count(), airportRepository.streamAllIds().map(AirportEntity::getId));
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for loading the airports used by flights in batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class AirportLookupServiceImpl implements AirportLookupService {
+
+    static final String ROUND_TRIPS_METRIC = "flight.airport.round.trips";
+
+    private final AirportRepository airportRepository;
+    private final MeterRegistry meterRegistry;
+    private final AirportExistenceService airportExistenceService;
+
+    /**
+     * Loads the departure and arrival airports of a flight with a single query.
+     * An airport the {@link AirportExistenceService} rules out is reported as not found without being looked up.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the arrival airport.
+     * @param operation the name of the flight operation, used to tag the metric.
+     * @return the airports keyed by their IDs.
+     */
+    @Override
+    public Map<String, AirportEntity> getFlightAirports(final String fromAirportId,
+                                                        final String toAirportId,
+                                                        final String operation) {
+
+        // Both airports are read by the first lookup the filter does not rule out.
+        final SingletonSupplier<Map<String, AirportEntity>> airports =
+                SingletonSupplier.of(() -> findAllById(new HashSet<>(List.of(fromAirportId, toAirportId)), operation));
+
+        final Function<String, Optional<AirportEntity>> finder = id -> Optional.ofNullable(airports.obtain().get(id));
+
+        airportExistenceService.find(fromAirportId, finder).orElseThrow(() ->
+                new AirportNotFoundException("Departure airport not found with id " + fromAirportId));
+
+        airportExistenceService.find(toAirportId, finder).orElseThrow(() ->
+                new AirportNotFoundException("Arrival airport not found with id " + toAirportId));
+
+        return airports.obtain();
+
+    }
+
+    /**
+     * Completes the airport snapshots embedded in the given flights with a single query.
+     *
+     * @param flightEntities the flights to resolve.
+     * @param operation the name of the flight operation, used to tag the metric.
+     */
+    @Override
+    public void resolveAirportSnapshots(final List<FlightEntity> flightEntities, final String operation) {
+
+        final List<AirportSnapshot> incompleteSnapshots = flightEntities.stream()
+                .flatMap(flightEntity -> Stream.of(flightEntity.getFromAirport(), flightEntity.getToAirport()))
+                .filter(snapshot -> snapshot != null && snapshot.getId() != null && snapshot.getName() == null)
+                .toList();
+
+        if (incompleteSnapshots.isEmpty()) {
+            roundTrips(operation).record(0);
+            return;
+        }
+
+        final Set<String> airportIds = incompleteSnapshots.stream()
+                .map(AirportSnapshot::getId)
+                .collect(Collectors.toSet());
+
+        final Map<String, AirportEntity> airports = findAllById(airportIds, operation);
+
+        incompleteSnapshots.forEach(snapshot -> Optional.ofNullable(airports.get(snapshot.getId()))
+                .ifPresent(airport -> {
+                    snapshot.setName(airport.getName());
+                    snapshot.setCityName(airport.getCityName());
+                }));
+
+    }
+
+    private Map<String, AirportEntity> findAllById(final Set<String> airportIds, final String operation) {
+
+        roundTrips(operation).record(1);
+
+        return airportRepository.findAllById(airportIds).stream()
+                .collect(Collectors.toMap(AirportEntity::getId, Function.identity()));
+
+    }
+
+    private DistributionSummary roundTrips(final String operation) {
+        return DistributionSummary.builder(ROUND_TRIPS_METRIC)
+                .description("Round trips to the airport collection per flight request")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.flight.model.entity.AirportSnapshot;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable prefix index over the names and cities of airports, answering typeahead lookups from memory.
+ * Every word of a name or city starts a key running to the end of the name or city, and the keys are kept in one
+ * sorted array, so the airports matching a prefix are a contiguous run found by binary search; no lookup scans
+ * the airports that do not match.
+ * Keys are lower case without accents or punctuation, so {@code "sao p"} matches {@code "São Paulo"}; letters of any
+ * script are kept, and the Latin letters with no accent to strip are folded to their base letter, so {@code "lodz"}
+ * matches {@code "Łódź"}.
+ * Matches are ranked by where the prefix matched: the start of the name, then the start of the city, then another
+ * word of the name, then another word of the city; ties are broken by the shorter and then the alphabetically first
+ * name.
+ */
+final class AirportPrefixIndex {
+
+    static final AirportPrefixIndex EMPTY = new AirportPrefixIndex(List.of());
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
+
+    private static final int NAME_START = 0;
+    private static final int CITY_START = 1;
+    private static final int NAME_WORD = 2;
+    private static final int CITY_WORD = 3;
+
+    private final AirportSnapshot[] airports;
+    private final String[] keys;
+    private final int[] airportOfKey;
+    private final byte[] rankOfKey;
+
+    /**
+     * Builds the index of the given airports.
+     *
+     * @param airports the airports to index.
+     */
+    AirportPrefixIndex(final Collection<AirportSnapshot> airports) {
+
+        this.airports = airports.toArray(new AirportSnapshot[0]);
+
+        final List<Key> entries = new ArrayList<>();
+
+        for (int airport = 0; airport < this.airports.length; airport++) {
+            addKeys(entries, normalize(this.airports[airport].getName()), airport, NAME_START, NAME_WORD);
+            addKeys(entries, normalize(this.airports[airport].getCityName()), airport, CITY_START, CITY_WORD);
+        }
+
+        entries.sort(Comparator.comparing(Key::text));
+
+        this.keys = new String[entries.size()];
+        this.airportOfKey = new int[entries.size()];
+        this.rankOfKey = new byte[entries.size()];
+
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = entries.get(index).text();
+            airportOfKey[index] = entries.get(index).airport();
+            rankOfKey[index] = (byte) entries.get(index).rank();
+        }
+
+    }
+
+    /**
+     * Returns the best ranked airports whose name or city has a word starting with the query.
+     *
+     * @param query the typed prefix.
+     * @param limit the maximum number of airports to return.
+     * @return at most {@code limit} airports, best first.
+     */
+    List<AirportSnapshot> suggest(final String query, final int limit) {
+
+        final String prefix = normalize(query);
+
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        final Map<Integer, Integer> bestRanks = new HashMap<>();
+
+        for (int index = firstAtOrAfter(prefix); index < keys.length && keys[index].startsWith(prefix); index++) {
+            bestRanks.merge(airportOfKey[index], (int) rankOfKey[index], Math::min);
+        }
+
+        return bestRanks.entrySet().stream()
+                .sorted(Comparator.comparingInt(Map.Entry<Integer, Integer>::getValue)
+                        .thenComparingInt(match -> length(airports[match.getKey()].getName()))
+                        .thenComparing(match -> normalize(airports[match.getKey()].getName()))
+                        .thenComparing(match -> airports[match.getKey()].getId()))
+                .limit(limit)
+                .map(match -> airports[match.getKey()])
+                .toList();
+
+    }
+
+    /**
+     * Returns the number of indexed airports.
+     *
+     * @return the number of airports.
+     */
+    int size() {
+        return airports.length;
+    }
+
+    /**
+     * Normalizes a name for matching: lower case, without accents, with {@code ı}, {@code ł}, {@code ø} and
+     * {@code đ} folded to their base letter and words separated by single blanks.
+     *
+     * @param text the text to normalize.
+     * @return the normalized text, empty if {@code text} is {@code null} or has no letter or digit.
+     */
+    static String normalize(final String text) {
+
+        if (text == null) {
+            return "";
+        }
+
+        final String withoutAccents = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+
+        return SEPARATORS.matcher(fold(withoutAccents.toLowerCase(Locale.ROOT))).replaceAll(" ").trim();
+
+    }
+
+    private static String fold(final String text) {
+
+        final char[] folded = text.toCharArray();
+
+        for (int index = 0; index < folded.length; index++) {
+            folded[index] = switch (folded[index]) {
+                case 'ı' -> 'i';
+                case 'ł' -> 'l';
+                case 'ø' -> 'o';
+                case 'đ' -> 'd';
+                default -> folded[index];
+            };
+        }
+
+        return new String(folded);
+
+    }
+
+    private static void addKeys(final List<Key> entries,
+                                final String text,
+                                final int airport,
+                                final int startRank,
+                                final int wordRank) {
+
+        if (text.isEmpty()) {
+            return;
+        }
+
+        entries.add(new Key(text, airport, startRank));
+
+        for (int blank = text.indexOf(' '); blank >= 0; blank = text.indexOf(' ', blank + 1)) {
+            entries.add(new Key(text.substring(blank + 1), airport, wordRank));
+        }
+
+    }
+
+    private int firstAtOrAfter(final String prefix) {
+
+        int low = 0;
+        int high = keys.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+
+    }
+
+    private static int length(final String name) {
+        return name == null ? 0 : name.length();
+    }
+
+    private record Key(String text, int airport, int rank) {
+    }
+
+}
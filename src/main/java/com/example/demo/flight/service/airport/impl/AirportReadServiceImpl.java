@@ -8,6 +8,7 @@ import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper;
 import com.example.demo.flight.model.mapper.airport.ListAirportEntityToListAirportMapper;
 import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
 import com.example.demo.flight.service.airport.AirportReadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,6 +24,7 @@ import java.util.List;
 public class AirportReadServiceImpl implements AirportReadService {
 
     private final AirportRepository airportRepository;
+    private final AirportExistenceService airportExistenceService;
 
     private final AirportEntityToAirportMapper airportEntityToAirportMapper =
             AirportEntityToAirportMapper.initialize();
@@ -32,6 +34,7 @@ public class AirportReadServiceImpl implements AirportReadService {
 
     /**
      * Retrieves an airport by its ID.
+     * IDs the {@link AirportExistenceService} rules out are reported as not found without a query.
      *
      * @param id the ID of the task to be retrieved.
      * @return the {@link Airport} entity with the specified ID.
@@ -39,7 +42,7 @@ public class AirportReadServiceImpl implements AirportReadService {
     @Override
     public Airport getAirportById(String id) {
 
-        AirportEntity airportEntityFromDb = airportRepository.findById(id)
+        AirportEntity airportEntityFromDb = airportExistenceService.find(id, airportRepository::findById)
                 .orElseThrow(()->new AirportNotFoundException("Airport given id cant found"));
 
         return airportEntityToAirportMapper.map(airportEntityFromDb);
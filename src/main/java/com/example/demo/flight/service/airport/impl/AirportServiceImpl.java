@@ -9,6 +9,8 @@ import com.example.demo.flight.service.airport.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Service implementation for managing an airport in the system.
  */
@@ -20,6 +22,7 @@ public class AirportServiceImpl implements AirportService {
     private final AirportReadService airportReadService;
     private final AirportUpdateService airportUpdateService;
     private final AirportDeleteService airportDeleteService;
+    private final AirportAutocompleteService airportAutocompleteService;
 
     /**
      * Create a new airport to the database.
@@ -54,6 +57,18 @@ public class AirportServiceImpl implements AirportService {
         return airportReadService.getAllAirports(customPagingRequest);
     }
 
+    /**
+     * Suggests the airports whose name or city has a word starting with the query, best matches first.
+     *
+     * @param query the typed prefix.
+     * @param limit the maximum number of airports to return.
+     * @return at most {@code limit} airports.
+     */
+    @Override
+    public List<Airport> suggestAirports(String query, int limit) {
+        return airportAutocompleteService.suggest(query, limit);
+    }
+
     /**
      * Updates an existing an airport by its ID.
      *
@@ -1,15 +1,18 @@
 package com.example.demo.flight.service.airport.impl;
 
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.model.Airport;
 import com.example.demo.flight.model.dto.request.airport.UpdateAirportRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper;
 import com.example.demo.flight.model.mapper.airport.UpdateAirportRequestToAirportEntityMapper;
 import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.service.airport.AirportUpdateService;
 import com.example.demo.flight.utils.AirportUtilityClass;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -21,6 +24,8 @@ public class AirportUpdateServiceImpl implements AirportUpdateService {
 
     private final AirportRepository airportRepository;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     private final UpdateAirportRequestToAirportEntityMapper updateAirportRequestToAirportEntityMapper =
             UpdateAirportRequestToAirportEntityMapper.initialize();
 
@@ -29,6 +34,7 @@ public class AirportUpdateServiceImpl implements AirportUpdateService {
 
     /**
      * Updates an existing an airport by its ID.
+     * Publishes an {@link AirportChangedEvent} so the airport copies embedded in flights are refreshed.
      *
      * @param id the ID of the airport to be updated.
      * @param updateAirportRequest the request object containing the updated details of the airport.
@@ -42,10 +48,16 @@ public class AirportUpdateServiceImpl implements AirportUpdateService {
         AirportEntity airportEntity = airportRepository.findById(id)
                 .orElseThrow(()->new AirportNotFoundException("Airport given id cant found" + id));
 
+        final AirportSnapshot previous = AirportSnapshot.of(airportEntity);
+
         updateAirportRequestToAirportEntityMapper.updateAirportMapper(airportEntity,updateAirportRequest);
 
         AirportEntity updatedAirportEntity = airportRepository.save(airportEntity);
 
+        applicationEventPublisher.publishEvent(
+                new AirportChangedEvent(previous, AirportSnapshot.of(updatedAirportEntity))
+        );
+
         return airportEntityToAirportMapper.map(updatedAirportEntity);
 
     }
@@ -0,0 +1,88 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.CityAirportIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation keeping the airport IDs of every city in memory.
+ * The index is built once the application has started, or by the first lookup if that comes earlier, and is
+ * rebuilt from a single read of the {@code airport-collection} whenever an airport is created, deleted or moved
+ * to another city. Airports change rarely and are few, so a whole rebuild stays cheap while lookups never block:
+ * readers always see one complete, immutable snapshot of the index.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CityAirportIndexServiceImpl implements CityAirportIndexService, ApplicationRunner {
+
+    private final AirportRepository airportRepository;
+
+    private volatile Map<String, Set<String>> airportIdsByCity;
+
+    /**
+     * Builds the index once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (airportIdsByCity == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Finds the airports of a city in the index, building the index first if it has not been built yet.
+     *
+     * @param cityName the name of the city.
+     * @return the IDs of the airports of the city, empty if no airport is in that city.
+     */
+    @Override
+    public Set<String> findAirportIds(final String cityName) {
+
+        Map<String, Set<String>> index = airportIdsByCity;
+
+        if (index == null) {
+            rebuild();
+            index = airportIdsByCity;
+        }
+
+        return cityName == null ? Set.of() : index.getOrDefault(normalize(cityName), Set.of());
+
+    }
+
+    /**
+     * Rebuilds the index from every airport and replaces the previous one at once.
+     * Rebuilds run one at a time, so a rebuild triggered by a write always reads the airports after that write.
+     */
+    @Override
+    public synchronized void rebuild() {
+
+        final Map<String, Set<String>> index = airportRepository.findAll().stream()
+                .filter(airport -> airport.getCityName() != null && !airport.getCityName().isBlank())
+                .collect(Collectors.groupingBy(
+                        airport -> normalize(airport.getCityName()),
+                        Collectors.mapping(AirportEntity::getId, Collectors.toUnmodifiableSet())));
+
+        airportIdsByCity = Map.copyOf(index);
+
+        log.debug("City airport index rebuilt with {} cities", index.size());
+
+    }
+
+    private static String normalize(final String cityName) {
+        return cityName.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
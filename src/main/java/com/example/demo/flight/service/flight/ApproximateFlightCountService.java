@@ -0,0 +1,29 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+
+import java.util.Optional;
+
+/**
+ * Service interface for serving approximate flight counts per route and day without querying on the request path.
+ */
+public interface ApproximateFlightCountService {
+
+    /**
+     * Returns the last known number of flights matching the criteria.
+     * A missing or expired count is refreshed in the background, so the caller never waits for a count query.
+     *
+     * @param criteria the route and departure day to count flights for.
+     * @return the approximate count, or {@link Optional#empty()} if it is not known yet.
+     */
+    Optional<Long> getApproximateCount(FlightSearchCriteria criteria);
+
+    /**
+     * Drops the count of the given route and day, so the next request recomputes it.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    void invalidate(FlightRouteDay routeDay);
+
+}
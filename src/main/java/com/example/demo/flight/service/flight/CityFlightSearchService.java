@@ -0,0 +1,20 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
+
+/**
+ * Service interface for searching flights between cities or groups of airports.
+ */
+public interface CityFlightSearchService {
+
+    /**
+     * Searches for flights between every airport of the departure side and every airport of the destination side.
+     *
+     * @param request the search criteria including the cities or airports of both sides, departure, and optional return times.
+     * @return a {@link CustomPage} of {@link Flight} with the merged flights of all airport pairs and pagination details.
+     */
+    CustomPage<Flight> searchFlights(CitySearchFlightRequest request);
+
+}
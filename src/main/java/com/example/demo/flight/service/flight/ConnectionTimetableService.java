@@ -0,0 +1,28 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.timetable.ConnectionTimetable;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for providing the in-memory timetables used by itinerary searches.
+ */
+public interface ConnectionTimetableService {
+
+    /**
+     * Returns the timetable of the flights departing on the given day or the day after,
+     * which covers every itinerary starting on that day.
+     *
+     * @param departureDate the first departure day of the timetable.
+     * @return the {@link ConnectionTimetable} of the two days.
+     */
+    ConnectionTimetable getTimetable(LocalDate departureDate);
+
+    /**
+     * Drops every cached timetable containing flights departing on the given day.
+     *
+     * @param departureDate the changed departure day.
+     */
+    void invalidate(LocalDate departureDate);
+
+}
@@ -0,0 +1,38 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.timetable.FlightRange;
+
+import java.util.Optional;
+
+/**
+ * Service interface for the in-memory index answering direct flight searches without querying the database.
+ */
+public interface DirectFlightIndexService {
+
+    /**
+     * Finds the flights of a direct search in the index.
+     * A miss schedules the load of the departure day in the background if it falls within the indexed window.
+     *
+     * @param criteria the route and departure range to search for.
+     * @return the matching {@link FlightRange}, or an empty {@link Optional} if the search must go to the database.
+     */
+    Optional<FlightRange> find(FlightSearchCriteria criteria);
+
+    /**
+     * Reloads a route/day from the database after one of its flights changed.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    void refresh(FlightRouteDay routeDay);
+
+    /**
+     * Updates the copy of an airport the indexed flights are rendered with.
+     *
+     * @param airport the current state of the airport.
+     */
+    void updateAirport(AirportSnapshot airport);
+
+}
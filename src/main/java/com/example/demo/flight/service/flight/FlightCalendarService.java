@@ -0,0 +1,29 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.dto.request.flight.FlightCalendarRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for route price calendars.
+ */
+public interface FlightCalendarService {
+
+    /**
+     * Returns the cheapest price and number of flights of a route for every day around the departure day.
+     *
+     * @param request the route, departure day and number of flexible days.
+     * @return one {@link FlightCalendarDay} per day of the window, ordered by date.
+     */
+    List<FlightCalendarDay> getCalendar(FlightCalendarRequest request);
+
+    /**
+     * Drops every cached calendar of the route whose window contains the given day.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    void invalidate(FlightRouteDay routeDay);
+
+}
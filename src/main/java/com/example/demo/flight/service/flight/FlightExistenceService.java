@@ -0,0 +1,67 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Service interface for the in-memory filter telling that a flight ID does not exist without querying the database.
+ * The filter never rules out a flight that was created through the application; IDs it cannot rule out are
+ * looked up as usual.
+ */
+public interface FlightExistenceService {
+
+    /**
+     * Tells whether a flight definitely does not exist.
+     *
+     * @param flightId the ID of the flight.
+     * @return {@code true} if the flight does not exist, {@code false} if it may exist.
+     */
+    boolean isDefinitelyMissing(String flightId);
+
+    /**
+     * Remembers for a short time that a flight the filter could not rule out was not found.
+     *
+     * @param flightId the ID of the flight that was not found.
+     */
+    void recordMissing(String flightId);
+
+    /**
+     * Reads a flight unless the filter rules it out, remembering an ID the filter passed but the read missed.
+     *
+     * @param flightId the ID of the flight.
+     * @param finder reads the flight from the database, e.g. {@code repository::findById}.
+     * @return the flight, or an empty {@link Optional} if it does not exist.
+     */
+    default Optional<FlightEntity> find(final String flightId, final Function<String, Optional<FlightEntity>> finder) {
+
+        if (isDefinitelyMissing(flightId)) {
+            return Optional.empty();
+        }
+
+        final Optional<FlightEntity> flightEntity = finder.apply(flightId);
+
+        if (flightEntity.isEmpty()) {
+            recordMissing(flightId);
+        }
+
+        return flightEntity;
+
+    }
+
+    /**
+     * Adds a created flight to the filter.
+     *
+     * @param flightId the ID of the created flight.
+     */
+    void add(String flightId);
+
+    /**
+     * Rebuilds the filter from the IDs in the {@code flight-collection}, dropping deleted flights.
+     *
+     * @return the number of flights in the filter.
+     */
+    long rebuild();
+
+}
@@ -0,0 +1,89 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for maintaining and reading the per route/day flight summaries
+ * (flight count, price range and departure range of a route on one day).
+ */
+public interface FlightRouteDaySummaryService {
+
+    /**
+     * Adds a created flight to the summary of its route/day.
+     *
+     * @param flight the saved flight.
+     */
+    void recordCreated(FlightEntity flight);
+
+    /**
+     * Moves an updated flight from the summary of its previous state to the summary of its current state.
+     *
+     * @param previous the flight as it was stored before the update.
+     * @param current the saved flight.
+     */
+    void recordUpdated(FlightEntity previous, FlightEntity current);
+
+    /**
+     * Removes a deleted flight from the summary of its route/day.
+     *
+     * @param flight the flight as it was stored before the deletion.
+     */
+    void recordDeleted(FlightEntity flight);
+
+    /**
+     * Returns the number of flights of a route/day.
+     *
+     * @param routeDay the route and departure day.
+     * @return the flight count, {@code 0} if the route/day has no flights.
+     */
+    long countFlights(FlightRouteDay routeDay);
+
+    /**
+     * Checks whether a route/day has any flight.
+     *
+     * @param routeDay the route and departure day.
+     * @return {@code true} if at least one flight departs on the route that day.
+     */
+    boolean hasFlights(FlightRouteDay routeDay);
+
+    /**
+     * Returns the summaries of a route for a range of departure days.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the days that have flights.
+     */
+    List<FlightRouteDaySummaryEntity> getSummaries(String fromAirportId, String toAirportId,
+                                                   LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Recomputes every summary from the flights and deletes the summaries of route/days without flights.
+     *
+     * @return the number of summaries written.
+     */
+    long rebuild();
+
+    /**
+     * Recomputes every summary if none exists yet, e.g. on the first start with existing flights.
+     *
+     * @return the number of summaries written, {@code 0} if the summaries already exist.
+     */
+    long rebuildIfEmpty();
+
+    /**
+     * Compares the summaries of a range of departure days with the flights and repairs the ones that differ.
+     *
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the route/days whose summary was wrong.
+     */
+    List<FlightRouteDay> checkConsistency(LocalDate firstDay, LocalDate lastDay);
+
+}
@@ -0,0 +1,32 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCacheKey;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for caching flight search results in memory.
+ */
+public interface FlightSearchCacheService {
+
+    /**
+     * Returns the cached result of a search, loading and caching it on a miss.
+     * Concurrent misses for the same search share one load.
+     *
+     * @param key the normalized search.
+     * @param loader runs the search when the result is not cached.
+     * @return the {@link CustomPage} of {@link Flight} for the search.
+     */
+    CustomPage<Flight> get(FlightSearchCacheKey key, Supplier<CustomPage<Flight>> loader);
+
+    /**
+     * Drops every cached result that may contain flights of the given route and day.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    void invalidate(FlightRouteDay routeDay);
+
+}
@@ -0,0 +1,32 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for streaming flights to a consumer batch by batch instead of building a page in memory.
+ */
+public interface FlightStreamService {
+
+    /**
+     * Streams every flight matching the search, the outbound leg first and then the optional return leg.
+     * The pagination of the request is ignored; the sort and the filters are applied.
+     *
+     * @param request the search criteria.
+     * @param consumer receives the flights one batch at a time, in order.
+     * @return the number of streamed flights.
+     */
+    long streamSearch(SearchFlightRequest request, Consumer<List<Flight>> consumer);
+
+    /**
+     * Streams every flight ordered by departure time.
+     *
+     * @param consumer receives the flights one batch at a time, in order.
+     * @return the number of streamed flights.
+     */
+    long streamAll(Consumer<List<Flight>> consumer);
+
+}
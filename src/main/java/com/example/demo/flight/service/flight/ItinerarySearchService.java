@@ -0,0 +1,21 @@
+package com.example.demo.flight.service.flight;
+
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.dto.request.flight.ItinerarySearchRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for itinerary search operations.
+ */
+public interface ItinerarySearchService {
+
+    /**
+     * Searches for direct and connecting itineraries between two airports.
+     *
+     * @param request the search criteria including airport IDs, departure day and maximum number of stops.
+     * @return the Pareto-optimal {@link Itinerary} list by arrival time, price and number of flights.
+     */
+    List<Itinerary> searchItineraries(ItinerarySearchRequest request);
+
+}
@@ -1,9 +1,14 @@
 package com.example.demo.flight.service.flight;
 
 import com.example.demo.common.model.CustomPage;
+import com.example.demo.flight.model.BatchSearchResult;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
 
+import java.util.List;
+
 /**
  * Service interface for search operations.
  */
@@ -17,4 +22,21 @@ public interface SearchFlightService {
      */
     CustomPage<Flight> searchFlights(SearchFlightRequest request);
 
+    /**
+     * Runs several flight searches at once; a search that fails does not fail the others.
+     *
+     * @param requests the search criteria of every search.
+     * @return the outcome of every search, in the order of the requests.
+     */
+    List<BatchSearchResult> searchFlightsBatch(List<SearchFlightRequest> requests);
+
+    /**
+     * Searches for round trips combining the outbound flights of the departure day with the return flights
+     * of the return day, ranked by total price or total flight time.
+     *
+     * @param request the search criteria including airport IDs, departure and return days, and the ranking.
+     * @return a {@link CustomPage} of {@link RoundTrip} with the requested page of combinations and their total.
+     */
+    CustomPage<RoundTrip> searchRoundTrips(RoundTripSearchRequest request);
+
 }
@@ -0,0 +1,140 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.service.flight.ApproximateFlightCountService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service implementation keeping the flight count of each route and day in memory.
+ * Counts are served until their TTL expires and are then recomputed on a virtual thread while the stale value
+ * is still served, so at most one summary read per route/day runs at a time and never on the request path.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApproximateFlightCountServiceImpl implements ApproximateFlightCountService {
+
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<FlightSearchCriteria, CachedCount> counts = new ConcurrentHashMap<>();
+
+    private final Set<FlightSearchCriteria> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns the last known number of flights matching the criteria and schedules a refresh if it is missing or expired.
+     *
+     * @param criteria the route and departure day to count flights for.
+     * @return the approximate count, or {@link Optional#empty()} if it is not known yet or approximate counts are disabled.
+     */
+    @Override
+    public Optional<Long> getApproximateCount(final FlightSearchCriteria criteria) {
+
+        if (flightSearchConfigurationParameter.getApproximateCountTtl().isZero()) {
+            return Optional.empty();
+        }
+
+        final CachedCount cached = counts.get(criteria);
+
+        if (cached == null || cached.isExpired(System.nanoTime())) {
+            scheduleRefresh(criteria);
+        }
+
+        return Optional.ofNullable(cached).map(CachedCount::count);
+
+    }
+
+    /**
+     * Drops the count of the given route and day, so the next request recomputes it.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    @Override
+    public void invalidate(final FlightRouteDay routeDay) {
+
+        counts.keySet().removeIf(criteria -> routeDay.fromAirportId().equals(criteria.fromAirportId())
+                && routeDay.toAirportId().equals(criteria.toAirportId())
+                && routeDay.departureDate().equals(criteria.departureStart().toLocalDate()));
+
+    }
+
+    /**
+     * Stops the refresh threads when the application shuts down, interrupting the refreshes still running.
+     */
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Reads the flight count of the route/day from its summary and stores the result.
+     * When the cache is full, expired counts are dropped first; if it is still full, the result is not stored.
+     *
+     * @param criteria the route and departure day to count flights for.
+     */
+    void refresh(final FlightSearchCriteria criteria) {
+
+        final long count = flightRouteDaySummaryService.countFlights(new FlightRouteDay(
+                criteria.fromAirportId(),
+                criteria.toAirportId(),
+                criteria.departureStart().toLocalDate()
+        ));
+
+        final long now = System.nanoTime();
+
+        if (!counts.containsKey(criteria) && counts.size() >= flightSearchConfigurationParameter.getApproximateCountMaxEntries()) {
+            counts.values().removeIf(cachedCount -> cachedCount.isExpired(now));
+            if (counts.size() >= flightSearchConfigurationParameter.getApproximateCountMaxEntries()) {
+                return;
+            }
+        }
+
+        counts.put(criteria, new CachedCount(count, now + flightSearchConfigurationParameter.getApproximateCountTtl().toNanos()));
+
+    }
+
+    private void scheduleRefresh(final FlightSearchCriteria criteria) {
+
+        if (!refreshing.add(criteria)) {
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                refresh(criteria);
+            } catch (RuntimeException exception) {
+                log.warn("Could not refresh the approximate flight count of {}", criteria, exception);
+            } finally {
+                refreshing.remove(criteria);
+            }
+        });
+
+    }
+
+    /**
+     * A cached count and the {@link System#nanoTime()} after which it must be refreshed.
+     */
+    private record CachedCount(long count, long expiresAtNanos) {
+
+        boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.timetable.FlightRange;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The flights of the route/days shared by the searches of a batch.
+ * Searches in departure order without filters whose legs use the same route more than once in the batch, and that
+ * the in-memory index cannot answer, read all of the route's days with a single query instead of one query per leg.
+ * A route is only shared by searches whose every leg is either indexed or on a shared route, since a search with
+ * one leg to query would query all of its legs anyway.
+ * The query of a route runs the first time a search of the batch needs it, and only if the route/day summaries
+ * show that it reads at most {@code flight.search.batch.merge-max-flights} flights; otherwise lookups report a miss
+ * and each search queries its own page.
+ * Instances live for one batch, so the flights read are never older than the batch.
+ */
+final class BatchRouteFlights {
+
+    private final Map<FlightRouteDay, SharedRoute> routeDays;
+
+    private BatchRouteFlights(final Map<FlightRouteDay, SharedRoute> routeDays) {
+        this.routeDays = routeDays;
+    }
+
+    /**
+     * Finds the routes shared by the searches of a batch.
+     *
+     * @param requests the searches of the batch.
+     * @param searchFlightRepository the repository reading the flights of a shared route.
+     * @param directFlightIndexService the index whose route/days need no query.
+     * @param flightRouteDaySummaryService the summaries bounding the size of a shared query.
+     * @param maxFlights the largest number of flights a shared query may read.
+     * @return the shared routes of the batch.
+     */
+    static BatchRouteFlights plan(final List<SearchFlightRequest> requests,
+                                  final SearchFlightRepository searchFlightRepository,
+                                  final DirectFlightIndexService directFlightIndexService,
+                                  final FlightRouteDaySummaryService flightRouteDaySummaryService,
+                                  final int maxFlights) {
+
+        final Map<FlightRouteDay, Boolean> indexed = new HashMap<>();
+        List<List<FlightRouteDay>> searches = new ArrayList<>();
+
+        for (SearchFlightRequest request : requests) {
+
+            if (request.getSortBy() != FlightSort.DEPARTURE || request.hasFilters()) {
+                continue;
+            }
+
+            final List<FlightRouteDay> unindexedLegs = new ArrayList<>();
+
+            for (FlightRouteDay leg : legs(request)) {
+                if (!indexed.computeIfAbsent(leg, routeDay ->
+                        directFlightIndexService.find(dayCriteria(routeDay)).isPresent())) {
+                    unindexedLegs.add(leg);
+                }
+            }
+
+            if (!unindexedLegs.isEmpty()) {
+                searches.add(unindexedLegs);
+            }
+
+        }
+
+        // A search with a leg on a route no other search shares still queries that leg on its own, so its other legs
+        // are left out of the merge; leaving them out may in turn leave other routes unshared.
+        Map<FlightRouteDay, Integer> legs = countLegs(searches);
+        List<List<FlightRouteDay>> served = served(searches, legs);
+
+        while (served.size() < searches.size()) {
+            searches = served;
+            legs = countLegs(searches);
+            served = served(searches, legs);
+        }
+
+        final Map<List<String>, Set<FlightRouteDay>> routes = legs.keySet().stream()
+                .collect(Collectors.groupingBy(BatchRouteFlights::route, Collectors.toSet()));
+
+        final Map<FlightRouteDay, SharedRoute> routeDays = new HashMap<>();
+
+        routes.forEach((route, days) -> {
+
+            final SharedRoute sharedRoute = new SharedRoute(
+                    route.get(0),
+                    route.get(1),
+                    days.stream().map(FlightRouteDay::departureDate).collect(Collectors.toCollection(TreeSet::new)),
+                    searchFlightRepository,
+                    flightRouteDaySummaryService,
+                    maxFlights);
+
+            days.forEach(routeDay -> routeDays.put(routeDay, sharedRoute));
+
+        });
+
+        return new BatchRouteFlights(routeDays);
+
+    }
+
+    /**
+     * Returns the shared routes of a search outside of a batch, which shares no route.
+     *
+     * @return shared routes serving no leg.
+     */
+    static BatchRouteFlights none() {
+        return new BatchRouteFlights(Map.of());
+    }
+
+    /**
+     * Tells whether a search leg belongs to a shared route, without reading its flights.
+     *
+     * @param criteria the criteria of the leg.
+     * @return {@code true} if {@link #find(FlightSearchCriteria)} may answer the leg, otherwise {@code false}.
+     */
+    boolean serves(final FlightSearchCriteria criteria) {
+        return sharedRoute(criteria) != null;
+    }
+
+    /**
+     * Finds the flights of a search leg if they belong to a shared route, reading the route the first time one of its
+     * legs is looked up.
+     *
+     * @param criteria the criteria of the leg.
+     * @return the flights of the leg, or an empty {@link Optional} if the leg is not shared, not a whole day,
+     * or its route is too large to be read at once.
+     */
+    Optional<FlightRange> find(final FlightSearchCriteria criteria) {
+
+        final SharedRoute sharedRoute = sharedRoute(criteria);
+
+        return sharedRoute == null ? Optional.empty() : sharedRoute.find(criteria.departureStart().toLocalDate());
+
+    }
+
+    private SharedRoute sharedRoute(final FlightSearchCriteria criteria) {
+
+        if (criteria.hasFlightFilters() || criteria.departureStart() == null || criteria.departureEnd() == null) {
+            return null;
+        }
+
+        final LocalDate day = criteria.departureStart().toLocalDate();
+
+        if (!criteria.departureStart().equals(dayStart(day)) || !criteria.departureEnd().equals(dayEnd(day))) {
+            return null;
+        }
+
+        return routeDays.get(new FlightRouteDay(criteria.fromAirportId(), criteria.toAirportId(), day));
+
+    }
+
+    private static List<FlightRouteDay> legs(final SearchFlightRequest request) {
+
+        final FlightRouteDay outbound = new FlightRouteDay(request.getFromAirportId(), request.getToAirportId(),
+                request.getDepartureTime().toLocalDate());
+
+        if (request.getArrivalTime() == null) {
+            return List.of(outbound);
+        }
+
+        return List.of(outbound, new FlightRouteDay(request.getToAirportId(), request.getFromAirportId(),
+                request.getArrivalTime().toLocalDate()));
+
+    }
+
+    private static Map<FlightRouteDay, Integer> countLegs(final List<List<FlightRouteDay>> searches) {
+
+        final Map<FlightRouteDay, Integer> legs = new HashMap<>();
+
+        searches.forEach(search -> search.forEach(leg -> legs.merge(leg, 1, Integer::sum)));
+
+        return legs;
+
+    }
+
+    /**
+     * Returns the routes used by more than one leg.
+     */
+    private static Set<List<String>> sharedRoutes(final Map<FlightRouteDay, Integer> legs) {
+        return legs.entrySet().stream()
+                .collect(Collectors.groupingBy(leg -> route(leg.getKey()), Collectors.summingInt(Map.Entry::getValue)))
+                .entrySet().stream()
+                .filter(route -> route.getValue() >= 2)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the searches whose every leg is on a route used by more than one leg.
+     */
+    private static List<List<FlightRouteDay>> served(final List<List<FlightRouteDay>> searches,
+                                                     final Map<FlightRouteDay, Integer> legs) {
+
+        final Set<List<String>> sharedRoutes = sharedRoutes(legs);
+
+        return searches.stream()
+                .filter(search -> search.stream().allMatch(leg -> sharedRoutes.contains(route(leg))))
+                .toList();
+
+    }
+
+    private static List<String> route(final FlightRouteDay routeDay) {
+        return List.of(routeDay.fromAirportId(), routeDay.toAirportId());
+    }
+
+    private static FlightSearchCriteria dayCriteria(final FlightRouteDay routeDay) {
+        return new FlightSearchCriteria(routeDay.fromAirportId(), routeDay.toAirportId(),
+                dayStart(routeDay.departureDate()), dayEnd(routeDay.departureDate()));
+    }
+
+    private static LocalDateTime dayStart(final LocalDate day) {
+        return day.atStartOfDay();
+    }
+
+    private static LocalDateTime dayEnd(final LocalDate day) {
+        return day.plusDays(1).atStartOfDay().minusNanos(1);
+    }
+
+    /**
+     * The days of one route read by a single query, loaded once by the first search that needs them.
+     */
+    private static final class SharedRoute {
+
+        private final String fromAirportId;
+        private final String toAirportId;
+        private final Set<LocalDate> days;
+        private final SearchFlightRepository searchFlightRepository;
+        private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+        private final int maxFlights;
+
+        private Map<LocalDate, FlightRange> ranges;
+
+        private SharedRoute(final String fromAirportId,
+                            final String toAirportId,
+                            final Set<LocalDate> days,
+                            final SearchFlightRepository searchFlightRepository,
+                            final FlightRouteDaySummaryService flightRouteDaySummaryService,
+                            final int maxFlights) {
+            this.fromAirportId = fromAirportId;
+            this.toAirportId = toAirportId;
+            this.days = days;
+            this.searchFlightRepository = searchFlightRepository;
+            this.flightRouteDaySummaryService = flightRouteDaySummaryService;
+            this.maxFlights = maxFlights;
+        }
+
+        private synchronized Optional<FlightRange> find(final LocalDate day) {
+
+            if (ranges == null) {
+                ranges = load();
+            }
+
+            return ranges.isEmpty() && !days.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(ranges.getOrDefault(day, FlightRange.of(List.of())));
+
+        }
+
+        /**
+         * Reads the flights of every day of the route, or returns no day at all if they are too many.
+         */
+        private Map<LocalDate, FlightRange> load() {
+
+            long flightCount = 0;
+
+            for (LocalDate day : days) {
+                flightCount += flightRouteDaySummaryService.countFlights(new FlightRouteDay(fromAirportId, toAirportId, day));
+                if (flightCount > maxFlights) {
+                    return Map.of();
+                }
+            }
+
+            final Map<LocalDate, List<FlightEntity>> flightsByDay = searchFlightRepository
+                    .findRouteFlightsOnDays(fromAirportId, toAirportId, days)
+                    .stream()
+                    .collect(Collectors.groupingBy(flight -> flight.getDepartureTime().toLocalDate()));
+
+            final Map<LocalDate, FlightRange> loaded = new HashMap<>();
+
+            for (LocalDate day : days) {
+                loaded.put(day, FlightRange.of(flightsByDay.getOrDefault(day, List.of())));
+            }
+
+            return loaded;
+
+        }
+
+    }
+
+}
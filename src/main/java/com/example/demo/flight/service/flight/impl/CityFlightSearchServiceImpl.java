@@ -0,0 +1,142 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.utils.DeadlineScope;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.exception.FlightSearchTimeoutException;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.airport.CityAirportIndexService;
+import com.example.demo.flight.service.flight.CityFlightSearchService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service implementation for searching flights between cities or groups of airports.
+ * Cities are resolved to their airports from the in-memory {@link CityAirportIndexService}, and each leg is read
+ * with one {@code $in} query over every airport pair, merged and ordered by MongoDB, instead of one search per pair.
+ * The outbound page, its count and the optional return page run concurrently under the search deadline.
+ */
+@Service
+@RequiredArgsConstructor
+public class CityFlightSearchServiceImpl implements CityFlightSearchService {
+
+    private final SearchFlightRepository searchFlightRepository;
+    private final CityAirportIndexService cityAirportIndexService;
+    private final AirportLookupService airportLookupService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ListFlightEntityToListFlightMapper listFlightEntityToListFlightMapper =
+            ListFlightEntityToListFlightMapper.initialize();
+
+    /**
+     * Searches for flights between the airports of both sides and returns a paginated result.
+     * Only the outbound leg drives the pagination details, like a single search in page mode.
+     *
+     * @param request the search criteria including the cities or airports of both sides, departure, and optional return times.
+     * @return a {@link CustomPage} of {@link Flight} with the merged flights of all airport pairs and pagination details.
+     * @throws AirportNotFoundException if a city has no airport.
+     * @throws FlightSearchTimeoutException if the queries do not complete within the search deadline.
+     */
+    @Override
+    public CustomPage<Flight> searchFlights(final CitySearchFlightRequest request) {
+
+        final Set<String> fromAirportIds = airportIds(request.getFromCityName(), request.getFromAirportIds());
+        final Set<String> toAirportIds = airportIds(request.getToCityName(), request.getToAirportIds());
+
+        final LocalDateTime departureStart = request.getDepartureTime().toLocalDate().atStartOfDay();
+        final LocalDateTime departureEnd = departureStart.plusDays(1).minusNanos(1);
+
+        final Pageable requested = request.toPageable();
+        final Pageable pageable = PageRequest.of(
+                requested.getPageNumber(), requested.getPageSize(), request.getSortBy().toSort());
+
+        try (DeadlineScope scope = new DeadlineScope(searchExecutor, flightSearchConfigurationParameter.getSearchDeadline())) {
+
+            Future<List<FlightEntity>> departureFlights = scope.fork(() -> searchFlightRepository.findFlightsBetween(
+                    fromAirportIds, toAirportIds, departureStart, departureEnd, pageable));
+
+            Future<Long> departureCount = scope.fork(() -> searchFlightRepository.countFlightsBetween(
+                    fromAirportIds, toAirportIds, departureStart, departureEnd));
+
+            Future<List<FlightEntity>> returnFlights = null;
+
+            if (request.getArrivalTime() != null) {
+
+                final LocalDateTime returnStart = request.getArrivalTime().toLocalDate().atStartOfDay();
+                final LocalDateTime returnEnd = returnStart.plusDays(1).minusNanos(1);
+
+                returnFlights = scope.fork(() -> searchFlightRepository.findFlightsBetween(
+                        toAirportIds, fromAirportIds, returnStart, returnEnd, pageable));
+
+            }
+
+            List<FlightEntity> departurePage = scope.join(departureFlights);
+            List<FlightEntity> flightEntities = new ArrayList<>(departurePage);
+
+            if (returnFlights != null) {
+                flightEntities.addAll(scope.join(returnFlights));
+            }
+
+            airportLookupService.resolveAirportSnapshots(flightEntities, "city-search");
+
+            return CustomPage.of(listFlightEntityToListFlightMapper.toFlightList(flightEntities),
+                    new PageImpl<>(departurePage, pageable, scope.join(departureCount)));
+
+        } catch (TimeoutException exception) {
+            throw new FlightSearchTimeoutException(
+                    "Search did not complete within " + flightSearchConfigurationParameter.getSearchDeadline()
+            );
+        }
+
+    }
+
+    /**
+     * Stops the search threads when the application shuts down, interrupting the queries still running.
+     */
+    @PreDestroy
+    void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns the airports of one side of the search: the airports of the city if one is given, otherwise the given airports.
+     */
+    private Set<String> airportIds(final String cityName, final List<String> airportIds) {
+
+        if (cityName == null || cityName.isBlank()) {
+            return new LinkedHashSet<>(airportIds);
+        }
+
+        final Set<String> cityAirportIds = cityAirportIndexService.findAirportIds(cityName);
+
+        if (cityAirportIds.isEmpty()) {
+            throw new AirportNotFoundException("No airport found in city " + cityName);
+        }
+
+        return cityAirportIds;
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.ConnectionTimetableService;
+import com.example.demo.flight.timetable.ConnectionTimetable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service implementation building timetables from the {@code flight-collection} and keeping them in a Caffeine cache.
+ * A timetable covers two departure days, so it is loaded with a single range query on the departure time
+ * and reused by every itinerary search of its first day.
+ */
+@Service
+public class ConnectionTimetableServiceImpl implements ConnectionTimetableService {
+
+    static final String CACHE_NAME = "flightTimetables";
+
+    private static final int TIMETABLE_DAYS = 2;
+
+    private final FlightRepository flightRepository;
+    private final AirportLookupService airportLookupService;
+
+    private final Cache<LocalDate, ConnectionTimetable> timetables;
+
+    /**
+     * Creates the timetable cache from the flight search configuration and binds its statistics to the meter registry.
+     *
+     * @param flightRepository the repository the flights are loaded from.
+     * @param airportLookupService the service completing the airports embedded in the loaded flights.
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     */
+    public ConnectionTimetableServiceImpl(final FlightRepository flightRepository,
+                                          final AirportLookupService airportLookupService,
+                                          final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                          final MeterRegistry meterRegistry) {
+
+        this.flightRepository = flightRepository;
+        this.airportLookupService = airportLookupService;
+
+        this.timetables = Caffeine.newBuilder()
+                .maximumSize(flightSearchConfigurationParameter.getTimetableMaxDays())
+                .expireAfterWrite(flightSearchConfigurationParameter.getTimetableTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, timetables, CACHE_NAME);
+
+    }
+
+    /**
+     * Returns the cached timetable of the day, loading it on a miss.
+     *
+     * @param departureDate the first departure day of the timetable.
+     * @return the {@link ConnectionTimetable} of the day and the day after.
+     */
+    @Override
+    public ConnectionTimetable getTimetable(final LocalDate departureDate) {
+        return timetables.get(departureDate, this::load);
+    }
+
+    /**
+     * Drops the timetables starting on the given day or the day before, the two that contain it.
+     *
+     * @param departureDate the changed departure day.
+     */
+    @Override
+    public void invalidate(final LocalDate departureDate) {
+        for (int day = 0; day < TIMETABLE_DAYS; day++) {
+            timetables.invalidate(departureDate.minusDays(day));
+        }
+    }
+
+    private ConnectionTimetable load(final LocalDate departureDate) {
+
+        final LocalDateTime start = departureDate.atStartOfDay();
+        final LocalDateTime end = start.plusDays(TIMETABLE_DAYS).minusNanos(1);
+
+        final List<FlightEntity> flights = flightRepository.findByDepartureTimeWithin(start, end);
+
+        airportLookupService.resolveAirportSnapshots(flights, "timetable");
+
+        return ConnectionTimetable.of(flights);
+
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.timetable.DirectFlightIndex;
+import com.example.demo.flight.timetable.FlightRange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service implementation keeping the flights of the next {@code flight.search.index.days} departure days in a
+ * {@link DirectFlightIndex}.
+ * The days are loaded in the background once the application has started, one range query per day, and a day
+ * that is searched before it is loaded is loaded on a virtual thread while the search falls back to the database.
+ * Flight writes reload only the route/days they touch, and a route/day whose summary shows no flights is cleared
+ * without a query.
+ */
+@Slf4j
+@Service
+public class DirectFlightIndexServiceImpl implements DirectFlightIndexService, ApplicationRunner {
+
+    static final String LOOKUP_METRIC = "flight.search.index.lookups";
+
+    static final String FLIGHTS_METRIC = "flight.search.index.flights";
+
+    static final String BYTES_METRIC = "flight.search.index.bytes";
+
+    private final FlightRepository flightRepository;
+    private final SearchFlightRepository searchFlightRepository;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final AirportLookupService airportLookupService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final DirectFlightIndex index = new DirectFlightIndex();
+
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Set<LocalDate> loadingDays = ConcurrentHashMap.newKeySet();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates the index service and exports the size of the index to the meter registry.
+     *
+     * @param flightRepository the repository whole days are loaded from.
+     * @param searchFlightRepository the repository changed route/days are reloaded from.
+     * @param flightRouteDaySummaryService the service telling whether a changed route/day still has flights.
+     * @param airportLookupService the service completing the airports embedded in the loaded flights.
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the index metrics are exported to.
+     */
+    public DirectFlightIndexServiceImpl(final FlightRepository flightRepository,
+                                        final SearchFlightRepository searchFlightRepository,
+                                        final FlightRouteDaySummaryService flightRouteDaySummaryService,
+                                        final AirportLookupService airportLookupService,
+                                        final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                        final MeterRegistry meterRegistry) {
+
+        this.flightRepository = flightRepository;
+        this.searchFlightRepository = searchFlightRepository;
+        this.flightRouteDaySummaryService = flightRouteDaySummaryService;
+        this.airportLookupService = airportLookupService;
+        this.flightSearchConfigurationParameter = flightSearchConfigurationParameter;
+
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+
+        Gauge.builder(FLIGHTS_METRIC, index, DirectFlightIndex::flightCount)
+                .description("Number of flights held by the in-memory flight index")
+                .register(meterRegistry);
+
+        Gauge.builder(BYTES_METRIC, index, DirectFlightIndex::estimatedBytes)
+                .description("Estimated heap retained by the in-memory flight index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+
+    }
+
+    /**
+     * Schedules the load of every day of the indexed window once the application has started.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(final ApplicationArguments args) {
+
+        if (!flightSearchConfigurationParameter.isIndexEnabled()) {
+            return;
+        }
+
+        final LocalDate today = LocalDate.now();
+
+        for (int day = 0; day < flightSearchConfigurationParameter.getIndexDays(); day++) {
+            scheduleLoad(today.plusDays(day));
+        }
+
+    }
+
+    /**
+     * Finds the flights of a direct search in the index, scheduling the load of a missing day.
+     *
+     * @param criteria the route and departure range to search for.
+     * @return the matching {@link FlightRange}, or an empty {@link Optional} if the search must go to the database.
+     */
+    @Override
+    public Optional<FlightRange> find(final FlightSearchCriteria criteria) {
+
+        if (!flightSearchConfigurationParameter.isIndexEnabled()) {
+            return Optional.empty();
+        }
+
+        final Optional<FlightRange> range = index.find(criteria);
+
+        if (range.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+            if (criteria.departureStart() != null) {
+                scheduleLoad(criteria.departureStart().toLocalDate());
+            }
+        }
+
+        return range;
+
+    }
+
+    /**
+     * Reloads a changed route/day if its day is indexed.
+     * If the reload fails the whole day is evicted, so searches fall back to the database until it is loaded again.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    @Override
+    public void refresh(final FlightRouteDay routeDay) {
+
+        final long version = index.markChanged(routeDay);
+
+        if (version < 0) {
+            return;
+        }
+
+        try {
+
+            final LocalDateTime start = routeDay.departureDate().atStartOfDay();
+
+            final List<FlightEntity> flights = !flightRouteDaySummaryService.hasFlights(routeDay)
+                    ? List.of()
+                    : searchFlightRepository.findFlights(
+                            routeDay.fromAirportId(),
+                            routeDay.toAirportId(),
+                            start,
+                            start.plusDays(1).minusNanos(1),
+                            Pageable.unpaged()
+                    );
+
+            airportLookupService.resolveAirportSnapshots(flights, "index");
+
+            index.completeRouteDay(routeDay, version, flights);
+
+        } catch (RuntimeException exception) {
+            log.warn("Could not reload {} into the flight index, evicting its day", routeDay, exception);
+            index.evictDay(routeDay.departureDate());
+        }
+
+    }
+
+    /**
+     * Updates the copy of an airport the indexed flights are rendered with.
+     *
+     * @param airport the current state of the airport.
+     */
+    @Override
+    public void updateAirport(final AirportSnapshot airport) {
+        index.updateAirport(airport);
+    }
+
+    /**
+     * Stops the load threads when the application shuts down, interrupting the day loads still running.
+     */
+    @PreDestroy
+    void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads every flight departing on the given day into the index and drops the days that have passed.
+     * The load is discarded if a flight of the day changes while it runs; the next miss retries it.
+     *
+     * @param day the departure day to load.
+     */
+    void loadDay(final LocalDate day) {
+
+        final long token = index.beginDayLoad();
+
+        final LocalDateTime start = day.atStartOfDay();
+        final List<FlightEntity> flights = flightRepository.findByDepartureTimeWithin(start, start.plusDays(1).minusNanos(1));
+
+        airportLookupService.resolveAirportSnapshots(flights, "index");
+
+        if (!index.completeDayLoad(day, token, flights)) {
+            log.debug("Discarded the flight index load of {} after a concurrent change", day);
+        }
+
+        index.evictDaysBefore(LocalDate.now());
+
+    }
+
+    private void scheduleLoad(final LocalDate day) {
+
+        final LocalDate today = LocalDate.now();
+
+        if (day.isBefore(today)
+                || !day.isBefore(today.plusDays(flightSearchConfigurationParameter.getIndexDays()))
+                || index.isLoaded(day)
+                || !loadingDays.add(day)) {
+            return;
+        }
+
+        loadExecutor.execute(() -> {
+            try {
+                loadDay(day);
+            } catch (RuntimeException exception) {
+                log.warn("Could not load {} into the flight index", day, exception);
+            } finally {
+                loadingDays.remove(day);
+            }
+        });
+
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("Direct flight searches answered from the in-memory flight index or sent to the database")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
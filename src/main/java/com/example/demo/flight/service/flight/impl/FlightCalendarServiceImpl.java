@@ -0,0 +1,198 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.common.utils.CacheInvalidationGuard;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.dto.request.flight.FlightCalendarRequest;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightCalendarService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.timetable.FlightRange;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation computing route price calendars.
+ * A calendar is answered from the in-memory flight index when every day of its window is indexed,
+ * and otherwise from the route/day summaries of the window with a single query; either way it never reads a flight.
+ * Calendars are cached per route and window for the result cache TTL and dropped when a flight of the route
+ * changes within the window; like search results, a calendar whose load overlapped an invalidation is not
+ * kept cached.
+ */
+@Service
+public class FlightCalendarServiceImpl implements FlightCalendarService {
+
+    static final String CACHE_NAME = "flightCalendars";
+
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final DirectFlightIndexService directFlightIndexService;
+
+    private final Cache<CalendarKey, List<FlightCalendarDay>> cache;
+
+    private final boolean enabled;
+
+    private final CacheInvalidationGuard invalidationGuard = new CacheInvalidationGuard();
+
+    /**
+     * Creates the calendar cache from the flight search configuration and binds its statistics to the meter registry.
+     *
+     * @param flightRouteDaySummaryService the service calendars are read from when their days are not indexed.
+     * @param directFlightIndexService the in-memory index calendars are read from when their days are indexed.
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     */
+    public FlightCalendarServiceImpl(final FlightRouteDaySummaryService flightRouteDaySummaryService,
+                                     final DirectFlightIndexService directFlightIndexService,
+                                     final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                     final MeterRegistry meterRegistry) {
+
+        this.flightRouteDaySummaryService = flightRouteDaySummaryService;
+        this.directFlightIndexService = directFlightIndexService;
+        this.enabled = !flightSearchConfigurationParameter.getResultCacheTtl().isZero();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(flightSearchConfigurationParameter.getCalendarCacheMaxEntries())
+                .expireAfterWrite(flightSearchConfigurationParameter.getResultCacheTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+    }
+
+    /**
+     * Returns the cached calendar of the route and window, computing it on a miss.
+     * Days without flights are included with a count of {@code 0}.
+     *
+     * @param request the route, departure day and number of flexible days.
+     * @return one {@link FlightCalendarDay} per day of the window, ordered by date.
+     */
+    @Override
+    public List<FlightCalendarDay> getCalendar(final FlightCalendarRequest request) {
+
+        final LocalDate departureDate = request.getDepartureTime().toLocalDate();
+
+        final CalendarKey key = new CalendarKey(
+                request.getFromAirportId(),
+                request.getToAirportId(),
+                departureDate.minusDays(request.getFlexDays()),
+                departureDate.plusDays(request.getFlexDays())
+        );
+
+        if (!enabled) {
+            return load(key);
+        }
+
+        final List<FlightCalendarDay> cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final long generation = invalidationGuard.generation();
+        final List<FlightCalendarDay> loaded = load(key);
+
+        invalidationGuard.put(cache, key, loaded, generation);
+
+        return loaded;
+
+    }
+
+    /**
+     * Drops every cached calendar of the route whose window contains the given day.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    @Override
+    public void invalidate(final FlightRouteDay routeDay) {
+        invalidationGuard.invalidate(() -> cache.asMap().keySet().removeIf(key -> key.covers(routeDay)));
+    }
+
+    private List<FlightCalendarDay> load(final CalendarKey key) {
+        return loadFromIndex(key).orElseGet(() -> loadFromSummaries(key));
+    }
+
+    /**
+     * Builds the calendar from the in-memory index, or returns empty if any day of the window is not indexed.
+     */
+    private Optional<List<FlightCalendarDay>> loadFromIndex(final CalendarKey key) {
+
+        final List<FlightCalendarDay> days = new ArrayList<>();
+
+        for (LocalDate day = key.firstDay(); !day.isAfter(key.lastDay()); day = day.plusDays(1)) {
+
+            final LocalDateTime start = day.atStartOfDay();
+            final Optional<FlightRange> range = directFlightIndexService.find(new FlightSearchCriteria(
+                    key.fromAirportId(), key.toAirportId(), start, start.plusDays(1).minusNanos(1)));
+
+            if (range.isEmpty()) {
+                return Optional.empty();
+            }
+
+            days.add(FlightCalendarDay.builder()
+                    .date(day)
+                    .cheapestPrice(range.get().cheapestPrice())
+                    .flightCount((long) range.get().size())
+                    .build());
+
+        }
+
+        return Optional.of(List.copyOf(days));
+
+    }
+
+    /**
+     * Reads the route/day summaries of the window and fills in the days without flights.
+     */
+    private List<FlightCalendarDay> loadFromSummaries(final CalendarKey key) {
+
+        final Map<LocalDate, FlightRouteDaySummaryEntity> summaries = flightRouteDaySummaryService.getSummaries(
+                        key.fromAirportId(), key.toAirportId(), key.firstDay(), key.lastDay())
+                .stream()
+                .collect(Collectors.toMap(FlightRouteDaySummaryEntity::getDepartureDate, Function.identity()));
+
+        final List<FlightCalendarDay> days = new ArrayList<>();
+
+        for (LocalDate day = key.firstDay(); !day.isAfter(key.lastDay()); day = day.plusDays(1)) {
+            final FlightRouteDaySummaryEntity summary = summaries.get(day);
+            days.add(FlightCalendarDay.builder()
+                    .date(day)
+                    .cheapestPrice(summary != null ? summary.getMinPrice() : null)
+                    .flightCount(summary != null ? summary.getFlightCount() : 0L)
+                    .build());
+        }
+
+        return List.copyOf(days);
+
+    }
+
+    /**
+     * A route and an inclusive window of departure days.
+     */
+    private record CalendarKey(String fromAirportId, String toAirportId, LocalDate firstDay, LocalDate lastDay) {
+
+        boolean covers(final FlightRouteDay routeDay) {
+            return fromAirportId.equals(routeDay.fromAirportId())
+                    && toAirportId.equals(routeDay.toAirportId())
+                    && !routeDay.departureDate().isBefore(firstDay)
+                    && !routeDay.departureDate().isAfter(lastDay);
+        }
+
+    }
+
+}
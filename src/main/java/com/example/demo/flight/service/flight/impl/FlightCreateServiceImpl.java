@@ -1,18 +1,24 @@
 package com.example.demo.flight.service.flight.impl;
 
-import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.CreateFlightRequestToFlightEntityMapper;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
-import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
 import com.example.demo.flight.service.flight.FlightCreateService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 
 /**
  * Service interface for creating a flight in the system.
@@ -22,7 +28,10 @@ import org.springframework.stereotype.Service;
 public class FlightCreateServiceImpl implements FlightCreateService {
 
     private final FlightRepository flightRepository;
-    private final AirportRepository airportRepository;
+    private final AirportLookupService airportLookupService;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final FlightExistenceService flightExistenceService;
 
     private final CreateFlightRequestToFlightEntityMapper createFlightRequestToFlightEntityMapper =
             CreateFlightRequestToFlightEntityMapper.initialize();
@@ -32,6 +41,8 @@ public class FlightCreateServiceImpl implements FlightCreateService {
 
     /**
      * Creates a new flight in the system.
+     * Adds the flight to the summary of its route and day and to the flight ID filter, and publishes a {@link FlightChangedEvent}
+     * so the cached searches of its route and day are invalidated.
      *
      * @param createFlightRequest the request object containing the details of the flight to be created.
      * @return the created {@link Flight} entity.
@@ -39,15 +50,22 @@ public class FlightCreateServiceImpl implements FlightCreateService {
     @Override
     public Flight createFlight(CreateFlightRequest createFlightRequest) {
 
-        AirportEntity departureAirport = airportRepository.findById(createFlightRequest.getFromAirportId())
-                .orElseThrow(() -> new AirportNotFoundException("Departure airport not found with id " + createFlightRequest.getFromAirportId()));
-        AirportEntity arrivalAirport = airportRepository.findById(createFlightRequest.getToAirportId())
-                .orElseThrow(() -> new AirportNotFoundException("Arrival airport not found with id " + createFlightRequest.getToAirportId()));
+        Map<String, AirportEntity> airports = airportLookupService.getFlightAirports(
+                createFlightRequest.getFromAirportId(), createFlightRequest.getToAirportId(), "create");
+
+        AirportEntity departureAirport = airports.get(createFlightRequest.getFromAirportId());
+        AirportEntity arrivalAirport = airports.get(createFlightRequest.getToAirportId());
 
         FlightEntity flightEntityTobeSaved = createFlightRequestToFlightEntityMapper.mapForSaving(createFlightRequest, departureAirport, arrivalAirport);
 
         FlightEntity savedFlight = flightRepository.save(flightEntityTobeSaved);
 
+        flightRouteDaySummaryService.recordCreated(savedFlight);
+
+        flightExistenceService.add(savedFlight.getId());
+
+        applicationEventPublisher.publishEvent(new FlightChangedEvent(null, FlightRouteDay.of(savedFlight)));
+
         return flightEntityToFlightMapper.map(savedFlight);
     }
 
@@ -1,10 +1,14 @@
 package com.example.demo.flight.service.flight.impl;
 
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.exception.FlightNotFoundException;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.repository.FlightRepository;
 import com.example.demo.flight.service.flight.FlightDeleteService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,9 +19,13 @@ import org.springframework.stereotype.Service;
 public class FlightDeleteServiceImpl implements FlightDeleteService {
 
     private final FlightRepository flightRepository;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Deletes a flight by its ID.
+     * Removes the flight from the summary of its route and day, and publishes a {@link FlightChangedEvent}
+     * so the cached searches of its route and day are invalidated.
      *
      * @param id the ID of the flight to be deleted.
      */
@@ -29,6 +37,10 @@ public class FlightDeleteServiceImpl implements FlightDeleteService {
 
         flightRepository.delete(flightEntityToBeDeleted);
 
+        flightRouteDaySummaryService.recordDeleted(flightEntityToBeDeleted);
+
+        applicationEventPublisher.publishEvent(new FlightChangedEvent(FlightRouteDay.of(flightEntityToBeDeleted), null));
+
     }
 
 }
@@ -0,0 +1,84 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.common.utils.IdExistenceFilter;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation holding the flight IDs in an {@link IdExistenceFilter} tagged {@code filter=flight}.
+ * Until the filter is first rebuilt no flight is ruled out.
+ */
+@Service
+public class FlightExistenceServiceImpl implements FlightExistenceService {
+
+    static final String FILTER_NAME = "flight";
+
+    private final FlightRepository flightRepository;
+
+    private final IdExistenceFilter filter;
+
+    /**
+     * Creates the flight ID filter from the flight search configuration.
+     *
+     * @param flightRepository the repository the flight IDs are read from.
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the filter metrics are exported to.
+     */
+    public FlightExistenceServiceImpl(final FlightRepository flightRepository,
+                                      final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                      final MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.filter = new IdExistenceFilter(
+                FILTER_NAME,
+                flightSearchConfigurationParameter.getIdFilterFalsePositiveRate(),
+                flightSearchConfigurationParameter.getIdFilterMissingTtl(),
+                flightSearchConfigurationParameter.getIdFilterMissingMaxEntries(),
+                meterRegistry);
+    }
+
+    /**
+     * Tells whether a flight definitely does not exist, from the filter or the recently missing IDs.
+     *
+     * @param flightId the ID of the flight.
+     * @return {@code true} if the flight does not exist, {@code false} if it may exist.
+     */
+    @Override
+    public boolean isDefinitelyMissing(final String flightId) {
+        return filter.isDefinitelyMissing(flightId);
+    }
+
+    /**
+     * Remembers that a flight the filter could not rule out was not found.
+     *
+     * @param flightId the ID of the flight that was not found.
+     */
+    @Override
+    public void recordMissing(final String flightId) {
+        filter.recordMissing(flightId);
+    }
+
+    /**
+     * Adds a created flight to the filter.
+     *
+     * @param flightId the ID of the created flight.
+     */
+    @Override
+    public void add(final String flightId) {
+        filter.add(flightId);
+    }
+
+    /**
+     * Rebuilds the filter from the IDs of every flight, read without the rest of the documents.
+     *
+     * @return the number of flights in the filter.
+     */
+    @Override
+    public long rebuild() {
+        return filter.rebuild(flightRepository.count(), flightRepository.streamAllIds().map(FlightEntity::getId));
+    }
+
+}
@@ -2,15 +2,23 @@ package com.example.demo.flight.service.flight.impl;
 
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.dto.request.CustomPagingRequest;
+import com.example.demo.common.model.enums.PagingMode;
 import com.example.demo.flight.exception.FlightNotFoundException;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightSearchCriteria;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
 import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
+import com.example.demo.flight.repository.FlightKeysetRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
 import com.example.demo.flight.service.flight.FlightReadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -23,6 +31,8 @@ import java.util.List;
 public class FlightReadServiceImpl implements FlightReadService {
 
     private final FlightRepository flightRepository;
+    private final AirportLookupService airportLookupService;
+    private final FlightExistenceService flightExistenceService;
 
     private final FlightEntityToFlightMapper flightEntityToFlightMapper =
             FlightEntityToFlightMapper.initialize();
@@ -32,6 +42,7 @@ public class FlightReadServiceImpl implements FlightReadService {
 
     /**
      * Retrieves a flight by its ID.
+     * IDs the {@link FlightExistenceService} rules out are reported as not found without a query.
      *
      * @param id the ID of the flight to be retrieved.
      * @return the {@link Flight} entity with the specified ID.
@@ -39,7 +50,7 @@ public class FlightReadServiceImpl implements FlightReadService {
     @Override
     public Flight getFlightById(String id) {
 
-        FlightEntity flightEntityFromDb = flightRepository.findById(id)
+        FlightEntity flightEntityFromDb = flightExistenceService.find(id, flightRepository::findById)
                 .orElseThrow(()->new FlightNotFoundException("Flight given id " + id + " +can't found "));
 
         return flightEntityToFlightMapper.map(flightEntityFromDb);
@@ -48,6 +59,8 @@ public class FlightReadServiceImpl implements FlightReadService {
 
     /**
      * Retrieves all flights with pagination support.
+     * In {@link PagingMode#CURSOR} mode the page resumes after the last flight of the previous page
+     * and no count is issued.
      *
      * @param customPagingRequest the request object containing paging parameters (e.g., page size, page number).
      * @return a {@link CustomPage} of flights, containing a list of flights and pagination details.
@@ -55,12 +68,22 @@ public class FlightReadServiceImpl implements FlightReadService {
     @Override
     public CustomPage<Flight> getAllFlights(CustomPagingRequest customPagingRequest) {
 
-        Page<FlightEntity> flightEntitiesListPage = flightRepository.findAll(customPagingRequest.toPageable());
+        if (customPagingRequest.getPagination().getMode() == PagingMode.CURSOR) {
+            return getAllFlightsByCursor(customPagingRequest);
+        }
+
+        Pageable requested = customPagingRequest.toPageable();
+        Pageable pageable = PageRequest.of(
+                requested.getPageNumber(), requested.getPageSize(), FlightKeysetRepository.FLIGHT_ORDER);
+
+        Page<FlightEntity> flightEntitiesListPage = flightRepository.findAllFlights(pageable);
 
         if (flightEntitiesListPage.getContent().isEmpty()) {
             throw new FlightNotFoundException("Couldn't find any airport");
         }
 
+        airportLookupService.resolveAirportSnapshots(flightEntitiesListPage.getContent(), "read");
+
         final List<Flight> fligtDomainList = listFlightEntityToListFlightMapper
                 .toFlightList(flightEntitiesListPage.getContent());
 
@@ -68,5 +91,32 @@ public class FlightReadServiceImpl implements FlightReadService {
 
     }
 
+    /**
+     * Retrieves the flights following the request cursor, reading one extra row to know whether more follow.
+     */
+    private CustomPage<Flight> getAllFlightsByCursor(final CustomPagingRequest customPagingRequest) {
+
+        final int pageSize = customPagingRequest.getPagination().getPageSize();
+        final FlightCursor cursor = FlightCursor.decode(customPagingRequest.getPagination().getCursor(), 1);
+
+        final List<FlightEntity> rows =
+                flightRepository.findFlightsAfter(FlightSearchCriteria.all(), cursor.position(0), pageSize + 1);
+
+        if (rows.isEmpty()) {
+            throw new FlightNotFoundException("Couldn't find any airport");
+        }
+
+        final List<FlightEntity> flightEntities = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        final FlightCursor.Position next = rows.size() > pageSize
+                ? FlightCursor.Position.after(flightEntities.get(pageSize - 1))
+                : FlightCursor.Position.END;
+
+        airportLookupService.resolveAirportSnapshots(flightEntities, "read");
+
+        final List<Flight> fligtDomainList = listFlightEntityToListFlightMapper.toFlightList(flightEntities);
+
+        return CustomPage.ofCursor(fligtDomainList, pageSize, new FlightCursor(List.of(next)).encode());
+
+    }
 
 }
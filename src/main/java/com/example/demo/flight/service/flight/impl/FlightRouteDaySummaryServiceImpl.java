@@ -0,0 +1,291 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import com.example.demo.flight.repository.FlightRouteDaySummaryRepository;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation maintaining the per route/day flight summaries.
+ * Every flight write is applied to its summary with an atomic update, so no write ever reads the flights of its route.
+ * Removing a flight can only narrow the price and departure bounds by reading the remaining flights, so the summary is
+ * recomputed from the route/day only when the removed flight was on one of its bounds.
+ * A failed summary update does not fail the flight write; the drift is repaired by {@link #checkConsistency} or
+ * {@link #rebuild()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightRouteDaySummaryServiceImpl implements FlightRouteDaySummaryService {
+
+    static final String MISMATCH_METRIC = "flight.search.summary.mismatches";
+
+    static final int BATCH_SIZE = 500;
+
+    private final FlightRouteDaySummaryRepository flightRouteDaySummaryRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Adds a created flight to the summary of its route/day.
+     *
+     * @param flight the saved flight.
+     */
+    @Override
+    public void recordCreated(final FlightEntity flight) {
+        add(flight);
+    }
+
+    /**
+     * Moves an updated flight between summaries; nothing is written if neither its route/day, price nor departure
+     * time changed.
+     * The current state is added before the previous one is removed, so a recomputation triggered by the removal
+     * already sees the saved flight exactly once.
+     *
+     * @param previous the flight as it was stored before the update.
+     * @param current the saved flight.
+     */
+    @Override
+    public void recordUpdated(final FlightEntity previous, final FlightEntity current) {
+
+        if (FlightRouteDay.of(previous).equals(FlightRouteDay.of(current))
+                && Objects.equals(previous.getPrice(), current.getPrice())
+                && Objects.equals(previous.getDepartureTime(), current.getDepartureTime())) {
+            return;
+        }
+
+        add(current);
+        remove(previous);
+
+    }
+
+    /**
+     * Removes a deleted flight from the summary of its route/day.
+     *
+     * @param flight the flight as it was stored before the deletion.
+     */
+    @Override
+    public void recordDeleted(final FlightEntity flight) {
+        remove(flight);
+    }
+
+    /**
+     * Reads the flight count of a route/day from its summary.
+     *
+     * @param routeDay the route and departure day.
+     * @return the flight count, {@code 0} if the route/day has no summary.
+     */
+    @Override
+    public long countFlights(final FlightRouteDay routeDay) {
+        return flightRouteDaySummaryRepository.findById(FlightRouteDaySummaryEntity.idOf(routeDay))
+                .map(FlightRouteDaySummaryEntity::getFlightCount)
+                .orElse(0L);
+    }
+
+    /**
+     * Checks whether a route/day has a summary.
+     *
+     * @param routeDay the route and departure day.
+     * @return {@code true} if at least one flight departs on the route that day.
+     */
+    @Override
+    public boolean hasFlights(final FlightRouteDay routeDay) {
+        return flightRouteDaySummaryRepository.existsById(FlightRouteDaySummaryEntity.idOf(routeDay));
+    }
+
+    /**
+     * Reads the summaries of a route for a range of departure days.
+     *
+     * @param fromAirportId the ID of the departure airport.
+     * @param toAirportId the ID of the destination airport.
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the summaries of the days that have flights.
+     */
+    @Override
+    public List<FlightRouteDaySummaryEntity> getSummaries(final String fromAirportId,
+                                                          final String toAirportId,
+                                                          final LocalDate firstDay,
+                                                          final LocalDate lastDay) {
+        return flightRouteDaySummaryRepository.findRouteSummaries(fromAirportId, toAirportId, firstDay, lastDay);
+    }
+
+    /**
+     * Recomputes every summary from the flights in batches and then deletes the summaries the rebuild did not write.
+     * Summaries written by flight changes while the rebuild runs are newer than its start and are kept.
+     *
+     * @return the number of summaries written.
+     */
+    @Override
+    public long rebuild() {
+
+        final LocalDateTime start = LocalDateTime.now();
+        long written = 0;
+
+        try (Stream<FlightRouteDaySummaryEntity> summaries = flightRouteDaySummaryRepository.aggregateAllSummaries()) {
+
+            final Iterator<FlightRouteDaySummaryEntity> iterator = summaries.iterator();
+            final List<FlightRouteDaySummaryEntity> batch = new ArrayList<>(BATCH_SIZE);
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                    flightRouteDaySummaryRepository.replaceSummaries(batch);
+                    written += batch.size();
+                    batch.clear();
+                }
+            }
+
+        }
+
+        final long deleted = flightRouteDaySummaryRepository.deleteByUpdatedAtBefore(start);
+
+        log.info("Rebuilt {} flight route/day summaries and deleted {} stale ones", written, deleted);
+
+        return written;
+
+    }
+
+    /**
+     * Rebuilds the summaries if the summary collection is empty.
+     *
+     * @return the number of summaries written, {@code 0} if the summaries already exist.
+     */
+    @Override
+    public long rebuildIfEmpty() {
+
+        if (flightRouteDaySummaryRepository.count() > 0) {
+            return 0;
+        }
+
+        return rebuild();
+
+    }
+
+    /**
+     * Aggregates the flights of the days and compares the result with the stored summaries.
+     * Wrong summaries are replaced and summaries of route/days without flights are deleted; the number of mismatches
+     * is recorded under {@value #MISMATCH_METRIC}.
+     * A summary written while the check runs may not match the aggregation yet and is left to the next check.
+     *
+     * @param firstDay the first departure day (inclusive).
+     * @param lastDay the last departure day (inclusive).
+     * @return the route/days whose summary was wrong.
+     */
+    @Override
+    public List<FlightRouteDay> checkConsistency(final LocalDate firstDay, final LocalDate lastDay) {
+
+        final LocalDateTime start = LocalDateTime.now();
+
+        final Map<String, FlightRouteDaySummaryEntity> expected = byId(
+                flightRouteDaySummaryRepository.aggregateSummaries(firstDay, lastDay));
+        final Map<String, FlightRouteDaySummaryEntity> stored = byId(
+                flightRouteDaySummaryRepository.findDaySummaries(firstDay, lastDay));
+
+        final List<FlightRouteDaySummaryEntity> wrong = expected.values().stream()
+                .filter(summary -> !sameTotals(summary, stored.get(summary.getId())))
+                .filter(summary -> writtenBefore(stored.get(summary.getId()), start))
+                .toList();
+
+        final List<FlightRouteDaySummaryEntity> orphaned = stored.values().stream()
+                .filter(summary -> !expected.containsKey(summary.getId()))
+                .filter(summary -> writtenBefore(summary, start))
+                .toList();
+
+        if (wrong.isEmpty() && orphaned.isEmpty()) {
+            return List.of();
+        }
+
+        flightRouteDaySummaryRepository.replaceSummaries(wrong);
+        flightRouteDaySummaryRepository.deleteAllById(
+                orphaned.stream().map(FlightRouteDaySummaryEntity::getId).toList());
+
+        final List<FlightRouteDay> mismatches = Stream.concat(wrong.stream(), orphaned.stream())
+                .map(FlightRouteDaySummaryEntity::routeDay)
+                .toList();
+
+        meterRegistry.counter(MISMATCH_METRIC).increment(mismatches.size());
+        log.warn("Repaired {} flight route/day summaries between {} and {}: {}",
+                mismatches.size(), firstDay, lastDay, mismatches);
+
+        return mismatches;
+
+    }
+
+    private void add(final FlightEntity flight) {
+        try {
+            flightRouteDaySummaryRepository.addFlight(flight);
+        } catch (RuntimeException exception) {
+            log.warn("Could not add flight {} to the summary of {}", flight.getId(), FlightRouteDay.of(flight), exception);
+        }
+    }
+
+    /**
+     * Removes the flight from its summary and recomputes the summary if the flight was on one of its bounds.
+     */
+    private void remove(final FlightEntity flight) {
+
+        final FlightRouteDay routeDay = FlightRouteDay.of(flight);
+
+        try {
+
+            flightRouteDaySummaryRepository.removeFlight(flight)
+                    .filter(remaining -> isOnBound(flight, remaining))
+                    .ifPresent(remaining -> recompute(routeDay));
+
+        } catch (RuntimeException exception) {
+            log.warn("Could not remove flight {} from the summary of {}", flight.getId(), routeDay, exception);
+        }
+
+    }
+
+    private void recompute(final FlightRouteDay routeDay) {
+
+        flightRouteDaySummaryRepository.aggregateSummary(routeDay).ifPresentOrElse(
+                summary -> flightRouteDaySummaryRepository.replaceSummaries(List.of(summary)),
+                () -> flightRouteDaySummaryRepository.deleteById(FlightRouteDaySummaryEntity.idOf(routeDay))
+        );
+
+    }
+
+    private boolean isOnBound(final FlightEntity flight, final FlightRouteDaySummaryEntity summary) {
+        return (flight.getPrice() != null
+                && (flight.getPrice().equals(summary.getMinPrice()) || flight.getPrice().equals(summary.getMaxPrice())))
+                || flight.getDepartureTime().equals(summary.getEarliestDeparture())
+                || flight.getDepartureTime().equals(summary.getLatestDeparture());
+    }
+
+    private boolean sameTotals(final FlightRouteDaySummaryEntity expected, final FlightRouteDaySummaryEntity stored) {
+        return stored != null
+                && expected.getFlightCount() == stored.getFlightCount()
+                && Objects.equals(expected.getMinPrice(), stored.getMinPrice())
+                && Objects.equals(expected.getMaxPrice(), stored.getMaxPrice())
+                && Objects.equals(expected.getEarliestDeparture(), stored.getEarliestDeparture())
+                && Objects.equals(expected.getLatestDeparture(), stored.getLatestDeparture());
+    }
+
+    private boolean writtenBefore(final FlightRouteDaySummaryEntity summary, final LocalDateTime time) {
+        return summary == null || summary.getUpdatedAt() == null || summary.getUpdatedAt().isBefore(time);
+    }
+
+    private Map<String, FlightRouteDaySummaryEntity> byId(final List<FlightRouteDaySummaryEntity> summaries) {
+        return summaries.stream()
+                .collect(Collectors.toMap(FlightRouteDaySummaryEntity::getId, Function.identity()));
+    }
+
+}
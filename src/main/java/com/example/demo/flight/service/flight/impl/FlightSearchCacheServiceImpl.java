@@ -0,0 +1,129 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.utils.CacheInvalidationGuard;
+import com.example.demo.common.utils.SingleFlight;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCacheKey;
+import com.example.demo.flight.service.flight.FlightSearchCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+/**
+ * Service implementation caching flight search results with Caffeine.
+ * The cache is bounded by the number of cached flights rather than the number of searches, entries expire after
+ * a fixed TTL, and hit, miss and eviction statistics are exported to Micrometer under the {@code cache.*} meters
+ * tagged {@code cache=flightSearchResults}.
+ * Misses are loaded outside of the cache, so a slow search never blocks other keys; a result whose load overlapped
+ * an invalidation is returned but not kept cached, since it may predate the change (see
+ * {@link CacheInvalidationGuard}).
+ * Identical misses arriving while one is loading share its load, and its result is cached or not by the generation
+ * the shared load started in, so a caller joining a load that began before an invalidation never caches it.
+ * Shared loads are counted under {@value #COALESCING_METRIC} tagged {@code outcome=executed|coalesced|timeout}.
+ */
+@Service
+public class FlightSearchCacheServiceImpl implements FlightSearchCacheService {
+
+    static final String CACHE_NAME = "flightSearchResults";
+
+    static final String COALESCING_METRIC = "flight.search.coalescing";
+
+    private final Cache<FlightSearchCacheKey, CustomPage<Flight>> cache;
+
+    private final boolean enabled;
+
+    private final CacheInvalidationGuard invalidationGuard = new CacheInvalidationGuard();
+
+    private final SingleFlight<FlightSearchCacheKey, Load> loads;
+
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    /**
+     * Creates the cache from the flight search configuration and binds its statistics to the meter registry.
+     *
+     * @param flightSearchConfigurationParameter the flight search configuration.
+     * @param meterRegistry the registry the cache statistics are exported to.
+     */
+    public FlightSearchCacheServiceImpl(final FlightSearchConfigurationParameter flightSearchConfigurationParameter,
+                                        final MeterRegistry meterRegistry) {
+
+        this.flightSearchConfigurationParameter = flightSearchConfigurationParameter;
+        this.enabled = !flightSearchConfigurationParameter.getResultCacheTtl().isZero();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(flightSearchConfigurationParameter.getResultCacheMaxFlights())
+                .weigher((FlightSearchCacheKey key, CustomPage<Flight> page) -> page.getContent().size() + 1)
+                .expireAfterWrite(flightSearchConfigurationParameter.getResultCacheTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.loads = new SingleFlight<>(meterRegistry, COALESCING_METRIC);
+
+    }
+
+    /**
+     * Returns the cached result of a search, loading and caching it on a miss.
+     * Concurrent misses for the same key share one load; failed loads are not cached.
+     *
+     * @param key the normalized search.
+     * @param loader runs the search when the result is not cached.
+     * @return the {@link CustomPage} of {@link Flight} for the search.
+     */
+    @Override
+    public CustomPage<Flight> get(final FlightSearchCacheKey key, final Supplier<CustomPage<Flight>> loader) {
+
+        if (!enabled) {
+            return load(key, loader).page();
+        }
+
+        final CustomPage<Flight> cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final Load loaded = load(key, loader);
+
+        invalidationGuard.put(cache, key, loaded.page(), loaded.generation());
+
+        return loaded.page();
+
+    }
+
+    /**
+     * Drops every cached result whose outbound or return leg covers the given route and day.
+     *
+     * @param routeDay the changed route and departure day.
+     */
+    @Override
+    public void invalidate(final FlightRouteDay routeDay) {
+        invalidationGuard.invalidate(() -> cache.asMap().keySet().removeIf(key -> key.covers(routeDay)));
+    }
+
+    /**
+     * Runs the loader through the coalescer, taking the generation when the load starts rather than when the caller
+     * arrives, since a caller may join a load that started before an invalidation.
+     */
+    private Load load(final FlightSearchCacheKey key, final Supplier<CustomPage<Flight>> loader) {
+        return loads.execute(key, () -> {
+            final long generation = invalidationGuard.generation();
+            return new Load(loader.get(), generation);
+        }, flightSearchConfigurationParameter.getCoalescingMaxWait());
+    }
+
+    /**
+     * A loaded result with the invalidation generation its load started in.
+     */
+    private record Load(CustomPage<Flight> page, long generation) {
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
+import com.example.demo.flight.repository.FlightKeysetRepository;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for streaming flights.
+ * Flights are read from a MongoDB cursor {@code flight.search.stream.batch-size} at a time; each batch has its airports
+ * resolved with one lookup, is handed to the consumer and is then dropped, so memory stays bounded by the batch size
+ * whatever the number of flights.
+ * The cursor only fetches the next batch once the consumer has returned, so a consumer writing to a slow client
+ * holds back the reads.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlightStreamServiceImpl implements FlightStreamService {
+
+    private final SearchFlightRepository searchFlightRepository;
+    private final AirportLookupService airportLookupService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final ListFlightEntityToListFlightMapper listFlightEntityToListFlightMapper =
+            ListFlightEntityToListFlightMapper.initialize();
+
+    /**
+     * Streams every flight matching the search, the outbound leg first and then the optional return leg.
+     *
+     * @param request the search criteria.
+     * @param consumer receives the flights one batch at a time, in order.
+     * @return the number of streamed flights.
+     */
+    @Override
+    public long streamSearch(final SearchFlightRequest request, final Consumer<List<Flight>> consumer) {
+
+        final Sort sort = request.getSortBy().toSort();
+
+        long streamed = stream(legCriteria(request, request.getFromAirportId(), request.getToAirportId(),
+                request.getDepartureTime()), sort, consumer);
+
+        if (request.getArrivalTime() != null) {
+            streamed += stream(legCriteria(request, request.getToAirportId(), request.getFromAirportId(),
+                    request.getArrivalTime()), sort, consumer);
+        }
+
+        return streamed;
+
+    }
+
+    /**
+     * Streams every flight ordered by departure time.
+     *
+     * @param consumer receives the flights one batch at a time, in order.
+     * @return the number of streamed flights.
+     */
+    @Override
+    public long streamAll(final Consumer<List<Flight>> consumer) {
+        return stream(FlightSearchCriteria.all(), FlightKeysetRepository.FLIGHT_ORDER, consumer);
+    }
+
+    /**
+     * Returns the criteria of a search leg departing on the day of the given time.
+     */
+    private FlightSearchCriteria legCriteria(final SearchFlightRequest request,
+                                             final String fromAirportId,
+                                             final String toAirportId,
+                                             final LocalDateTime day) {
+
+        final LocalDateTime dayStart = day.toLocalDate().atStartOfDay();
+
+        return FlightSearchCriteria.of(request, fromAirportId, toAirportId, dayStart, dayStart.plusDays(1).minusNanos(1));
+
+    }
+
+    /**
+     * Drains the cursor of the criteria batch by batch, closing it even if the consumer fails.
+     */
+    private long stream(final FlightSearchCriteria criteria,
+                        final Sort sort,
+                        final Consumer<List<Flight>> consumer) {
+
+        final int batchSize = flightSearchConfigurationParameter.getStreamBatchSize();
+        long streamed = 0;
+
+        try (Stream<FlightEntity> flights = searchFlightRepository.streamFlightsMatching(criteria, sort, batchSize)) {
+
+            final Iterator<FlightEntity> iterator = flights.iterator();
+            List<FlightEntity> batch = new ArrayList<>(batchSize);
+
+            while (iterator.hasNext()) {
+
+                batch.add(iterator.next());
+
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    airportLookupService.resolveAirportSnapshots(batch, "stream");
+                    consumer.accept(listFlightEntityToListFlightMapper.toFlightList(batch));
+                    streamed += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+
+            }
+
+        }
+
+        return streamed;
+
+    }
+
+}
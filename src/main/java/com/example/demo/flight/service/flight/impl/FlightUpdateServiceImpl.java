@@ -1,19 +1,25 @@
 package com.example.demo.flight.service.flight.impl;
 
-import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.exception.FlightNotFoundException;
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.dto.request.flight.UpdateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
 import com.example.demo.flight.model.mapper.flight.UpdateFlightRequestToFlightEntityMapper;
-import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import com.example.demo.flight.service.flight.FlightUpdateService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 /**
  * Service implementation for updating a flight in the system.
  */
@@ -22,7 +28,10 @@ import org.springframework.stereotype.Service;
 public class FlightUpdateServiceImpl implements FlightUpdateService {
 
     private final FlightRepository flightRepository;
-    private final AirportRepository airportRepository;
+    private final AirportLookupService airportLookupService;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final FlightExistenceService flightExistenceService;
 
     private final UpdateFlightRequestToFlightEntityMapper updateFlightRequestToFlightEntityMapper =
             UpdateFlightRequestToFlightEntityMapper.initialize();
@@ -32,6 +41,9 @@ public class FlightUpdateServiceImpl implements FlightUpdateService {
 
     /**
      * Updates an existing a flight by its ID.
+     * Moves the flight between the summaries of its old and new route and day, and publishes a
+     * {@link FlightChangedEvent} so the cached searches of its old and new route and day are invalidated.
+     * IDs the {@link FlightExistenceService} rules out are reported as not found without a query.
      *
      * @param id the ID of the flight to be updated.
      * @param updateFlightRequest the request object containing the updated details of the flight.
@@ -40,20 +52,27 @@ public class FlightUpdateServiceImpl implements FlightUpdateService {
     @Override
     public Flight updateFlightById(String id, UpdateFlightRequest updateFlightRequest) {
 
-        FlightEntity flightEntity = flightRepository.findById(id)
+        FlightEntity flightEntity = flightExistenceService.find(id, flightRepository::findById)
                 .orElseThrow(()->new FlightNotFoundException("Flight given id cant found " + id));
 
-        AirportEntity departureAirportEntity = airportRepository.findById(updateFlightRequest.getFromAirportId())
-                .orElseThrow(() -> new AirportNotFoundException("Departure airport not found with id " + updateFlightRequest.getFromAirportId()));
+        Map<String, AirportEntity> airports = airportLookupService.getFlightAirports(
+                updateFlightRequest.getFromAirportId(), updateFlightRequest.getToAirportId(), "update");
+
+        FlightEntity previousFlightEntity = flightEntity.toBuilder().build();
+        FlightRouteDay previous = FlightRouteDay.of(previousFlightEntity);
 
-        AirportEntity arrivalAirportEntity =airportRepository.findById(updateFlightRequest.getToAirportId())
-                .orElseThrow(() -> new AirportNotFoundException("Arrival airport not found with id " + updateFlightRequest.getToAirportId()));
+        AirportEntity departureAirportEntity = airports.get(updateFlightRequest.getFromAirportId());
+        AirportEntity arrivalAirportEntity = airports.get(updateFlightRequest.getToAirportId());
 
         updateFlightRequestToFlightEntityMapper.updateFlightMapper(flightEntity,updateFlightRequest,
                 departureAirportEntity,arrivalAirportEntity);
 
         FlightEntity updatedFlightEntity = flightRepository.save(flightEntity);
 
+        flightRouteDaySummaryService.recordUpdated(previousFlightEntity, updatedFlightEntity);
+
+        applicationEventPublisher.publishEvent(new FlightChangedEvent(previous, FlightRouteDay.of(updatedFlightEntity)));
+
         return flightEntityToFlightMapper.map(updatedFlightEntity);
 
     }
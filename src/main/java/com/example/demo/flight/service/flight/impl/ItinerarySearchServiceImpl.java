@@ -0,0 +1,83 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.dto.request.flight.ItinerarySearchRequest;
+import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
+import com.example.demo.flight.service.flight.ConnectionTimetableService;
+import com.example.demo.flight.service.flight.ItinerarySearchService;
+import com.example.demo.flight.timetable.ConnectionScanQuery;
+import com.example.demo.flight.timetable.ConnectionScanner;
+import com.example.demo.flight.timetable.ConnectionTimetable;
+import com.example.demo.flight.timetable.Journey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Service implementation for searching itineraries with the Connection Scan Algorithm.
+ * The flights of the departure day and the day after are scanned from an in-memory {@link ConnectionTimetable},
+ * so a search costs no database query once the timetable of the day is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItinerarySearchServiceImpl implements ItinerarySearchService {
+
+    private final ConnectionTimetableService connectionTimetableService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final FlightEntityToFlightMapper flightEntityToFlightMapper =
+            FlightEntityToFlightMapper.initialize();
+
+    /**
+     * Searches for itineraries departing on the requested day and arriving by the end of the next day.
+     *
+     * @param request the search criteria including airport IDs, departure day and maximum number of stops.
+     * @return the Pareto-optimal {@link Itinerary} list, ordered by arrival time, then price, then number of flights.
+     */
+    @Override
+    public List<Itinerary> searchItineraries(ItinerarySearchRequest request) {
+
+        final LocalDateTime departureStart = request.getDepartureTime().toLocalDate().atStartOfDay();
+
+        final ConnectionTimetable timetable = connectionTimetableService.getTimetable(departureStart.toLocalDate());
+
+        final ConnectionScanQuery query = new ConnectionScanQuery(
+                timetable.stopOf(request.getFromAirportId()),
+                timetable.stopOf(request.getToAirportId()),
+                ConnectionTimetable.toEpochSecond(departureStart),
+                ConnectionTimetable.toEpochSecond(departureStart.plusDays(1)) - 1,
+                ConnectionTimetable.toEpochSecond(departureStart.plusDays(2)) - 1,
+                request.getMaxStops() + 1,
+                flightSearchConfigurationParameter.getMinConnectionTime().toSeconds()
+        );
+
+        return ConnectionScanner.scan(timetable, query).stream()
+                .map(journey -> toItinerary(timetable, journey))
+                .toList();
+
+    }
+
+    private Itinerary toItinerary(final ConnectionTimetable timetable, final Journey journey) {
+
+        final List<Flight> flights = Arrays.stream(journey.connections())
+                .mapToObj(timetable::flight)
+                .map(flightEntityToFlightMapper::map)
+                .toList();
+
+        return Itinerary.builder()
+                .flights(flights)
+                .departureTime(flights.get(0).getDepartureTime())
+                .arrivalTime(flights.get(flights.size() - 1).getArrivalTime())
+                .totalPrice(BigDecimal.valueOf(journey.price(), 2).doubleValue())
+                .stops(flights.size() - 1)
+                .build();
+
+    }
+
+}
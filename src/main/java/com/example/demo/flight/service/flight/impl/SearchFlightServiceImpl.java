@@ -1,41 +1,286 @@
 package com.example.demo.flight.service.flight.impl;
 
+import com.example.demo.common.model.CustomError;
 import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.model.enums.PagingMode;
+import com.example.demo.common.utils.DeadlineScope;
+import com.example.demo.common.utils.MongoReplyBytes;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.exception.FlightSearchTimeoutException;
+import com.example.demo.flight.exception.InvalidCursorException;
+import com.example.demo.flight.model.BatchSearchResult;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCacheKey;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
 import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
 import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
+import com.example.demo.flight.repository.FlightKeysetRepository;
 import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.ApproximateFlightCountService;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.service.flight.FlightSearchCacheService;
 import com.example.demo.flight.service.flight.SearchFlightService;
+import com.example.demo.flight.timetable.FlightRange;
+import com.example.demo.flight.timetable.RoundTripCombiner;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service implementation for searching flights.
+ * The queries of a search (the outbound page, its count and the optional return page) are independent,
+ * so they run concurrently on virtual threads under a shared deadline instead of one after another.
+ * Clients that do not need exact totals can use {@link PagingMode#SLICE} or {@link PagingMode#CURSOR}
+ * to skip the count query altogether.
+ * Direct searches whose days are held by the {@link DirectFlightIndexService} are answered from memory
+ * without any query, and exact totals are read from the route/day summary instead of counting flights.
+ * Searches sorted by price or flight time, or limited by price or flight time, are filtered and ordered by MongoDB on
+ * the compound indexes of the flights instead of in memory; a departure hour range only narrows the departure window.
+ * Round trips are ranked with the {@link RoundTripCombiner}, which keeps only the combinations up to the requested page
+ * instead of the cross product of both legs.
+ * Batches run their searches concurrently, and searches of a batch sharing a route read its flights with one query.
+ * Searches from or to an airport the {@link AirportExistenceService} rules out find no flights without any query.
+ * The bytes MongoDB returns to the queries of each leg are recorded under {@value #LEG_BYTES_METRIC}.
  */
 @Service
 @RequiredArgsConstructor
 public class SearchFlightServiceImpl implements SearchFlightService {
 
+    static final String LEG_TIMER = "flight.search.leg";
+
+    static final String LEG_BYTES_METRIC = "flight.search.leg.bytes";
+
     private final SearchFlightRepository searchFlightRepository;
+    private final AirportLookupService airportLookupService;
+    private final ApproximateFlightCountService approximateFlightCountService;
+    private final FlightSearchCacheService flightSearchCacheService;
+    private final DirectFlightIndexService directFlightIndexService;
+    private final FlightRouteDaySummaryService flightRouteDaySummaryService;
+    private final AirportExistenceService airportExistenceService;
+    private final FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     private final ListFlightEntityToListFlightMapper listFlightEntityToListFlightMapper =
             ListFlightEntityToListFlightMapper.initialize();
 
     /**
      * Searches for flights based on the given criteria and returns a paginated result.
+     * In {@link PagingMode#CURSOR} mode each leg resumes after the last flight of the previous page
+     * and no count is issued.
+     * In {@link PagingMode#SLICE} mode the page is read with one extra row to tell whether a next page exists,
+     * and the total is only reported approximately from the cached route/day count.
+     * Results are served from the {@link FlightSearchCacheService} when the same search was run recently,
+     * and identical searches arriving while one is in flight share its result instead of querying again.
      *
      * @param request the search criteria including airport IDs, departure, and optional return times.
      * @return a {@link CustomPage} of {@link Flight} with matching flights and pagination details.
+     * @throws FlightSearchTimeoutException if the queries do not complete within the search deadline.
      */
     @Override
     public CustomPage<Flight> searchFlights(SearchFlightRequest request) {
+        return searchFlights(request, BatchRouteFlights.none());
+    }
+
+    /**
+     * Runs several flight searches at once and returns their outcomes in the order of the requests.
+     * The searches run on virtual threads, at most {@code flight.search.batch.max-concurrency} at a time, and each
+     * goes through the cache and the search coalescer like a single search.
+     * Searches in departure order without filters whose legs share a route that the in-memory index does not hold
+     * read the route with a single query for all of its days, as long as the route/day summaries show it holds at
+     * most {@code flight.search.batch.merge-max-flights} flights (see {@link BatchRouteFlights}).
+     * A search that fails reports the error it would have failed with on its own, without failing the batch.
+     *
+     * @param requests the search criteria of every search.
+     * @return the outcome of every search, in the order of the requests.
+     */
+    @Override
+    public List<BatchSearchResult> searchFlightsBatch(final List<SearchFlightRequest> requests) {
+
+        final BatchRouteFlights routeFlights = BatchRouteFlights.plan(
+                requests,
+                searchFlightRepository,
+                directFlightIndexService,
+                flightRouteDaySummaryService,
+                flightSearchConfigurationParameter.getBatchMergeMaxFlights());
+
+        final Semaphore permits = new Semaphore(flightSearchConfigurationParameter.getBatchMaxConcurrency());
+        final List<Future<BatchSearchResult>> searches = new ArrayList<>(requests.size());
+
+        for (SearchFlightRequest request : requests) {
+            searches.add(searchExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    return batchSearch(request, routeFlights);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        final List<BatchSearchResult> results = new ArrayList<>(searches.size());
+
+        for (Future<BatchSearchResult> search : searches) {
+            results.add(joinBatchSearch(search));
+        }
+
+        return results;
+
+    }
+
+    /**
+     * Searches for round trips and returns the requested page of the best combinations.
+     * Both legs are read concurrently, from the in-memory index when it holds their day, and every return flight
+     * departing at least {@code flight.search.round-trip.min-stay} after an outbound flight arrives is a combination.
+     * The total is counted exactly without pairing the flights, while paging stops at
+     * {@code flight.search.round-trip.max-combinations}: pages beyond it are empty, and only the combinations up to
+     * the end of the requested page are kept while ranking.
+     *
+     * @param request the search criteria including airport IDs, departure and return days, and the ranking.
+     * @return a {@link CustomPage} of {@link RoundTrip} with the requested page of combinations and their total.
+     * @throws FlightSearchTimeoutException if the queries do not complete within the search deadline.
+     */
+    @Override
+    public CustomPage<RoundTrip> searchRoundTrips(final RoundTripSearchRequest request) {
+
+        final FlightSearchCriteria outbound = dayCriteria(
+                request.getFromAirportId(), request.getToAirportId(), request.getDepartureTime());
+        final FlightSearchCriteria inbound = dayCriteria(
+                request.getToAirportId(), request.getFromAirportId(), request.getReturnTime());
+
+        final Pageable pageable = request.toPageable();
+        final Duration minStay = flightSearchConfigurationParameter.getRoundTripMinStay();
+
+        if (isAirportMissing(request.getFromAirportId(), request.getToAirportId())) {
+            return CustomPage.of(List.of(), new PageImpl<>(List.of(), pageable, 0));
+        }
+
+        try (DeadlineScope scope = new DeadlineScope(searchExecutor, flightSearchConfigurationParameter.getSearchDeadline())) {
+
+            Future<List<FlightEntity>> departureFlights = scope.fork(timed("outbound", "round-trip", () ->
+                    dayFlights(outbound)));
+
+            Future<List<FlightEntity>> returnFlights = scope.fork(timed("return", "round-trip", () ->
+                    dayFlights(inbound)));
+
+            List<FlightEntity> departureFlightEntities = scope.join(departureFlights);
+            List<FlightEntity> returnFlightEntities = scope.join(returnFlights);
+
+            long total = RoundTripCombiner.count(departureFlightEntities, returnFlightEntities, minStay);
+
+            long depth = Math.min(total, flightSearchConfigurationParameter.getRoundTripMaxCombinations());
+
+            int limit = (int) Math.min(depth, pageable.getOffset() + pageable.getPageSize());
+
+            List<RoundTripCombiner.Pair> best = RoundTripCombiner.best(
+                    departureFlightEntities, returnFlightEntities, minStay, request.getSortBy(), limit);
+
+            List<RoundTripCombiner.Pair> page = pageable.getOffset() >= best.size()
+                    ? List.of()
+                    : best.subList((int) pageable.getOffset(), best.size());
+
+            return CustomPage.of(toRoundTrips(page), new PageImpl<>(page, pageable, total));
+
+        } catch (TimeoutException exception) {
+            throw new FlightSearchTimeoutException(
+                    "Search did not complete within " + flightSearchConfigurationParameter.getSearchDeadline()
+            );
+        }
+
+    }
+
+    /**
+     * Stops the search threads when the application shuts down, interrupting the queries still running.
+     */
+    @PreDestroy
+    void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    /**
+     * Searches through the cache, answering legs from the in-memory index or the given shared routes.
+     */
+    private CustomPage<Flight> searchFlights(final SearchFlightRequest request, final BatchRouteFlights routeFlights) {
+        final FlightSearchCacheKey key = FlightSearchCacheKey.of(request);
+
+        return flightSearchCacheService.get(key, () -> search(request, routeFlights));
+    }
+
+    /**
+     * Runs one search of a batch, turning its failure into the error a single search would have responded with.
+     */
+    private BatchSearchResult batchSearch(final SearchFlightRequest request, final BatchRouteFlights routeFlights) {
+
+        try {
+            return BatchSearchResult.success(searchFlights(request, routeFlights));
+        } catch (FlightSearchTimeoutException exception) {
+            return BatchSearchResult.failure(
+                    FlightSearchTimeoutException.STATUS, CustomError.Header.PROCESS_ERROR, exception.getMessage());
+        } catch (InvalidCursorException exception) {
+            return BatchSearchResult.failure(
+                    InvalidCursorException.STATUS, CustomError.Header.VALIDATION_ERROR, exception.getMessage());
+        } catch (RuntimeException exception) {
+            return BatchSearchResult.failure(
+                    HttpStatus.NOT_FOUND, CustomError.Header.API_ERROR, exception.getMessage());
+        }
+
+    }
+
+    /**
+     * Waits for a search of a batch; searches report their own failures, so only interruptions and errors escape.
+     */
+    private static BatchSearchResult joinBatchSearch(final Future<BatchSearchResult> search) {
+
+        try {
+            return search.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch search was interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Batch search failed", exception.getCause());
+        }
+
+    }
+
+    /**
+     * Runs the queries of a search.
+     */
+    private CustomPage<Flight> search(final SearchFlightRequest request, final BatchRouteFlights routeFlights) {
 
         // Convert the given departure time to LocalDateTime representing the start of the day (midnight).
         // departureStart is used to ensure the search includes flights departing at any time during the given date.
@@ -47,48 +292,450 @@ public class SearchFlightServiceImpl implements SearchFlightService {
         // Example: If departureStart is "2025-01-20T00:00:00", departureEnd will be "2025-01-20T23:59:59.999999999".
         LocalDateTime departureEnd = departureStart.plusDays(1).minusNanos(1);
 
-        Pageable pageable = request.toPageable();
-
-        // Fetch one-way flights
-        Page<FlightEntity> departureFlightEntities = searchFlightRepository.findFlights(
-                request.getFromAirportId(),
-                request.getToAirportId(),
-                departureStart,
-                departureEnd,
-                pageable);
-
-        List<Flight> flightList = listFlightEntityToListFlightMapper.toFlightList(departureFlightEntities.getContent());
+        FlightSearchCriteria outbound = FlightSearchCriteria.of(
+                request, request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd);
 
         // Handle round-trip flights if arrivalTime is provided
-        Optional.ofNullable(request.getArrivalTime()).ifPresent(arrivalTime -> {
+        FlightSearchCriteria inbound = null;
+
+        if (request.getArrivalTime() != null) {
 
             // Convert the given arrival time to LocalDateTime representing the start of the day (midnight).
             // returnStart ensures the search includes return flights arriving at any time during the given arrival date.
             // Example: If arrivalTime is "2025-01-25T10:45:00", returnStart will be "2025-01-25T00:00:00".
-            LocalDateTime returnStart = arrivalTime.toLocalDate().atStartOfDay();
+            LocalDateTime returnStart = request.getArrivalTime().toLocalDate().atStartOfDay();
 
             // Calculate the end of the return day (just before midnight of the next day).
             // returnEnd ensures that the search captures return flights up until the last moment of the specified arrival date.
             // Example: If returnStart is "2025-01-25T00:00:00", returnEnd will be "2025-01-25T23:59:59.999999999".
             LocalDateTime returnEnd = returnStart.plusDays(1).minusNanos(1);
 
-            // Fetch return flights
-            Page<FlightEntity> returnFlightEntities = searchFlightRepository.findFlights(
-                    request.getToAirportId(),
-                    request.getFromAirportId(),
-                    returnStart,
-                    returnEnd,
+            inbound = FlightSearchCriteria.of(
+                    request, request.getToAirportId(), request.getFromAirportId(), returnStart, returnEnd);
+
+        }
+
+        if (isAirportMissing(request.getFromAirportId(), request.getToAirportId())) {
+            return noFlights(request, inbound == null ? 1 : 2);
+        }
+
+        try (DeadlineScope scope = new DeadlineScope(searchExecutor, flightSearchConfigurationParameter.getSearchDeadline())) {
+
+            // The index holds the flights of a day in departure order only, so sorted or price and flight time limited
+            // searches are always read from MongoDB.
+            Optional<CustomPage<Flight>> indexed =
+                    request.getSortBy() != FlightSort.DEPARTURE || outbound.hasFlightFilters()
+                    ? Optional.empty()
+                    : searchIndex(scope, request, outbound, inbound, routeFlights);
+
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+
+            return switch (request.getPagination().getMode()) {
+                case CURSOR -> searchByCursor(scope, request, outbound, inbound);
+                case SLICE -> searchBySlice(scope, request, outbound, inbound);
+                case PAGE -> searchByPage(scope, request, outbound, inbound);
+            };
+
+        } catch (TimeoutException exception) {
+            throw new FlightSearchTimeoutException(
+                    "Search did not complete within " + flightSearchConfigurationParameter.getSearchDeadline()
+            );
+        }
+
+    }
+
+    /**
+     * Tells whether either airport of a search definitely does not exist, so no flight can match.
+     */
+    private boolean isAirportMissing(final String fromAirportId, final String toAirportId) {
+        return airportExistenceService.isDefinitelyMissing(fromAirportId)
+                || airportExistenceService.isDefinitelyMissing(toAirportId);
+    }
+
+    /**
+     * Returns the empty result of a search in its paging mode; a cursor is still validated as it would be by a query.
+     */
+    private CustomPage<Flight> noFlights(final SearchFlightRequest request, final int legs) {
+
+        final Pageable pageable = sortedPageable(request);
+
+        return switch (request.getPagination().getMode()) {
+            case CURSOR -> {
+                FlightCursor.decode(request.getPagination().getCursor(), legs, request.getSortBy());
+                yield CustomPage.ofCursor(List.of(), pageable.getPageSize(), null);
+            }
+            case SLICE -> CustomPage.ofSlice(List.of(), new SliceImpl<>(List.of(), pageable, false), false, 0L);
+            case PAGE -> CustomPage.of(List.of(), new PageImpl<>(List.of(), pageable, 0));
+        };
+
+    }
+
+    /**
+     * Searches one page by page number, together with the total count of the outbound leg
+     * read from its route/day summary, or counted by a query when filters narrow the flights of the day.
+     */
+    private CustomPage<Flight> searchByPage(final DeadlineScope scope,
+                                            final SearchFlightRequest request,
+                                            final FlightSearchCriteria outbound,
+                                            final FlightSearchCriteria inbound) throws TimeoutException {
+
+        Pageable pageable = sortedPageable(request);
+
+        // Fetch one-way flights and their total count
+        Future<List<FlightEntity>> departureFlights = scope.fork(timed("outbound", "content", () ->
+                findFlights(request, outbound, pageable)));
+
+        Future<Long> departureCount = scope.fork(timed("outbound", "count", () -> request.hasFilters()
+                ? searchFlightRepository.countFlightsMatching(outbound)
+                : flightRouteDaySummaryService.countFlights(new FlightRouteDay(
+                        outbound.fromAirportId(),
+                        outbound.toAirportId(),
+                        outbound.departureStart().toLocalDate()))));
+
+        // Fetch return flights.
+        // Only the outbound leg drives the pagination details, so the return leg needs no count.
+        Future<List<FlightEntity>> returnFlights = inbound == null ? null : scope.fork(timed("return", "content", () ->
+                findFlights(request, inbound, pageable)));
+
+        Page<FlightEntity> departureFlightEntities =
+                new PageImpl<>(scope.join(departureFlights), pageable, scope.join(departureCount));
+
+        List<FlightEntity> flightEntities = new ArrayList<>(departureFlightEntities.getContent());
+
+        // Add return flights to the flight list
+        if (returnFlights != null) {
+            flightEntities.addAll(scope.join(returnFlights));
+        }
+
+        return CustomPage.of(toFlights(flightEntities), departureFlightEntities);
+
+    }
+
+    /**
+     * Searches one page by page number without counting; the page has a successor if either leg does.
+     */
+    private CustomPage<Flight> searchBySlice(final DeadlineScope scope,
+                                             final SearchFlightRequest request,
+                                             final FlightSearchCriteria outbound,
+                                             final FlightSearchCriteria inbound) throws TimeoutException {
+
+        Pageable pageable = sortedPageable(request);
+
+        Future<Slice<FlightEntity>> departureFlights = scope.fork(timed("outbound", "slice", () ->
+                findFlightSlice(request, outbound, pageable)));
+
+        Future<Slice<FlightEntity>> returnFlights = inbound == null ? null : scope.fork(timed("return", "slice", () ->
+                findFlightSlice(request, inbound, pageable)));
+
+        Slice<FlightEntity> departureFlightEntities = scope.join(departureFlights);
+
+        List<FlightEntity> flightEntities = new ArrayList<>(departureFlightEntities.getContent());
+        boolean hasNext = departureFlightEntities.hasNext();
+
+        if (returnFlights != null) {
+            Slice<FlightEntity> returnFlightEntities = scope.join(returnFlights);
+            flightEntities.addAll(returnFlightEntities.getContent());
+            hasNext = hasNext || returnFlightEntities.hasNext();
+        }
+
+        // The cached route/day count covers every flight of the day, so it says nothing about a filtered search.
+        Long approximateTotal = request.hasFilters()
+                ? null
+                : approximateFlightCountService.getApproximateCount(outbound).orElse(null);
+
+        return CustomPage.ofSlice(toFlights(flightEntities), departureFlightEntities, hasNext, approximateTotal);
+
+    }
+
+    /**
+     * Searches the page following the request cursor, reading one extra row per leg to know whether it continues.
+     */
+    private CustomPage<Flight> searchByCursor(final DeadlineScope scope,
+                                              final SearchFlightRequest request,
+                                              final FlightSearchCriteria outbound,
+                                              final FlightSearchCriteria inbound) throws TimeoutException {
+
+        int pageSize = request.getPagination().getPageSize();
+        FlightSort sort = request.getSortBy();
+        FlightCursor cursor = FlightCursor.decode(request.getPagination().getCursor(), inbound == null ? 1 : 2, sort);
+
+        Future<List<FlightEntity>> departureFlights = scope.fork(timed("outbound", "content", () ->
+                searchFlightRepository.findFlightsAfter(outbound, sort, cursor.position(0), pageSize + 1)));
+
+        Future<List<FlightEntity>> returnFlights = inbound == null ? null : scope.fork(timed("return", "content", () ->
+                searchFlightRepository.findFlightsAfter(inbound, sort, cursor.position(1), pageSize + 1)));
+
+        List<FlightEntity> flightEntities = new ArrayList<>();
+        List<FlightCursor.Position> nextPositions = new ArrayList<>();
+
+        nextPositions.add(takePage(scope.join(departureFlights), pageSize, sort, flightEntities));
+
+        if (returnFlights != null) {
+            nextPositions.add(takePage(scope.join(returnFlights), pageSize, sort, flightEntities));
+        }
+
+        return CustomPage.ofCursor(toFlights(flightEntities), pageSize, new FlightCursor(nextPositions).encode());
+
+    }
+
+    /**
+     * Answers the search from the in-memory index, or the flights shared by a batch, when every leg is held there.
+     * Shared routes are only read once every leg is known to be held, and are read as tasks of the search scope.
+     * The index knows the exact size of each leg, so no mode needs a count query and slices report an exact total.
+     */
+    private Optional<CustomPage<Flight>> searchIndex(final DeadlineScope scope,
+                                                     final SearchFlightRequest request,
+                                                     final FlightSearchCriteria outbound,
+                                                     final FlightSearchCriteria inbound,
+                                                     final BatchRouteFlights routeFlights) throws TimeoutException {
+
+        Optional<FlightRange> departureIndexed = directFlightIndexService.find(outbound);
+        Optional<FlightRange> returnIndexed = inbound == null
+                ? Optional.empty()
+                : directFlightIndexService.find(inbound);
+
+        boolean departureHeld = departureIndexed.isPresent() || routeFlights.serves(outbound);
+        boolean returnHeld = inbound == null || returnIndexed.isPresent() || routeFlights.serves(inbound);
+
+        if (!departureHeld || !returnHeld) {
+            return Optional.empty();
+        }
+
+        Future<Optional<FlightRange>> departureShared = departureIndexed.isPresent() ? null
+                : scope.fork(timed("outbound", "shared", () -> routeFlights.find(outbound)));
+
+        Future<Optional<FlightRange>> returnShared = inbound == null || returnIndexed.isPresent() ? null
+                : scope.fork(timed("return", "shared", () -> routeFlights.find(inbound)));
+
+        Optional<FlightRange> departureRange = departureShared == null ? departureIndexed : scope.join(departureShared);
+        Optional<FlightRange> returnRange = returnShared == null ? returnIndexed : scope.join(returnShared);
+
+        // A shared route too large to be read at once holds none of its legs.
+        if (departureRange.isEmpty() || (inbound != null && returnRange.isEmpty())) {
+            return Optional.empty();
+        }
+
+        FlightRange departureFlights = departureRange.get();
+        FlightRange returnFlights = returnRange.orElse(null);
+
+        if (request.getPagination().getMode() == PagingMode.CURSOR) {
+
+            int pageSize = request.getPagination().getPageSize();
+            FlightCursor cursor = FlightCursor.decode(request.getPagination().getCursor(), inbound == null ? 1 : 2);
+
+            List<FlightEntity> flightEntities = new ArrayList<>();
+            List<FlightCursor.Position> nextPositions = new ArrayList<>();
+
+            nextPositions.add(takePage(departureFlights.flightsAfter(cursor.position(0), pageSize + 1),
+                    pageSize, FlightSort.DEPARTURE, flightEntities));
+
+            if (returnFlights != null) {
+                nextPositions.add(takePage(returnFlights.flightsAfter(cursor.position(1), pageSize + 1),
+                        pageSize, FlightSort.DEPARTURE, flightEntities));
+            }
+
+            return Optional.of(
+                    CustomPage.ofCursor(toFlights(flightEntities), pageSize, new FlightCursor(nextPositions).encode()));
+
+        }
+
+        Pageable pageable = sortedPageable(request);
+
+        List<FlightEntity> departurePage = departureFlights.flights(pageable.getOffset(), pageable.getPageSize());
+        List<FlightEntity> flightEntities = new ArrayList<>(departurePage);
+
+        if (returnFlights != null) {
+            flightEntities.addAll(returnFlights.flights(pageable.getOffset(), pageable.getPageSize()));
+        }
+
+        if (request.getPagination().getMode() == PagingMode.SLICE) {
+
+            long nextOffset = pageable.getOffset() + pageable.getPageSize();
+            boolean hasNext = nextOffset < departureFlights.size()
+                    || (returnFlights != null && nextOffset < returnFlights.size());
+
+            return Optional.of(CustomPage.ofSlice(toFlights(flightEntities),
+                    new SliceImpl<>(departurePage, pageable, hasNext), hasNext, (long) departureFlights.size()));
+
+        }
+
+        return Optional.of(CustomPage.of(toFlights(flightEntities),
+                new PageImpl<>(departurePage, pageable, departureFlights.size())));
+
+    }
+
+    /**
+     * Reads a page of a leg, through the route query when it is in departure order without price or flight time limits.
+     */
+    private List<FlightEntity> findFlights(final SearchFlightRequest request,
+                                           final FlightSearchCriteria criteria,
+                                           final Pageable pageable) {
+
+        if (request.getSortBy() == FlightSort.DEPARTURE && !criteria.hasFlightFilters()) {
+            return searchFlightRepository.findFlights(
+                    criteria.fromAirportId(),
+                    criteria.toAirportId(),
+                    criteria.departureStart(),
+                    criteria.departureEnd(),
                     pageable);
+        }
+
+        return searchFlightRepository.findFlightsMatching(criteria, pageable);
 
-            List<Flight> returnFlightList =
-                    listFlightEntityToListFlightMapper.toFlightList(returnFlightEntities.getContent());
+    }
+
+    /**
+     * Reads a slice of a leg, through the route query when it is in departure order without price or flight time limits.
+     */
+    private Slice<FlightEntity> findFlightSlice(final SearchFlightRequest request,
+                                                final FlightSearchCriteria criteria,
+                                                final Pageable pageable) {
+
+        if (request.getSortBy() == FlightSort.DEPARTURE && !criteria.hasFlightFilters()) {
+            return searchFlightRepository.findFlightSlice(
+                    criteria.fromAirportId(),
+                    criteria.toAirportId(),
+                    criteria.departureStart(),
+                    criteria.departureEnd(),
+                    pageable);
+        }
+
+        return searchFlightRepository.findFlightSliceMatching(criteria, pageable);
+
+    }
+
+    /**
+     * Returns the criteria of the flights of a route departing on the day of the given time.
+     */
+    private FlightSearchCriteria dayCriteria(final String fromAirportId,
+                                             final String toAirportId,
+                                             final LocalDateTime day) {
+
+        LocalDateTime start = day.toLocalDate().atStartOfDay();
+
+        return new FlightSearchCriteria(fromAirportId, toAirportId, start, start.plusDays(1).minusNanos(1));
+
+    }
+
+    /**
+     * Reads every flight matching the criteria, from the in-memory index when it holds them.
+     */
+    private List<FlightEntity> dayFlights(final FlightSearchCriteria criteria) {
+
+        return directFlightIndexService.find(criteria)
+                .map(range -> range.flights(0, range.size()))
+                .orElseGet(() -> searchFlightRepository.findFlights(
+                        criteria.fromAirportId(),
+                        criteria.toAirportId(),
+                        criteria.departureStart(),
+                        criteria.departureEnd(),
+                        Pageable.unpaged(FlightKeysetRepository.FLIGHT_ORDER)));
+
+    }
+
+    /**
+     * Maps the combinations to round trips, resolving the airports of all their flights at once.
+     */
+    private List<RoundTrip> toRoundTrips(final List<RoundTripCombiner.Pair> pairs) {
+
+        List<FlightEntity> flightEntities = new ArrayList<>(pairs.size() * 2);
+
+        for (RoundTripCombiner.Pair pair : pairs) {
+            flightEntities.add(pair.outbound());
+            flightEntities.add(pair.inbound());
+        }
+
+        List<Flight> flights = toFlights(flightEntities);
+        List<RoundTrip> roundTrips = new ArrayList<>(pairs.size());
+
+        for (int index = 0; index < flights.size(); index += 2) {
+
+            Flight outboundFlight = flights.get(index);
+            Flight returnFlight = flights.get(index + 1);
+
+            roundTrips.add(RoundTrip.builder()
+                    .outboundFlight(outboundFlight)
+                    .returnFlight(returnFlight)
+                    .totalPrice(outboundFlight.getPrice() == null || returnFlight.getPrice() == null
+                            ? null
+                            : BigDecimal.valueOf(outboundFlight.getPrice())
+                                    .add(BigDecimal.valueOf(returnFlight.getPrice()))
+                                    .doubleValue())
+                    .totalDurationMinutes(
+                            Duration.between(outboundFlight.getDepartureTime(), outboundFlight.getArrivalTime())
+                                    .plus(Duration.between(returnFlight.getDepartureTime(), returnFlight.getArrivalTime()))
+                                    .toMinutes())
+                    .build());
+
+        }
+
+        return roundTrips;
+
+    }
+
+    /**
+     * Adds at most {@code pageSize} of the fetched rows to the result and returns where the leg continues.
+     */
+    private FlightCursor.Position takePage(final List<FlightEntity> rows,
+                                           final int pageSize,
+                                           final FlightSort sort,
+                                           final List<FlightEntity> result) {
+
+        if (rows.size() <= pageSize) {
+            result.addAll(rows);
+            return FlightCursor.Position.END;
+        }
+
+        result.addAll(rows.subList(0, pageSize));
+        return FlightCursor.Position.after(rows.get(pageSize - 1), sort);
+
+    }
+
+    /**
+     * Returns the requested page ordered by the requested sort key and then by {@code id}, so that pages never overlap.
+     */
+    private Pageable sortedPageable(final SearchFlightRequest request) {
+
+        Pageable requested = request.toPageable();
+
+        return PageRequest.of(requested.getPageNumber(), requested.getPageSize(), request.getSortBy().toSort());
+
+    }
+
+    /**
+     * Resolves the airports of all legs together, so the whole result costs at most one airport lookup,
+     * and maps the entities to domain models.
+     */
+    private List<Flight> toFlights(final List<FlightEntity> flightEntities) {
+
+        airportLookupService.resolveAirportSnapshots(flightEntities, "search");
+
+        return listFlightEntityToListFlightMapper.toFlightList(flightEntities);
+
+    }
+
+    /**
+     * Wraps a search query so that its duration and the bytes MongoDB returned to it are recorded per leg and
+     * query type.
+     */
+    private <T> Callable<T> timed(final String leg, final String query, final Callable<T> task) {
 
-            // Add return flights to the flight list
-            flightList.addAll(returnFlightList);
+        final Timer timer = Timer.builder(LEG_TIMER)
+                .description("Duration of the queries of each flight search leg")
+                .tag("leg", leg)
+                .tag("query", query)
+                .register(meterRegistry);
 
-        });
+        final DistributionSummary bytes = DistributionSummary.builder(LEG_BYTES_METRIC)
+                .description("Bytes read from MongoDB by the queries of each flight search leg")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("leg", leg)
+                .tag("query", query)
+                .register(meterRegistry);
 
-        return CustomPage.of(flightList, departureFlightEntities);
+        return () -> timer.recordCallable(() -> MongoReplyBytes.measure(task, bytes::record));
 
     }
 
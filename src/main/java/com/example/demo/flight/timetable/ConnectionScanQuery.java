@@ -0,0 +1,21 @@
+package com.example.demo.flight.timetable;
+
+/**
+ * The parameters of a connection scan over a {@link ConnectionTimetable}.
+ *
+ * @param origin               the stop index to depart from.
+ * @param destination          the stop index to arrive at.
+ * @param departureFrom        the earliest departure from the origin, in epoch seconds.
+ * @param departureUntil       the latest departure from the origin, in epoch seconds.
+ * @param arrivalUntil         the latest arrival at the destination, in epoch seconds.
+ * @param maxLegs              the maximum number of flights of a journey.
+ * @param minConnectionSeconds the minimum time between arriving at a stop and departing from it again.
+ */
+public record ConnectionScanQuery(int origin,
+                                  int destination,
+                                  long departureFrom,
+                                  long departureUntil,
+                                  long arrivalUntil,
+                                  int maxLegs,
+                                  long minConnectionSeconds) {
+}
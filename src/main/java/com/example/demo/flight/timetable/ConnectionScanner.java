@@ -0,0 +1,147 @@
+package com.example.demo.flight.timetable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Multi-criteria Connection Scan Algorithm over a {@link ConnectionTimetable}.
+ * Connections are scanned once in departure order. Every stop keeps a bag of Pareto-optimal labels by
+ * (arrival time, price, legs), and each connection extends the labels of its departure stop that can still
+ * catch it. A candidate that cannot be extended any further, or that is already dominated by a journey to the
+ * destination, is dropped immediately, since extending it can only make it later, pricier and longer.
+ * The result is every Pareto-optimal journey to the destination.
+ */
+public final class ConnectionScanner {
+
+    private ConnectionScanner() {
+    }
+
+    /**
+     * Finds the Pareto-optimal journeys of a query.
+     *
+     * @param timetable the timetable to scan.
+     * @param query the scan parameters.
+     * @return the journeys ordered by arrival time, then price, then number of legs.
+     */
+    public static List<Journey> scan(final ConnectionTimetable timetable, final ConnectionScanQuery query) {
+
+        if (query.origin() < 0 || query.destination() < 0 || query.origin() == query.destination()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<Label>[] bags = new List[timetable.stopCount()];
+        final Label start = new Label(Long.MIN_VALUE, 0L, 0, -1, null);
+        bags[query.origin()] = List.of(start);
+        final List<Label> target = new ArrayList<>();
+        bags[query.destination()] = target;
+
+        for (int connection = timetable.firstDepartingAtOrAfter(query.departureFrom());
+             connection < timetable.size() && timetable.departureTime(connection) <= query.arrivalUntil();
+             connection++) {
+
+            final List<Label> departures = bags[timetable.departureStop(connection)];
+            final int arrivalStop = timetable.arrivalStop(connection);
+            final long arrivalTime = timetable.arrivalTime(connection);
+
+            if (departures == null || arrivalStop == query.origin() || arrivalTime > query.arrivalUntil()) {
+                continue;
+            }
+
+            final long departureTime = timetable.departureTime(connection);
+
+            for (int index = 0, size = departures.size(); index < size; index++) {
+
+                final Label label = departures.get(index);
+
+                if (!canBoard(label, departureTime, query)) {
+                    continue;
+                }
+
+                final Label candidate = new Label(arrivalTime, label.price + timetable.price(connection),
+                        label.legs + 1, connection, label);
+
+                if (arrivalStop != query.destination()
+                        && (candidate.legs >= query.maxLegs() || isDominated(target, candidate))) {
+                    continue;
+                }
+
+                List<Label> bag = bags[arrivalStop];
+                if (bag == null) {
+                    bag = new ArrayList<>();
+                    bags[arrivalStop] = bag;
+                }
+                insert(bag, candidate);
+
+            }
+
+        }
+
+        return target.stream()
+                .map(Label::toJourney)
+                .sorted(Comparator.comparingLong(Journey::arrivalTime)
+                        .thenComparingLong(Journey::price)
+                        .thenComparingInt(Journey::legs))
+                .toList();
+
+    }
+
+    private static boolean canBoard(final Label label, final long departureTime, final ConnectionScanQuery query) {
+
+        if (label.legs == 0) {
+            return departureTime <= query.departureUntil();
+        }
+
+        return label.legs < query.maxLegs() && label.arrivalTime + query.minConnectionSeconds() <= departureTime;
+
+    }
+
+    private static boolean isDominated(final List<Label> bag, final Label candidate) {
+
+        for (int index = 0, size = bag.size(); index < size; index++) {
+            if (bag.get(index).dominates(candidate)) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    private static void insert(final List<Label> bag, final Label candidate) {
+
+        if (isDominated(bag, candidate)) {
+            return;
+        }
+
+        bag.removeIf(candidate::dominates);
+        bag.add(candidate);
+
+    }
+
+    /**
+     * A partial journey ending at a stop, linked to the label it was extended from.
+     */
+    private record Label(long arrivalTime, long price, int legs, int connection, Label parent) {
+
+        boolean dominates(final Label other) {
+            return arrivalTime <= other.arrivalTime && price <= other.price && legs <= other.legs;
+        }
+
+        Journey toJourney() {
+
+            final int[] connections = new int[legs];
+            Label label = this;
+            for (int leg = legs - 1; leg >= 0; leg--) {
+                connections[leg] = label.connection;
+                label = label.parent;
+            }
+
+            return new Journey(connections, arrivalTime, price);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, in-memory timetable of flights laid out for the Connection Scan Algorithm.
+ * Every flight is a connection stored column-wise in primitive arrays sorted by departure time, with airports
+ * dictionary-encoded as dense stop indexes, so a scan walks contiguous memory without touching the entities.
+ * Times are UTC epoch seconds and prices are in cents.
+ */
+public final class ConnectionTimetable {
+
+    private final String[] stopIds;
+    private final Map<String, Integer> stopIndexes;
+
+    private final int[] departureStops;
+    private final int[] arrivalStops;
+    private final long[] departureTimes;
+    private final long[] arrivalTimes;
+    private final long[] prices;
+    private final FlightEntity[] flights;
+
+    private ConnectionTimetable(final String[] stopIds,
+                                final Map<String, Integer> stopIndexes,
+                                final FlightEntity[] flights) {
+
+        this.stopIds = stopIds;
+        this.stopIndexes = stopIndexes;
+        this.flights = flights;
+
+        final int size = flights.length;
+        this.departureStops = new int[size];
+        this.arrivalStops = new int[size];
+        this.departureTimes = new long[size];
+        this.arrivalTimes = new long[size];
+        this.prices = new long[size];
+
+        for (int connection = 0; connection < size; connection++) {
+            final FlightEntity flight = flights[connection];
+            departureStops[connection] = stopIndexes.get(flight.getFromAirport().getId());
+            arrivalStops[connection] = stopIndexes.get(flight.getToAirport().getId());
+            departureTimes[connection] = toEpochSecond(flight.getDepartureTime());
+            arrivalTimes[connection] = toEpochSecond(flight.getArrivalTime());
+            prices[connection] = Math.round(flight.getPrice() * 100);
+        }
+
+    }
+
+    /**
+     * Builds a timetable from the given flights.
+     * Flights without airports, times or price, or arriving before they depart, are left out.
+     *
+     * @param flights the flights of the timetable.
+     * @return the {@link ConnectionTimetable} of the flights.
+     */
+    public static ConnectionTimetable of(final List<FlightEntity> flights) {
+
+        final FlightEntity[] connections = flights.stream()
+                .filter(ConnectionTimetable::isScannable)
+                .sorted(Comparator.comparing(FlightEntity::getDepartureTime))
+                .toArray(FlightEntity[]::new);
+
+        final Map<String, Integer> stopIndexes = new HashMap<>();
+        for (FlightEntity flight : connections) {
+            stopIndexes.putIfAbsent(flight.getFromAirport().getId(), stopIndexes.size());
+            stopIndexes.putIfAbsent(flight.getToAirport().getId(), stopIndexes.size());
+        }
+
+        final String[] stopIds = new String[stopIndexes.size()];
+        stopIndexes.forEach((id, index) -> stopIds[index] = id);
+
+        return new ConnectionTimetable(stopIds, Map.copyOf(stopIndexes), connections);
+
+    }
+
+    /**
+     * Converts a flight time to the epoch seconds used by the timetable.
+     *
+     * @param time the flight time.
+     * @return the UTC epoch second of the time.
+     */
+    public static long toEpochSecond(final LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the index of the first connection departing at or after the given time.
+     *
+     * @param epochSecond the time to search for.
+     * @return the connection index, or {@link #size()} if every connection departs earlier.
+     */
+    public int firstDepartingAtOrAfter(final long epochSecond) {
+
+        int low = 0;
+        int high = departureTimes.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (departureTimes[middle] < epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+
+    }
+
+    /**
+     * Returns the stop index of an airport.
+     *
+     * @param airportId the airport ID.
+     * @return the stop index, or {@code -1} if no flight of the timetable serves the airport.
+     */
+    public int stopOf(final String airportId) {
+        return stopIndexes.getOrDefault(airportId, -1);
+    }
+
+    /**
+     * Returns the airport ID of a stop index.
+     *
+     * @param stop the stop index.
+     * @return the airport ID.
+     */
+    public String stopId(final int stop) {
+        return stopIds[stop];
+    }
+
+    public int size() {
+        return flights.length;
+    }
+
+    public int stopCount() {
+        return stopIds.length;
+    }
+
+    public int departureStop(final int connection) {
+        return departureStops[connection];
+    }
+
+    public int arrivalStop(final int connection) {
+        return arrivalStops[connection];
+    }
+
+    public long departureTime(final int connection) {
+        return departureTimes[connection];
+    }
+
+    public long arrivalTime(final int connection) {
+        return arrivalTimes[connection];
+    }
+
+    public long price(final int connection) {
+        return prices[connection];
+    }
+
+    public FlightEntity flight(final int connection) {
+        return flights[connection];
+    }
+
+    private static boolean isScannable(final FlightEntity flight) {
+        return flight.getFromAirport() != null
+                && flight.getToAirport() != null
+                && flight.getFromAirport().getId() != null
+                && flight.getToAirport().getId() != null
+                && !flight.getFromAirport().getId().equals(flight.getToAirport().getId())
+                && flight.getDepartureTime() != null
+                && flight.getArrivalTime() != null
+                && flight.getArrivalTime().isAfter(flight.getDepartureTime())
+                && flight.getPrice() != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionTimetable{connections=" + flights.length + ", stops=" + stopIds.length + "}";
+    }
+
+}
@@ -0,0 +1,338 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe, in-memory index of flights by route and departure day, used to answer direct searches
+ * without a database round trip.
+ * Airports are dictionary-encoded as dense stop numbers and a route/day is addressed by a single {@code long}
+ * key packing {@code (fromStop, toStop, epochDay)}; each key points to the {@link RouteDayFlights} of that route.
+ * <p>
+ * The index only answers for departure days that have been fully loaded. A route/day changed by a flight write
+ * is marked pending until its reload completes, and lookups of a pending route/day report a miss, so callers
+ * fall back to the database instead of reading a stale result. Every change is numbered, which lets reloads
+ * that raced with a later change be discarded instead of overwriting newer data.
+ * Lookups are lock-free; all mutations hold the index monitor.
+ */
+public final class DirectFlightIndex {
+
+    private static final int STOP_BITS = 21;
+    private static final int DAY_BITS = 22;
+    private static final long DAY_MASK = (1L << DAY_BITS) - 1;
+    private static final int MAX_STOPS = 1 << STOP_BITS;
+
+    private final Map<String, Integer> stopIndexes = new ConcurrentHashMap<>();
+    private volatile AirportSnapshot[] stops = new AirportSnapshot[64];
+
+    private final Map<Long, RouteDayFlights> routeDays = new ConcurrentHashMap<>();
+    private final Set<LocalDate> loadedDays = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> pendingRouteDays = new ConcurrentHashMap<>();
+
+    private final Map<LocalDate, Long> lastChanges = new HashMap<>();
+    private long changeVersion;
+
+    /**
+     * Finds the flights of a direct search.
+     *
+     * @param criteria the search criteria; both airports and a departure range within a single day are required.
+     * @return the matching {@link FlightRange}, or an empty {@link Optional} if the index cannot answer
+     * (the day is not loaded, the route/day is being reloaded, or the criteria span several days).
+     */
+    public Optional<FlightRange> find(final FlightSearchCriteria criteria) {
+
+        if (criteria.fromAirportId() == null || criteria.toAirportId() == null
+                || criteria.departureStart() == null || criteria.departureEnd() == null) {
+            return Optional.empty();
+        }
+
+        final LocalDate day = criteria.departureStart().toLocalDate();
+
+        if (!day.equals(criteria.departureEnd().toLocalDate()) || !loadedDays.contains(day)) {
+            return Optional.empty();
+        }
+
+        final Integer fromStop = stopIndexes.get(criteria.fromAirportId());
+        final Integer toStop = stopIndexes.get(criteria.toAirportId());
+
+        if (fromStop == null || toStop == null) {
+            return Optional.of(new FlightRange(RouteDayFlights.EMPTY, 0, 0, null, null));
+        }
+
+        final long key = key(fromStop, toStop, day);
+
+        if (pendingRouteDays.containsKey(key)) {
+            return Optional.empty();
+        }
+
+        final RouteDayFlights flights = routeDays.getOrDefault(key, RouteDayFlights.EMPTY);
+        final int start = flights.firstDepartingAtOrAfter(RouteDayFlights.toEpochMilli(criteria.departureStart()));
+        final int end = flights.firstDepartingAtOrAfter(RouteDayFlights.toEpochMilli(criteria.departureEnd()) + 1);
+
+        final AirportSnapshot[] snapshots = stops;
+        return Optional.of(new FlightRange(flights, start, Math.max(start, end), snapshots[fromStop], snapshots[toStop]));
+
+    }
+
+    /**
+     * Checks whether every flight of the day is in the index.
+     *
+     * @param day the departure day.
+     * @return {@code true} if the day is loaded.
+     */
+    public boolean isLoaded(final LocalDate day) {
+        return loadedDays.contains(day);
+    }
+
+    /**
+     * Starts loading a day; the returned token must be passed to {@link #completeDayLoad}.
+     *
+     * @return the version of the last change seen before the day is read.
+     */
+    public synchronized long beginDayLoad() {
+        return changeVersion;
+    }
+
+    /**
+     * Installs the flights of a day read after {@link #beginDayLoad()}.
+     * The load is discarded if a flight of the day changed in the meantime, since the read may have missed it.
+     *
+     * @param day the departure day.
+     * @param token the token returned by {@link #beginDayLoad()} before the flights were read.
+     * @param flights every flight departing on the day.
+     * @return {@code true} if the day was installed, {@code false} if the load was discarded.
+     */
+    public synchronized boolean completeDayLoad(final LocalDate day, final long token, final List<FlightEntity> flights) {
+
+        if (lastChanges.getOrDefault(day, Long.MIN_VALUE) > token) {
+            return false;
+        }
+
+        final Map<Long, List<FlightEntity>> flightsByRoute = flights.stream()
+                .filter(DirectFlightIndex::isIndexable)
+                .filter(flight -> flight.getDepartureTime().toLocalDate().equals(day))
+                .collect(Collectors.groupingBy(flight -> key(
+                        stop(flight.getFromAirport()), stop(flight.getToAirport()), day)));
+
+        final long epochDay = day.toEpochDay();
+
+        routeDays.keySet().removeIf(key -> dayOf(key) == epochDay && !flightsByRoute.containsKey(key));
+        flightsByRoute.forEach((key, routeFlights) -> routeDays.put(key, RouteDayFlights.of(routeFlights)));
+        pendingRouteDays.keySet().removeIf(key -> dayOf(key) == epochDay);
+        loadedDays.add(day);
+
+        return true;
+
+    }
+
+    /**
+     * Records a change to a route/day and marks it pending if its day is loaded.
+     *
+     * @param routeDay the changed route/day.
+     * @return the version of the change, to be passed to {@link #completeRouteDay},
+     * or {@code -1} if the day is not loaded and nothing has to be reloaded.
+     */
+    public synchronized long markChanged(final FlightRouteDay routeDay) {
+
+        final long version = ++changeVersion;
+        lastChanges.put(routeDay.departureDate(), version);
+
+        if (!loadedDays.contains(routeDay.departureDate())) {
+            return -1L;
+        }
+
+        pendingRouteDays.put(key(routeDay), version);
+        return version;
+
+    }
+
+    /**
+     * Installs the reloaded flights of a pending route/day, unless a later change has superseded the reload.
+     *
+     * @param routeDay the reloaded route/day.
+     * @param version the version returned by {@link #markChanged} before the flights were read.
+     * @param flights every flight of the route/day.
+     */
+    public synchronized void completeRouteDay(final FlightRouteDay routeDay,
+                                              final long version,
+                                              final List<FlightEntity> flights) {
+
+        final long key = key(routeDay);
+
+        if (!Long.valueOf(version).equals(pendingRouteDays.get(key))) {
+            return;
+        }
+
+        final List<FlightEntity> routeFlights = flights.stream()
+                .filter(DirectFlightIndex::isIndexable)
+                .filter(flight -> key == key(stop(flight.getFromAirport()), stop(flight.getToAirport()),
+                        flight.getDepartureTime().toLocalDate()))
+                .toList();
+
+        if (routeFlights.isEmpty()) {
+            routeDays.remove(key);
+        } else {
+            routeDays.put(key, RouteDayFlights.of(routeFlights));
+        }
+
+        pendingRouteDays.remove(key);
+
+    }
+
+    /**
+     * Removes a day from the index; lookups of the day miss until it is loaded again.
+     *
+     * @param day the departure day.
+     */
+    public synchronized void evictDay(final LocalDate day) {
+        evictDays(day.toEpochDay(), day.toEpochDay());
+    }
+
+    /**
+     * Removes every day before the given one from the index.
+     *
+     * @param day the first day to keep.
+     */
+    public synchronized void evictDaysBefore(final LocalDate day) {
+        evictDays(Long.MIN_VALUE, day.toEpochDay() - 1);
+    }
+
+    /**
+     * Replaces the cached copy of an airport, so renamed airports are rendered with their new name.
+     *
+     * @param airport the current state of the airport.
+     */
+    public synchronized void updateAirport(final AirportSnapshot airport) {
+
+        final Integer index = stopIndexes.get(airport.getId());
+
+        if (index != null) {
+            replaceStop(index, airport);
+        }
+
+    }
+
+    /**
+     * Returns the number of flights in the index.
+     *
+     * @return the flight count.
+     */
+    public long flightCount() {
+        return routeDays.values().stream().mapToLong(RouteDayFlights::size).sum();
+    }
+
+    /**
+     * Estimates the heap retained by the indexed flights, excluding the airport dictionary.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimatedBytes() {
+        return routeDays.values().stream().mapToLong(RouteDayFlights::estimatedBytes).sum();
+    }
+
+    private void evictDays(final long firstEpochDay, final long lastEpochDay) {
+
+        loadedDays.removeIf(day -> day.toEpochDay() >= firstEpochDay && day.toEpochDay() <= lastEpochDay);
+        routeDays.keySet().removeIf(key -> dayOf(key) >= firstEpochDay && dayOf(key) <= lastEpochDay);
+        pendingRouteDays.keySet().removeIf(key -> dayOf(key) >= firstEpochDay && dayOf(key) <= lastEpochDay);
+        lastChanges.keySet().removeIf(day -> day.toEpochDay() >= firstEpochDay && day.toEpochDay() <= lastEpochDay);
+
+    }
+
+    /**
+     * Returns the stop number of an airport, registering it and refreshing its cached copy.
+     * Must be called while holding the index monitor.
+     */
+    private int stop(final AirportSnapshot airport) {
+
+        final int index = stop(airport.getId());
+
+        if (airport.getName() != null) {
+            replaceStop(index, airport);
+        }
+
+        return index;
+
+    }
+
+    /**
+     * Replaces the cached copy of a known airport if it differs, publishing a new dictionary array
+     * so concurrent lookups see either the old or the new copy.
+     */
+    private void replaceStop(final int index, final AirportSnapshot airport) {
+
+        final AirportSnapshot snapshot = copyOf(airport);
+
+        if (!snapshot.equals(stops[index])) {
+            final AirportSnapshot[] copy = stops.clone();
+            copy[index] = snapshot;
+            stops = copy;
+        }
+
+    }
+
+    private int stop(final String airportId) {
+
+        final Integer existing = stopIndexes.get(airportId);
+        if (existing != null) {
+            return existing;
+        }
+
+        final int index = stopIndexes.size();
+        if (index >= MAX_STOPS) {
+            throw new IllegalStateException("Too many airports for the flight index: " + index);
+        }
+
+        if (index == stops.length) {
+            stops = Arrays.copyOf(stops, index * 2);
+        }
+
+        stops[index] = AirportSnapshot.builder().id(airportId).build();
+        stopIndexes.put(airportId, index);
+
+        return index;
+
+    }
+
+    private long key(final FlightRouteDay routeDay) {
+        return key(stop(routeDay.fromAirportId()), stop(routeDay.toAirportId()), routeDay.departureDate());
+    }
+
+    private static long key(final int fromStop, final int toStop, final LocalDate day) {
+        return ((long) fromStop << (STOP_BITS + DAY_BITS)) | ((long) toStop << DAY_BITS) | (day.toEpochDay() & DAY_MASK);
+    }
+
+    private static long dayOf(final long key) {
+        return key & DAY_MASK;
+    }
+
+    private static AirportSnapshot copyOf(final AirportSnapshot airport) {
+        return AirportSnapshot.builder()
+                .id(airport.getId())
+                .name(airport.getName())
+                .cityName(airport.getCityName())
+                .build();
+    }
+
+    private static boolean isIndexable(final FlightEntity flight) {
+        return flight.getId() != null
+                && flight.getFromAirport() != null
+                && flight.getToAirport() != null
+                && flight.getFromAirport().getId() != null
+                && flight.getToAirport().getId() != null
+                && flight.getDepartureTime() != null;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The flights of a route departing within a time range, as found in the {@link DirectFlightIndex}
+ * or read for a batch of searches sharing the route.
+ * Flights are ordered by {@code (departureTime, id)} and only materialized as entities when a page is read.
+ */
+public final class FlightRange {
+
+    private final RouteDayFlights flights;
+    private final int start;
+    private final int end;
+    private final AirportSnapshot fromAirport;
+    private final AirportSnapshot toAirport;
+
+    FlightRange(final RouteDayFlights flights,
+                final int start,
+                final int end,
+                final AirportSnapshot fromAirport,
+                final AirportSnapshot toAirport) {
+        this.flights = flights;
+        this.start = start;
+        this.end = end;
+        this.fromAirport = fromAirport;
+        this.toAirport = toAirport;
+    }
+
+    /**
+     * Creates the range of the given flights of one route, such as the flights of a route/day read from the database.
+     *
+     * @param flights the flights of one route, in any order.
+     * @return a {@link FlightRange} holding every given flight.
+     */
+    public static FlightRange of(final List<FlightEntity> flights) {
+
+        if (flights.isEmpty()) {
+            return new FlightRange(RouteDayFlights.EMPTY, 0, 0, null, null);
+        }
+
+        return new FlightRange(RouteDayFlights.of(flights), 0, flights.size(),
+                flights.get(0).getFromAirport(), flights.get(0).getToAirport());
+
+    }
+
+    /**
+     * Returns the number of flights in the range.
+     *
+     * @return the exact number of matching flights.
+     */
+    public int size() {
+        return end - start;
+    }
+
+    /**
+     * Returns the lowest price in the range.
+     *
+     * @return the cheapest price, or {@code null} if the range has no priced flight.
+     */
+    public Double cheapestPrice() {
+        return flights.cheapestPrice(start, end);
+    }
+
+    /**
+     * Returns a page of the range by offset.
+     *
+     * @param offset the number of flights to skip.
+     * @param limit the maximum number of flights to return.
+     * @return the flights of the page.
+     */
+    public List<FlightEntity> flights(final long offset, final int limit) {
+
+        if (offset >= size()) {
+            return List.of();
+        }
+
+        return materialize(start + (int) offset, limit);
+
+    }
+
+    /**
+     * Returns the flights that come after the given keyset position, as
+     * {@link com.example.demo.flight.repository.FlightKeysetRepository#findFlightsAfter} does.
+     *
+     * @param after the position to resume after.
+     * @param limit the maximum number of flights to return.
+     * @return the flights following the position.
+     */
+    public List<FlightEntity> flightsAfter(final FlightCursor.Position after, final int limit) {
+
+        if (after.isEnd()) {
+            return List.of();
+        }
+
+        if (after.isStart()) {
+            return materialize(start, limit);
+        }
+
+        final long departureTime = RouteDayFlights.toEpochMilli(after.departureTime());
+
+        int row = Math.max(start, Math.min(end, flights.firstDepartingAtOrAfter(departureTime)));
+
+        while (row < end
+                && flights.departureTime(row) == departureTime
+                && flights.id(row).compareTo(after.id()) <= 0) {
+            row++;
+        }
+
+        return materialize(row, limit);
+
+    }
+
+    private List<FlightEntity> materialize(final int from, final int limit) {
+
+        final int to = (int) Math.min(end, (long) from + limit);
+        final List<FlightEntity> result = new ArrayList<>(Math.max(0, to - from));
+
+        for (int row = from; row < to; row++) {
+            result.add(flights.flight(row, fromAirport, toAirport));
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.demo.flight.timetable;
+
+/**
+ * A journey found by a connection scan, as the connection indexes of its legs in travel order.
+ *
+ * @param connections the connection indexes of the legs in the scanned {@link ConnectionTimetable}.
+ * @param arrivalTime the arrival at the destination, in epoch seconds.
+ * @param price       the total price, in cents.
+ */
+public record Journey(int[] connections, long arrivalTime, long price) {
+
+    /**
+     * Returns the number of flights of the journey.
+     *
+     * @return the number of legs.
+     */
+    public int legs() {
+        return connections.length;
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.RoundTripSort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Pairs the outbound and return flights of a round trip without materializing their cross product.
+ * A return flight can be paired with an outbound flight if it departs at least the minimum stay after the outbound
+ * flight arrives.
+ * Both legs are sorted by their cost, so the best combinations are found by walking the pairs in cost order while
+ * keeping only the best {@code limit} of them in a bounded heap: once the next pair of an outbound flight cannot enter
+ * the heap, neither can any later pair of that flight, and once the cheapest pair of an outbound flight cannot enter it,
+ * no later outbound flight can. Memory stays proportional to the two legs plus {@code limit}.
+ */
+public final class RoundTripCombiner {
+
+    /**
+     * The cost of a flight without a price, ranking it after every priced flight without overflowing a sum of two.
+     */
+    static final long UNPRICED = Long.MAX_VALUE / 4;
+
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+            .comparingLong(Candidate::cost)
+            .thenComparingInt(Candidate::outbound)
+            .thenComparingInt(Candidate::inbound);
+
+    private RoundTripCombiner() {
+    }
+
+    /**
+     * A combination of an outbound and a return flight.
+     *
+     * @param outbound the outbound flight.
+     * @param inbound the return flight.
+     */
+    public record Pair(FlightEntity outbound, FlightEntity inbound) {
+    }
+
+    /**
+     * Returns the best combinations of the two legs.
+     * Ties are broken by the flight IDs, so consecutive pages of the same legs never overlap.
+     *
+     * @param outbound the outbound flights.
+     * @param inbound the return flights.
+     * @param minStay the minimum time between the outbound arrival and the return departure.
+     * @param sort how the combinations are ranked.
+     * @param limit the maximum number of combinations to return.
+     * @return at most {@code limit} combinations, best first.
+     */
+    public static List<Pair> best(final List<FlightEntity> outbound,
+                                  final List<FlightEntity> inbound,
+                                  final Duration minStay,
+                                  final RoundTripSort sort,
+                                  final int limit) {
+
+        if (limit <= 0 || outbound.isEmpty() || inbound.isEmpty()) {
+            return List.of();
+        }
+
+        final Leg[] outboundLegs = legs(outbound, sort);
+        final Leg[] inboundLegs = legs(inbound, sort);
+        final long cheapestInbound = inboundLegs[0].cost();
+
+        final PriorityQueue<Candidate> worstFirst = new PriorityQueue<>(limit, CANDIDATE_ORDER.reversed());
+
+        for (int out = 0; out < outboundLegs.length; out++) {
+
+            final Leg outboundLeg = outboundLegs[out];
+
+            if (worstFirst.size() == limit && outboundLeg.cost() + cheapestInbound > worstFirst.peek().cost()) {
+                break;
+            }
+
+            final LocalDateTime earliestReturn = outboundLeg.flight().getArrivalTime().plus(minStay);
+
+            for (int in = 0; in < inboundLegs.length; in++) {
+
+                if (inboundLegs[in].flight().getDepartureTime().isBefore(earliestReturn)) {
+                    continue;
+                }
+
+                final Candidate candidate = new Candidate(outboundLeg.cost() + inboundLegs[in].cost(), out, in);
+
+                if (worstFirst.size() == limit) {
+                    if (CANDIDATE_ORDER.compare(candidate, worstFirst.peek()) >= 0) {
+                        break;
+                    }
+                    worstFirst.poll();
+                }
+
+                worstFirst.offer(candidate);
+
+            }
+
+        }
+
+        final Candidate[] candidates = worstFirst.toArray(new Candidate[0]);
+        Arrays.sort(candidates, CANDIDATE_ORDER);
+
+        final List<Pair> pairs = new ArrayList<>(candidates.length);
+
+        for (Candidate candidate : candidates) {
+            pairs.add(new Pair(outboundLegs[candidate.outbound()].flight(), inboundLegs[candidate.inbound()].flight()));
+        }
+
+        return pairs;
+
+    }
+
+    /**
+     * Counts the combinations of the two legs by binary searching the return departures of every outbound flight.
+     *
+     * @param outbound the outbound flights.
+     * @param inbound the return flights.
+     * @param minStay the minimum time between the outbound arrival and the return departure.
+     * @return the number of valid combinations.
+     */
+    public static long count(final List<FlightEntity> outbound,
+                             final List<FlightEntity> inbound,
+                             final Duration minStay) {
+
+        final long[] returnDepartures = inbound.stream()
+                .mapToLong(flight -> toEpochSecond(flight.getDepartureTime()))
+                .sorted()
+                .toArray();
+
+        long count = 0;
+
+        for (FlightEntity flight : outbound) {
+            count += returnDepartures.length
+                    - firstAtOrAfter(returnDepartures, toEpochSecond(flight.getArrivalTime().plus(minStay)));
+        }
+
+        return count;
+
+    }
+
+    /**
+     * Returns the cost of a flight under the given ranking: its price in cents or its flight time in minutes.
+     *
+     * @param flight the flight.
+     * @param sort how the combinations are ranked.
+     * @return the cost of the flight.
+     */
+    static long cost(final FlightEntity flight, final RoundTripSort sort) {
+        return switch (sort) {
+            case PRICE -> flight.getPrice() == null ? UNPRICED : Math.round(flight.getPrice() * 100);
+            case DURATION -> Duration.between(flight.getDepartureTime(), flight.getArrivalTime()).toMinutes();
+        };
+    }
+
+    private static Leg[] legs(final List<FlightEntity> flights, final RoundTripSort sort) {
+
+        final Leg[] legs = new Leg[flights.size()];
+
+        for (int index = 0; index < legs.length; index++) {
+            legs[index] = new Leg(flights.get(index), cost(flights.get(index), sort));
+        }
+
+        Arrays.sort(legs, Comparator.comparingLong(Leg::cost).thenComparing(leg -> leg.flight().getId()));
+
+        return legs;
+
+    }
+
+    private static int firstAtOrAfter(final long[] sorted, final long value) {
+
+        int low = 0;
+        int high = sorted.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+
+    }
+
+    private static long toEpochSecond(final LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private record Leg(FlightEntity flight, long cost) {
+    }
+
+    /**
+     * A combination by the positions of its flights in the sorted legs.
+     */
+    private record Candidate(long cost, int outbound, int inbound) {
+    }
+
+}
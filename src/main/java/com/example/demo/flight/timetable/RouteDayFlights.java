@@ -0,0 +1,216 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The flights of one route on one departure day, stored column-wise in primitive arrays ordered by
+ * {@code (departureTime, id)}, the order every flight search returns.
+ * Times are UTC epoch milliseconds (the precision MongoDB stores) and prices are in cents.
+ * Flight IDs that are canonical UUIDs are kept as their two 64-bit halves; only other IDs are kept as strings.
+ * Instances are immutable; a change to the route/day replaces the whole instance.
+ */
+final class RouteDayFlights {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+
+    private static final long ARRAY_HEADER_BYTES = 16L;
+
+    private static final long STRING_BYTES = 40L;
+
+    private static final Comparator<FlightEntity> FLIGHT_ORDER = Comparator
+            .comparing(FlightEntity::getDepartureTime)
+            .thenComparing(FlightEntity::getId);
+
+    static final RouteDayFlights EMPTY = of(List.of());
+
+    private final long[] departureTimes;
+    private final long[] arrivalTimes;
+    private final int[] prices;
+    private final long[] idHighBits;
+    private final long[] idLowBits;
+    private final String[] ids;
+
+    private RouteDayFlights(final FlightEntity[] flights) {
+
+        final int size = flights.length;
+        this.departureTimes = new long[size];
+        this.arrivalTimes = new long[size];
+        this.prices = new int[size];
+        this.idHighBits = new long[size];
+        this.idLowBits = new long[size];
+
+        String[] otherIds = null;
+
+        for (int row = 0; row < size; row++) {
+
+            final FlightEntity flight = flights[row];
+            departureTimes[row] = toEpochMilli(flight.getDepartureTime());
+            arrivalTimes[row] = flight.getArrivalTime() == null ? NO_TIME : toEpochMilli(flight.getArrivalTime());
+            prices[row] = flight.getPrice() == null ? NO_PRICE : Math.toIntExact(Math.round(flight.getPrice() * 100));
+
+            final UUID uuid = canonicalUuid(flight.getId());
+            if (uuid != null) {
+                idHighBits[row] = uuid.getMostSignificantBits();
+                idLowBits[row] = uuid.getLeastSignificantBits();
+            } else {
+                if (otherIds == null) {
+                    otherIds = new String[size];
+                }
+                otherIds[row] = flight.getId();
+            }
+
+        }
+
+        this.ids = otherIds;
+
+    }
+
+    /**
+     * Builds the route/day from its flights, in any order.
+     *
+     * @param flights the flights of one route on one departure day.
+     * @return the {@link RouteDayFlights} of the flights.
+     */
+    static RouteDayFlights of(final List<FlightEntity> flights) {
+        return new RouteDayFlights(flights.stream().sorted(FLIGHT_ORDER).toArray(FlightEntity[]::new));
+    }
+
+    /**
+     * Converts a flight time to the epoch milliseconds used by the index.
+     *
+     * @param time the flight time.
+     * @return the UTC epoch millisecond of the time.
+     */
+    static long toEpochMilli(final LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    int size() {
+        return departureTimes.length;
+    }
+
+    long departureTime(final int row) {
+        return departureTimes[row];
+    }
+
+    /**
+     * Returns the first row departing at or after the given time.
+     *
+     * @param epochMilli the time to search for.
+     * @return the row, or {@link #size()} if every flight departs earlier.
+     */
+    int firstDepartingAtOrAfter(final long epochMilli) {
+
+        int low = 0;
+        int high = departureTimes.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (departureTimes[middle] < epochMilli) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+
+    }
+
+    String id(final int row) {
+        if (ids != null && ids[row] != null) {
+            return ids[row];
+        }
+        return new UUID(idHighBits[row], idLowBits[row]).toString();
+    }
+
+    /**
+     * Returns the lowest price of the rows in {@code [from, to)}.
+     *
+     * @param from the first row.
+     * @param to the row after the last one.
+     * @return the cheapest price, or {@code null} if none of the rows has a price.
+     */
+    Double cheapestPrice(final int from, final int to) {
+
+        int cheapest = NO_PRICE;
+
+        for (int row = from; row < to; row++) {
+            if (prices[row] != NO_PRICE && (cheapest == NO_PRICE || prices[row] < cheapest)) {
+                cheapest = prices[row];
+            }
+        }
+
+        return cheapest == NO_PRICE ? null : cheapest / 100.0;
+
+    }
+
+    /**
+     * Materializes a row as a flight entity.
+     *
+     * @param row the row.
+     * @param fromAirport the departure airport of the route.
+     * @param toAirport the arrival airport of the route.
+     * @return a new {@link FlightEntity} with the values of the row.
+     */
+    FlightEntity flight(final int row, final AirportSnapshot fromAirport, final AirportSnapshot toAirport) {
+        return FlightEntity.builder()
+                .id(id(row))
+                .fromAirport(fromAirport)
+                .toAirport(toAirport)
+                .departureTime(toLocalDateTime(departureTimes[row]))
+                .arrivalTime(arrivalTimes[row] == NO_TIME ? null : toLocalDateTime(arrivalTimes[row]))
+                .price(prices[row] == NO_PRICE ? null : prices[row] / 100.0)
+                .build();
+    }
+
+    /**
+     * Estimates the heap retained by the route/day, counting array headers and the ID strings that are not UUIDs.
+     *
+     * @return the estimated size in bytes.
+     */
+    long estimatedBytes() {
+
+        final long size = departureTimes.length;
+        long bytes = 5 * ARRAY_HEADER_BYTES + size * (Long.BYTES * 4 + Integer.BYTES);
+
+        if (ids != null) {
+            bytes += ARRAY_HEADER_BYTES + size * Integer.BYTES;
+            for (String id : ids) {
+                if (id != null) {
+                    bytes += STRING_BYTES + id.length();
+                }
+            }
+        }
+
+        return bytes;
+
+    }
+
+    private static LocalDateTime toLocalDateTime(final long epochMilli) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static UUID canonicalUuid(final String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            final UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+}
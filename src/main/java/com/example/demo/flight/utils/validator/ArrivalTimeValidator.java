@@ -1,6 +1,8 @@
 package com.example.demo.flight.utils.validator;
 
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
 import com.example.demo.flight.model.dto.request.flight.UpdateFlightRequest;
 import com.example.demo.flight.utils.annotations.ValidArrivalTime;
@@ -42,6 +44,14 @@ public class ArrivalTimeValidator implements ConstraintValidator<ValidArrivalTim
         else if (value instanceof SearchFlightRequest searchFlightRequest) {
             return isValidArrivalTime(searchFlightRequest.getArrivalTime(), searchFlightRequest.getDepartureTime());
         }
+        // Validate for CitySearchFlightRequest type
+        else if (value instanceof CitySearchFlightRequest citySearchFlightRequest) {
+            return isValidArrivalTime(citySearchFlightRequest.getArrivalTime(), citySearchFlightRequest.getDepartureTime());
+        }
+        // Validate for RoundTripSearchRequest type, whose return time plays the role of the arrival time
+        else if (value instanceof RoundTripSearchRequest roundTripSearchRequest) {
+            return isValidArrivalTime(roundTripSearchRequest.getReturnTime(), roundTripSearchRequest.getDepartureTime());
+        }
 
         return true;  // Return true if the object type is not recognized
     }
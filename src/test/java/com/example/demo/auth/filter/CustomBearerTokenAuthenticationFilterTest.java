@@ -1,6 +1,8 @@
 package com.example.demo.auth.filter;
 
-import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.demo.auth.model.enums.TokenClaims;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
 import com.example.demo.base.AbstractBaseServiceTest;
 import jakarta.servlet.FilterChain;
@@ -14,9 +16,11 @@ import org.mockito.Mock;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest {
@@ -28,7 +32,7 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
     private TokenService tokenService;
 
     @Mock
-    private InvalidTokenService invalidTokenService;
+    private TokenEpochService tokenEpochService;
 
     @BeforeEach
     void setup() {
@@ -45,30 +49,56 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
 
         // Given
         String validJwt = "valid-jwt-token";
-        String tokenId = "valid-token-id";
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain filterChain = mock(FilterChain.class);
 
+        UsernamePasswordAuthenticationToken authentication = authenticationOf(validJwt);
+
         // When
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validJwt);
-        when(tokenService.getId(validJwt)).thenReturn(tokenId);
-        when(tokenService.getAuthentication(validJwt)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
+        when(tokenService.authenticate(validJwt)).thenReturn(authentication);
 
         // Then
         customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
-        assertEquals("user", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
 
         // Verify
-        verify(tokenService).verifyAndValidate(validJwt);
-        verify(invalidTokenService).checkForInvalidityOfToken(tokenId);
-        verify(tokenService).getAuthentication(validJwt);
+        verify(tokenService, times(1)).authenticate(validJwt);
+        verifyNoMoreInteractions(tokenService);
+        verify(tokenEpochService).checkTokenEpoch(((Jwt) authentication.getPrincipal()).getClaims());
         verify(filterChain).doFilter(request, response);
 
     }
 
+    @Test
+    void shouldRejectTokenRevokedByLaterEpoch() throws Exception {
+
+        // Given
+        String revokedJwt = "revoked-jwt-token";
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        UsernamePasswordAuthenticationToken authentication = authenticationOf(revokedJwt);
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + revokedJwt);
+        when(tokenService.authenticate(revokedJwt)).thenReturn(authentication);
+        doThrow(new TokenAlreadyInvalidatedException()).when(tokenEpochService)
+                .checkTokenEpoch(((Jwt) authentication.getPrincipal()).getClaims());
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // Verify
+        verifyNoInteractions(filterChain);
+
+    }
+
     @Test
     void shouldNotAuthenticateWithoutBearerToken() throws Exception {
 
@@ -86,11 +116,18 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
         // Verify
-        verify(tokenService, never()).verifyAndValidate(anyString());
-        verify(invalidTokenService, never()).checkForInvalidityOfToken(any());
-        verify(tokenService, never()).getAuthentication(any());
+        verifyNoInteractions(tokenService, tokenEpochService);
         verify(filterChain).doFilter(request, response);
 
     }
 
+    private static UsernamePasswordAuthenticationToken authenticationOf(final String tokenValue) {
+        final Jwt jwt = Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS512")
+                .claim(TokenClaims.USER_ID.getValue(), "user")
+                .claim(TokenClaims.TOKEN_EPOCH.getValue(), 0L)
+                .build();
+        return UsernamePasswordAuthenticationToken.authenticated(jwt, null, List.of());
+    }
+
 }
\ No newline at end of file
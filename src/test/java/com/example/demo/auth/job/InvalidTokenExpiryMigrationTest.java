@@ -0,0 +1,95 @@
+package com.example.demo.auth.job;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.model.entity.InvalidTokenEntity;
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link InvalidTokenExpiryMigration}.
+ * This class verifies that invalidated tokens without an expiration get one a longest token lifetime after their
+ * creation, with a single server-side update.
+ */
+class InvalidTokenExpiryMigrationTest extends AbstractBaseServiceTest {
+
+    private static final String COLLECTION_NAME = "invalid-token-collection";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private TokenConfigurationParameter tokenConfigurationParameter;
+
+    private InvalidTokenExpiryMigration invalidTokenExpiryMigration;
+
+    @BeforeEach
+    void setUp() {
+        tokenConfigurationParameter = new TokenConfigurationParameter();
+        invalidTokenExpiryMigration = new InvalidTokenExpiryMigration(mongoTemplate, tokenConfigurationParameter);
+    }
+
+    @Test
+    void givenTokensWithoutExpiration_whenMigrate_thenExpireThemALongestLifetimeAfterCreation() {
+
+        // Given
+        final long retentionMillis = Duration.ofDays(tokenConfigurationParameter.getRefreshTokenExpireDay())
+                .toMillis();
+
+        when(mongoTemplate.getCollectionName(InvalidTokenEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        // When
+        final long migrated = invalidTokenExpiryMigration.migrate();
+
+        // Then
+        assertEquals(2, migrated);
+
+        // Verify
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(COLLECTION_NAME));
+
+        final Document filter = queryCaptor.getValue().getQueryObject();
+        assertEquals(new Document("$exists", false), filter.get("EXPIRES_AT"));
+        assertEquals(new Document("$exists", true), filter.get("createdAt"));
+
+        final Document expiresAt = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0)
+                .get("$set", Document.class)
+                .get("EXPIRES_AT", Document.class);
+        assertEquals(List.of("$createdAt", retentionMillis), expiresAt.get("$add"));
+
+    }
+
+    @Test
+    void givenEveryTokenHasExpiration_whenRun_thenModifyNothing() {
+
+        // Given
+        when(mongoTemplate.getCollectionName(InvalidTokenEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        invalidTokenExpiryMigration.run(null);
+
+        // Verify
+        verify(mongoTemplate).updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME));
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.demo.auth.job;
+
+import com.example.demo.auth.service.RevocationRegistryService;
+import com.example.demo.base.AbstractBaseServiceTest;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for {@link RevocationRegistrySyncJob}.
+ * Verifies that the registry is synchronised and that a failing synchronisation does not propagate.
+ */
+class RevocationRegistrySyncJobTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private RevocationRegistrySyncJob revocationRegistrySyncJob;
+
+    @Mock
+    private RevocationRegistryService revocationRegistryService;
+
+    @Test
+    void givenSyncFails_whenSyncRegistry_thenDoNotPropagate() {
+
+        // Given
+        when(revocationRegistryService.sync()).thenThrow(new IllegalStateException("Connection lost"));
+
+        // When
+        assertDoesNotThrow(() -> revocationRegistrySyncJob.syncRegistry());
+
+        // Verify
+        verify(revocationRegistryService).sync();
+
+    }
+
+}
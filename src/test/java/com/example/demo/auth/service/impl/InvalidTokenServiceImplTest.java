@@ -3,15 +3,23 @@ package com.example.demo.auth.service.impl;
 import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.demo.auth.model.entity.InvalidTokenEntity;
 import com.example.demo.auth.repository.InvalidTokenRepository;
+import com.example.demo.auth.service.RevocationRegistryService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
 import com.example.demo.base.AbstractBaseServiceTest;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -19,7 +27,8 @@ import static org.mockito.Mockito.*;
 /**
  * Unit test class for {@link InvalidTokenServiceImpl}.
  * This test class verifies the functionality of the service responsible for managing invalid tokens.
- * It mocks the {@link InvalidTokenRepository} to simulate interactions with the data layer.
+ * It mocks the {@link InvalidTokenRepository} to simulate interactions with the data layer, and the
+ * {@link RevocationRegistryService} answering the invalidity checks.
  */
 class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
 
@@ -29,20 +38,51 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenRepository invalidTokenRepository;
 
+    @Mock
+    private RevocationRegistryService revocationRegistryService;
+
+    @Mock
+    private VerifiedTokenCacheService verifiedTokenCacheService;
+
     @Test
     void invalidateTokens_ShouldSaveAllInvalidTokens() {
 
         // Given
-        Set<String> tokenIds = Set.of("token-id-1", "token-id-2");
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        Map<String, Instant> tokenExpirations = Map.of("token-id-1", expiresAt, "token-id-2", expiresAt);
+        ArgumentCaptor<Set<InvalidTokenEntity>> savedCaptor = ArgumentCaptor.forClass(Set.class);
 
         // When
         when(invalidTokenRepository.saveAll(any(Set.class))).thenReturn(Collections.emptyList());
 
         // Then
-        invalidTokenService.invalidateTokens(tokenIds);
+        invalidTokenService.invalidateTokens(tokenExpirations);
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).saveAll(savedCaptor.capture());
+        assertEquals(2, savedCaptor.getValue().size());
+        savedCaptor.getValue().forEach(invalidToken ->
+                assertEquals(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), invalidToken.getExpiresAt()));
+        verify(revocationRegistryService).revoke(tokenExpirations);
+        verify(verifiedTokenCacheService).evict(Set.of("token-id-1", "token-id-2"));
+
+    }
+
+    @Test
+    void invalidateTokens_ShouldThrowExceptionIfTokenInvalidatedConcurrently() {
+
+        // Given
+        Map<String, Instant> tokenExpirations = Map.of("token-id-1", Instant.now().plusSeconds(60));
+
+        // When
+        when(invalidTokenRepository.saveAll(any(Set.class))).thenThrow(new DuplicateKeyException("TOKEN_ID"));
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> invalidTokenService.invalidateTokens(tokenExpirations));
 
         // Verify
-        verify(invalidTokenRepository, times(1)).saveAll(any(Set.class));
+        verifyNoInteractions(revocationRegistryService, verifiedTokenCacheService);
 
     }
 
@@ -53,7 +93,7 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         String tokenId = "test-token-id";
 
         // When
-        when(invalidTokenRepository.findByTokenId(tokenId)).thenReturn(Optional.of(new InvalidTokenEntity()));
+        when(revocationRegistryService.isRevoked(tokenId)).thenReturn(true);
 
         // Then
         assertThrows(TokenAlreadyInvalidatedException.class, () -> {
@@ -61,7 +101,8 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         });
 
         // Verify
-        verify(invalidTokenRepository, times(1)).findByTokenId(tokenId);
+        verify(revocationRegistryService, times(1)).isRevoked(tokenId);
+        verifyNoMoreInteractions(invalidTokenRepository);
 
     }
 
@@ -72,13 +113,14 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         String tokenId = "test-token-id";
 
         // When
-        when(invalidTokenRepository.findByTokenId(tokenId)).thenReturn(Optional.empty());
+        when(revocationRegistryService.isRevoked(tokenId)).thenReturn(false);
 
         // Then
         invalidTokenService.checkForInvalidityOfToken(tokenId);
 
         // Verify
-        verify(invalidTokenRepository, times(1)).findByTokenId(tokenId);
+        verify(revocationRegistryService, times(1)).isRevoked(tokenId);
+        verifyNoMoreInteractions(invalidTokenRepository);
 
     }
 
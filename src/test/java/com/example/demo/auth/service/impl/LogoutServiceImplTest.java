@@ -1,8 +1,10 @@
 package com.example.demo.auth.service.impl;
 
+import com.example.demo.auth.model.VerifiedToken;
 import com.example.demo.auth.model.dto.request.TokenInvalidateRequest;
 import com.example.demo.auth.model.entity.UserEntity;
 import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.TokenBuilder;
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -34,20 +38,28 @@ class LogoutServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @Test
     void givenAccessTokenAndRefreshToken_whenLogoutForAdmin_thenReturnLogout() {
 
         // Given
         final UserEntity mockUserEntity = new UserBuilder().withValidFields().build();
 
+        final Instant accessTokenExpiresAt = Instant.now().plusSeconds(1_800);
+        final Instant refreshTokenExpiresAt = Instant.now().plusSeconds(86_400);
+
         final Claims mockAccessTokenClaims = TokenBuilder.getValidClaims(
                 mockUserEntity.getId(),
-                mockUserEntity.getFirstName()
+                mockUserEntity.getFirstName(),
+                Date.from(accessTokenExpiresAt)
         );
 
         final Claims mockRefreshTokenClaims = TokenBuilder.getValidClaims(
                 mockUserEntity.getId(),
-                mockUserEntity.getFirstName()
+                mockUserEntity.getFirstName(),
+                Date.from(refreshTokenExpiresAt)
         );
 
         final String mockAccessTokenId = mockAccessTokenClaims.getId();
@@ -57,28 +69,66 @@ class LogoutServiceImplTest extends AbstractBaseServiceTest {
         final String accessToken = "validAccessToken";
         final String refreshToken = "validRefreshToken";
 
+        final Map<String, Instant> tokenExpirations = Map.of(
+                mockAccessTokenId, mockAccessTokenClaims.getExpiration().toInstant(),
+                mockRefreshTokenId, mockRefreshTokenClaims.getExpiration().toInstant()
+        );
+
         final TokenInvalidateRequest tokenInvalidateRequest = TokenInvalidateRequest.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .build();
 
         // When
-        doNothing().when(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        when(tokenService.getPayload(accessToken)).thenReturn(mockAccessTokenClaims);
+        when(tokenService.verify(accessToken))
+                .thenReturn(VerifiedToken.builder().jwt(accessToken).claims(mockAccessTokenClaims).build());
         doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockAccessTokenId);
-        when(tokenService.getPayload(refreshToken)).thenReturn(mockRefreshTokenClaims);
+        when(tokenService.verify(refreshToken))
+                .thenReturn(VerifiedToken.builder().jwt(refreshToken).claims(mockRefreshTokenClaims).build());
         doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockRefreshTokenId);
-        doNothing().when(invalidTokenService).invalidateTokens(Set.of(mockAccessTokenId, mockRefreshTokenId));
+        doNothing().when(invalidTokenService).invalidateTokens(tokenExpirations);
 
         // Then
         logoutService.logout(tokenInvalidateRequest);
 
         // Verify
-        verify(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        verify(tokenService, times(2)).getPayload(anyString());
+        verify(tokenService, times(2)).verify(anyString());
         verify(invalidTokenService, times(2)).checkForInvalidityOfToken(anyString());
-        verify(invalidTokenService).invalidateTokens(anySet());
+        verify(invalidTokenService).invalidateTokens(tokenExpirations);
+
+    }
+
+    @Test
+    void givenAccessToken_whenLogoutEverywhere_thenRevokeAllTokensOfUser() {
+
+        // Given
+        final UserEntity mockUserEntity = new UserBuilder().withValidFields().build();
+
+        final Claims mockAccessTokenClaims = TokenBuilder.getValidClaims(
+                mockUserEntity.getId(),
+                mockUserEntity.getFirstName()
+        );
+
+        final String accessToken = "validAccessToken";
+
+        final TokenInvalidateRequest tokenInvalidateRequest = TokenInvalidateRequest.builder()
+                .accessToken(accessToken)
+                .refreshToken("validRefreshToken")
+                .build();
+
+        // When
+        when(tokenService.verify(accessToken))
+                .thenReturn(VerifiedToken.builder().jwt(accessToken).claims(mockAccessTokenClaims).build());
+
+        // Then
+        logoutService.logoutEverywhere(tokenInvalidateRequest);
+
+        // Verify
+        verify(invalidTokenService).checkForInvalidityOfToken(mockAccessTokenClaims.getId());
+        verify(tokenEpochService).checkTokenEpoch(mockAccessTokenClaims);
+        verify(tokenEpochService).revokeAllTokens(mockUserEntity.getId());
+        verify(invalidTokenService, never()).invalidateTokens(anyMap());
 
     }
 
-}
\ No newline at end of file
+}
@@ -1,17 +1,25 @@
 package com.example.demo.auth.service.impl;
 
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
 import com.example.demo.auth.exception.UserNotFoundException;
 import com.example.demo.auth.exception.UserStatusNotValidException;
 import com.example.demo.auth.model.Token;
+import com.example.demo.auth.model.VerifiedToken;
 import com.example.demo.auth.model.dto.request.TokenRefreshRequest;
 import com.example.demo.auth.model.entity.UserEntity;
+import com.example.demo.auth.model.enums.TokenClaims;
 import com.example.demo.auth.model.enums.UserStatus;
 import com.example.demo.auth.repository.UserRepository;
+import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.TokenEpochService;
 import com.example.demo.auth.service.TokenService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.AdminUserBuilder;
 import com.example.demo.builder.TokenBuilder;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -19,6 +27,7 @@ import org.mockito.Mock;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +48,9 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @Test
     void refreshToken_ValidRefreshToken_ReturnsToken() {
 
@@ -61,10 +73,14 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
                 .refreshToken("newMockRefreshToken")
                 .build();
 
-        doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
-        when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
+        final VerifiedToken verifiedToken = VerifiedToken.builder()
+                .jwt(refreshTokenString)
+                .claims(mockClaims)
+                .build();
+
+        when(tokenService.verify(refreshTokenString)).thenReturn(verifiedToken);
         when(userRepository.findById(anyString())).thenReturn(Optional.of(mockAdminUserEntity));
-        when(tokenService.generateToken(mockAdminUserEntity.getClaims(), refreshTokenString)).thenReturn(expectedToken);
+        when(tokenService.generateToken(mockAdminUserEntity.getClaims(), verifiedToken)).thenReturn(expectedToken);
 
         // When
         Token actualToken = refreshTokenService.refreshToken(tokenRefreshRequest);
@@ -76,10 +92,45 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expectedToken.getRefreshToken(), actualToken.getRefreshToken());
 
         // Verify
-        verify(tokenService).verifyAndValidate(refreshTokenString);
-        verify(tokenService).getPayload(refreshTokenString);
+        verify(tokenService).verify(refreshTokenString);
         verify(userRepository).findById(anyString());
-        verify(tokenService).generateToken(mockAdminUserEntity.getClaims(), refreshTokenString);
+        verify(tokenEpochService).checkTokenEpoch(mockClaims);
+        verify(tokenService).generateToken(mockAdminUserEntity.getClaims(), verifiedToken);
+
+    }
+
+    @Test
+    void refreshToken_RefreshTokenRevokedByLaterEpoch_ThrowsException() {
+
+        // Given
+        final String refreshTokenString = "revokedRefreshToken";
+        final TokenRefreshRequest tokenRefreshRequest = TokenRefreshRequest.builder()
+                .refreshToken(refreshTokenString)
+                .build();
+
+        final UserEntity mockAdminUserEntity = new AdminUserBuilder().withValidFields().build();
+
+        final Claims mockClaims = TokenBuilder.getValidClaims(
+                mockAdminUserEntity.getId(),
+                mockAdminUserEntity.getFirstName()
+        );
+
+        final VerifiedToken verifiedToken = VerifiedToken.builder()
+                .jwt(refreshTokenString)
+                .claims(mockClaims)
+                .build();
+
+        // When
+        when(tokenService.verify(refreshTokenString)).thenReturn(verifiedToken);
+        when(userRepository.findById(mockAdminUserEntity.getId())).thenReturn(Optional.of(mockAdminUserEntity));
+        doThrow(new TokenAlreadyInvalidatedException()).when(tokenEpochService).checkTokenEpoch(mockClaims);
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> refreshTokenService.refreshToken(tokenRefreshRequest));
+
+        // Verify
+        verify(tokenService, never()).generateToken(any(), any(VerifiedToken.class));
 
     }
 
@@ -93,14 +144,14 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        doThrow(RuntimeException.class).when(tokenService).verifyAndValidate(refreshTokenString);
+        when(tokenService.verify(refreshTokenString)).thenThrow(RuntimeException.class);
 
         // Then
         assertThrows(RuntimeException.class,
                 () -> refreshTokenService.refreshToken(tokenRefreshRequest));
 
         // Verify
-        verify(tokenService).verifyAndValidate(refreshTokenString);
+        verify(tokenService).verify(refreshTokenString);
         verifyNoInteractions(userRepository);
 
     }
@@ -117,8 +168,12 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         final Claims mockClaims = TokenBuilder.getValidClaims("nonExistentAdminId", "John");
 
         // When
-        doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
-        when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
+        final VerifiedToken verifiedToken = VerifiedToken.builder()
+                .jwt(refreshTokenString)
+                .claims(mockClaims)
+                .build();
+
+        when(tokenService.verify(refreshTokenString)).thenReturn(verifiedToken);
         when(userRepository.findById("nonExistentAdminId")).thenReturn(Optional.empty());
 
         // Then
@@ -130,8 +185,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
             """, exception.getMessage());
 
         // Verify
-        verify(tokenService).verifyAndValidate(refreshTokenString);
-        verify(tokenService).getPayload(refreshTokenString);
+        verify(tokenService).verify(refreshTokenString);
         verify(userRepository).findById("nonExistentAdminId");
 
     }
@@ -150,8 +204,12 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         Claims mockClaims = TokenBuilder.getValidClaims(inactiveAdmin.getId(), inactiveAdmin.getFirstName());
 
         // When
-        doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
-        when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
+        final VerifiedToken verifiedToken = VerifiedToken.builder()
+                .jwt(refreshTokenString)
+                .claims(mockClaims)
+                .build();
+
+        when(tokenService.verify(refreshTokenString)).thenReturn(verifiedToken);
         when(userRepository.findById(inactiveAdmin.getId())).thenReturn(Optional.of(inactiveAdmin));
 
         // Then
@@ -161,10 +219,40 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         assertEquals("User status is not valid!\n UserStatus = PASSIVE", exception.getMessage());
 
         // Verify
-        verify(tokenService).verifyAndValidate(refreshTokenString);
-        verify(tokenService).getPayload(refreshTokenString);
+        verify(tokenService).verify(refreshTokenString);
         verify(userRepository).findById(inactiveAdmin.getId());
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void refreshToken_TokenPairIssuedAfterEpochIncrement_ReturnsToken() {
+
+        // Given
+        final UserEntity mockAdminUserEntity = new AdminUserBuilder().withValidFields().build();
+        mockAdminUserEntity.setTokenEpoch(1L);
+
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter();
+        final TokenServiceImpl realTokenService = new TokenServiceImpl(tokenConfigurationParameter,
+                mock(InvalidTokenService.class), mock(VerifiedTokenCacheService.class));
+        final RefreshTokenServiceImpl realRefreshTokenService = new RefreshTokenServiceImpl(userRepository,
+                realTokenService,
+                new TokenEpochServiceImpl(userRepository, tokenConfigurationParameter, new SimpleMeterRegistry()));
+
+        final Token issuedToken = realTokenService.generateToken(mockAdminUserEntity.getClaims());
+
+        // When
+        when(userRepository.findById(mockAdminUserEntity.getId())).thenReturn(Optional.of(mockAdminUserEntity));
+        when(userRepository.findTokenEpochById(mockAdminUserEntity.getId())).thenReturn(Optional.of(mockAdminUserEntity));
+
+        final Token refreshedToken = realRefreshTokenService.refreshToken(TokenRefreshRequest.builder()
+                .refreshToken(issuedToken.getRefreshToken())
+                .build());
+
+        // Then
+        assertNotNull(refreshedToken.getAccessToken());
+        assertEquals(1L, ((Number) realTokenService.verify(issuedToken.getRefreshToken()).getClaims()
+                .get(TokenClaims.TOKEN_EPOCH.getValue())).longValue());
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.model.entity.InvalidTokenEntity;
+import com.example.demo.auth.repository.InvalidTokenRepository;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
+import com.example.demo.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link RevocationRegistryServiceImpl}.
+ * This class verifies that revoked tokens are answered from memory once the registry is loaded, that local and
+ * remote revocations are picked up, and that lookups and the sync lag are exported.
+ */
+class RevocationRegistryServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    @Mock
+    private VerifiedTokenCacheService verifiedTokenCacheService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RevocationRegistryServiceImpl revocationRegistryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revocationRegistryService = new RevocationRegistryServiceImpl(invalidTokenRepository, verifiedTokenCacheService,
+                new TokenConfigurationParameter(), meterRegistry);
+    }
+
+    @Test
+    void givenRegistryNotLoaded_whenIsRevoked_thenQueryDatabase() {
+
+        // Given
+        when(invalidTokenRepository.existsByTokenId("revoked")).thenReturn(true);
+
+        // When
+        boolean revoked = revocationRegistryService.isRevoked("revoked");
+
+        // Then
+        assertTrue(revoked);
+        assertEquals(1.0, lookups("unloaded"));
+        assertFalse(revocationRegistryService.status().isLoaded());
+        assertTrue(Double.isNaN(meterRegistry.get(RevocationRegistryServiceImpl.SYNC_LAG_METRIC).gauge().value()));
+
+    }
+
+    @Test
+    void givenLoadedRegistry_whenIsRevoked_thenAnswerWithoutDatabase() {
+
+        // Given
+        when(invalidTokenRepository.findRecordedSince(any())).thenReturn(List.of(invalidToken("revoked")));
+        assertEquals(1L, revocationRegistryService.resync());
+
+        // When
+        boolean revoked = revocationRegistryService.isRevoked("revoked");
+        boolean valid = revocationRegistryService.isRevoked("valid");
+
+        // Then
+        assertTrue(revoked);
+        assertFalse(valid);
+        assertEquals(1, revocationRegistryService.status().getRevokedTokens());
+        assertTrue(meterRegistry.get(RevocationRegistryServiceImpl.SYNC_LAG_METRIC).gauge().value() >= 0);
+
+        // Verify
+        verify(invalidTokenRepository, never()).existsByTokenId(any());
+        verify(verifiedTokenCacheService).evict(Set.of("revoked"));
+
+    }
+
+    @Test
+    void givenLoadedRegistry_whenRevoke_thenRejectTokenBeforeNextSync() {
+
+        // Given
+        when(invalidTokenRepository.findRecordedSince(any())).thenReturn(List.of());
+        revocationRegistryService.resync();
+
+        // When
+        revocationRegistryService.revoke(Map.of("local", Instant.now().plusSeconds(60)));
+
+        // Then
+        assertTrue(revocationRegistryService.isRevoked("local"));
+
+    }
+
+    @Test
+    void givenRevocationByOtherInstance_whenSync_thenAddItAndEvictItFromCache() {
+
+        // Given
+        when(invalidTokenRepository.findRecordedSince(any()))
+                .thenReturn(List.of(invalidToken("known")))
+                .thenReturn(List.of(invalidToken("known"), invalidToken("remote")));
+        revocationRegistryService.resync();
+
+        // When
+        long added = revocationRegistryService.sync();
+
+        // Then
+        assertEquals(1L, added);
+        assertTrue(revocationRegistryService.isRevoked("remote"));
+
+        // Verify
+        verify(verifiedTokenCacheService).evict(Set.of("remote"));
+
+    }
+
+    @Test
+    void givenRegistryNotLoaded_whenSync_thenLoadIt() {
+
+        // Given
+        when(invalidTokenRepository.findRecordedSince(any())).thenReturn(List.of(invalidToken("revoked")));
+
+        // When
+        revocationRegistryService.sync();
+
+        // Then
+        assertTrue(revocationRegistryService.status().isLoaded());
+        assertTrue(revocationRegistryService.isRevoked("revoked"));
+
+    }
+
+    @Test
+    void givenMoreRevocationsThanFilterCapacity_whenRevoke_thenKeepAllRevoked() {
+
+        // Given
+        when(invalidTokenRepository.findRecordedSince(any())).thenReturn(List.of());
+        revocationRegistryService.resync();
+
+        // When
+        for (int token = 0; token <= RevocationRegistryServiceImpl.MIN_CAPACITY; token++) {
+            revocationRegistryService.revoke(Map.of("token-" + token, Instant.now().plusSeconds(60)));
+        }
+
+        // Then
+        assertTrue(revocationRegistryService.isRevoked("token-0"));
+        assertTrue(revocationRegistryService.isRevoked("token-" + RevocationRegistryServiceImpl.MIN_CAPACITY));
+        assertEquals(RevocationRegistryServiceImpl.MIN_CAPACITY + 1,
+                revocationRegistryService.status().getRevokedTokens());
+
+    }
+
+    @Test
+    void givenRecordWhoseTokenExpired_whenResync_thenLeaveItOut() {
+
+        // Given
+        final InvalidTokenEntity expired = InvalidTokenEntity.builder()
+                .tokenId("expired")
+                .createdAt(LocalDateTime.now().minusMinutes(10))
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(invalidTokenRepository.findRecordedSince(any())).thenReturn(List.of(expired, invalidToken("revoked")));
+
+        // When
+        long revokedTokens = revocationRegistryService.resync();
+
+        // Then
+        assertEquals(1L, revokedTokens);
+        assertFalse(revocationRegistryService.isRevoked("expired"));
+        assertTrue(revocationRegistryService.isRevoked("revoked"));
+
+    }
+
+    private static InvalidTokenEntity invalidToken(final String tokenId) {
+        return InvalidTokenEntity.builder()
+                .tokenId(tokenId)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusMinutes(30))
+                .build();
+    }
+
+    private double lookups(final String outcome) {
+        return meterRegistry.get(RevocationRegistryServiceImpl.LOOKUP_METRIC).tag("outcome", outcome).counter().count();
+    }
+
+}
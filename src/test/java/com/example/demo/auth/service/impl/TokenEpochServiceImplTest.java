@@ -0,0 +1,162 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.auth.exception.TokenAlreadyInvalidatedException;
+import com.example.demo.auth.exception.UserNotFoundException;
+import com.example.demo.auth.model.entity.UserEntity;
+import com.example.demo.auth.model.enums.TokenClaims;
+import com.example.demo.auth.repository.UserRepository;
+import com.example.demo.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link TokenEpochServiceImpl}.
+ * This class verifies that tokens of an older epoch than their user's are rejected, that epochs are read once per
+ * user, that an epoch older than the refresh interval is read again before it is used, and that revoking all tokens
+ * of a user is enforced on the next check.
+ */
+class TokenEpochServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final String USER_ID = "user-id";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TokenEpochServiceImpl tokenEpochService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenEpochService = new TokenEpochServiceImpl(userRepository, new TokenConfigurationParameter(), meterRegistry);
+    }
+
+    @Test
+    void givenTokenOfCurrentEpoch_whenCheckTokenEpoch_thenAcceptItFromCache() {
+
+        // Given
+        when(userRepository.findTokenEpochById(USER_ID)).thenReturn(Optional.of(userWithEpoch(2L)));
+
+        // When
+        assertDoesNotThrow(() -> tokenEpochService.checkTokenEpoch(claims(2L)));
+        assertDoesNotThrow(() -> tokenEpochService.checkTokenEpoch(claims(2L)));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", TokenEpochServiceImpl.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter().count());
+
+        // Verify
+        verify(userRepository, times(1)).findTokenEpochById(USER_ID);
+
+    }
+
+    @Test
+    void givenTokenOfOlderEpoch_whenCheckTokenEpoch_thenThrowTokenAlreadyInvalidatedException() {
+
+        // Given
+        when(userRepository.findTokenEpochById(USER_ID)).thenReturn(Optional.of(userWithEpoch(3L)));
+
+        // When
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> tokenEpochService.checkTokenEpoch(claims(2L)));
+
+    }
+
+    @Test
+    void givenTokenWithoutEpochClaim_whenCheckTokenEpoch_thenTreatItAsEpochZero() {
+
+        // Given
+        when(userRepository.findTokenEpochById(USER_ID)).thenReturn(Optional.of(userWithEpoch(0L)));
+
+        // When
+        assertDoesNotThrow(() -> tokenEpochService.checkTokenEpoch(Map.of(TokenClaims.USER_ID.getValue(), USER_ID)));
+
+    }
+
+    @Test
+    void givenCachedEpoch_whenRevokeAllTokens_thenRejectTokensOfPreviousEpoch() {
+
+        // Given
+        when(userRepository.findTokenEpochById(USER_ID))
+                .thenReturn(Optional.of(userWithEpoch(0L)))
+                .thenReturn(Optional.of(userWithEpoch(1L)));
+        when(userRepository.incrementTokenEpochById(USER_ID)).thenReturn(1L);
+        tokenEpochService.checkTokenEpoch(claims(0L));
+
+        // When
+        tokenEpochService.revokeAllTokens(USER_ID);
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> tokenEpochService.checkTokenEpoch(claims(0L)));
+        assertDoesNotThrow(() -> tokenEpochService.checkTokenEpoch(claims(1L)));
+
+        // Verify
+        verify(userRepository).incrementTokenEpochById(USER_ID);
+
+    }
+
+    @Test
+    void givenUnknownUser_whenRevokeAllTokens_thenThrowUserNotFoundException() {
+
+        // Given
+        when(userRepository.incrementTokenEpochById(USER_ID)).thenReturn(0L);
+
+        // When
+        assertThrows(UserNotFoundException.class, () -> tokenEpochService.revokeAllTokens(USER_ID));
+
+    }
+
+    @Test
+    void givenEpochIncrementedByAnotherInstance_whenRefreshIntervalElapsed_thenRejectTokensOfPreviousEpoch() {
+
+        // Given
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter();
+        final AtomicLong nanos = new AtomicLong();
+        final TokenEpochServiceImpl tickingTokenEpochService = new TokenEpochServiceImpl(
+                userRepository, tokenConfigurationParameter, meterRegistry, nanos::get);
+
+        when(userRepository.findTokenEpochById(USER_ID))
+                .thenReturn(Optional.of(userWithEpoch(0L)))
+                .thenReturn(Optional.of(userWithEpoch(1L)));
+        tickingTokenEpochService.checkTokenEpoch(claims(0L));
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(tokenConfigurationParameter.getTokenEpochRefreshSecond()).toNanos());
+
+        // Then
+        assertThrows(TokenAlreadyInvalidatedException.class,
+                () -> tickingTokenEpochService.checkTokenEpoch(claims(0L)));
+
+        // Verify
+        verify(userRepository, times(2)).findTokenEpochById(USER_ID);
+
+    }
+
+    private static UserEntity userWithEpoch(final long tokenEpoch) {
+        return UserEntity.builder()
+                .id(USER_ID)
+                .tokenEpoch(tokenEpoch)
+                .build();
+    }
+
+    private static Map<String, Object> claims(final long tokenEpoch) {
+        return Map.of(
+                TokenClaims.USER_ID.getValue(), USER_ID,
+                TokenClaims.TOKEN_EPOCH.getValue(), tokenEpoch
+        );
+    }
+
+}
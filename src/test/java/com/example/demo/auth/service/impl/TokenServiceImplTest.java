@@ -2,23 +2,31 @@ package com.example.demo.auth.service.impl;
 
 import com.example.demo.auth.config.TokenConfigurationParameter;
 import com.example.demo.auth.model.Token;
+import com.example.demo.auth.model.VerifiedToken;
+import com.example.demo.auth.model.enums.TokenClaims;
+import com.example.demo.auth.model.enums.UserType;
 import com.example.demo.auth.service.InvalidTokenService;
+import com.example.demo.auth.service.VerifiedTokenCacheService;
 import com.example.demo.base.AbstractBaseServiceTest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -41,6 +49,9 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private VerifiedTokenCacheService verifiedTokenCacheService;
+
     @Test
     void testGenerateTokenWithoutRefreshToken() throws Exception {
 
@@ -216,5 +227,129 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenSignedToken_whenVerify_thenReturnClaimsAndAuthenticationWithoutParsingAgain() {
+
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        String tokenId = UUID.randomUUID().toString();
+
+        String jwt = Jwts.builder()
+                .header()
+                .type("Bearer")
+                .and()
+                .id(tokenId)
+                .issuer("issuer")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .claim(TokenClaims.USER_TYPE.getValue(), UserType.USER.name())
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        // When
+        Mockito.when(tokenConfigurationParameter.getPublicKey()).thenReturn(keyPair.getPublic());
+
+        // Then
+        VerifiedToken verifiedToken = tokenService.verify(jwt);
+        UsernamePasswordAuthenticationToken authentication = tokenService.getAuthentication(verifiedToken);
+
+        assertEquals(jwt, verifiedToken.getJwt());
+        assertEquals(tokenId, verifiedToken.getId());
+        assertEquals("issuer", verifiedToken.getClaims().getIssuer());
+        assertEquals(UserType.USER.name(), authentication.getAuthorities().iterator().next().getAuthority());
+        assertEquals(jwt, ((Jwt) authentication.getPrincipal()).getTokenValue());
+
+        // Verify
+        Mockito.verify(tokenConfigurationParameter, Mockito.times(1)).getPublicKey();
+
+    }
+
+    @Test
+    void givenTokenSignedWithAnotherKey_whenVerify_thenThrowSignatureException() {
+
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        KeyPair otherKeyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+        String jwt = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .signWith(otherKeyPair.getPrivate())
+                .compact();
+
+        // When
+        Mockito.when(tokenConfigurationParameter.getPublicKey()).thenReturn(keyPair.getPublic());
+
+        // Then
+        assertThrows(SignatureException.class, () -> tokenService.verify(jwt));
+
+    }
+
+    @Test
+    void givenVerifiedRefreshToken_whenGenerateToken_thenReuseItWithoutParsing() {
+
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        String refreshTokenId = UUID.randomUUID().toString();
+
+        VerifiedToken refreshToken = VerifiedToken.builder()
+                .jwt("refresh-token")
+                .claims(Jwts.claims().id(refreshTokenId).build())
+                .build();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("USER_ID", "12345");
+
+        Mockito.when(tokenConfigurationParameter.getPrivateKey()).thenReturn(keyPair.getPrivate());
+        Mockito.when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
+        Mockito.when(tokenConfigurationParameter.getIssuer()).thenReturn("issuer");
+
+        // When
+        Token token = tokenService.generateToken(claims, refreshToken);
+
+        // Then
+        assertNotNull(token.getAccessToken());
+        assertEquals("refresh-token", token.getRefreshToken());
+
+        // Verify
+        Mockito.verify(invalidTokenService).checkForInvalidityOfToken(refreshTokenId);
+        Mockito.verify(tokenConfigurationParameter, Mockito.never()).getPublicKey();
+
+    }
+
+    @Test
+    void givenUncachedToken_whenAuthenticate_thenVerifyAndCheckItThroughTheCache() {
+
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        String tokenId = UUID.randomUUID().toString();
+
+        String jwt = Jwts.builder()
+                .header()
+                .type("Bearer")
+                .and()
+                .id(tokenId)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .claim(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN.name())
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        Mockito.when(tokenConfigurationParameter.getPublicKey()).thenReturn(keyPair.getPublic());
+        Mockito.when(verifiedTokenCacheService.get(Mockito.eq(jwt), Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<UsernamePasswordAuthenticationToken>>getArgument(1).get());
+
+        // When
+        UsernamePasswordAuthenticationToken authentication = tokenService.authenticate(jwt);
+
+        // Then
+        assertEquals(UserType.ADMIN.name(), authentication.getAuthorities().iterator().next().getAuthority());
+        assertEquals(tokenId, ((Jwt) authentication.getPrincipal()).getId());
+
+        // Verify
+        Mockito.verify(verifiedTokenCacheService).get(Mockito.eq(jwt), Mockito.any());
+        Mockito.verify(invalidTokenService).checkForInvalidityOfToken(tokenId);
+
+    }
 
-}
\ No newline at end of file
+}
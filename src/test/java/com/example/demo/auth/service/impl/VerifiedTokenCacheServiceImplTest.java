@@ -0,0 +1,164 @@
+package com.example.demo.auth.service.impl;
+
+import com.example.demo.auth.config.TokenConfigurationParameter;
+import com.example.demo.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link VerifiedTokenCacheServiceImpl}.
+ * This class verifies that authentications are cached per token until the token expires or is invalidated,
+ * and that hits and misses are exported as metrics.
+ */
+class VerifiedTokenCacheServiceImplTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private TokenConfigurationParameter tokenConfigurationParameter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCacheServiceImpl verifiedTokenCacheService;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+
+        when(tokenConfigurationParameter.getVerifiedTokenCacheMaxSize()).thenReturn(100L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCacheService = new VerifiedTokenCacheServiceImpl(tokenConfigurationParameter, meterRegistry);
+
+    }
+
+    @Test
+    void givenReusedToken_whenGet_thenLoadOnceAndRecordHit() {
+
+        // Given
+        final Supplier<UsernamePasswordAuthenticationToken> loader = loader("token-1", Instant.now().plusSeconds(60));
+
+        // When
+        final UsernamePasswordAuthenticationToken first = verifiedTokenCacheService.get("jwt-1", loader);
+        final UsernamePasswordAuthenticationToken second = verifiedTokenCacheService.get("jwt-1", loader);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCacheServiceImpl.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCacheServiceImpl.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count());
+
+    }
+
+    @Test
+    void givenCachedToken_whenEvictItsId_thenLoadAgain() {
+
+        // Given
+        final Supplier<UsernamePasswordAuthenticationToken> loader = loader("token-1", Instant.now().plusSeconds(60));
+        verifiedTokenCacheService.get("jwt-1", loader);
+        verifiedTokenCacheService.get("jwt-2", loader("token-2", Instant.now().plusSeconds(60)));
+
+        // When
+        verifiedTokenCacheService.evict(Set.of("token-1"));
+        verifiedTokenCacheService.get("jwt-1", loader);
+        verifiedTokenCacheService.get("jwt-2", loader("token-2", Instant.now().plusSeconds(60)));
+
+        // Then
+        assertEquals(3, loads.get());
+
+    }
+
+    @Test
+    void givenExpiredToken_whenGet_thenDoNotCacheIt() {
+
+        // Given
+        final Supplier<UsernamePasswordAuthenticationToken> loader = loader("token-1", Instant.now().minusSeconds(1));
+
+        // When
+        verifiedTokenCacheService.get("jwt-1", loader);
+        verifiedTokenCacheService.get("jwt-1", loader);
+
+        // Then
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenGet_thenReturnButDoNotCache() {
+
+        // Given
+        final Supplier<UsernamePasswordAuthenticationToken> invalidatedWhileLoading = () -> {
+            verifiedTokenCacheService.evict(Set.of("token-1"));
+            return loader("token-1", Instant.now().plusSeconds(60)).get();
+        };
+
+        // When
+        final UsernamePasswordAuthenticationToken loaded = verifiedTokenCacheService.get("jwt-1", invalidatedWhileLoading);
+        verifiedTokenCacheService.get("jwt-1", loader("token-1", Instant.now().plusSeconds(60)));
+
+        // Then
+        assertNotNull(loaded);
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenCacheDisabled_whenGet_thenAlwaysLoad() {
+
+        // Given
+        when(tokenConfigurationParameter.getVerifiedTokenCacheMaxSize()).thenReturn(0L);
+        final VerifiedTokenCacheServiceImpl disabled =
+                new VerifiedTokenCacheServiceImpl(tokenConfigurationParameter, new SimpleMeterRegistry());
+        final Supplier<UsernamePasswordAuthenticationToken> loader = loader("token-1", Instant.now().plusSeconds(60));
+
+        // When
+        disabled.get("jwt-1", loader);
+        disabled.get("jwt-1", loader);
+
+        // Then
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenToken_whenDigest_thenReturnSha256Hex() {
+
+        // When
+        final String digest = VerifiedTokenCacheServiceImpl.digest("abc");
+
+        // Then
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", digest);
+
+    }
+
+    private Supplier<UsernamePasswordAuthenticationToken> loader(final String tokenId, final Instant expiresAt) {
+        return () -> {
+            loads.incrementAndGet();
+            final Jwt jwt = Jwt.withTokenValue("jwt")
+                    .header("alg", "RS256")
+                    .jti(tokenId)
+                    .issuedAt(expiresAt.minusSeconds(120))
+                    .expiresAt(expiresAt)
+                    .build();
+            return UsernamePasswordAuthenticationToken.authenticated(jwt, null, List.of(new SimpleGrantedAuthority("USER")));
+        };
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.example.demo.builder;
 
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.entity.FlightEntity;
 
 import java.time.LocalDateTime;
@@ -40,12 +41,12 @@ public class FlightEntityBuilder extends BaseBuilder<FlightEntity> {
     }
 
     public FlightEntityBuilder withFromAirport(AirportEntity fromAirport) {
-        data.setFromAirport(fromAirport);
+        data.setFromAirport(AirportSnapshot.of(fromAirport));
         return this;
     }
 
     public FlightEntityBuilder withToAirport(AirportEntity toAirport) {
-        data.setToAirport(toAirport);
+        data.setToAirport(AirportSnapshot.of(toAirport));
         return this;
     }
 
@@ -4,6 +4,7 @@ import com.example.demo.auth.model.enums.TokenClaims;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -29,4 +30,19 @@ public class TokenBuilder {
         return Jwts.claims(mockClaimsMap);
     }
 
+    /**
+     * Creates valid JWT claims for a given user ID and first name that expire at the given time.
+     *
+     * @param userId the user ID to include in the claims
+     * @param firstName the user's first name to include in the claims
+     * @param expiration the expiration to include in the claims
+     * @return the generated JWT claims
+     */
+    public static Claims getValidClaims(String userId, String firstName, Date expiration) {
+        return Jwts.claims()
+                .add(getValidClaims(userId, firstName))
+                .expiration(expiration)
+                .build();
+    }
+
 }
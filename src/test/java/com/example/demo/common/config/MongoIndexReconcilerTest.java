@@ -0,0 +1,253 @@
+package com.example.demo.common.config;
+
+import com.example.demo.auth.model.entity.InvalidTokenEntity;
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link MongoIndexReconciler}.
+ * This class verifies that declared indexes are created, compared and reported correctly, including indexes whose
+ * unique or TTL option differs from their declaration.
+ */
+class MongoIndexReconcilerTest extends AbstractBaseServiceTest {
+
+    private static final String FLIGHT_COLLECTION = "flight-collection";
+
+    private static final String INVALID_TOKEN_COLLECTION = "invalid-token-collection";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private MockEnvironment environment;
+
+    private MongoIndexReconciler mongoIndexReconciler;
+
+    @BeforeEach
+    void setUp() {
+
+        environment = new MockEnvironment();
+        mongoIndexReconciler = new MongoIndexReconciler(mongoTemplate, mappingContext(FlightEntity.class), environment);
+
+    }
+
+    @Test
+    void givenOnlyIdIndex_whenRun_thenCreateDeclaredCompoundIndexes() {
+
+        // Given
+        when(mongoTemplate.indexOps(FLIGHT_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex()));
+
+        // When
+        mongoIndexReconciler.createMissingIndexes();
+
+        // Then
+        ArgumentCaptor<IndexDefinition> definitionCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, times(4)).ensureIndex(definitionCaptor.capture());
+
+        assertEquals(List.of(
+                        List.of("FROM_AIRPORT.AIRPORT_ID", "TO_AIRPORT.AIRPORT_ID", "DEPARTURE_TIME", "_id"),
+                        List.of("DEPARTURE_TIME", "_id"),
+                        List.of("FROM_AIRPORT.AIRPORT_ID", "TO_AIRPORT.AIRPORT_ID", "PRICE", "_id", "DEPARTURE_TIME"),
+                        List.of("FROM_AIRPORT.AIRPORT_ID", "TO_AIRPORT.AIRPORT_ID", "DURATION_MINUTES", "_id",
+                                "DEPARTURE_TIME")),
+                definitionCaptor.getAllValues().stream()
+                        .map(definition -> List.copyOf(definition.getIndexKeys().keySet()))
+                        .toList());
+
+    }
+
+    @Test
+    void givenMissingAndExtraIndexes_whenVerify_thenReportBoth() {
+
+        // Given
+        final IndexInfo extraIndex = new IndexInfo(
+                List.of(IndexField.create("PRICE", Sort.Direction.ASC)), "PRICE_1", false, false, "");
+
+        when(mongoTemplate.indexOps(FLIGHT_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex(), extraIndex));
+
+        // When
+        List<MongoIndexReconciler.CollectionIndexReport> reports = mongoIndexReconciler.verify();
+
+        // Then
+        assertEquals(1, reports.size());
+
+        MongoIndexReconciler.CollectionIndexReport report = reports.get(0);
+        assertEquals(FLIGHT_COLLECTION, report.collection());
+        assertEquals(List.of(
+                "DEPARTURE_TIME:1,_id:1",
+                "FROM_AIRPORT.AIRPORT_ID:1,TO_AIRPORT.AIRPORT_ID:1,DEPARTURE_TIME:1,_id:1",
+                "FROM_AIRPORT.AIRPORT_ID:1,TO_AIRPORT.AIRPORT_ID:1,DURATION_MINUTES:1,_id:1,DEPARTURE_TIME:1",
+                "FROM_AIRPORT.AIRPORT_ID:1,TO_AIRPORT.AIRPORT_ID:1,PRICE:1,_id:1,DEPARTURE_TIME:1"), report.missing());
+        assertEquals(List.of("PRICE_1"), report.extra());
+        assertFalse(report.isConsistent());
+
+    }
+
+    @Test
+    void givenDeclaredIndexesExist_whenVerify_thenReportConsistent() {
+
+        // Given
+        when(mongoTemplate.indexOps(FLIGHT_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                idIndex(), routeIndex(), departureIndex(), sortedRouteIndex("PRICE"), sortedRouteIndex("DURATION_MINUTES")));
+
+        // When
+        List<MongoIndexReconciler.CollectionIndexReport> reports = mongoIndexReconciler.verify();
+
+        // Then
+        assertTrue(reports.get(0).isConsistent());
+
+    }
+
+    @Test
+    void givenStrictModeAndMismatch_whenRun_thenFailStartup() {
+
+        // Given
+        environment.setProperty(MongoIndexReconciler.STRICT_PROPERTY, "true");
+        when(mongoTemplate.indexOps(FLIGHT_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex()));
+        when(indexOperations.ensureIndex(any())).thenThrow(new IllegalArgumentException("Index build failed"));
+
+        // Then
+        assertThrows(IllegalStateException.class, () ->
+                mongoIndexReconciler.run(new DefaultApplicationArguments()));
+
+    }
+
+    @Test
+    void givenLenientModeAndMismatch_whenRun_thenOnlyReport() {
+
+        // Given
+        when(mongoTemplate.indexOps(FLIGHT_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex()));
+        when(indexOperations.ensureIndex(any())).thenThrow(new IllegalArgumentException("Index build failed"));
+
+        // Then
+        assertDoesNotThrow(() -> mongoIndexReconciler.run(new DefaultApplicationArguments()));
+
+    }
+
+    @Test
+    void givenIndexesWithoutDeclaredUniqueAndTtlOptions_whenVerify_thenReportThemChanged() {
+
+        // Given
+        mongoIndexReconciler = new MongoIndexReconciler(
+                mongoTemplate, mappingContext(InvalidTokenEntity.class), environment);
+
+        when(mongoTemplate.indexOps(INVALID_TOKEN_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                idIndex(),
+                IndexInfo.indexInfoOf(new Document("key", new Document("TOKEN_ID", 1)).append("name", "TOKEN_ID_1")),
+                IndexInfo.indexInfoOf(new Document("key", new Document("EXPIRES_AT", 1)).append("name", "EXPIRES_AT_1")),
+                IndexInfo.indexInfoOf(new Document("key", new Document("createdAt", 1)).append("name", "created_at_idx"))
+        ));
+
+        // When
+        List<MongoIndexReconciler.CollectionIndexReport> reports = mongoIndexReconciler.verify();
+
+        // Then
+        MongoIndexReconciler.CollectionIndexReport report = reports.get(0);
+        assertEquals(INVALID_TOKEN_COLLECTION, report.collection());
+        assertTrue(report.missing().isEmpty());
+        assertTrue(report.extra().isEmpty());
+        assertEquals(List.of("EXPIRES_AT_1", "TOKEN_ID_1"), report.changed());
+        assertFalse(report.isConsistent());
+
+    }
+
+    @Test
+    void givenIndexesWithDeclaredUniqueAndTtlOptions_whenVerify_thenReportConsistent() {
+
+        // Given
+        mongoIndexReconciler = new MongoIndexReconciler(
+                mongoTemplate, mappingContext(InvalidTokenEntity.class), environment);
+
+        when(mongoTemplate.indexOps(INVALID_TOKEN_COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                idIndex(),
+                IndexInfo.indexInfoOf(new Document("key", new Document("TOKEN_ID", 1))
+                        .append("name", "TOKEN_ID").append("unique", true)),
+                IndexInfo.indexInfoOf(new Document("key", new Document("EXPIRES_AT", 1))
+                        .append("name", "EXPIRES_AT").append("expireAfterSeconds", 0L)),
+                IndexInfo.indexInfoOf(new Document("key", new Document("createdAt", 1)).append("name", "created_at_idx"))
+        ));
+
+        // When
+        List<MongoIndexReconciler.CollectionIndexReport> reports = mongoIndexReconciler.verify();
+
+        // Then
+        assertTrue(reports.get(0).isConsistent());
+
+    }
+
+    private static MongoMappingContext mappingContext(final Class<?> entity) {
+
+        final MongoCustomConversions conversions =
+                MongoCustomConversions.create(adapter -> adapter.useNativeDriverJavaTimeCodecs());
+
+        final MongoMappingContext mongoMappingContext = new MongoMappingContext();
+        mongoMappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mongoMappingContext.setInitialEntitySet(Set.of(entity));
+        mongoMappingContext.afterPropertiesSet();
+
+        return mongoMappingContext;
+
+    }
+
+    private IndexInfo idIndex() {
+        return new IndexInfo(List.of(IndexField.create("_id", Sort.Direction.ASC)), "_id_", false, false, "");
+    }
+
+    private IndexInfo routeIndex() {
+        return new IndexInfo(List.of(
+                IndexField.create("FROM_AIRPORT.AIRPORT_ID", Sort.Direction.ASC),
+                IndexField.create("TO_AIRPORT.AIRPORT_ID", Sort.Direction.ASC),
+                IndexField.create("DEPARTURE_TIME", Sort.Direction.ASC),
+                IndexField.create("_id", Sort.Direction.ASC)
+        ), "route_departure_id_idx", false, false, "");
+    }
+
+    private IndexInfo departureIndex() {
+        return new IndexInfo(List.of(
+                IndexField.create("DEPARTURE_TIME", Sort.Direction.ASC),
+                IndexField.create("_id", Sort.Direction.ASC)
+        ), "departure_id_idx", false, false, "");
+    }
+
+    private IndexInfo sortedRouteIndex(final String sortField) {
+        return new IndexInfo(List.of(
+                IndexField.create("FROM_AIRPORT.AIRPORT_ID", Sort.Direction.ASC),
+                IndexField.create("TO_AIRPORT.AIRPORT_ID", Sort.Direction.ASC),
+                IndexField.create(sortField, Sort.Direction.ASC),
+                IndexField.create("_id", Sort.Direction.ASC),
+                IndexField.create("DEPARTURE_TIME", Sort.Direction.ASC)
+        ), "route_" + sortField.toLowerCase() + "_id_departure_idx", false, false, "");
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.demo.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link BloomFilter}.
+ * This class verifies that added strings are never reported as absent and that absent strings pass at about the
+ * configured false-positive rate.
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 20_000;
+
+    @Test
+    void givenAddedIds_whenMightContain_thenNeverReportThemAbsent() {
+
+        // Given
+        final BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        final String[] ids = IntStream.range(0, INSERTIONS).mapToObj(index -> UUID.randomUUID().toString())
+                .toArray(String[]::new);
+
+        // When
+        for (String id : ids) {
+            filter.put(id);
+        }
+
+        // Then
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id), id);
+        }
+
+    }
+
+    @Test
+    void givenFullFilter_whenMightContainAbsentIds_thenStayNearFalsePositiveRate() {
+
+        // Given
+        final BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(index -> filter.put("present-" + index));
+
+        // When
+        final long falsePositives = IntStream.range(0, INSERTIONS)
+                .filter(index -> filter.mightContain("absent-" + index))
+                .count();
+
+        // Then
+        assertTrue(falsePositives < INSERTIONS * 0.02, "False positives: " + falsePositives);
+
+    }
+
+    @Test
+    void givenInvalidFalsePositiveRate_whenCreate_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(INSERTIONS, 1.0));
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.example.demo.common.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit test class for {@link CacheInvalidationGuard}.
+ * This class verifies that a value loaded before an invalidation never stays cached, including when the invalidation
+ * runs between the generation check and the write.
+ */
+class CacheInvalidationGuardTest {
+
+    private final CacheInvalidationGuard guard = new CacheInvalidationGuard();
+
+    private final Cache<String, String> delegate = Caffeine.newBuilder().build();
+
+    @Test
+    void givenNoInvalidation_whenPut_thenCacheValue() {
+
+        // Given
+        final long generation = guard.generation();
+
+        // When
+        guard.put(delegate, "key", "loaded", generation);
+
+        // Then
+        assertEquals("loaded", delegate.getIfPresent("key"));
+
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenPut_thenSkipWrite() {
+
+        // Given
+        final long generation = guard.generation();
+        guard.invalidate(() -> delegate.invalidate("key"));
+
+        // When
+        guard.put(delegate, "key", "stale", generation);
+
+        // Then
+        assertNull(delegate.getIfPresent("key"));
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenInvalidationBetweenCheckAndWrite_whenPut_thenDropWrittenValue() {
+
+        // Given
+        final Cache<String, String> cache = mock(Cache.class, delegatesTo(delegate));
+
+        // The invalidation starts after the generation check and its removal runs before the value is written,
+        // so it finds nothing to remove.
+        doAnswer(invocation -> {
+            guard.invalidate(() -> delegate.asMap().values().removeIf("stale"::equals));
+            delegate.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(cache).put(any(), any());
+
+        final long generation = guard.generation();
+
+        // When
+        guard.put(cache, "key", "stale", generation);
+
+        // Then
+        assertNull(delegate.getIfPresent("key"));
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.example.demo.common.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link IdExistenceFilter}.
+ * This class verifies that unknown IDs are ruled out once the filter is loaded, that added IDs are never ruled out,
+ * and that the avoided lookups, false positives and false negatives are counted.
+ */
+class IdExistenceFilterTest {
+
+    private static final String NAME = "test";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IdExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdExistenceFilter(NAME, 0.01, Duration.ofMinutes(1), 100, meterRegistry);
+    }
+
+    @Test
+    void givenFilterNotLoaded_whenIsDefinitelyMissing_thenRuleOutNothing() {
+
+        // When
+        boolean missing = filter.isDefinitelyMissing("unknown");
+
+        // Then
+        assertFalse(missing);
+        assertEquals(1.0, lookups("unloaded"));
+
+    }
+
+    @Test
+    void givenLoadedFilter_whenIsDefinitelyMissing_thenRuleOutOnlyUnknownIds() {
+
+        // Given
+        assertEquals(2L, filter.rebuild(2, Stream.of("A", "B")));
+
+        // When
+        boolean known = filter.isDefinitelyMissing("A");
+        boolean unknown = filter.isDefinitelyMissing("unknown");
+
+        // Then
+        assertFalse(known);
+        assertTrue(unknown);
+        assertEquals(1.0, lookups("passed"));
+        assertEquals(1.0, lookups("rejected"));
+
+    }
+
+    @Test
+    void givenIdRecordedMissing_whenIsDefinitelyMissing_thenAnswerFromCacheUntilAdded() {
+
+        // Given
+        filter.rebuild(1, Stream.of("A"));
+        filter.recordMissing("A");
+
+        // When
+        boolean missing = filter.isDefinitelyMissing("A");
+        filter.add("A");
+        boolean missingAfterAdd = filter.isDefinitelyMissing("A");
+
+        // Then
+        assertTrue(missing);
+        assertFalse(missingAfterAdd);
+        assertEquals(1.0, lookups("cached"));
+        assertEquals(1.0, meterRegistry.get(IdExistenceFilter.FALSE_POSITIVE_METRIC).counter().count());
+
+    }
+
+    @Test
+    void givenIdAddedAfterLoad_whenIsDefinitelyMissing_thenNeverRuleItOut() {
+
+        // Given
+        filter.rebuild(0, Stream.empty());
+
+        // When
+        filter.add("created");
+
+        // Then
+        assertFalse(filter.isDefinitelyMissing("created"));
+
+    }
+
+    @Test
+    void givenIdWrittenWithoutBeingAdded_whenRebuild_thenCountFalseNegativeAndIncludeIt() {
+
+        // Given
+        filter.rebuild(1, Stream.of("A"));
+
+        // When
+        filter.rebuild(2, Stream.of("A", "written-elsewhere"));
+
+        // Then
+        assertFalse(filter.isDefinitelyMissing("written-elsewhere"));
+        assertEquals(1.0, meterRegistry.get(IdExistenceFilter.FALSE_NEGATIVE_METRIC).counter().count());
+
+    }
+
+    private double lookups(final String outcome) {
+        return meterRegistry.get(IdExistenceFilter.LOOKUP_METRIC).tag("filter", NAME).tag("outcome", outcome)
+                .counter().count();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.example.demo.common.utils;
+
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link MongoReplyBytes}.
+ * This class verifies that the replies received while a task runs are added to it, including nested and failing
+ * tasks, and that replies received outside a measured task are ignored.
+ */
+class MongoReplyBytesTest {
+
+    private final MongoReplyBytes listener = new MongoReplyBytes();
+
+    @Test
+    void givenRepliesWithinTask_whenMeasure_thenReportTheirSize() throws Exception {
+
+        // Given
+        final RawBsonDocument reply = reply("flight");
+        final List<Long> reported = new ArrayList<>();
+
+        // When
+        final String result = MongoReplyBytes.measure(() -> {
+            listener.commandSucceeded(succeeded(reply));
+            listener.commandSucceeded(succeeded(reply));
+            return "done";
+        }, reported::add);
+
+        // Then
+        assertEquals("done", result);
+        assertEquals(List.of(2L * reply.getByteBuffer().remaining()), reported);
+
+    }
+
+    @Test
+    void givenNestedTask_whenMeasure_thenCountItsRepliesTowardsBoth() throws Exception {
+
+        // Given
+        final RawBsonDocument reply = reply("flight");
+        final long size = reply.getByteBuffer().remaining();
+        final List<Long> outer = new ArrayList<>();
+        final List<Long> inner = new ArrayList<>();
+
+        // When
+        MongoReplyBytes.measure(() -> {
+            listener.commandSucceeded(succeeded(reply));
+            return MongoReplyBytes.measure(() -> {
+                listener.commandSucceeded(succeeded(reply));
+                return null;
+            }, inner::add);
+        }, outer::add);
+
+        // Then
+        assertEquals(List.of(size), inner);
+        assertEquals(List.of(2 * size), outer);
+
+    }
+
+    @Test
+    void givenFailingTask_whenMeasure_thenReportRepliesAndRethrow() {
+
+        // Given
+        final RawBsonDocument reply = reply("flight");
+        final List<Long> reported = new ArrayList<>();
+
+        // When
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> MongoReplyBytes.measure(() -> {
+                    listener.commandSucceeded(succeeded(reply));
+                    throw new IllegalStateException("query failed");
+                }, reported::add));
+
+        // Then
+        assertEquals("query failed", exception.getMessage());
+        assertEquals(List.of((long) reply.getByteBuffer().remaining()), reported);
+
+    }
+
+    @Test
+    void givenReplyOutsideTask_whenMeasureLater_thenIgnoreIt() throws Exception {
+
+        // Given
+        final List<Long> reported = new ArrayList<>();
+        listener.commandSucceeded(succeeded(reply("flight")));
+
+        // When
+        MongoReplyBytes.measure(() -> null, reported::add);
+
+        // Then
+        assertEquals(List.of(0L), reported);
+
+    }
+
+    @Test
+    void givenDecodedReply_whenSizeOf_thenReturnEncodedSize() {
+
+        // Given
+        final BsonDocument decoded = new BsonDocument("ok", new BsonInt32(1)).append("name", new BsonString("flight"));
+
+        // When
+        final long size = MongoReplyBytes.sizeOf(decoded);
+
+        // Then
+        assertEquals(new RawBsonDocument(decoded, new BsonDocumentCodec()).getByteBuffer().remaining(), size);
+        assertEquals(0L, MongoReplyBytes.sizeOf(null));
+
+    }
+
+    private static RawBsonDocument reply(final String name) {
+        return new RawBsonDocument(new BsonDocument("ok", new BsonInt32(1)).append("name", new BsonString(name)),
+                new BsonDocumentCodec());
+    }
+
+    private static CommandSucceededEvent succeeded(final BsonDocument response) {
+        final CommandSucceededEvent event = mock(CommandSucceededEvent.class);
+        when(event.getResponse()).thenReturn(response);
+        return event;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.demo.common.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link NdjsonWriter}.
+ * This class verifies that values are written one JSON document per line without closing the stream.
+ */
+class NdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void givenValues_whenWrite_thenWriteOneDocumentPerLineAndKeepStreamOpen() {
+
+        // Given
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+
+        // When
+        writer.write(Map.of("id", "first"));
+        writer.write(Map.of("id", "second"));
+        writer.flush();
+
+        // Then
+        assertEquals("{\"id\":\"first\"}\n{\"id\":\"second\"}\n", outputStream.toString(StandardCharsets.UTF_8));
+
+    }
+
+    @Test
+    void givenClosedConnection_whenWrite_thenThrowUncheckedIOException() {
+
+        // Given
+        final OutputStream closedStream = new OutputStream() {
+            @Override
+            public void write(int value) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        final NdjsonWriter writer = new NdjsonWriter(objectMapper, closedStream);
+
+        // Then
+        assertThrows(UncheckedIOException.class, () -> writer.write(Map.of("id", "first")));
+
+    }
+
+}
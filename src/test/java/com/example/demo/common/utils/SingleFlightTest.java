@@ -0,0 +1,123 @@
+package com.example.demo.common.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link SingleFlight}.
+ * This class verifies that concurrent calls for the same key share one execution.
+ */
+class SingleFlightTest {
+
+    private static final String METRIC = "test.coalescing";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight<String, Integer> singleFlight;
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(meterRegistry, METRIC);
+    }
+
+    @Test
+    void givenConcurrentCallsForSameKey_whenExecute_thenRunOnceAndShareResult() throws Exception {
+
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+
+        final Future<Integer> leader = executorService.submit(() -> singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return 42;
+        }, Duration.ofSeconds(5)));
+
+        waitUntilExecuted(1);
+
+        // When
+        final Future<Integer> follower = executorService.submit(() ->
+                singleFlight.execute("key", executions::incrementAndGet, Duration.ofSeconds(5)));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count("coalesced"));
+
+    }
+
+    @Test
+    void givenSlowLeader_whenMaxWaitExpires_thenFollowerRunsItsOwnCall() throws Exception {
+
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executorService.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            return 1;
+        }, Duration.ofSeconds(5)));
+
+        waitUntilExecuted(1);
+
+        // When
+        final Integer result = singleFlight.execute("key", () -> 2, Duration.ofMillis(50));
+        release.countDown();
+
+        // Then
+        assertEquals(2, result);
+        assertEquals(1.0, count("timeout"));
+
+    }
+
+    @Test
+    void givenFailingCall_whenExecute_thenRethrowAndForgetKey() {
+
+        // When
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("failed");
+        }, Duration.ofSeconds(1)));
+
+        // Then
+        assertEquals(7, singleFlight.execute("key", () -> 7, Duration.ofSeconds(1)));
+        assertEquals(2.0, count("executed"));
+
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.get(METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    private void waitUntilExecuted(final int times) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("executed") < times && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -651,5 +651,45 @@ class AirportControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenQuery_whenSuggestAirportsFromUser_thenReturnSuggestions() throws Exception {
+
+        // Given
+        final Airport expectedAirport = new AirportBuilder().withValidFields();
+
+        // When
+        when(airportService.suggestAirports("air", 5)).thenReturn(List.of(expectedAirport));
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/airports/autocomplete")
+                        .param("query", "air")
+                        .param("limit", "5")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].id").value(expectedAirport.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].name").value(expectedAirport.getName()));
+
+        // Verify
+        verify(airportService, times(1)).suggestAirports("air", 5);
+
+    }
+
+    @Test
+    void givenLimitAboveMaximum_whenSuggestAirports_thenReturnBadRequest() throws Exception {
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/airports/autocomplete")
+                        .param("query", "air")
+                        .param("limit", "1000")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(airportService, never()).suggestAirports(any(), anyInt());
+
+    }
 
-}
\ No newline at end of file
+}
@@ -16,6 +16,7 @@ import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.CustomPageFlightToCustomPagingFlightResponseMapper;
 import com.example.demo.flight.model.mapper.flight.FlightToFlightResponseMapper;
 import com.example.demo.flight.service.flight.FlightService;
+import com.example.demo.flight.service.flight.FlightStreamService;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,6 +24,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
@@ -30,6 +32,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +48,9 @@ class FlightControllerTest extends AbstractRestControllerTest {
     @MockitoBean
     FlightService flightService;
 
+    @MockitoBean
+    FlightStreamService flightStreamService;
+
     private final FlightToFlightResponseMapper flightToFlightResponseMapper  =  FlightToFlightResponseMapper.initialize();
 
     private final CustomPageFlightToCustomPagingFlightResponseMapper customPageFlightToCustomPagingFlightResponseMapper
@@ -505,6 +511,41 @@ class FlightControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenFlights_whenStreamAllFlights_thenWriteOneFlightPerLine() throws Exception {
+
+        // Given
+        final List<Flight> flights = List.of(
+                new FlightBuilder().withValidFields().build(),
+                new FlightBuilder().withValidFields().build());
+
+        final String expectedBody = objectMapper.writeValueAsString(flightToFlightResponseMapper.map(flights.get(0)))
+                + "\n" + objectMapper.writeValueAsString(flightToFlightResponseMapper.map(flights.get(1))) + "\n";
+
+        // When
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<Flight>>>getArgument(0).accept(flights);
+            return 2L;
+        }).when(flightStreamService).streamAll(any());
+
+        // Then
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/flights/stream")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+
+        // Verify
+        verify(flightStreamService, times(1)).streamAll(any());
+
+    }
+
     @Test
     void givenValidUpdateFlightRequest_whenTokenMissing_thenReturnUnauthorized() throws Exception {
 
@@ -2,16 +2,35 @@ package com.example.demo.flight.controller;
 
 import com.example.demo.base.AbstractRestControllerTest;
 import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightBuilder;
 import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.common.model.CustomError;
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.CustomPaging;
 import com.example.demo.common.model.dto.response.CustomPagingResponse;
+import com.example.demo.flight.exception.InvalidCursorException;
 import com.example.demo.flight.model.Airport;
+import com.example.demo.flight.model.BatchSearchResult;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.model.enums.RoundTripSort;
+import com.example.demo.flight.model.dto.request.flight.BatchSearchFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.FlightCalendarRequest;
+import com.example.demo.flight.model.dto.request.flight.ItinerarySearchRequest;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
 import com.example.demo.flight.model.dto.response.flight.FlightResponse;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.CustomPageFlightToCustomPagingFlightResponseMapper;
+import com.example.demo.flight.model.mapper.flight.FlightToFlightResponseMapper;
+import com.example.demo.flight.service.flight.CityFlightSearchService;
+import com.example.demo.flight.service.flight.FlightCalendarService;
+import com.example.demo.flight.service.flight.FlightStreamService;
+import com.example.demo.flight.service.flight.ItinerarySearchService;
 import com.example.demo.flight.service.flight.SearchFlightService;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -19,17 +38,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.shaded.com.google.common.net.HttpHeaders;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +67,18 @@ class SearchFlightControllerTest extends AbstractRestControllerTest {
     @MockitoBean
     SearchFlightService searchFlightService;
 
+    @MockitoBean
+    ItinerarySearchService itinerarySearchService;
+
+    @MockitoBean
+    FlightCalendarService flightCalendarService;
+
+    @MockitoBean
+    FlightStreamService flightStreamService;
+
+    @MockitoBean
+    CityFlightSearchService cityFlightSearchService;
+
     private final CustomPageFlightToCustomPagingFlightResponseMapper customPageFlightToCustomPagingFlightResponseMapper =
             CustomPageFlightToCustomPagingFlightResponseMapper.initialize();
 
@@ -207,6 +242,90 @@ class SearchFlightControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenFieldsParameter_whenSearchFlights_thenReturnOnlyRequestedFields() throws Exception {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final FlightEntity flightEntity = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .build();
+
+        final Page<FlightEntity> flightEntityPage = new PageImpl<>(List.of(flightEntity), PageRequest.of(0, 1), 1);
+
+        final Flight flight = Flight.builder()
+                .id(flightEntity.getId())
+                .departureTime(flightEntity.getDepartureTime())
+                .arrivalTime(flightEntity.getArrivalTime())
+                .price(flightEntity.getPrice())
+                .build();
+
+        final CustomPage<Flight> flightPage = CustomPage.of(List.of(flight), flightEntityPage);
+
+        // When
+        when(searchFlightService.searchFlights(any(SearchFlightRequest.class))).thenReturn(flightPage);
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search")
+                        .param("fields", "id,price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].id").value(flight.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].price").value(flight.getPrice()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].departureTime").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].fromAirport").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.totalElementCount").value(1));
+
+        // Verify
+        verify(searchFlightService, times(1)).searchFlights(any(SearchFlightRequest.class));
+
+    }
+
+    @Test
+    void givenUnknownField_whenSearchFlights_thenReturnBadRequest() throws Exception {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search")
+                        .param("fields", "id,createdBy")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(searchFlightService, never()).searchFlights(any(SearchFlightRequest.class));
+
+    }
+
     @Test
     void givenSearchFlightRequest_whenUnauthorized_thenThrowUnauthorized() throws Exception {
 
@@ -235,5 +354,396 @@ class SearchFlightControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenSearchFlightRequestWithReversedDepartureHours_whenSearchFlights_thenReturnBadRequest() throws Exception {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final SearchFlightRequest searchFlightRequest = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .departureHourFrom(18)
+                .departureHourTo(6)
+                .pagination(pagination)
+                .build();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchFlightRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(searchFlightService, never()).searchFlights(any(SearchFlightRequest.class));
+
+    }
+
+    @Test
+    void givenSearchFlightRequest_whenStreamFlights_thenWriteOneFlightPerLine() throws Exception {
+
+        // Given
+        final SearchFlightRequest searchFlightRequest = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .build();
+
+        final Flight flight = new FlightBuilder().withValidFields().build();
+
+        final String expectedBody = objectMapper.writeValueAsString(
+                FlightToFlightResponseMapper.initialize().map(flight)) + "\n";
+
+        // When
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<Flight>>>getArgument(1).accept(List.of(flight));
+            return 1L;
+        }).when(flightStreamService).streamSearch(any(SearchFlightRequest.class), any());
+
+        // Then
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(searchFlightRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+
+        // Verify
+        verify(flightStreamService, times(1)).streamSearch(any(SearchFlightRequest.class), any());
+
+    }
+
+    @Test
+    void givenCitySearchFlightRequest_whenFlightsFoundFromUser_thenReturnFlights() throws Exception {
+
+        // Given
+        final CitySearchFlightRequest request = CitySearchFlightRequest.builder()
+                .fromCityName("New York")
+                .toCityName("Chicago")
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final Flight flight = new FlightBuilder().withValidFields().build();
+
+        final CustomPage<Flight> flightPage = CustomPage.of(List.of(flight), new PageImpl<>(List.of(flight)));
+
+        // When
+        when(cityFlightSearchService.searchFlights(any(CitySearchFlightRequest.class))).thenReturn(flightPage);
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/cities")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].id").value(flight.getId()));
+
+        // Verify
+        verify(cityFlightSearchService, times(1)).searchFlights(any(CitySearchFlightRequest.class));
+
+    }
+
+    @Test
+    void givenCitySearchFlightRequestWithCityAndAirports_whenSearchFlightsBetweenCities_thenReturnBadRequest() throws Exception {
+
+        // Given
+        final CitySearchFlightRequest request = CitySearchFlightRequest.builder()
+                .fromCityName("New York")
+                .fromAirportIds(List.of("JFK"))
+                .toCityName("Chicago")
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/cities")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(cityFlightSearchService, never()).searchFlights(any(CitySearchFlightRequest.class));
+
+    }
+
+    @Test
+    void givenBatchSearchFlightRequest_whenSearchFlightsBatch_thenReturnResultsAndErrorsInOrder() throws Exception {
+
+        // Given
+        final SearchFlightRequest searchFlightRequest = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final BatchSearchFlightRequest request = BatchSearchFlightRequest.builder()
+                .searches(List.of(searchFlightRequest, searchFlightRequest))
+                .build();
+
+        final Flight flight = new FlightBuilder().withValidFields().build();
+
+        final CustomPage<Flight> flightPage = CustomPage.of(List.of(flight), new PageImpl<>(List.of(flight)));
+
+        // When
+        when(searchFlightService.searchFlightsBatch(anyList())).thenReturn(List.of(
+                BatchSearchResult.success(flightPage),
+                BatchSearchResult.failure(InvalidCursorException.STATUS, CustomError.Header.VALIDATION_ERROR,
+                        "Invalid pagination cursor")));
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].result.content[0].id").value(flight.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].error").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[1].result").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[1].error.httpStatus").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[1].error.header")
+                        .value(CustomError.Header.VALIDATION_ERROR.getName()));
+
+        // Verify
+        verify(searchFlightService, times(1)).searchFlightsBatch(anyList());
+
+    }
+
+    @Test
+    void givenEmptyBatchSearchFlightRequest_whenSearchFlightsBatch_thenReturnBadRequest() throws Exception {
+
+        // Given
+        final BatchSearchFlightRequest request = BatchSearchFlightRequest.builder()
+                .searches(List.of())
+                .build();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(searchFlightService, never()).searchFlightsBatch(anyList());
+
+    }
+
+    @Test
+    void givenItinerarySearchRequest_whenItinerariesFoundFromUser_thenReturnItineraries() throws Exception {
+
+        // Given
+        final ItinerarySearchRequest request = ItinerarySearchRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 0, 0))
+                .maxStops(1)
+                .build();
+
+        final Flight firstLeg = Flight.builder()
+                .id(UUID.randomUUID().toString())
+                .fromAirport(Airport.builder().id(request.getFromAirportId()).name("Origin Airport").build())
+                .toAirport(Airport.builder().id("connection").name("Connection Airport").build())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 7, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .price(80.0)
+                .build();
+
+        final Flight secondLeg = Flight.builder()
+                .id(UUID.randomUUID().toString())
+                .fromAirport(Airport.builder().id("connection").name("Connection Airport").build())
+                .toAirport(Airport.builder().id(request.getToAirportId()).name("Destination Airport").build())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 11, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 19, 12, 30))
+                .price(70.0)
+                .build();
+
+        final Itinerary itinerary = Itinerary.builder()
+                .flights(List.of(firstLeg, secondLeg))
+                .departureTime(firstLeg.getDepartureTime())
+                .arrivalTime(secondLeg.getArrivalTime())
+                .totalPrice(150.0)
+                .stops(1)
+                .build();
+
+        // When
+        when(itinerarySearchService.searchItineraries(any(ItinerarySearchRequest.class))).thenReturn(List.of(itinerary));
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/itineraries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.httpStatus").value("OK"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].stops").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].totalPrice").value(150.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].flights[0].id").value(firstLeg.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].flights[1].toAirport.id").value(request.getToAirportId()));
+
+        // Verify
+        verify(itinerarySearchService, times(1)).searchItineraries(any(ItinerarySearchRequest.class));
+
+    }
+
+    @Test
+    void givenRoundTripSearchRequest_whenRoundTripsFoundFromUser_thenReturnRoundTrips() throws Exception {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final RoundTripSearchRequest request = RoundTripSearchRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 0, 0))
+                .returnTime(LocalDateTime.of(2025, 1, 25, 0, 0))
+                .sortBy(RoundTripSort.PRICE)
+                .pagination(pagination)
+                .build();
+
+        final Flight outboundFlight = Flight.builder()
+                .id(UUID.randomUUID().toString())
+                .fromAirport(Airport.builder().id(request.getFromAirportId()).name("Origin Airport").build())
+                .toAirport(Airport.builder().id(request.getToAirportId()).name("Destination Airport").build())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 7, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .price(80.0)
+                .build();
+
+        final Flight returnFlight = Flight.builder()
+                .id(UUID.randomUUID().toString())
+                .fromAirport(Airport.builder().id(request.getToAirportId()).name("Destination Airport").build())
+                .toAirport(Airport.builder().id(request.getFromAirportId()).name("Origin Airport").build())
+                .departureTime(LocalDateTime.of(2025, 1, 25, 11, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 25, 14, 0))
+                .price(70.0)
+                .build();
+
+        final RoundTrip roundTrip = RoundTrip.builder()
+                .outboundFlight(outboundFlight)
+                .returnFlight(returnFlight)
+                .totalPrice(150.0)
+                .totalDurationMinutes(360L)
+                .build();
+
+        final CustomPage<RoundTrip> roundTripPage = CustomPage.<RoundTrip>builder()
+                .content(List.of(roundTrip))
+                .pageNumber(1)
+                .pageSize(10)
+                .totalElementCount(1L)
+                .totalPageCount(1)
+                .build();
+
+        // When
+        when(searchFlightService.searchRoundTrips(any(RoundTripSearchRequest.class))).thenReturn(roundTripPage);
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/round-trips")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.totalElementCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].totalPrice").value(150.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].totalDurationMinutes").value(360))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].outboundFlight.id").value(outboundFlight.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.content[0].returnFlight.id").value(returnFlight.getId()));
+
+        // Verify
+        verify(searchFlightService, times(1)).searchRoundTrips(any(RoundTripSearchRequest.class));
+
+    }
+
+    @Test
+    void givenFlightCalendarRequest_whenCalendarFoundFromUser_thenReturnCalendarDays() throws Exception {
+
+        // Given
+        final FlightCalendarRequest request = FlightCalendarRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 0, 0))
+                .flexDays(1)
+                .build();
+
+        final List<FlightCalendarDay> calendar = List.of(
+                FlightCalendarDay.builder().date(LocalDate.of(2025, 1, 18)).flightCount(0L).build(),
+                FlightCalendarDay.builder().date(LocalDate.of(2025, 1, 19)).cheapestPrice(120.0).flightCount(3L).build(),
+                FlightCalendarDay.builder().date(LocalDate.of(2025, 1, 20)).cheapestPrice(95.5).flightCount(1L).build()
+        );
+
+        // When
+        when(flightCalendarService.getCalendar(any(FlightCalendarRequest.class))).thenReturn(calendar);
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/calendar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response.length()").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[0].flightCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[1].cheapestPrice").value(120.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.response[2].flightCount").value(1));
+
+        // Verify
+        verify(flightCalendarService, times(1)).getCalendar(any(FlightCalendarRequest.class));
+
+    }
+
+    @Test
+    void givenFlightCalendarRequestWithTooManyFlexDays_whenGetCalendar_thenReturnBadRequest() throws Exception {
+
+        // Given
+        final FlightCalendarRequest request = FlightCalendarRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 0, 0))
+                .flexDays(8)
+                .build();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/flights/search/calendar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Verify
+        verify(flightCalendarService, never()).getCalendar(any(FlightCalendarRequest.class));
+
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.service.airport.AirportAutocompleteService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportAutocompleteIndexRefresher}.
+ * This class verifies that the autocomplete index is updated only when the name or city of an airport changed.
+ */
+class AirportAutocompleteIndexRefresherTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private AirportAutocompleteIndexRefresher airportAutocompleteIndexRefresher;
+
+    @Mock
+    private AirportAutocompleteService airportAutocompleteService;
+
+    @Test
+    void givenAirportRenamed_whenOnAirportChanged_thenUpdateIndex() {
+
+        // Given
+        final AirportSnapshot previous = AirportSnapshot.builder().id("A").name("Old").cityName("Istanbul").build();
+        final AirportSnapshot current = AirportSnapshot.builder().id("A").name("New").cityName("Istanbul").build();
+
+        // When
+        airportAutocompleteIndexRefresher.onAirportChanged(new AirportChangedEvent(previous, current));
+
+        // Verify
+        verify(airportAutocompleteService).update(previous, current);
+
+    }
+
+    @Test
+    void givenAirportUnchanged_whenOnAirportChanged_thenKeepIndex() {
+
+        // Given
+        final AirportSnapshot snapshot = AirportSnapshot.builder().id("A").name("Same").cityName("Istanbul").build();
+
+        // When
+        airportAutocompleteIndexRefresher.onAirportChanged(new AirportChangedEvent(snapshot, snapshot));
+
+        // Verify
+        verifyNoInteractions(airportAutocompleteService);
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportExistenceFilterUpdater}.
+ * This class verifies that only created airports are added to the airport ID filter.
+ */
+class AirportExistenceFilterUpdaterTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private AirportExistenceFilterUpdater airportExistenceFilterUpdater;
+
+    @Mock
+    private AirportExistenceService airportExistenceService;
+
+    @Test
+    void givenAirportCreatedRenamedAndDeleted_whenOnAirportChanged_thenAddOnlyCreatedAirport() {
+
+        // Given
+        final AirportSnapshot created = AirportSnapshot.builder().id("A").name("Old").cityName("Istanbul").build();
+        final AirportSnapshot renamed = AirportSnapshot.builder().id("A").name("New").cityName("Istanbul").build();
+
+        // When
+        airportExistenceFilterUpdater.onAirportChanged(new AirportChangedEvent(null, created));
+        airportExistenceFilterUpdater.onAirportChanged(new AirportChangedEvent(created, renamed));
+        airportExistenceFilterUpdater.onAirportChanged(new AirportChangedEvent(renamed, null));
+
+        // Verify
+        verify(airportExistenceService, times(1)).add("A");
+        verifyNoMoreInteractions(airportExistenceService);
+
+    }
+
+}
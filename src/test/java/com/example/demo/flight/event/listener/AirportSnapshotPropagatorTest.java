@@ -0,0 +1,114 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportSnapshotPropagator}.
+ * This class verifies that airport changes are propagated to the snapshots embedded in flights.
+ */
+class AirportSnapshotPropagatorTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private AirportSnapshotPropagator airportSnapshotPropagator;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void givenChangedAirport_whenOnAirportChanged_thenUpdateBothSidesOfFlights() {
+
+        // Given
+        final String airportId = UUID.randomUUID().toString();
+
+        final AirportSnapshot previous = AirportSnapshot.builder()
+                .id(airportId)
+                .name("Old Name")
+                .cityName("Old City")
+                .build();
+
+        final AirportSnapshot current = AirportSnapshot.builder()
+                .id(airportId)
+                .name("New Name")
+                .cityName("New City")
+                .build();
+
+        // When
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(FlightEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        airportSnapshotPropagator.onAirportChanged(new AirportChangedEvent(previous, current));
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+        verify(mongoTemplate, times(2))
+                .updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(FlightEntity.class));
+
+        List<Query> queries = queryCaptor.getAllValues();
+        assertEquals(airportId, queries.get(0).getQueryObject().get("fromAirport.id"));
+        assertEquals(airportId, queries.get(1).getQueryObject().get("toAirport.id"));
+
+        List<Update> updates = updateCaptor.getAllValues();
+        assertEquals("New Name", updates.get(0).getUpdateObject().get("$set", Document.class).get("fromAirport.name"));
+        assertEquals("New City", updates.get(1).getUpdateObject().get("$set", Document.class).get("toAirport.cityName"));
+
+    }
+
+    @Test
+    void givenUnchangedAirport_whenOnAirportChanged_thenDoNothing() {
+
+        // Given
+        final AirportSnapshot snapshot = AirportSnapshot.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Same Name")
+                .cityName("Same City")
+                .build();
+
+        // When
+        airportSnapshotPropagator.onAirportChanged(new AirportChangedEvent(snapshot, snapshot));
+
+        // Then
+        verifyNoInteractions(mongoTemplate);
+
+    }
+
+    @Test
+    void givenCreatedAirport_whenOnAirportChanged_thenDoNothing() {
+
+        // Given
+        final AirportSnapshot created = AirportSnapshot.builder()
+                .id(UUID.randomUUID().toString())
+                .name("New Name")
+                .cityName("New City")
+                .build();
+
+        // When
+        airportSnapshotPropagator.onAirportChanged(new AirportChangedEvent(null, created));
+
+        // Then
+        verifyNoInteractions(mongoTemplate);
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.service.airport.CityAirportIndexService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CityAirportIndexRefresher}.
+ * This class verifies that the city index is only rebuilt when an airport joins or leaves a city.
+ */
+class CityAirportIndexRefresherTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private CityAirportIndexRefresher cityAirportIndexRefresher;
+
+    @Mock
+    private CityAirportIndexService cityAirportIndexService;
+
+    @Test
+    void givenAirportCreatedMovedAndDeleted_whenOnAirportChanged_thenRebuildIndexEachTime() {
+
+        // Given
+        final AirportSnapshot istanbul = AirportSnapshot.builder().id("A").name("Airport").cityName("Istanbul").build();
+        final AirportSnapshot ankara = AirportSnapshot.builder().id("A").name("Airport").cityName("Ankara").build();
+
+        // When
+        cityAirportIndexRefresher.onAirportChanged(new AirportChangedEvent(null, istanbul));
+        cityAirportIndexRefresher.onAirportChanged(new AirportChangedEvent(istanbul, ankara));
+        cityAirportIndexRefresher.onAirportChanged(new AirportChangedEvent(ankara, null));
+
+        // Verify
+        verify(cityAirportIndexService, times(3)).rebuild();
+
+    }
+
+    @Test
+    void givenAirportRenamedInSameCity_whenOnAirportChanged_thenKeepIndex() {
+
+        // Given
+        final AirportSnapshot previous = AirportSnapshot.builder().id("A").name("Old").cityName("Istanbul").build();
+        final AirportSnapshot current = AirportSnapshot.builder().id("A").name("New").cityName("Istanbul").build();
+
+        // When
+        cityAirportIndexRefresher.onAirportChanged(new AirportChangedEvent(previous, current));
+
+        // Verify
+        verifyNoInteractions(cityAirportIndexService);
+
+    }
+
+}
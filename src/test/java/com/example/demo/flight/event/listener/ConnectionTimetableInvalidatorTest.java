@@ -0,0 +1,44 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.service.flight.ConnectionTimetableService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link ConnectionTimetableInvalidator}.
+ * This class verifies that flight changes invalidate the timetables of their departure days.
+ */
+class ConnectionTimetableInvalidatorTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private ConnectionTimetableInvalidator connectionTimetableInvalidator;
+
+    @Mock
+    private ConnectionTimetableService connectionTimetableService;
+
+    @Test
+    void givenFlightChangedRouteOnSameDay_whenOnFlightChanged_thenInvalidateDayOnce() {
+
+        // Given
+        final LocalDate day = LocalDate.of(2025, 1, 19);
+
+        // When
+        connectionTimetableInvalidator.onFlightChanged(new FlightChangedEvent(
+                new FlightRouteDay("A", "B", day), new FlightRouteDay("A", "C", day)));
+
+        // Verify
+        verify(connectionTimetableService, times(1)).invalidate(any());
+        verify(connectionTimetableService).invalidate(day);
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.AirportChangedEvent;
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link DirectFlightIndexRefresher}.
+ * This class verifies that flight and airport changes are applied to the in-memory flight index.
+ */
+class DirectFlightIndexRefresherTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private DirectFlightIndexRefresher directFlightIndexRefresher;
+
+    @Mock
+    private DirectFlightIndexService directFlightIndexService;
+
+    @Test
+    void givenFlightMovedToAnotherDay_whenOnFlightChanged_thenRefreshBothRouteDays() {
+
+        // Given
+        final FlightRouteDay previous = new FlightRouteDay("A", "B", LocalDate.of(2025, 1, 19));
+        final FlightRouteDay current = new FlightRouteDay("A", "B", LocalDate.of(2025, 1, 20));
+
+        // When
+        directFlightIndexRefresher.onFlightChanged(new FlightChangedEvent(previous, current));
+
+        // Verify
+        verify(directFlightIndexService).refresh(previous);
+        verify(directFlightIndexService).refresh(current);
+
+    }
+
+    @Test
+    void givenAirportRenamed_whenOnAirportChanged_thenUpdateAirport() {
+
+        // Given
+        final AirportSnapshot previous = AirportSnapshot.builder().id("A").name("Old").build();
+        final AirportSnapshot current = AirportSnapshot.builder().id("A").name("New").build();
+
+        // When
+        directFlightIndexRefresher.onAirportChanged(new AirportChangedEvent(previous, current));
+        directFlightIndexRefresher.onAirportChanged(new AirportChangedEvent(current, current));
+
+        // Verify
+        verify(directFlightIndexService, times(1)).updateAirport(current);
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit test class for {@link FlightDurationListener}.
+ * This class verifies that the flight time is derived from the departure and arrival times on every save.
+ */
+class FlightDurationListenerTest {
+
+    private static final String COLLECTION_NAME = "flight-collection";
+
+    private final FlightDurationListener flightDurationListener = new FlightDurationListener();
+
+    @Test
+    void givenFlightWithStaleDuration_whenOnBeforeConvert_thenRecomputeDuration() {
+
+        // Given
+        final FlightEntity flight = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .withArrivalTime(LocalDateTime.of(2025, 1, 19, 12, 45, 30))
+                .build();
+        flight.setDurationMinutes(30L);
+
+        // When
+        flightDurationListener.onBeforeConvert(new BeforeConvertEvent<>(flight, COLLECTION_NAME));
+
+        // Then
+        assertEquals(165L, flight.getDurationMinutes());
+
+    }
+
+    @Test
+    void givenFlightWithoutArrivalTime_whenOnBeforeConvert_thenClearDuration() {
+
+        // Given
+        final FlightEntity flight = new FlightEntityBuilder()
+                .withValidFields()
+                .withArrivalTime(null)
+                .build();
+        flight.setDurationMinutes(30L);
+
+        // When
+        flightDurationListener.onBeforeConvert(new BeforeConvertEvent<>(flight, COLLECTION_NAME));
+
+        // Then
+        assertNull(flight.getDurationMinutes());
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.demo.flight.event.listener;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.event.FlightChangedEvent;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.service.flight.ApproximateFlightCountService;
+import com.example.demo.flight.service.flight.FlightCalendarService;
+import com.example.demo.flight.service.flight.FlightSearchCacheService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link FlightSearchCacheInvalidator}.
+ * This class verifies that flight changes invalidate the affected route/days only.
+ */
+class FlightSearchCacheInvalidatorTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private FlightSearchCacheInvalidator flightSearchCacheInvalidator;
+
+    @Mock
+    private FlightSearchCacheService flightSearchCacheService;
+
+    @Mock
+    private ApproximateFlightCountService approximateFlightCountService;
+
+    @Mock
+    private FlightCalendarService flightCalendarService;
+
+    @Test
+    void givenFlightMovedToAnotherDay_whenOnFlightChanged_thenInvalidateBothRouteDays() {
+
+        // Given
+        final FlightRouteDay previous = new FlightRouteDay("A", "B", LocalDate.of(2025, 1, 19));
+        final FlightRouteDay current = new FlightRouteDay("A", "B", LocalDate.of(2025, 1, 20));
+
+        // When
+        flightSearchCacheInvalidator.onFlightChanged(new FlightChangedEvent(previous, current));
+
+        // Verify
+        verify(flightSearchCacheService).invalidate(previous);
+        verify(flightSearchCacheService).invalidate(current);
+        verify(approximateFlightCountService).invalidate(previous);
+        verify(approximateFlightCountService).invalidate(current);
+        verify(flightCalendarService).invalidate(previous);
+        verify(flightCalendarService).invalidate(current);
+
+    }
+
+    @Test
+    void givenFlightPriceChanged_whenOnFlightChanged_thenInvalidateRouteDayOnce() {
+
+        // Given
+        final FlightRouteDay routeDay = new FlightRouteDay("A", "B", LocalDate.of(2025, 1, 19));
+
+        // When
+        flightSearchCacheInvalidator.onFlightChanged(new FlightChangedEvent(routeDay, routeDay));
+
+        // Verify
+        verify(flightSearchCacheService, times(1)).invalidate(any());
+        verify(approximateFlightCountService, times(1)).invalidate(any());
+        verify(flightCalendarService, times(1)).invalidate(any());
+
+    }
+
+}
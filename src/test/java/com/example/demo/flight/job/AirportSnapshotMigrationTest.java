@@ -0,0 +1,120 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.mongodb.DBRef;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportSnapshotMigration}.
+ * This class verifies that legacy {@code DBRef} airport references are rewritten into embedded snapshots.
+ */
+class AirportSnapshotMigrationTest extends AbstractBaseServiceTest {
+
+    private static final String COLLECTION_NAME = "flight-collection";
+
+    @InjectMocks
+    private AirportSnapshotMigration airportSnapshotMigration;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private AirportRepository airportRepository;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Test
+    void givenLegacyFlights_whenMigrate_thenEmbedAirportSnapshotsWithSingleLookup() {
+
+        // Given
+        final AirportEntity fromAirport = new AirportEntityBuilder().withValidFields();
+        final AirportEntity toAirport = new AirportEntityBuilder().withValidFields();
+        final String missingAirportId = UUID.randomUUID().toString();
+
+        final Document legacyFlight1 = new Document("_id", UUID.randomUUID().toString())
+                .append("FROM_AIRPORT", new DBRef("airport-collection", fromAirport.getId()))
+                .append("TO_AIRPORT", new DBRef("airport-collection", toAirport.getId()));
+
+        final Document legacyFlight2 = new Document("_id", UUID.randomUUID().toString())
+                .append("FROM_AIRPORT", new Document("$ref", "airport-collection").append("$id", toAirport.getId()))
+                .append("TO_AIRPORT", new Document("$ref", "airport-collection").append("$id", missingAirportId));
+
+        // When
+        when(mongoTemplate.getCollectionName(FlightEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(COLLECTION_NAME)))
+                .thenReturn(Stream.of(legacyFlight1, legacyFlight2));
+        when(airportRepository.findAllById(Set.of(fromAirport.getId(), toAirport.getId(), missingAirportId)))
+                .thenReturn(List.of(fromAirport, toAirport));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION_NAME)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 2, Collections.emptyList(), Collections.emptyList()));
+
+        final long migrated = airportSnapshotMigration.migrate();
+
+        // Then
+        assertEquals(2, migrated);
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), updateCaptor.capture());
+
+        Document firstSet = updateCaptor.getAllValues().get(0).getUpdateObject().get("$set", Document.class);
+        Document firstFrom = firstSet.get("FROM_AIRPORT", Document.class);
+        assertEquals(fromAirport.getId(), firstFrom.getString("AIRPORT_ID"));
+        assertEquals(fromAirport.getName(), firstFrom.getString("AIRPORT_NAME"));
+        assertEquals(fromAirport.getCityName(), firstFrom.getString("CITY_NAME"));
+
+        Document secondSet = updateCaptor.getAllValues().get(1).getUpdateObject().get("$set", Document.class);
+        Document secondTo = secondSet.get("TO_AIRPORT", Document.class);
+        assertEquals(missingAirportId, secondTo.getString("AIRPORT_ID"));
+        assertNull(secondTo.getString("AIRPORT_NAME"));
+
+        // Verify
+        verify(airportRepository, times(1)).findAllById(anyIterable());
+        verify(bulkOperations, times(1)).execute();
+
+    }
+
+    @Test
+    void givenNoLegacyFlights_whenMigrate_thenDoNothing() {
+
+        // When
+        when(mongoTemplate.getCollectionName(FlightEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(COLLECTION_NAME)))
+                .thenReturn(Stream.empty());
+
+        final long migrated = airportSnapshotMigration.migrate();
+
+        // Then
+        assertEquals(0, migrated);
+
+        // Verify
+        verifyNoInteractions(airportRepository);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), anyString());
+
+    }
+
+}
@@ -4,6 +4,9 @@ import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -17,7 +20,8 @@ import static org.mockito.Mockito.*;
  * Unit test for {@link FlightDataLoader}.
  * This test verifies that the dummy flight data is properly loaded
  * and that interactions with the {@link FlightRepository} and {@link AirportRepository}
- * occur as expected.
+ * occur as expected, and that every saved flight is added to its route/day summary
+ * and every saved ID to its ID filter.
  */
 class FlightDataLoaderTest extends AbstractBaseServiceTest {
 
@@ -30,6 +34,15 @@ class FlightDataLoaderTest extends AbstractBaseServiceTest {
     @Mock
     private AirportRepository airportRepository;
 
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private AirportExistenceService airportExistenceService;
+
+    @Mock
+    private FlightExistenceService flightExistenceService;
+
     @Test
     void shouldLoadFlightDummyData() {
 
@@ -55,7 +68,9 @@ class FlightDataLoaderTest extends AbstractBaseServiceTest {
         List<AirportEntity> mockAirports = List.of(airport1, airport2, airport3);
 
         // When
+        when(airportRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         when(airportRepository.findAll()).thenReturn(mockAirports);
+        when(flightRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Then
         flightDataLoader.loadFlightDumpyData();
@@ -63,6 +78,9 @@ class FlightDataLoaderTest extends AbstractBaseServiceTest {
         // Verify
         verify(airportRepository, times(1)).saveAll(anyList());
         verify(flightRepository, times(1)).saveAll(anyList());
+        verify(flightRouteDaySummaryService, times(3)).recordCreated(any());
+        verify(airportExistenceService, times(3)).add(anyString());
+        verify(flightExistenceService, times(3)).add(anyString());
 
     }
 
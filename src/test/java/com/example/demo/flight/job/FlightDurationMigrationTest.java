@@ -0,0 +1,74 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link FlightDurationMigration}.
+ * This class verifies that the flight times of flights without one are computed with a single server-side update.
+ */
+class FlightDurationMigrationTest extends AbstractBaseServiceTest {
+
+    private static final String COLLECTION_NAME = "flight-collection";
+
+    @InjectMocks
+    private FlightDurationMigration flightDurationMigration;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void givenFlightsWithoutDuration_whenMigrate_thenUpdateOnlyThoseFlights() {
+
+        // Given
+        when(mongoTemplate.getCollectionName(FlightEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME)))
+                .thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+        // When
+        final long migrated = flightDurationMigration.migrate();
+
+        // Then
+        assertEquals(3, migrated);
+
+        // Verify
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), any(AggregationUpdate.class), eq(COLLECTION_NAME));
+
+        final Document filter = queryCaptor.getValue().getQueryObject();
+        assertEquals(new Document("$exists", false), filter.get("DURATION_MINUTES"));
+        assertEquals(new Document("$exists", true), filter.get("DEPARTURE_TIME"));
+        assertEquals(new Document("$exists", true), filter.get("ARRIVAL_TIME"));
+
+    }
+
+    @Test
+    void givenEveryFlightHasDuration_whenRun_thenModifyNothing() {
+
+        // Given
+        when(mongoTemplate.getCollectionName(FlightEntity.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        flightDurationMigration.run(null);
+
+        // Verify
+        verify(mongoTemplate).updateMulti(any(Query.class), any(AggregationUpdate.class), eq(COLLECTION_NAME));
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for {@link FlightRouteDaySummaryJob}.
+ * Verifies that the job checks the configured upcoming days and that a failing run does not propagate.
+ */
+class FlightRouteDaySummaryJobTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private FlightRouteDaySummaryJob flightRouteDaySummaryJob;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    @Test
+    void givenCheckDays_whenCheckSummaries_thenCheckUpcomingDays() {
+
+        // Given
+        final LocalDate today = LocalDate.now();
+
+        when(flightSearchConfigurationParameter.getSummaryCheckDays()).thenReturn(7);
+
+        // When
+        flightRouteDaySummaryJob.checkSummaries();
+
+        // Verify
+        verify(flightRouteDaySummaryService).checkConsistency(today, today.plusDays(6));
+
+    }
+
+    @Test
+    void givenRebuildFails_whenRebuildSummaries_thenDoNotThrow() {
+
+        // Given
+        when(flightRouteDaySummaryService.rebuild()).thenThrow(new IllegalStateException("Connection lost"));
+
+        // When
+        assertDoesNotThrow(() -> flightRouteDaySummaryJob.rebuildSummaries());
+
+        // Verify
+        verify(flightRouteDaySummaryService).rebuild();
+
+    }
+
+}
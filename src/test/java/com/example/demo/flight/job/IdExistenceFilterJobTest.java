@@ -0,0 +1,43 @@
+package com.example.demo.flight.job;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for {@link IdExistenceFilterJob}.
+ * Verifies that both filters are rebuilt and that a failing filter neither propagates nor stops the other one.
+ */
+class IdExistenceFilterJobTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private IdExistenceFilterJob idExistenceFilterJob;
+
+    @Mock
+    private AirportExistenceService airportExistenceService;
+
+    @Mock
+    private FlightExistenceService flightExistenceService;
+
+    @Test
+    void givenAirportRebuildFails_whenRebuildFilters_thenStillRebuildFlightFilter() {
+
+        // Given
+        when(airportExistenceService.rebuild()).thenThrow(new IllegalStateException("Connection lost"));
+
+        // When
+        assertDoesNotThrow(() -> idExistenceFilterJob.rebuildFilters());
+
+        // Verify
+        verify(airportExistenceService).rebuild();
+        verify(flightExistenceService).rebuild();
+
+    }
+
+}
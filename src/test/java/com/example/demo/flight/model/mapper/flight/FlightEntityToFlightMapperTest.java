@@ -1,7 +1,7 @@
 package com.example.demo.flight.model.mapper.flight;
 
 import com.example.demo.flight.model.Flight;
-import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
 import com.example.demo.flight.model.entity.FlightEntity;
 import org.junit.jupiter.api.Test;
 
@@ -66,8 +66,8 @@ class FlightEntityToFlightMapperTest {
         // Test mapping a single FlightEntity to Flight
         FlightEntity flightEntity = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(AirportEntity.builder().name("From Airport").cityName("City A").build())
-                .toAirport(AirportEntity.builder().name("To Airport").cityName("City B").build())
+                .fromAirport(AirportSnapshot.builder().name("From Airport").cityName("City A").build())
+                .toAirport(AirportSnapshot.builder().name("To Airport").cityName("City B").build())
                 .departureTime(LocalDateTime.now().plusHours(2))
                 .arrivalTime(LocalDateTime.now().plusHours(3))
                 .price(150.00)
@@ -93,8 +93,8 @@ class FlightEntityToFlightMapperTest {
         // Test mapping a list of FlightEntity to Flight
         FlightEntity flightEntity1 = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(AirportEntity.builder().name("From Airport 1").cityName("City A1").build())
-                .toAirport(AirportEntity.builder().name("To Airport 1").cityName("City B1").build())
+                .fromAirport(AirportSnapshot.builder().name("From Airport 1").cityName("City A1").build())
+                .toAirport(AirportSnapshot.builder().name("To Airport 1").cityName("City B1").build())
                 .departureTime(LocalDateTime.now().plusHours(2))
                 .arrivalTime(LocalDateTime.now().plusHours(3))
                 .price(120.00)
@@ -102,8 +102,8 @@ class FlightEntityToFlightMapperTest {
 
         FlightEntity flightEntity2 = FlightEntity.builder()
                 .id(UUID.randomUUID().toString())
-                .fromAirport(AirportEntity.builder().name("From Airport 2").cityName("City A2").build())
-                .toAirport(AirportEntity.builder().name("To Airport 2").cityName("City B2").build())
+                .fromAirport(AirportSnapshot.builder().name("From Airport 2").cityName("City A2").build())
+                .toAirport(AirportSnapshot.builder().name("To Airport 2").cityName("City B2").build())
                 .departureTime(LocalDateTime.now().plusHours(4))
                 .arrivalTime(LocalDateTime.now().plusHours(5))
                 .price(200.00)
@@ -126,8 +126,8 @@ class FlightEntityToFlightMapperTest {
 
         // Test edge case with empty or null values
         FlightEntity flightEntity = FlightEntity.builder()
-                .fromAirport(AirportEntity.builder().name("").cityName(null).build())
-                .toAirport(AirportEntity.builder().name(null).cityName("").build())
+                .fromAirport(AirportSnapshot.builder().name("").cityName(null).build())
+                .toAirport(AirportSnapshot.builder().name(null).cityName("").build())
                 .departureTime(null)
                 .arrivalTime(null)
                 .price(null)
@@ -0,0 +1,83 @@
+package com.example.demo.flight.repository;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link FlightRouteDaySummaryMaintenanceRepositoryImpl}.
+ * This class verifies that rebuilt summaries group flights by their departure day in the JVM's zone, the zone their
+ * departure times are stored in.
+ */
+class FlightRouteDaySummaryMaintenanceRepositoryImplTest extends AbstractBaseServiceTest {
+
+    private static final String ZONE = "Europe/Istanbul";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private FlightRouteDaySummaryMaintenanceRepositoryImpl flightRouteDaySummaryMaintenanceRepository;
+
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZONE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNonUtcDefaultZone_whenAggregateSummaries_thenGroupByDepartureDayInThatZone() {
+
+        // Given
+        final LocalDate day = LocalDate.of(2025, 1, 19);
+
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        // When
+        flightRouteDaySummaryMaintenanceRepository.aggregateSummaries(day, day);
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregationCaptor = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq(Document.class));
+
+        final Document dayOf = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).stream()
+                .filter(stage -> stage.containsKey("$project"))
+                .map(stage -> stage.get("$project", Document.class).get("day", Document.class))
+                .findFirst()
+                .orElseThrow()
+                .get("$dateToString", Document.class);
+
+        assertEquals("%Y-%m-%d", dayOf.getString("format"));
+        assertEquals(ZONE, dayOf.getString("timezone"));
+
+    }
+
+}
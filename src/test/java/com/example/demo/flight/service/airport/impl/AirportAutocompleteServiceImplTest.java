@@ -0,0 +1,97 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.flight.model.Airport;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.repository.AirportRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportAutocompleteServiceImpl}.
+ * This class verifies that suggestions are served from memory after a single load, and that airport writes are
+ * applied to the index without reading the database again.
+ */
+class AirportAutocompleteServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private AirportAutocompleteServiceImpl airportAutocompleteService;
+
+    @Mock
+    private AirportRepository airportRepository;
+
+    @Test
+    void givenAirports_whenSuggestTwice_thenLoadThemOnce() {
+
+        // Given
+        when(airportRepository.findAll()).thenReturn(List.of(
+                new AirportEntityBuilder().withId("IST").withName("Istanbul Airport").withCityName("Istanbul").build(),
+                new AirportEntityBuilder().withId("ESB").withName("Esenboga").withCityName("Ankara").build()));
+
+        // When
+        List<Airport> first = airportAutocompleteService.suggest("ist", 10);
+        List<Airport> second = airportAutocompleteService.suggest("ank", 10);
+
+        // Then
+        assertEquals(List.of("IST"), first.stream().map(Airport::getId).toList());
+        assertEquals("Istanbul Airport", first.get(0).getName());
+        assertEquals(List.of("ESB"), second.stream().map(Airport::getId).toList());
+
+        // Verify
+        verify(airportRepository, times(1)).findAll();
+
+    }
+
+    @Test
+    void givenLoadedIndex_whenUpdate_thenApplyWriteWithoutReadingDatabase() {
+
+        // Given
+        final AirportSnapshot esenboga = AirportSnapshot.builder().id("ESB").name("Esenboga").cityName("Ankara").build();
+        final AirportSnapshot renamed = AirportSnapshot.builder().id("ESB").name("Ankara Esenboga").cityName("Ankara").build();
+        final AirportSnapshot izmir = AirportSnapshot.builder().id("ADB").name("Adnan Menderes").cityName("Izmir").build();
+
+        when(airportRepository.findAll()).thenReturn(List.of(
+                new AirportEntityBuilder().withId("ESB").withName("Esenboga").withCityName("Ankara").build()));
+
+        airportAutocompleteService.run(null);
+
+        // When
+        airportAutocompleteService.update(null, izmir);
+        airportAutocompleteService.update(esenboga, renamed);
+
+        // Then
+        assertEquals(List.of("ADB"), airportAutocompleteService.suggest("izm", 10).stream().map(Airport::getId).toList());
+        assertEquals("Ankara Esenboga", airportAutocompleteService.suggest("esen", 10).get(0).getName());
+
+        // When
+        airportAutocompleteService.update(izmir, null);
+
+        // Then
+        assertTrue(airportAutocompleteService.suggest("izm", 10).isEmpty());
+
+        // Verify
+        verify(airportRepository, times(1)).findAll();
+
+    }
+
+    @Test
+    void givenIndexNotLoaded_whenUpdate_thenLeaveItToTheLoad() {
+
+        // When
+        airportAutocompleteService.update(null,
+                AirportSnapshot.builder().id("ADB").name("Adnan Menderes").cityName("Izmir").build());
+
+        // Verify
+        verifyNoInteractions(airportRepository);
+
+    }
+
+}
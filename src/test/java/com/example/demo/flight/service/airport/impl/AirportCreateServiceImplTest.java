@@ -2,6 +2,7 @@ package com.example.demo.flight.service.airport.impl;
 
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.CreateAirportRequestBuilder;
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.exception.AirportNameAlreadyExistException;
 import com.example.demo.flight.model.Airport;
 import com.example.demo.flight.model.dto.request.airport.CreateAirportRequest;
@@ -10,10 +11,13 @@ import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper
 import com.example.demo.flight.model.mapper.airport.CreateAirportRequestToAirportEntityMapper;
 import com.example.demo.flight.repository.AirportRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -31,6 +35,9 @@ class AirportCreateServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private AirportRepository airportRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private final CreateAirportRequestToAirportEntityMapper createAirportRequestToAirportEntityMapper =
             CreateAirportRequestToAirportEntityMapper.initialize();
 
@@ -61,6 +68,11 @@ class AirportCreateServiceImplTest extends AbstractBaseServiceTest {
         verify(airportRepository,times(1)).save(any(AirportEntity.class));
         verify(airportRepository, times(1)).existsByName(anyString());
 
+        ArgumentCaptor<AirportChangedEvent> eventCaptor = ArgumentCaptor.forClass(AirportChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertNull(eventCaptor.getValue().previous());
+        assertEquals(request.getCityName(), eventCaptor.getValue().current().getCityName());
+
     }
 
     @Test
@@ -78,6 +90,7 @@ class AirportCreateServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(airportRepository,times(1)).existsByName(anyString());
+        verifyNoInteractions(applicationEventPublisher);
         verify(airportRepository,times(0)).save(any(AirportEntity.class));
 
     }
@@ -2,16 +2,21 @@ package com.example.demo.flight.service.airport.impl;
 
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.repository.AirportRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +32,8 @@ class AirportDeleteServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private AirportRepository airportRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Test
     void givenValidAirportId_whenDeleteAirportById_thenDeleteAirportSuccessfully() {
@@ -47,6 +54,11 @@ class AirportDeleteServiceImplTest extends AbstractBaseServiceTest {
         verify(airportRepository, times(1)).findById(mockId);
         verify(airportRepository, times(1)).delete(mockEntity);
 
+        ArgumentCaptor<AirportChangedEvent> eventCaptor = ArgumentCaptor.forClass(AirportChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(mockId, eventCaptor.getValue().airportId());
+        assertNull(eventCaptor.getValue().current());
+
     }
 
     @Test
@@ -0,0 +1,207 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link AirportLookupServiceImpl}.
+ * This class verifies that airports are loaded with at most one query per request.
+ */
+class AirportLookupServiceImplTest extends AbstractBaseServiceTest {
+
+    private AirportLookupServiceImpl airportLookupService;
+
+    @Mock
+    private AirportRepository airportRepository;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private AirportExistenceService airportExistenceService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        airportLookupService = new AirportLookupServiceImpl(airportRepository, meterRegistry, airportExistenceService);
+    }
+
+    @Test
+    void givenExistingAirports_whenGetFlightAirports_thenLoadBothWithSingleQuery() {
+
+        // Given
+        final AirportEntity fromAirport = new AirportEntityBuilder().withValidFields();
+        final AirportEntity toAirport = new AirportEntityBuilder().withValidFields();
+
+        // When
+        when(airportRepository.findAllById(Set.of(fromAirport.getId(), toAirport.getId())))
+                .thenReturn(List.of(fromAirport, toAirport));
+
+        Map<String, AirportEntity> result =
+                airportLookupService.getFlightAirports(fromAirport.getId(), toAirport.getId(), "create");
+
+        // Then
+        assertSame(fromAirport, result.get(fromAirport.getId()));
+        assertSame(toAirport, result.get(toAirport.getId()));
+        assertEquals(1, roundTrips("create"));
+
+        // Verify
+        verify(airportRepository, times(1)).findAllById(anyIterable());
+        verify(airportRepository, never()).findById(anyString());
+
+    }
+
+    @Test
+    void givenSameDepartureAndArrivalAirport_whenGetFlightAirports_thenLoadItOnce() {
+
+        // Given
+        final AirportEntity airport = new AirportEntityBuilder().withValidFields();
+
+        // When
+        when(airportRepository.findAllById(Set.of(airport.getId()))).thenReturn(List.of(airport));
+
+        Map<String, AirportEntity> result =
+                airportLookupService.getFlightAirports(airport.getId(), airport.getId(), "update");
+
+        // Then
+        assertEquals(Map.of(airport.getId(), airport), result);
+
+        // Verify
+        verify(airportRepository, times(1)).findAllById(anyIterable());
+
+    }
+
+    @Test
+    void givenMissingDepartureAirport_whenGetFlightAirports_thenThrowAirportNotFoundException() {
+
+        // Given
+        final AirportEntity toAirport = new AirportEntityBuilder().withValidFields();
+
+        // When
+        when(airportRepository.findAllById(anyIterable())).thenReturn(List.of(toAirport));
+
+        // Then
+        AirportNotFoundException exception = assertThrows(AirportNotFoundException.class, () ->
+                airportLookupService.getFlightAirports("AIRPORT1", toAirport.getId(), "create"));
+
+        assertEquals("Airport not found!\n" +
+                " Departure airport not found with id AIRPORT1", exception.getMessage());
+
+    }
+
+    @Test
+    void givenMissingArrivalAirport_whenGetFlightAirports_thenThrowAirportNotFoundException() {
+
+        // Given
+        final AirportEntity fromAirport = new AirportEntityBuilder().withValidFields();
+
+        // When
+        when(airportRepository.findAllById(anyIterable())).thenReturn(List.of(fromAirport));
+
+        // Then
+        AirportNotFoundException exception = assertThrows(AirportNotFoundException.class, () ->
+                airportLookupService.getFlightAirports(fromAirport.getId(), "AIRPORT2", "update"));
+
+        assertEquals("Airport not found!\n" +
+                " Arrival airport not found with id AIRPORT2", exception.getMessage());
+
+        // Verify
+        verify(airportExistenceService).recordMissing("AIRPORT2");
+
+    }
+
+    @Test
+    void givenAirportRuledOutByFilter_whenGetFlightAirports_thenThrowWithoutQuery() {
+
+        // Given
+        when(airportExistenceService.isDefinitelyMissing("AIRPORT1")).thenReturn(true);
+
+        // When
+        AirportNotFoundException exception = assertThrows(AirportNotFoundException.class, () ->
+                airportLookupService.getFlightAirports("AIRPORT1", "AIRPORT2", "create"));
+
+        // Then
+        assertEquals("Airport not found!\n" +
+                " Departure airport not found with id AIRPORT1", exception.getMessage());
+
+        // Verify
+        verifyNoInteractions(airportRepository);
+
+    }
+
+    @Test
+    void givenCompleteSnapshots_whenResolveAirportSnapshots_thenSkipLookup() {
+
+        // Given
+        final List<FlightEntity> flightEntities = List.of(
+                new FlightEntityBuilder().withValidFields().build(),
+                new FlightEntityBuilder().withValidFields().build()
+        );
+
+        // When
+        airportLookupService.resolveAirportSnapshots(flightEntities, "search");
+
+        // Then
+        assertEquals(0, roundTrips("search"));
+
+        // Verify
+        verifyNoInteractions(airportRepository);
+
+    }
+
+    @Test
+    void givenIncompleteSnapshots_whenResolveAirportSnapshots_thenFillThemWithSingleQuery() {
+
+        // Given
+        final AirportEntity sharedAirport = new AirportEntityBuilder().withValidFields();
+
+        final FlightEntity flightEntity1 = new FlightEntityBuilder().withValidFields().build();
+        flightEntity1.setToAirport(AirportSnapshot.builder().id(sharedAirport.getId()).build());
+
+        final FlightEntity flightEntity2 = new FlightEntityBuilder().withValidFields().build();
+        flightEntity2.setFromAirport(AirportSnapshot.builder().id(sharedAirport.getId()).build());
+
+        // When
+        when(airportRepository.findAllById(Set.of(sharedAirport.getId()))).thenReturn(List.of(sharedAirport));
+
+        airportLookupService.resolveAirportSnapshots(List.of(flightEntity1, flightEntity2), "read");
+
+        // Then
+        assertEquals(sharedAirport.getName(), flightEntity1.getToAirport().getName());
+        assertEquals(sharedAirport.getCityName(), flightEntity1.getToAirport().getCityName());
+        assertEquals(sharedAirport.getName(), flightEntity2.getFromAirport().getName());
+        assertEquals(1, roundTrips("read"));
+
+        // Verify
+        verify(airportRepository, times(1)).findAllById(anyIterable());
+
+    }
+
+    private double roundTrips(final String operation) {
+        return meterRegistry.get(AirportLookupServiceImpl.ROUND_TRIPS_METRIC)
+                .tag("operation", operation)
+                .summary()
+                .totalAmount();
+    }
+
+}
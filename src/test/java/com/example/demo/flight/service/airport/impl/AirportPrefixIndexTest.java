@@ -0,0 +1,137 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link AirportPrefixIndex}.
+ * This class verifies that airports are matched by a prefix of any word of their name or city, ignoring case,
+ * accents and punctuation in any script, and that matches are ranked and limited.
+ */
+class AirportPrefixIndexTest {
+
+    private static final AirportSnapshot ISTANBUL = airport("IST", "Istanbul Airport", "Istanbul");
+    private static final AirportSnapshot SABIHA = airport("SAW", "Sabiha Gökçen", "Istanbul");
+    private static final AirportSnapshot GUARULHOS = airport("GRU", "Guarulhos", "São Paulo");
+    private static final AirportSnapshot HEATHROW = airport("LHR", "London Heathrow", "London");
+    private static final AirportSnapshot STANSTED = airport("STN", "London Stansted", "London");
+    private static final AirportSnapshot DIYARBAKIR = airport("DIY", "Diyarbakır Airport", "Diyarbakır");
+    private static final AirportSnapshot LODZ = airport("LCJ", "Łódź Władysław Reymont", "Łódź");
+    private static final AirportSnapshot SHEREMETYEVO = airport("SVO", "Шереметьево", "Москва");
+    private static final AirportSnapshot ATHENS = airport("ATH", "Ελευθέριος Βενιζέλος", "Αθήνα");
+
+    private final AirportPrefixIndex index = new AirportPrefixIndex(
+            List.of(ISTANBUL, SABIHA, GUARULHOS, HEATHROW, STANSTED, DIYARBAKIR, LODZ, SHEREMETYEVO, ATHENS));
+
+    @Test
+    void givenPrefixOfNameAndCity_whenSuggest_thenRankNameMatchesBeforeCityMatches() {
+
+        // When
+        List<AirportSnapshot> suggestions = index.suggest("ist", 10);
+
+        // Then
+        assertEquals(List.of(ISTANBUL, SABIHA), suggestions);
+
+    }
+
+    @Test
+    void givenPrefixOfLaterWord_whenSuggest_thenMatchIt() {
+
+        // When
+        List<AirportSnapshot> suggestions = index.suggest("heath", 10);
+
+        // Then
+        assertEquals(List.of(HEATHROW), suggestions);
+
+    }
+
+    @Test
+    void givenQueryWithoutAccentsAndInUpperCase_whenSuggest_thenMatchAccentedNames() {
+
+        // When
+        List<AirportSnapshot> byCity = index.suggest("SAO P", 10);
+        List<AirportSnapshot> byName = index.suggest("gokcen", 10);
+
+        // Then
+        assertEquals(List.of(GUARULHOS), byCity);
+        assertEquals(List.of(SABIHA), byName);
+
+    }
+
+    @Test
+    void givenQueryInAsciiLetters_whenSuggest_thenMatchNamesWithLettersWithoutDecomposition() {
+
+        // When
+        List<AirportSnapshot> dotlessI = index.suggest("diyarbakir", 10);
+        List<AirportSnapshot> strokeL = index.suggest("lodz", 10);
+        List<AirportSnapshot> strokeLInLaterWord = index.suggest("wladyslaw", 10);
+
+        // Then
+        assertEquals(List.of(DIYARBAKIR), dotlessI);
+        assertEquals(List.of(LODZ), strokeL);
+        assertEquals(List.of(LODZ), strokeLInLaterWord);
+
+    }
+
+    @Test
+    void givenQueryInNonLatinScript_whenSuggest_thenMatchNamesInThatScript() {
+
+        // When
+        List<AirportSnapshot> cyrillicName = index.suggest("ШЕРЕМ", 10);
+        List<AirportSnapshot> cyrillicCity = index.suggest("моск", 10);
+        List<AirportSnapshot> greekWithoutAccents = index.suggest("βενιζελ", 10);
+        List<AirportSnapshot> greekCity = index.suggest("Αθή", 10);
+
+        // Then
+        assertEquals(List.of(SHEREMETYEVO), cyrillicName);
+        assertEquals(List.of(SHEREMETYEVO), cyrillicCity);
+        assertEquals(List.of(ATHENS), greekWithoutAccents);
+        assertEquals(List.of(ATHENS), greekCity);
+
+    }
+
+    @Test
+    void givenNonAsciiNames_whenNormalize_thenKeepEveryLetter() {
+
+        // Then
+        assertEquals("diyarbakir", AirportPrefixIndex.normalize("Diyarbakır"));
+        assertEquals("lodz", AirportPrefixIndex.normalize("Łódź"));
+        assertEquals("tromso", AirportPrefixIndex.normalize("TROMSØ"));
+        assertEquals("москва", AirportPrefixIndex.normalize("Москва"));
+        assertEquals("αθηνα", AirportPrefixIndex.normalize("Αθήνα"));
+
+    }
+
+    @Test
+    void givenMoreMatchesThanLimit_whenSuggest_thenReturnBestWithinLimit() {
+
+        // When
+        List<AirportSnapshot> suggestions = index.suggest("lon", 1);
+
+        // Then
+        assertEquals(List.of(HEATHROW), suggestions);
+
+    }
+
+    @Test
+    void givenBlankOrUnknownQuery_whenSuggest_thenReturnNothing() {
+
+        // When
+        List<AirportSnapshot> blank = index.suggest(" - ", 10);
+        List<AirportSnapshot> unknown = index.suggest("zzz", 10);
+
+        // Then
+        assertTrue(blank.isEmpty());
+        assertTrue(unknown.isEmpty());
+
+    }
+
+    private static AirportSnapshot airport(final String id, final String name, final String cityName) {
+        return AirportSnapshot.builder().id(id).name(name).cityName(cityName).build();
+    }
+
+}
@@ -11,7 +11,9 @@ import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper;
 import com.example.demo.flight.model.mapper.airport.ListAirportEntityToListAirportMapper;
 import com.example.demo.flight.repository.AirportRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.Page;
@@ -38,6 +40,9 @@ class AirportReadServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private AirportRepository airportRepository;
 
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private AirportExistenceService airportExistenceService;
+
     private final AirportEntityToAirportMapper airportEntityToAirportMapper =
             AirportEntityToAirportMapper.initialize();
 
@@ -86,6 +91,25 @@ class AirportReadServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(airportRepository, times(1)).findById(mockId);
+        verify(airportExistenceService, times(1)).recordMissing(mockId);
+
+    }
+
+    @Test
+    void givenAirportIdRuledOutByFilter_whenGetAirportById_thenThrowAirportNotFoundExceptionWithoutQuery() {
+
+        // Given
+        final String mockId = UUID.randomUUID().toString();
+
+        // When
+        when(airportExistenceService.isDefinitelyMissing(mockId)).thenReturn(true);
+
+        // Then
+        assertThrows(AirportNotFoundException.class,
+                ()->airportReadService.getAirportById(mockId));
+
+        // Verify
+        verifyNoInteractions(airportRepository);
 
     }
 
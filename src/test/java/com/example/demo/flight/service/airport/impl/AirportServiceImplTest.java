@@ -12,6 +12,7 @@ import com.example.demo.flight.model.Airport;
 import com.example.demo.flight.model.dto.request.airport.CreateAirportRequest;
 import com.example.demo.flight.model.dto.request.airport.UpdateAirportRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.service.airport.AirportAutocompleteService;
 import com.example.demo.flight.service.airport.AirportCreateService;
 import com.example.demo.flight.service.airport.AirportDeleteService;
 import com.example.demo.flight.service.airport.AirportReadService;
@@ -50,6 +51,9 @@ class AirportServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private AirportDeleteService airportDeleteService;
 
+    @Mock
+    private AirportAutocompleteService airportAutocompleteService;
+
     @Test
     void givenValidCreateAirportRequest_whenCreateAirport_thenReturnCreatedAirport() {
 
@@ -198,5 +202,23 @@ class AirportServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenQuery_whenSuggestAirports_thenReturnSuggestions() {
+
+        // Given
+        final List<Airport> expected = List.of(new AirportBuilder().withValidFields());
+
+        when(airportAutocompleteService.suggest("ist", 5)).thenReturn(expected);
+
+        // When
+        List<Airport> result = airportService.suggestAirports("ist", 5);
+
+        // Then
+        assertEquals(expected, result);
+
+        // Verify
+        verify(airportAutocompleteService, times(1)).suggest("ist", 5);
+
+    }
 
-}
\ No newline at end of file
+}
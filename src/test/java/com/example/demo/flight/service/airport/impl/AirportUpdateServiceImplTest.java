@@ -3,6 +3,7 @@ package com.example.demo.flight.service.airport.impl;
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.AirportEntityBuilder;
 import com.example.demo.builder.UpdateAirportRequestBuilder;
+import com.example.demo.flight.event.AirportChangedEvent;
 import com.example.demo.flight.exception.AirportNameAlreadyExistException;
 import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.model.Airport;
@@ -11,8 +12,10 @@ import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.mapper.airport.AirportEntityToAirportMapper;
 import com.example.demo.flight.repository.AirportRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +35,9 @@ class AirportUpdateServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private AirportRepository airportRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private final AirportEntityToAirportMapper airportEntityToAirportMapper =
             AirportEntityToAirportMapper.initialize();
 
@@ -49,6 +55,8 @@ class AirportUpdateServiceImplTest extends AbstractBaseServiceTest {
                 .withId(mockId)
                 .withValidFields();
 
+        final String previousName = existingAirportEntity.getName();
+
         final AirportEntity updatedAirportEntity = new AirportEntityBuilder()
                 .withId(mockId)
                 .withName(mockUpdateAirportRequest.getName())
@@ -72,6 +80,12 @@ class AirportUpdateServiceImplTest extends AbstractBaseServiceTest {
         verify(airportRepository,times(1)).findById(mockId);
         verify(airportRepository,times(1)).save(existingAirportEntity);
 
+        ArgumentCaptor<AirportChangedEvent> eventCaptor = ArgumentCaptor.forClass(AirportChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(mockId, eventCaptor.getValue().airportId());
+        assertEquals(previousName, eventCaptor.getValue().previous().getName());
+        assertEquals(mockUpdateAirportRequest.getName(), eventCaptor.getValue().current().getName());
+
     }
 
     @Test
@@ -93,6 +107,7 @@ class AirportUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(airportRepository, times(1)).findById(airportId);
+        verifyNoInteractions(applicationEventPublisher);
 
     }
 
@@ -0,0 +1,71 @@
+package com.example.demo.flight.service.airport.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.flight.repository.AirportRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CityAirportIndexServiceImpl}.
+ * This class verifies that cities are resolved to their airports from memory, ignoring case and blanks,
+ * and that a rebuild replaces the index.
+ */
+class CityAirportIndexServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private CityAirportIndexServiceImpl cityAirportIndexService;
+
+    @Mock
+    private AirportRepository airportRepository;
+
+    @Test
+    void givenAirportsInSameCity_whenFindAirportIds_thenReturnThemWithOneRead() {
+
+        // Given
+        when(airportRepository.findAll()).thenReturn(List.of(
+                new AirportEntityBuilder().withId("IST").withName("Istanbul Airport").withCityName("Istanbul").build(),
+                new AirportEntityBuilder().withId("SAW").withName("Sabiha Gokcen").withCityName("istanbul ").build(),
+                new AirportEntityBuilder().withId("ESB").withName("Esenboga").withCityName("Ankara").build()));
+
+        // When
+        Set<String> istanbul = cityAirportIndexService.findAirportIds(" ISTANBUL");
+        Set<String> unknown = cityAirportIndexService.findAirportIds("Izmir");
+
+        // Then
+        assertEquals(Set.of("IST", "SAW"), istanbul);
+        assertTrue(unknown.isEmpty());
+
+        // Verify
+        verify(airportRepository, times(1)).findAll();
+
+    }
+
+    @Test
+    void givenAirportMovedToAnotherCity_whenRebuild_thenResolveItToItsNewCity() {
+
+        // Given
+        when(airportRepository.findAll())
+                .thenReturn(List.of(new AirportEntityBuilder().withId("A").withName("A").withCityName("Ankara").build()))
+                .thenReturn(List.of(new AirportEntityBuilder().withId("A").withName("A").withCityName("Izmir").build()));
+
+        cityAirportIndexService.run(null);
+
+        // When
+        cityAirportIndexService.rebuild();
+
+        // Then
+        assertTrue(cityAirportIndexService.findAirportIds("Ankara").isEmpty());
+        assertEquals(Set.of("A"), cityAirportIndexService.findAirportIds("Izmir"));
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link ApproximateFlightCountServiceImpl}.
+ * This class verifies that route/day counts are cached, refreshed in the background and bounded in size.
+ */
+class ApproximateFlightCountServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private ApproximateFlightCountServiceImpl approximateFlightCountService;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    @BeforeEach
+    void setUp() {
+        when(flightSearchConfigurationParameter.getApproximateCountTtl()).thenReturn(Duration.ofMinutes(5));
+        when(flightSearchConfigurationParameter.getApproximateCountMaxEntries()).thenReturn(10);
+    }
+
+    @Test
+    void givenUnknownRoute_whenGetApproximateCount_thenReturnEmptyAndRefreshInBackground() {
+
+        // Given
+        final FlightSearchCriteria criteria = criteria();
+
+        // When
+        when(flightRouteDaySummaryService.countFlights(routeDay(criteria))).thenReturn(7L);
+
+        // Then
+        assertEquals(Optional.empty(), approximateFlightCountService.getApproximateCount(criteria));
+
+        // Verify
+        verify(flightRouteDaySummaryService, timeout(5_000)).countFlights(routeDay(criteria));
+
+    }
+
+    @Test
+    void givenRefreshedRoute_whenGetApproximateCount_thenReturnCachedCountWithoutQuerying() {
+
+        // Given
+        final FlightSearchCriteria criteria = criteria();
+
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(7L);
+        approximateFlightCountService.refresh(criteria);
+
+        // When
+        Optional<Long> result = approximateFlightCountService.getApproximateCount(criteria);
+
+        // Then
+        assertEquals(Optional.of(7L), result);
+
+        // Verify
+        verify(flightRouteDaySummaryService, times(1)).countFlights(any());
+
+    }
+
+    @Test
+    void givenFullCache_whenRefreshNewRoute_thenDoNotStoreIt() {
+
+        // Given
+        when(flightSearchConfigurationParameter.getApproximateCountMaxEntries()).thenReturn(1);
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(7L);
+
+        final FlightSearchCriteria cached = criteria();
+        final FlightSearchCriteria uncached = criteria();
+        approximateFlightCountService.refresh(cached);
+
+        // When
+        approximateFlightCountService.refresh(uncached);
+
+        // Then
+        assertEquals(Optional.empty(), approximateFlightCountService.getApproximateCount(uncached));
+        assertEquals(Optional.of(7L), approximateFlightCountService.getApproximateCount(cached));
+
+    }
+
+    @Test
+    void givenApproximateCountsDisabled_whenGetApproximateCount_thenReturnEmptyWithoutQuerying() {
+
+        // Given
+        when(flightSearchConfigurationParameter.getApproximateCountTtl()).thenReturn(Duration.ZERO);
+
+        // When
+        Optional<Long> result = approximateFlightCountService.getApproximateCount(criteria());
+
+        // Then
+        assertEquals(Optional.empty(), result);
+
+        // Verify
+        verifyNoInteractions(flightRouteDaySummaryService);
+
+    }
+
+    @Test
+    void givenCachedRoute_whenInvalidate_thenDropCount() {
+
+        // Given
+        final FlightSearchCriteria criteria = criteria();
+
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(7L);
+        approximateFlightCountService.refresh(criteria);
+
+        // When
+        approximateFlightCountService.invalidate(routeDay(criteria));
+
+        // Then
+        assertEquals(Optional.empty(), approximateFlightCountService.getApproximateCount(criteria));
+
+    }
+
+    private FlightRouteDay routeDay(final FlightSearchCriteria criteria) {
+        return new FlightRouteDay(criteria.fromAirportId(), criteria.toAirportId(), criteria.departureStart().toLocalDate());
+    }
+
+    private FlightSearchCriteria criteria() {
+        final LocalDateTime start = LocalDateTime.of(2025, 1, 19, 0, 0);
+        return new FlightSearchCriteria(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                start, start.plusDays(1).minusNanos(1));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.model.CustomPaging;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.dto.request.flight.CitySearchFlightRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.airport.CityAirportIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CityFlightSearchServiceImpl}.
+ * This class verifies that cities are resolved to their airports and that each leg is read with one query
+ * over every airport pair.
+ */
+class CityFlightSearchServiceImplTest extends AbstractBaseServiceTest {
+
+    @InjectMocks
+    private CityFlightSearchServiceImpl cityFlightSearchService;
+
+    @Mock
+    private SearchFlightRepository searchFlightRepository;
+
+    @Mock
+    private CityAirportIndexService cityAirportIndexService;
+
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    @BeforeEach
+    void setUp() {
+        when(flightSearchConfigurationParameter.getSearchDeadline()).thenReturn(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenCityToAirports_whenSearchFlights_thenQueryEveryAirportPairOncePerLeg() {
+
+        // Given
+        final CitySearchFlightRequest request = CitySearchFlightRequest.builder()
+                .fromCityName("New York")
+                .toAirportIds(List.of("ORD", "MDW"))
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final LocalDateTime returnStart = LocalDateTime.of(2025, 1, 20, 0, 0);
+
+        final Set<String> newYork = Set.of("JFK", "LGA");
+        final Set<String> chicago = Set.of("ORD", "MDW");
+
+        final FlightEntity outbound = flight("JFK", "MDW", departureStart.withHour(9));
+        final FlightEntity inbound = flight("ORD", "LGA", returnStart.withHour(9));
+
+        // When
+        when(cityAirportIndexService.findAirportIds("New York")).thenReturn(newYork);
+        when(searchFlightRepository.findFlightsBetween(eq(newYork), eq(chicago), eq(departureStart),
+                eq(departureStart.plusDays(1).minusNanos(1)), any())).thenReturn(List.of(outbound));
+        when(searchFlightRepository.countFlightsBetween(newYork, chicago, departureStart,
+                departureStart.plusDays(1).minusNanos(1))).thenReturn(1L);
+        when(searchFlightRepository.findFlightsBetween(eq(chicago), eq(newYork), eq(returnStart),
+                eq(returnStart.plusDays(1).minusNanos(1)), any())).thenReturn(List.of(inbound));
+
+        // Then
+        CustomPage<Flight> result = cityFlightSearchService.searchFlights(request);
+
+        assertEquals(List.of(outbound.getId(), inbound.getId()),
+                result.getContent().stream().map(Flight::getId).toList());
+        assertEquals(1L, result.getTotalElementCount());
+
+        // Verify
+        verify(searchFlightRepository).findFlightsBetween(eq(newYork), eq(chicago), any(), any(),
+                eq(PageRequest.of(0, 10, FlightSort.PRICE.toSort())));
+        verify(searchFlightRepository).findFlightsBetween(eq(chicago), eq(newYork), any(), any(), any());
+        verify(airportLookupService).resolveAirportSnapshots(List.of(outbound, inbound), "city-search");
+
+    }
+
+    @Test
+    void givenCityWithoutAirports_whenSearchFlights_thenThrowAirportNotFoundException() {
+
+        // Given
+        final CitySearchFlightRequest request = CitySearchFlightRequest.builder()
+                .fromCityName("Atlantis")
+                .toCityName("Chicago")
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        // When
+        when(cityAirportIndexService.findAirportIds("Atlantis")).thenReturn(Set.of());
+
+        // Then
+        assertThrows(AirportNotFoundException.class, () -> cityFlightSearchService.searchFlights(request));
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository);
+
+    }
+
+    private static FlightEntity flight(final String fromAirportId,
+                                       final String toAirportId,
+                                       final LocalDateTime departureTime) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder().withId(fromAirportId).withName(fromAirportId).build())
+                .withToAirport(new AirportEntityBuilder().withId(toAirportId).withName(toAirportId).build())
+                .withDepartureTime(departureTime)
+                .withArrivalTime(departureTime.plusHours(2))
+                .build();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.timetable.ConnectionTimetable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link ConnectionTimetableServiceImpl}.
+ * This class verifies that day timetables are loaded once, cached and invalidated.
+ */
+class ConnectionTimetableServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private ConnectionTimetableServiceImpl connectionTimetableService;
+
+    @BeforeEach
+    void setUp() {
+
+        when(flightSearchConfigurationParameter.getTimetableMaxDays()).thenReturn(14);
+        when(flightSearchConfigurationParameter.getTimetableTtl()).thenReturn(Duration.ofMinutes(10));
+
+        connectionTimetableService = new ConnectionTimetableServiceImpl(
+                flightRepository, airportLookupService, flightSearchConfigurationParameter, new SimpleMeterRegistry());
+
+    }
+
+    @Test
+    void givenDay_whenGetTimetableTwice_thenLoadTwoDaysOfFlightsOnce() {
+
+        // Given
+        final List<FlightEntity> flights = List.of(new FlightEntityBuilder().withValidFields().build());
+
+        // When
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(flights);
+
+        // Then
+        ConnectionTimetable first = connectionTimetableService.getTimetable(DAY);
+        ConnectionTimetable second = connectionTimetableService.getTimetable(DAY);
+
+        assertSame(first, second);
+        assertEquals(1, first.size());
+
+        // Verify
+        verify(flightRepository, times(1)).findByDepartureTimeWithin(
+                DAY.atStartOfDay(), LocalDateTime.of(2025, 1, 20, 23, 59, 59, 999_999_999));
+        verify(airportLookupService, times(1)).resolveAirportSnapshots(flights, "timetable");
+
+    }
+
+    @Test
+    void givenCachedTimetables_whenInvalidateDay_thenReloadTimetablesContainingIt() {
+
+        // Given
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(List.of());
+
+        connectionTimetableService.getTimetable(DAY.minusDays(1));
+        connectionTimetableService.getTimetable(DAY);
+        connectionTimetableService.getTimetable(DAY.plusDays(1));
+
+        // When
+        connectionTimetableService.invalidate(DAY);
+
+        connectionTimetableService.getTimetable(DAY.minusDays(1));
+        connectionTimetableService.getTimetable(DAY);
+        connectionTimetableService.getTimetable(DAY.plusDays(1));
+
+        // Verify
+        verify(flightRepository, times(5)).findByDepartureTimeWithin(any(), any());
+
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link DirectFlightIndexServiceImpl}.
+ * This class verifies that days are loaded into the index, served from it and refreshed on flight changes.
+ */
+class DirectFlightIndexServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    private static final FlightSearchCriteria CRITERIA = new FlightSearchCriteria(
+            "IST", "LHR", DAY.atStartOfDay(), DAY.atStartOfDay().plusDays(1).minusNanos(1));
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private SearchFlightRepository searchFlightRepository;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DirectFlightIndexServiceImpl directFlightIndexService;
+
+    @BeforeEach
+    void setUp() {
+
+        lenient().when(flightSearchConfigurationParameter.isIndexEnabled()).thenReturn(true);
+        lenient().when(flightSearchConfigurationParameter.getIndexDays()).thenReturn(30);
+
+        meterRegistry = new SimpleMeterRegistry();
+        directFlightIndexService = new DirectFlightIndexServiceImpl(flightRepository, searchFlightRepository,
+                flightRouteDaySummaryService, airportLookupService, flightSearchConfigurationParameter, meterRegistry);
+
+    }
+
+    @Test
+    void givenLoadedDay_whenFind_thenServeFromIndex() {
+
+        // Given
+        final List<FlightEntity> flights = List.of(flight(DAY.atTime(10, 0)));
+
+        // When
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(flights);
+        directFlightIndexService.loadDay(DAY);
+
+        // Then
+        assertEquals(1, directFlightIndexService.find(CRITERIA).orElseThrow().size());
+        assertEquals(1.0, meterRegistry.get(DirectFlightIndexServiceImpl.LOOKUP_METRIC)
+                .tag("outcome", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get(DirectFlightIndexServiceImpl.FLIGHTS_METRIC).gauge().value());
+
+        // Verify
+        verify(flightRepository).findByDepartureTimeWithin(
+                DAY.atStartOfDay(), DAY.atStartOfDay().plusDays(1).minusNanos(1));
+        verify(airportLookupService).resolveAirportSnapshots(flights, "index");
+
+    }
+
+    @Test
+    void givenColdDay_whenFind_thenMissAndLoadDayInBackground() {
+
+        // When
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(List.of());
+
+        // Then
+        assertTrue(directFlightIndexService.find(CRITERIA).isEmpty());
+
+        // Verify
+        verify(flightRepository, timeout(1_000)).findByDepartureTimeWithin(any(), any());
+
+    }
+
+    @Test
+    void givenIndexDisabled_whenFind_thenMissWithoutLoading() {
+
+        // Given
+        when(flightSearchConfigurationParameter.isIndexEnabled()).thenReturn(false);
+
+        // Then
+        assertTrue(directFlightIndexService.find(CRITERIA).isEmpty());
+
+        // Verify
+        verifyNoInteractions(flightRepository);
+
+    }
+
+    @Test
+    void givenLoadedDay_whenRefresh_thenReloadOnlyTheChangedRouteDay() {
+
+        // Given
+        final FlightEntity added = flight(DAY.atTime(12, 0));
+        final LocalDateTime start = DAY.atStartOfDay();
+
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(List.of());
+        directFlightIndexService.loadDay(DAY);
+
+        // When
+        when(flightRouteDaySummaryService.hasFlights(new FlightRouteDay("IST", "LHR", DAY))).thenReturn(true);
+        when(searchFlightRepository.findFlights("IST", "LHR", start, start.plusDays(1).minusNanos(1), Pageable.unpaged()))
+                .thenReturn(List.of(added));
+        directFlightIndexService.refresh(new FlightRouteDay("IST", "LHR", DAY));
+
+        // Then
+        assertEquals(added.getId(), directFlightIndexService.find(CRITERIA).orElseThrow().flights(0, 1).get(0).getId());
+
+    }
+
+    @Test
+    void givenReloadFails_whenRefresh_thenEvictDay() {
+
+        // Given
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(List.of());
+        directFlightIndexService.loadDay(DAY);
+
+        // When
+        when(flightRouteDaySummaryService.hasFlights(any())).thenReturn(true);
+        when(searchFlightRepository.findFlights(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("Connection lost"));
+        directFlightIndexService.refresh(new FlightRouteDay("IST", "LHR", DAY));
+
+        // Then
+        assertTrue(directFlightIndexService.find(CRITERIA).isEmpty());
+
+    }
+
+    @Test
+    void givenRouteDayWithoutFlights_whenRefresh_thenClearItWithoutQuery() {
+
+        // Given
+        when(flightRepository.findByDepartureTimeWithin(any(), any())).thenReturn(List.of(flight(DAY.atTime(10, 0))));
+        directFlightIndexService.loadDay(DAY);
+
+        // When
+        when(flightRouteDaySummaryService.hasFlights(new FlightRouteDay("IST", "LHR", DAY))).thenReturn(false);
+        directFlightIndexService.refresh(new FlightRouteDay("IST", "LHR", DAY));
+
+        // Then
+        assertEquals(0, directFlightIndexService.find(CRITERIA).orElseThrow().size());
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository);
+
+    }
+
+    @Test
+    void givenDayNotLoaded_whenRefresh_thenSkipReload() {
+
+        // When
+        directFlightIndexService.refresh(new FlightRouteDay("IST", "LHR", DAY));
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository);
+
+    }
+
+    private static FlightEntity flight(final LocalDateTime departureTime) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder().withId("IST").withName("Istanbul").build())
+                .withToAirport(new AirportEntityBuilder().withId("LHR").withName("Heathrow").build())
+                .withDepartureTime(departureTime)
+                .build();
+    }
+
+}
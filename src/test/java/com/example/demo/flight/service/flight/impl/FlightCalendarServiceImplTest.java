@@ -0,0 +1,162 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.FlightCalendarDay;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.dto.request.flight.FlightCalendarRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.timetable.DirectFlightIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link FlightCalendarServiceImpl}.
+ * This class verifies that price calendars are read from the route/day summaries or the index, and cached per window.
+ */
+class FlightCalendarServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private DirectFlightIndexService directFlightIndexService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private FlightCalendarServiceImpl flightCalendarService;
+
+    @BeforeEach
+    void setUp() {
+
+        when(flightSearchConfigurationParameter.getResultCacheTtl()).thenReturn(Duration.ofSeconds(30));
+        when(flightSearchConfigurationParameter.getCalendarCacheMaxEntries()).thenReturn(100);
+
+        flightCalendarService = new FlightCalendarServiceImpl(flightRouteDaySummaryService, directFlightIndexService,
+                flightSearchConfigurationParameter, new SimpleMeterRegistry());
+
+    }
+
+    @Test
+    void givenDaysNotIndexed_whenGetCalendar_thenReadSummariesOnceAndFillEmptyDays() {
+
+        // Given
+        final FlightCalendarRequest request = request(1);
+
+        final FlightRouteDaySummaryEntity summary = FlightRouteDaySummaryEntity.builder()
+                .fromAirportId("IST").toAirportId("LHR").departureDate(DAY)
+                .flightCount(3L).minPrice(120.0).maxPrice(340.0).build();
+
+        // When
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(flightRouteDaySummaryService.getSummaries(any(), any(), any(), any())).thenReturn(List.of(summary));
+
+        // Then
+        List<FlightCalendarDay> calendar = flightCalendarService.getCalendar(request);
+
+        assertEquals(List.of(DAY.minusDays(1), DAY, DAY.plusDays(1)),
+                calendar.stream().map(FlightCalendarDay::getDate).toList());
+        assertEquals(0L, calendar.get(0).getFlightCount());
+        assertNull(calendar.get(0).getCheapestPrice());
+        assertEquals(120.0, calendar.get(1).getCheapestPrice());
+        assertEquals(3L, calendar.get(1).getFlightCount());
+
+        // Verify
+        verify(flightRouteDaySummaryService, times(1)).getSummaries(request.getFromAirportId(), request.getToAirportId(),
+                DAY.minusDays(1), DAY.plusDays(1));
+
+    }
+
+    @Test
+    void givenAllDaysIndexed_whenGetCalendar_thenReadIndexWithoutQuery() {
+
+        // Given
+        final FlightCalendarRequest request = request(0);
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of(
+                flight(DAY.atTime(8, 0), 150.0),
+                flight(DAY.atTime(18, 0), 99.5)));
+
+        final FlightSearchCriteria criteria = new FlightSearchCriteria(
+                "IST", "LHR", DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay().minusNanos(1));
+
+        // When
+        when(directFlightIndexService.find(criteria)).thenReturn(index.find(criteria));
+
+        // Then
+        List<FlightCalendarDay> calendar = flightCalendarService.getCalendar(request);
+
+        assertEquals(1, calendar.size());
+        assertEquals(99.5, calendar.get(0).getCheapestPrice());
+        assertEquals(2L, calendar.get(0).getFlightCount());
+
+        // Verify
+        verifyNoInteractions(flightRouteDaySummaryService);
+
+    }
+
+    @Test
+    void givenCachedCalendar_whenRouteDayInWindowChanges_thenRecompute() {
+
+        // Given
+        final FlightCalendarRequest request = request(3);
+
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(flightRouteDaySummaryService.getSummaries(any(), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        flightCalendarService.getCalendar(request);
+        flightCalendarService.getCalendar(request);
+        flightCalendarService.invalidate(new FlightRouteDay("IST", "LHR", DAY.plusDays(10)));
+        flightCalendarService.invalidate(new FlightRouteDay("IST", "AMS", DAY));
+        flightCalendarService.getCalendar(request);
+        flightCalendarService.invalidate(new FlightRouteDay("IST", "LHR", DAY.plusDays(3)));
+        flightCalendarService.getCalendar(request);
+
+        // Verify
+        verify(flightRouteDaySummaryService, times(2)).getSummaries(any(), any(), any(), any());
+
+    }
+
+    private static FlightCalendarRequest request(final int flexDays) {
+        return FlightCalendarRequest.builder()
+                .fromAirportId("IST")
+                .toAirportId("LHR")
+                .departureTime(DAY.atTime(10, 0))
+                .flexDays(flexDays)
+                .build();
+    }
+
+    private static FlightEntity flight(final LocalDateTime departureTime, final Double price) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder().withId("IST").withName("Istanbul").build())
+                .withToAirport(new AirportEntityBuilder().withId("LHR").withName("Heathrow").build())
+                .withDepartureTime(departureTime)
+                .withPrice(price)
+                .build();
+    }
+
+}
@@ -3,19 +3,24 @@ package com.example.demo.flight.service.flight.impl;
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.CreateFlightRequestBuilder;
 import com.example.demo.flight.exception.AirportNotFoundException;
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.CreateFlightRequestToFlightEntityMapper;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
-import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.util.Optional;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,7 +40,16 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
     private FlightRepository flightRepository;
 
     @Mock
-    private AirportRepository airportRepository;
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private FlightExistenceService flightExistenceService;
 
     private final CreateFlightRequestToFlightEntityMapper createFlightRequestToFlightEntityMapper =
             CreateFlightRequestToFlightEntityMapper.initialize();
@@ -59,8 +73,8 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
         final Flight mockFlight = flightEntityToFlightMapper.map(mockFlightEntity);
 
         // When
-        when(airportRepository.findById(request.getFromAirportId())).thenReturn(Optional.of(departureAirport));
-        when(airportRepository.findById(request.getToAirportId())).thenReturn(Optional.of(arrivalAirport));
+        when(airportLookupService.getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create"))
+                .thenReturn(Map.of(request.getFromAirportId(), departureAirport, request.getToAirportId(), arrivalAirport));
         when(flightRepository.save(any(FlightEntity.class))).thenReturn(mockFlightEntity);
 
         // Then
@@ -74,9 +88,13 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(mockFlight.getPrice(), response.getPrice());
 
         // Verify
-        verify(airportRepository, times(1)).findById(request.getFromAirportId());
-        verify(airportRepository, times(1)).findById(request.getToAirportId());
+        verify(airportLookupService, times(1))
+                .getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create");
         verify(flightRepository, times(1)).save(any(FlightEntity.class));
+        verify(flightRouteDaySummaryService, times(1)).recordCreated(mockFlightEntity);
+        verify(flightExistenceService, times(1)).add(mockFlightEntity.getId());
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new FlightChangedEvent(null, FlightRouteDay.of(mockFlightEntity)));
 
     }
 
@@ -88,7 +106,8 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
                 .withValidFields().build();
 
         // When
-        when(airportRepository.findById(request.getFromAirportId())).thenReturn(Optional.empty());
+        when(airportLookupService.getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create"))
+                .thenThrow(new AirportNotFoundException("Departure airport not found with id " + request.getFromAirportId()));
 
         // Then
         AirportNotFoundException exception = assertThrows(AirportNotFoundException.class, () ->
@@ -98,8 +117,11 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
                 " Departure airport not found with id AIRPORT1", exception.getMessage());
 
         // Verify
-        verify(airportRepository, times(1)).findById(request.getFromAirportId());
-        verify(airportRepository, times(0)).findById(request.getToAirportId());
+        verify(airportLookupService, times(1))
+                .getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create");
+        verify(flightRepository, never()).save(any(FlightEntity.class));
+        verifyNoInteractions(flightRouteDaySummaryService);
+        verifyNoInteractions(applicationEventPublisher);
     }
 
     @Test
@@ -109,11 +131,9 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
         final CreateFlightRequest request = new CreateFlightRequestBuilder()
                 .withValidFields().build();
 
-        final AirportEntity departureAirport = new AirportEntity("AIRPORT1", "Airport Name", "City Name");
-
         // When
-        when(airportRepository.findById(request.getFromAirportId())).thenReturn(Optional.of(departureAirport));
-        when(airportRepository.findById(request.getToAirportId())).thenReturn(Optional.empty());
+        when(airportLookupService.getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create"))
+                .thenThrow(new AirportNotFoundException("Arrival airport not found with id " + request.getToAirportId()));
 
         // Then
         AirportNotFoundException exception = assertThrows(AirportNotFoundException.class, () ->
@@ -123,8 +143,9 @@ class FlightCreateServiceImplTest extends AbstractBaseServiceTest {
                 " Arrival airport not found with id AIRPORT2", exception.getMessage());
 
         // Verify
-        verify(airportRepository, times(1)).findById(request.getFromAirportId());
-        verify(airportRepository, times(1)).findById(request.getToAirportId());
+        verify(airportLookupService, times(1))
+                .getFlightAirports(request.getFromAirportId(), request.getToAirportId(), "create");
+        verify(flightRepository, never()).save(any(FlightEntity.class));
     }
 
 
@@ -2,12 +2,16 @@ package com.example.demo.flight.service.flight.impl;
 
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.exception.FlightNotFoundException;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +31,12 @@ class FlightDeleteServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private FlightRepository flightRepository;
 
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Test
     void givenValidFlightId_whenDeleteFlightById_thenDeleteFlightSuccessfully() {
 
@@ -46,6 +56,9 @@ class FlightDeleteServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(flightRepository, times(1)).findById(mockId);
         verify(flightRepository, times(1)).delete(mockEntity);
+        verify(flightRouteDaySummaryService, times(1)).recordDeleted(mockEntity);
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new FlightChangedEvent(FlightRouteDay.of(mockEntity), null));
 
     }
 
@@ -66,6 +79,8 @@ class FlightDeleteServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(flightRepository, times(1)).findById(mockId);
         verify(flightRepository, never()).delete(any());
+        verifyNoInteractions(flightRouteDaySummaryService);
+        verifyNoInteractions(applicationEventPublisher);
 
     }
 
@@ -4,14 +4,20 @@ import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.FlightEntityBuilder;
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.CustomPaging;
+import com.example.demo.common.model.enums.PagingMode;
 import com.example.demo.flight.exception.FlightNotFoundException;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightSearchCriteria;
 import com.example.demo.flight.model.dto.request.flight.FlightPagingRequest;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
 import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.Page;
@@ -38,6 +44,12 @@ class FlightReadServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private FlightRepository flightRepository;
 
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private FlightExistenceService flightExistenceService;
+
     private final FlightEntityToFlightMapper flightEntityToFlightMapper =
             FlightEntityToFlightMapper.initialize();
 
@@ -90,6 +102,25 @@ class FlightReadServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(flightRepository, times(1)).findById(mockId);
+        verify(flightExistenceService, times(1)).recordMissing(mockId);
+
+    }
+
+    @Test
+    void givenFlightIdRuledOutByFilter_whenGetFlightById_thenThrowFlightNotFoundExceptionWithoutQuery() {
+
+        // Given
+        final String mockId = UUID.randomUUID().toString();
+
+        // When
+        when(flightExistenceService.isDefinitelyMissing(mockId)).thenReturn(true);
+
+        // Then
+        assertThrows(FlightNotFoundException.class,
+                () -> flightReadService.getFlightById(mockId));
+
+        // Verify
+        verifyNoInteractions(flightRepository);
 
     }
 
@@ -114,7 +145,7 @@ class FlightReadServiceImplTest extends AbstractBaseServiceTest {
         CustomPage<Flight> expected = CustomPage.of(flights, flightEntityPage);
 
         // When
-        when(flightRepository.findAll(any(Pageable.class))).thenReturn(flightEntityPage);
+        when(flightRepository.findAllFlights(any(Pageable.class))).thenReturn(flightEntityPage);
 
         // Then
         CustomPage<Flight> result = flightReadService.getAllFlights(pagingRequest);
@@ -127,7 +158,8 @@ class FlightReadServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getTotalElementCount(), result.getTotalElementCount());
 
         // Verify
-        verify(flightRepository, times(1)).findAll(any(Pageable.class));
+        verify(flightRepository, times(1)).findAllFlights(any(Pageable.class));
+        verify(airportLookupService, times(1)).resolveAirportSnapshots(anyList(), eq("read"));
 
     }
 
@@ -146,15 +178,46 @@ class FlightReadServiceImplTest extends AbstractBaseServiceTest {
         Page<FlightEntity> flightEntityPage = new PageImpl<>(Collections.emptyList());
 
         // When
-        when(flightRepository.findAll(any(Pageable.class))).thenReturn(flightEntityPage);
+        when(flightRepository.findAllFlights(any(Pageable.class))).thenReturn(flightEntityPage);
 
         // Then
         assertThrows(FlightNotFoundException.class, () -> flightReadService.getAllFlights(pagingRequest));
 
         // Verify
-        verify(flightRepository, times(1)).findAll(any(Pageable.class));
+        verify(flightRepository, times(1)).findAllFlights(any(Pageable.class));
 
     }
 
+    @Test
+    void givenCursorPagingRequest_WhenLastFlightsAreFound_ThenReturnPageWithoutNextCursor() {
+
+        // Given
+        final FlightPagingRequest pagingRequest = FlightPagingRequest.builder()
+                .pagination(
+                        CustomPaging.builder()
+                                .pageSize(2)
+                                .pageNumber(1)
+                                .mode(PagingMode.CURSOR)
+                                .build()
+                ).build();
+
+        final FlightEntity flightEntity = new FlightEntityBuilder().withValidFields().build();
+
+        // When
+        when(flightRepository.findFlightsAfter(FlightSearchCriteria.all(), FlightCursor.Position.START, 3))
+                .thenReturn(List.of(flightEntity));
+
+        // Then
+        CustomPage<Flight> result = flightReadService.getAllFlights(pagingRequest);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(flightEntity.getId(), result.getContent().get(0).getId());
+        assertNull(result.getNextCursor());
+
+        // Verify
+        verify(flightRepository, never()).findAllFlights(any(Pageable.class));
+        verify(airportLookupService, times(1)).resolveAirportSnapshots(anyList(), eq("read"));
+
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,270 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.entity.FlightRouteDaySummaryEntity;
+import com.example.demo.flight.repository.FlightRouteDaySummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link FlightRouteDaySummaryServiceImpl}.
+ * This class verifies that flight writes are applied to their summaries incrementally, that summaries are only
+ * recomputed when a bound is removed, and that the rebuild and the consistency check repair drifted summaries.
+ */
+class FlightRouteDaySummaryServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    private static final FlightRouteDay ROUTE_DAY = new FlightRouteDay("IST", "LHR", DAY);
+
+    @InjectMocks
+    private FlightRouteDaySummaryServiceImpl flightRouteDaySummaryService;
+
+    @Mock
+    private FlightRouteDaySummaryRepository flightRouteDaySummaryRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenPriceAndDepartureUnchanged_whenRecordUpdated_thenWriteNothing() {
+
+        // Given
+        final FlightEntity previous = flight(DAY.atTime(10, 0), 120.0);
+        final FlightEntity current = previous.toBuilder().arrivalTime(DAY.atTime(16, 0)).build();
+
+        // When
+        flightRouteDaySummaryService.recordUpdated(previous, current);
+
+        // Verify
+        verifyNoInteractions(flightRouteDaySummaryRepository);
+
+    }
+
+    @Test
+    void givenPriceChanged_whenRecordUpdated_thenAddCurrentBeforeRemovingPrevious() {
+
+        // Given
+        final FlightEntity previous = flight(DAY.atTime(10, 0), 120.0);
+        final FlightEntity current = previous.toBuilder().price(140.0).build();
+
+        when(flightRouteDaySummaryRepository.removeFlight(previous)).thenReturn(Optional.of(summary(2, 90.0, 140.0)));
+
+        // When
+        flightRouteDaySummaryService.recordUpdated(previous, current);
+
+        // Verify
+        InOrder inOrder = inOrder(flightRouteDaySummaryRepository);
+        inOrder.verify(flightRouteDaySummaryRepository).addFlight(current);
+        inOrder.verify(flightRouteDaySummaryRepository).removeFlight(previous);
+        verify(flightRouteDaySummaryRepository, never()).aggregateSummary(any());
+
+    }
+
+    @Test
+    void givenRemovedFlightOnPriceBound_whenRecordDeleted_thenRecomputeRouteDay() {
+
+        // Given
+        final FlightEntity flight = flight(DAY.atTime(10, 0), 90.0);
+        final FlightRouteDaySummaryEntity recomputed = summary(1, 150.0, 150.0);
+
+        when(flightRouteDaySummaryRepository.removeFlight(flight)).thenReturn(Optional.of(summary(1, 90.0, 150.0)));
+        when(flightRouteDaySummaryRepository.aggregateSummary(ROUTE_DAY)).thenReturn(Optional.of(recomputed));
+
+        // When
+        flightRouteDaySummaryService.recordDeleted(flight);
+
+        // Verify
+        verify(flightRouteDaySummaryRepository).replaceSummaries(List.of(recomputed));
+
+    }
+
+    @Test
+    void givenLastFlightRemoved_whenRecordDeleted_thenDoNotRecompute() {
+
+        // Given
+        final FlightEntity flight = flight(DAY.atTime(10, 0), 90.0);
+
+        when(flightRouteDaySummaryRepository.removeFlight(flight)).thenReturn(Optional.empty());
+
+        // When
+        flightRouteDaySummaryService.recordDeleted(flight);
+
+        // Verify
+        verify(flightRouteDaySummaryRepository, never()).aggregateSummary(any());
+
+    }
+
+    @Test
+    void givenSummaryWriteFails_whenRecordCreated_thenDoNotFailTheFlightWrite() {
+
+        // Given
+        final FlightEntity flight = flight(DAY.atTime(10, 0), 90.0);
+
+        doThrow(new IllegalStateException("Connection lost")).when(flightRouteDaySummaryRepository).addFlight(flight);
+
+        // When
+        assertDoesNotThrow(() -> flightRouteDaySummaryService.recordCreated(flight));
+
+    }
+
+    @Test
+    void givenNoSummary_whenCountFlights_thenReturnZero() {
+
+        // Given
+        when(flightRouteDaySummaryRepository.findById(FlightRouteDaySummaryEntity.idOf(ROUTE_DAY)))
+                .thenReturn(Optional.empty());
+
+        // When
+        long count = flightRouteDaySummaryService.countFlights(ROUTE_DAY);
+
+        // Then
+        assertEquals(0L, count);
+
+    }
+
+    @Test
+    void givenMoreSummariesThanBatchSize_whenRebuild_thenWriteInBatchesAndDeleteStaleSummaries() {
+
+        // Given
+        final int total = FlightRouteDaySummaryServiceImpl.BATCH_SIZE + 1;
+
+        when(flightRouteDaySummaryRepository.aggregateAllSummaries()).thenReturn(IntStream.range(0, total)
+                .mapToObj(day -> summary(new FlightRouteDay("IST", "LHR", DAY.plusDays(day)), 1, 90.0, 90.0)));
+        when(flightRouteDaySummaryRepository.deleteByUpdatedAtBefore(any())).thenReturn(2L);
+
+        // When
+        long written = flightRouteDaySummaryService.rebuild();
+
+        // Then
+        assertEquals(total, written);
+
+        // Verify
+        verify(flightRouteDaySummaryRepository, times(2)).replaceSummaries(any());
+        verify(flightRouteDaySummaryRepository).deleteByUpdatedAtBefore(any());
+
+    }
+
+    @Test
+    void givenExistingSummaries_whenRebuildIfEmpty_thenSkipRebuild() {
+
+        // Given
+        when(flightRouteDaySummaryRepository.count()).thenReturn(3L);
+
+        // When
+        long written = flightRouteDaySummaryService.rebuildIfEmpty();
+
+        // Then
+        assertEquals(0L, written);
+
+        // Verify
+        verify(flightRouteDaySummaryRepository, never()).aggregateAllSummaries();
+
+    }
+
+    @Test
+    void givenDriftedSummaries_whenCheckConsistency_thenRepairThemAndSkipRecentWrites() {
+
+        // Given
+        final FlightRouteDay orphanedRouteDay = new FlightRouteDay("IST", "AMS", DAY);
+        final FlightRouteDay recentRouteDay = new FlightRouteDay("IST", "CDG", DAY);
+
+        final FlightRouteDaySummaryEntity expected = summary(3, 90.0, 150.0);
+        final FlightRouteDaySummaryEntity expectedRecent = summary(recentRouteDay, 2, 80.0, 80.0);
+
+        final FlightRouteDaySummaryEntity storedWrong = summary(2, 90.0, 150.0);
+        final FlightRouteDaySummaryEntity storedOrphan = summary(orphanedRouteDay, 1, 70.0, 70.0);
+        final FlightRouteDaySummaryEntity storedRecent = summary(recentRouteDay, 1, 80.0, 80.0);
+        storedRecent.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+
+        when(flightRouteDaySummaryRepository.aggregateSummaries(DAY, DAY)).thenReturn(List.of(expected, expectedRecent));
+        when(flightRouteDaySummaryRepository.findDaySummaries(DAY, DAY))
+                .thenReturn(List.of(storedWrong, storedOrphan, storedRecent));
+
+        // When
+        List<FlightRouteDay> mismatches = flightRouteDaySummaryService.checkConsistency(DAY, DAY);
+
+        // Then
+        assertEquals(List.of(ROUTE_DAY, orphanedRouteDay), mismatches);
+        assertEquals(2.0, meterRegistry.get(FlightRouteDaySummaryServiceImpl.MISMATCH_METRIC).counter().count());
+
+        // Verify
+        verify(flightRouteDaySummaryRepository).replaceSummaries(List.of(expected));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<String>> deletedIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(flightRouteDaySummaryRepository).deleteAllById(deletedIds.capture());
+        assertEquals(List.of(storedOrphan.getId()), deletedIds.getValue());
+
+    }
+
+    @Test
+    void givenConsistentSummaries_whenCheckConsistency_thenWriteNothing() {
+
+        // Given
+        when(flightRouteDaySummaryRepository.aggregateSummaries(DAY, DAY)).thenReturn(List.of(summary(2, 90.0, 150.0)));
+        when(flightRouteDaySummaryRepository.findDaySummaries(DAY, DAY)).thenReturn(List.of(summary(2, 90.0, 150.0)));
+
+        // When
+        List<FlightRouteDay> mismatches = flightRouteDaySummaryService.checkConsistency(DAY, DAY);
+
+        // Then
+        assertTrue(mismatches.isEmpty());
+
+        // Verify
+        verify(flightRouteDaySummaryRepository, never()).replaceSummaries(any());
+        verify(flightRouteDaySummaryRepository, never()).deleteAllById(any());
+
+    }
+
+    private static FlightRouteDaySummaryEntity summary(final long count, final Double minPrice, final Double maxPrice) {
+        return summary(ROUTE_DAY, count, minPrice, maxPrice);
+    }
+
+    private static FlightRouteDaySummaryEntity summary(final FlightRouteDay routeDay,
+                                                       final long count,
+                                                       final Double minPrice,
+                                                       final Double maxPrice) {
+        return FlightRouteDaySummaryEntity.builder()
+                .id(FlightRouteDaySummaryEntity.idOf(routeDay))
+                .fromAirportId(routeDay.fromAirportId())
+                .toAirportId(routeDay.toAirportId())
+                .departureDate(routeDay.departureDate())
+                .flightCount(count)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .earliestDeparture(routeDay.departureDate().atTime(6, 0))
+                .latestDeparture(routeDay.departureDate().atTime(22, 0))
+                .build();
+    }
+
+    private static FlightEntity flight(final LocalDateTime departureTime, final Double price) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder().withId("IST").withName("Istanbul").build())
+                .withToAirport(new AirportEntityBuilder().withId("LHR").withName("Heathrow").build())
+                .withDepartureTime(departureTime)
+                .withPrice(price)
+                .build();
+    }
+
+}
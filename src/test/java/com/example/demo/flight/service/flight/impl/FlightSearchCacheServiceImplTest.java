@@ -0,0 +1,203 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.common.model.CustomPage;
+import com.example.demo.common.model.enums.PagingMode;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCacheKey;
+import com.example.demo.flight.model.enums.FlightSort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link FlightSearchCacheServiceImpl}.
+ * This class verifies that search results are cached, invalidated per route/day and exported as metrics, and that
+ * concurrent misses share one load without caching a result that predates an invalidation.
+ */
+class FlightSearchCacheServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DEPARTURE_DATE = LocalDate.of(2025, 1, 19);
+    private static final LocalDate RETURN_DATE = LocalDate.of(2025, 1, 25);
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FlightSearchCacheServiceImpl flightSearchCacheService;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+
+        when(flightSearchConfigurationParameter.getResultCacheTtl()).thenReturn(Duration.ofMinutes(1));
+        when(flightSearchConfigurationParameter.getResultCacheMaxFlights()).thenReturn(1_000L);
+        when(flightSearchConfigurationParameter.getCoalescingMaxWait()).thenReturn(Duration.ofSeconds(5));
+
+        meterRegistry = new SimpleMeterRegistry();
+        flightSearchCacheService = new FlightSearchCacheServiceImpl(flightSearchConfigurationParameter, meterRegistry);
+
+    }
+
+    @Test
+    void givenRepeatedSearch_whenGet_thenLoadOnceAndRecordHit() {
+
+        // Given
+        final FlightSearchCacheKey key = roundTripKey();
+
+        // When
+        CustomPage<Flight> first = flightSearchCacheService.get(key, loader());
+        CustomPage<Flight> second = flightSearchCacheService.get(key, loader());
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", FlightSearchCacheServiceImpl.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+
+    }
+
+    @Test
+    void givenCachedRoundTrip_whenInvalidateReturnRouteDay_thenReload() {
+
+        // Given
+        final FlightSearchCacheKey key = roundTripKey();
+        flightSearchCacheService.get(key, loader());
+
+        // When
+        flightSearchCacheService.invalidate(new FlightRouteDay("B", "A", RETURN_DATE));
+        flightSearchCacheService.get(key, loader());
+
+        // Then
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenCachedSearch_whenInvalidateOtherRouteDay_thenKeepIt() {
+
+        // Given
+        final FlightSearchCacheKey key = roundTripKey();
+        flightSearchCacheService.get(key, loader());
+
+        // When
+        flightSearchCacheService.invalidate(new FlightRouteDay("A", "B", RETURN_DATE));
+        flightSearchCacheService.invalidate(new FlightRouteDay("A", "C", DEPARTURE_DATE));
+        flightSearchCacheService.get(key, loader());
+
+        // Then
+        assertEquals(1, loads.get());
+
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenGet_thenReturnResultWithoutCachingIt() {
+
+        // Given
+        final FlightSearchCacheKey key = roundTripKey();
+
+        // When
+        flightSearchCacheService.get(key, () -> {
+            flightSearchCacheService.invalidate(new FlightRouteDay("X", "Y", DEPARTURE_DATE));
+            return loader().get();
+        });
+        flightSearchCacheService.get(key, loader());
+
+        // Then
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenFollowerJoiningLoadStartedBeforeInvalidation_whenGet_thenShareResultWithoutCachingIt() throws Exception {
+
+        // Given
+        final FlightSearchCacheKey key = roundTripKey();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Future<CustomPage<Flight>> leader = executorService.submit(() -> flightSearchCacheService.get(key, () -> {
+            started.countDown();
+            await(release);
+            return loader().get();
+        }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        flightSearchCacheService.invalidate(new FlightRouteDay("A", "B", DEPARTURE_DATE));
+
+        // When
+        final Future<CustomPage<Flight>> follower = executorService.submit(() ->
+                flightSearchCacheService.get(key, loader()));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get(FlightSearchCacheServiceImpl.COALESCING_METRIC)
+                .tag("outcome", "coalesced").counter().count());
+
+        flightSearchCacheService.get(key, loader());
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void givenCacheDisabled_whenGet_thenAlwaysLoad() {
+
+        // Given
+        when(flightSearchConfigurationParameter.getResultCacheTtl()).thenReturn(Duration.ZERO);
+        flightSearchCacheService = new FlightSearchCacheServiceImpl(flightSearchConfigurationParameter, meterRegistry);
+
+        // When
+        flightSearchCacheService.get(roundTripKey(), loader());
+        flightSearchCacheService.get(roundTripKey(), loader());
+
+        // Then
+        assertEquals(2, loads.get());
+
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Supplier<CustomPage<Flight>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return CustomPage.ofCursor(List.of(Flight.builder().id("flight").build()), 10, null);
+        };
+    }
+
+    private FlightSearchCacheKey roundTripKey() {
+        return new FlightSearchCacheKey("A", "B", DEPARTURE_DATE, RETURN_DATE, PagingMode.PAGE, 0, 10, null,
+                FlightSort.DEPARTURE, null, null, null, null);
+    }
+
+}
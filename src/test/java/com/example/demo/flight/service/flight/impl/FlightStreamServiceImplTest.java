@@ -0,0 +1,166 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.repository.FlightKeysetRepository;
+import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link FlightStreamServiceImpl}.
+ * This class verifies that flights are handed over in batches of the configured size, that both legs of a round trip
+ * are streamed in order, and that the cursor is closed even when the consumer fails.
+ */
+class FlightStreamServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @InjectMocks
+    private FlightStreamServiceImpl flightStreamService;
+
+    @Mock
+    private SearchFlightRepository searchFlightRepository;
+
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    @BeforeEach
+    void setUp() {
+        when(flightSearchConfigurationParameter.getStreamBatchSize()).thenReturn(BATCH_SIZE);
+    }
+
+    @Test
+    void givenMoreFlightsThanBatchSize_whenStreamAll_thenHandOverBatchesAndCloseCursor() {
+
+        // Given
+        final List<FlightEntity> flights = flights(5);
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        when(searchFlightRepository.streamFlightsMatching(
+                FlightSearchCriteria.all(), FlightKeysetRepository.FLIGHT_ORDER, BATCH_SIZE))
+                .thenReturn(flights.stream().onClose(() -> closed.set(true)));
+
+        final List<List<Flight>> batches = new ArrayList<>();
+
+        // When
+        final long streamed = flightStreamService.streamAll(batches::add);
+
+        // Then
+        assertEquals(5L, streamed);
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        assertEquals(flights.get(4).getId(), batches.get(2).get(0).getId());
+        assertTrue(closed.get());
+
+        // Verify
+        verify(airportLookupService, times(3)).resolveAirportSnapshots(any(), eq("stream"));
+
+    }
+
+    @Test
+    void givenRoundTripSearch_whenStreamSearch_thenStreamOutboundLegBeforeReturnLeg() {
+
+        // Given
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId("IST")
+                .toAirportId("LHR")
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .maxPrice(300.0)
+                .build();
+
+        final FlightSearchCriteria outbound = new FlightSearchCriteria("IST", "LHR",
+                LocalDateTime.of(2025, 1, 19, 0, 0), LocalDateTime.of(2025, 1, 20, 0, 0).minusNanos(1), 300.0, null);
+        final FlightSearchCriteria inbound = new FlightSearchCriteria("LHR", "IST",
+                LocalDateTime.of(2025, 1, 20, 0, 0), LocalDateTime.of(2025, 1, 21, 0, 0).minusNanos(1), 300.0, null);
+
+        final List<FlightEntity> outboundFlights = flights(1);
+        final List<FlightEntity> returnFlights = flights(1);
+
+        when(searchFlightRepository.streamFlightsMatching(outbound, FlightSort.PRICE.toSort(), BATCH_SIZE))
+                .thenReturn(outboundFlights.stream());
+        when(searchFlightRepository.streamFlightsMatching(inbound, FlightSort.PRICE.toSort(), BATCH_SIZE))
+                .thenReturn(returnFlights.stream());
+
+        final List<String> streamedIds = new ArrayList<>();
+
+        // When
+        final long streamed = flightStreamService.streamSearch(
+                request, flights -> flights.forEach(flight -> streamedIds.add(flight.getId())));
+
+        // Then
+        assertEquals(2L, streamed);
+        assertEquals(List.of(outboundFlights.get(0).getId(), returnFlights.get(0).getId()), streamedIds);
+
+    }
+
+    @Test
+    void givenConsumerFails_whenStreamAll_thenCloseCursorAndRethrow() {
+
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        when(searchFlightRepository.streamFlightsMatching(any(), any(), anyInt()))
+                .thenReturn(flights(3).stream().onClose(() -> closed.set(true)));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> flightStreamService.streamAll(flights -> {
+            throw new IllegalStateException("Client disconnected");
+        }));
+
+        // Then
+        assertTrue(closed.get());
+
+    }
+
+    @Test
+    void givenNoFlight_whenStreamAll_thenHandOverNothing() {
+
+        // Given
+        when(searchFlightRepository.streamFlightsMatching(any(), any(), anyInt())).thenReturn(Stream.empty());
+
+        final List<List<Flight>> batches = new ArrayList<>();
+
+        // When
+        final long streamed = flightStreamService.streamAll(batches::add);
+
+        // Then
+        assertEquals(0L, streamed);
+        assertTrue(batches.isEmpty());
+
+        // Verify
+        verifyNoInteractions(airportLookupService);
+
+    }
+
+    private static List<FlightEntity> flights(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> new FlightEntityBuilder().withValidFields().build())
+                .toList();
+    }
+
+}
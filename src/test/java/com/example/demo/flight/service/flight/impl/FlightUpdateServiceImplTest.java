@@ -6,18 +6,25 @@ import com.example.demo.builder.FlightEntityBuilder;
 import com.example.demo.builder.UpdateFlightRequestBuilder;
 import com.example.demo.flight.exception.AirportNotFoundException;
 import com.example.demo.flight.exception.FlightNotFoundException;
+import com.example.demo.flight.event.FlightChangedEvent;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightRouteDay;
 import com.example.demo.flight.model.dto.request.flight.UpdateFlightRequest;
 import com.example.demo.flight.model.entity.AirportEntity;
 import com.example.demo.flight.model.entity.FlightEntity;
 import com.example.demo.flight.model.mapper.flight.FlightEntityToFlightMapper;
 import com.example.demo.flight.model.mapper.flight.UpdateFlightRequestToFlightEntityMapper;
-import com.example.demo.flight.repository.AirportRepository;
 import com.example.demo.flight.repository.FlightRepository;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.FlightExistenceService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,7 +44,16 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
     private FlightRepository flightRepository;
 
     @Mock
-    private AirportRepository airportRepository;
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private FlightExistenceService flightExistenceService;
 
     private final UpdateFlightRequestToFlightEntityMapper updateFlightRequestToFlightEntityMapper =
             UpdateFlightRequestToFlightEntityMapper.initialize();
@@ -87,10 +103,12 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         final Flight expectedFlight = flightEntityToFlightMapper.map(updatedFlightEntity);
 
+        final FlightRouteDay previousRouteDay = FlightRouteDay.of(existingFlightEntity);
+
         // When
         when(flightRepository.findById(flightId)).thenReturn(Optional.of(existingFlightEntity));
-        when(airportRepository.findById(fromAirportId)).thenReturn(Optional.of(fromAirportEntity));
-        when(airportRepository.findById(toAirportId)).thenReturn(Optional.of(toAirportEntity));
+        when(airportLookupService.getFlightAirports(fromAirportId, toAirportId, "update"))
+                .thenReturn(Map.of(fromAirportId, fromAirportEntity, toAirportId, toAirportEntity));
         when(flightRepository.save(any(FlightEntity.class))).thenReturn(updatedFlightEntity);
 
         // Then
@@ -108,9 +126,12 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify the mock interactions
         verify(flightRepository, times(1)).findById(flightId);
-        verify(airportRepository, times(1)).findById(fromAirportId);
-        verify(airportRepository, times(1)).findById(toAirportId);
+        verify(airportLookupService, times(1)).getFlightAirports(fromAirportId, toAirportId, "update");
         verify(flightRepository, times(1)).save(any(FlightEntity.class));
+        verify(flightRouteDaySummaryService, times(1)).recordUpdated(
+                argThat(previous -> previousRouteDay.equals(FlightRouteDay.of(previous))), eq(updatedFlightEntity));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new FlightChangedEvent(previousRouteDay, FlightRouteDay.of(updatedFlightEntity)));
 
     }
 
@@ -135,7 +156,7 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(flightRepository, times(1)).findById(flightId);
-        verify(airportRepository, times(0)).findById(any());
+        verifyNoInteractions(airportLookupService);
         verify(flightRepository, times(0)).save(any());
 
     }
@@ -161,8 +182,8 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         // When
         when(flightRepository.findById(flightId)).thenReturn(Optional.of(existingFlightEntity));
-        when(airportRepository.findById(fromAirportId)).thenReturn(Optional.empty());
-        when(airportRepository.findById(toAirportId)).thenReturn(Optional.of(new AirportEntity()));
+        when(airportLookupService.getFlightAirports(fromAirportId, toAirportId, "update"))
+                .thenThrow(new AirportNotFoundException("Departure airport not found with id " + fromAirportId));
 
         // Then
         assertThrows(AirportNotFoundException.class, () ->
@@ -170,8 +191,7 @@ class FlightUpdateServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(flightRepository, times(1)).findById(flightId);
-        verify(airportRepository, times(1)).findById(fromAirportId);
-        verify(airportRepository, times(0)).findById(toAirportId);
+        verify(airportLookupService, times(1)).getFlightAirports(fromAirportId, toAirportId, "update");
         verify(flightRepository, times(0)).save(any());
 
     }
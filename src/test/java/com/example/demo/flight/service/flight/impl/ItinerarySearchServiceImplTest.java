@@ -0,0 +1,115 @@
+package com.example.demo.flight.service.flight.impl;
+
+import com.example.demo.base.AbstractBaseServiceTest;
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.model.Itinerary;
+import com.example.demo.flight.model.dto.request.flight.ItinerarySearchRequest;
+import com.example.demo.flight.model.entity.AirportEntity;
+import com.example.demo.flight.service.flight.ConnectionTimetableService;
+import com.example.demo.flight.timetable.ConnectionTimetable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link ItinerarySearchServiceImpl}.
+ * This class verifies that itineraries are searched on the timetable of the departure day and mapped correctly.
+ */
+class ItinerarySearchServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    @InjectMocks
+    private ItinerarySearchServiceImpl itinerarySearchService;
+
+    @Mock
+    private ConnectionTimetableService connectionTimetableService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    private final AirportEntity istanbul = new AirportEntityBuilder().withId("IST").withName("Istanbul Airport").withCityName("Istanbul").build();
+    private final AirportEntity amsterdam = new AirportEntityBuilder().withId("AMS").withName("Schiphol").withCityName("Amsterdam").build();
+    private final AirportEntity london = new AirportEntityBuilder().withId("LHR").withName("Heathrow").withCityName("London").build();
+
+    @BeforeEach
+    void setUp() {
+        when(flightSearchConfigurationParameter.getMinConnectionTime()).thenReturn(Duration.ofMinutes(45));
+    }
+
+    @Test
+    void givenConnectingFlights_whenSearchItineraries_thenReturnItinerariesWithLegs() {
+
+        // Given
+        final ItinerarySearchRequest request = ItinerarySearchRequest.builder()
+                .fromAirportId("IST")
+                .toAirportId("LHR")
+                .departureTime(DAY.atTime(15, 0))
+                .build();
+
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(
+                new FlightEntityBuilder().withId("first").withFromAirport(istanbul).withToAirport(amsterdam)
+                        .withDepartureTime(DAY.atTime(7, 0)).withArrivalTime(DAY.atTime(10, 0)).withPrice(80.25).build(),
+                new FlightEntityBuilder().withId("second").withFromAirport(amsterdam).withToAirport(london)
+                        .withDepartureTime(DAY.atTime(11, 0)).withArrivalTime(DAY.atTime(12, 30)).withPrice(70.5).build()
+        ));
+
+        // When
+        when(connectionTimetableService.getTimetable(DAY)).thenReturn(timetable);
+
+        // Then
+        List<Itinerary> itineraries = itinerarySearchService.searchItineraries(request);
+
+        assertEquals(1, itineraries.size());
+
+        Itinerary itinerary = itineraries.get(0);
+        assertEquals(List.of("first", "second"), itinerary.getFlights().stream().map(flight -> flight.getId()).toList());
+        assertEquals("Schiphol", itinerary.getFlights().get(0).getToAirport().getName());
+        assertEquals(LocalDateTime.of(2025, 1, 19, 7, 0), itinerary.getDepartureTime());
+        assertEquals(LocalDateTime.of(2025, 1, 19, 12, 30), itinerary.getArrivalTime());
+        assertEquals(150.75, itinerary.getTotalPrice());
+        assertEquals(1, itinerary.getStops());
+
+        // Verify
+        verify(connectionTimetableService, times(1)).getTimetable(DAY);
+
+    }
+
+    @Test
+    void givenDirectOnlyRequest_whenSearchItineraries_thenIgnoreConnectingFlights() {
+
+        // Given
+        final ItinerarySearchRequest request = ItinerarySearchRequest.builder()
+                .fromAirportId("IST")
+                .toAirportId("LHR")
+                .departureTime(DAY.atStartOfDay())
+                .maxStops(0)
+                .build();
+
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(
+                new FlightEntityBuilder().withId("first").withFromAirport(istanbul).withToAirport(amsterdam)
+                        .withDepartureTime(DAY.atTime(7, 0)).withArrivalTime(DAY.atTime(10, 0)).withPrice(80.0).build(),
+                new FlightEntityBuilder().withId("second").withFromAirport(amsterdam).withToAirport(london)
+                        .withDepartureTime(DAY.atTime(11, 0)).withArrivalTime(DAY.atTime(12, 30)).withPrice(70.0).build()
+        ));
+
+        // When
+        when(connectionTimetableService.getTimetable(DAY)).thenReturn(timetable);
+
+        // Then
+        assertTrue(itinerarySearchService.searchItineraries(request).isEmpty());
+
+    }
+
+}
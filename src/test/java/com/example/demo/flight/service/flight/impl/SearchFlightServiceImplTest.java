@@ -3,27 +3,61 @@ package com.example.demo.flight.service.flight.impl;
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.builder.AirportEntityBuilder;
 import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.common.model.CustomError;
 import com.example.demo.common.model.CustomPage;
 import com.example.demo.common.model.CustomPaging;
+import com.example.demo.common.model.enums.PagingMode;
+import com.example.demo.flight.config.FlightSearchConfigurationParameter;
+import com.example.demo.flight.exception.FlightSearchTimeoutException;
+import com.example.demo.flight.exception.InvalidCursorException;
+import com.example.demo.flight.model.BatchSearchResult;
 import com.example.demo.flight.model.Flight;
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.RoundTrip;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.SearchFlightRequest;
 import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.FlightSort;
+import com.example.demo.flight.model.enums.RoundTripSort;
 import com.example.demo.flight.model.mapper.flight.ListFlightEntityToListFlightMapper;
+import com.example.demo.flight.repository.FlightKeysetRepository;
 import com.example.demo.flight.repository.SearchFlightRepository;
+import com.example.demo.flight.service.airport.AirportExistenceService;
+import com.example.demo.flight.service.airport.AirportLookupService;
+import com.example.demo.flight.service.flight.ApproximateFlightCountService;
+import com.example.demo.flight.service.flight.DirectFlightIndexService;
+import com.example.demo.flight.service.flight.FlightRouteDaySummaryService;
+import com.example.demo.flight.service.flight.FlightSearchCacheService;
+import com.example.demo.flight.timetable.DirectFlightIndex;
+import com.example.demo.flight.timetable.FlightRange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit test class for {@link SearchFlightServiceImpl}.
@@ -37,9 +71,39 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private SearchFlightRepository searchFlightRepository;
 
+    @Mock
+    private AirportLookupService airportLookupService;
+
+    @Mock
+    private ApproximateFlightCountService approximateFlightCountService;
+
+    @Mock
+    private FlightSearchCacheService flightSearchCacheService;
+
+    @Mock
+    private DirectFlightIndexService directFlightIndexService;
+
+    @Mock
+    private FlightRouteDaySummaryService flightRouteDaySummaryService;
+
+    @Mock
+    private AirportExistenceService airportExistenceService;
+
+    @Mock
+    private FlightSearchConfigurationParameter flightSearchConfigurationParameter;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final ListFlightEntityToListFlightMapper listFlightEntityToListFlightMapper =
             ListFlightEntityToListFlightMapper.initialize();
 
+    @BeforeEach
+    void setUp() {
+        when(flightSearchConfigurationParameter.getSearchDeadline()).thenReturn(Duration.ofSeconds(5));
+        when(flightSearchCacheService.get(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<CustomPage<Flight>>>getArgument(1).get());
+    }
 
     @Test
     void givenSearchFlightRequest_whenOneWayFlightsFound_thenReturnFlights() {
@@ -77,7 +141,9 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
 
         // When
         when(searchFlightRepository.findFlights(
-                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, request.toPageable())).thenReturn(departureFlightEntities);
+                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, sortedPageable(request))).thenReturn(departureFlightEntities.getContent());
+        when(flightRouteDaySummaryService.countFlights(
+                new FlightRouteDay(request.getFromAirportId(), request.getToAirportId(), departureStart.toLocalDate()))).thenReturn(departureFlightEntities.getTotalElements());
 
         // Then
         CustomPage<Flight> result = searchFlightService.searchFlights(request);
@@ -92,9 +158,17 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(flightList.get(0).getToAirport().getCityName(), result.getContent().get(0).getToAirport().getCityName());
         assertEquals(flightList.get(0).getPrice(), result.getContent().get(0).getPrice());
 
+        assertEquals(1L, result.getTotalElementCount());
+        assertEquals(1, meterRegistry.get(SearchFlightServiceImpl.LEG_TIMER)
+                .tag("leg", "outbound").tag("query", "content").timer().count());
+        assertEquals(1, meterRegistry.get(SearchFlightServiceImpl.LEG_BYTES_METRIC)
+                .tag("leg", "outbound").tag("query", "content").summary().count());
+
         // Verify
         verify(searchFlightRepository).findFlights(request.getFromAirportId(), request.getToAirportId(),
-                departureStart, departureEnd, request.toPageable());
+                departureStart, departureEnd, sortedPageable(request));
+        verify(flightRouteDaySummaryService).countFlights(
+                new FlightRouteDay(request.getFromAirportId(), request.getToAirportId(), departureStart.toLocalDate()));
 
     }
 
@@ -152,9 +226,11 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
 
         // When
         when(searchFlightRepository.findFlights(
-                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, request.toPageable())).thenReturn(departureFlightEntities);
+                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, sortedPageable(request))).thenReturn(departureFlightEntities.getContent());
+        when(flightRouteDaySummaryService.countFlights(
+                new FlightRouteDay(request.getFromAirportId(), request.getToAirportId(), departureStart.toLocalDate()))).thenReturn(departureFlightEntities.getTotalElements());
         when(searchFlightRepository.findFlights(
-                request.getToAirportId(), request.getFromAirportId(), returnStart, returnEnd, request.toPageable())).thenReturn(returnFlightEntities);
+                request.getToAirportId(), request.getFromAirportId(), returnStart, returnEnd, sortedPageable(request))).thenReturn(returnFlightEntities.getContent());
 
         // Then
         CustomPage<Flight> result = searchFlightService.searchFlights(request);
@@ -173,9 +249,13 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(searchFlightRepository).findFlights(request.getFromAirportId(), request.getToAirportId(),
-                departureStart, departureEnd, request.toPageable());
+                departureStart, departureEnd, sortedPageable(request));
         verify(searchFlightRepository).findFlights(request.getToAirportId(), request.getFromAirportId(),
-                returnStart, returnEnd, request.toPageable());
+                returnStart, returnEnd, sortedPageable(request));
+        verify(flightRouteDaySummaryService, never()).countFlights(
+                new FlightRouteDay(request.getToAirportId(), request.getFromAirportId(), returnStart.toLocalDate()));
+        verify(airportLookupService).resolveAirportSnapshots(
+                List.of(departureFlightEntity, returnFlightEntity), "search");
 
     }
 
@@ -203,7 +283,9 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
 
         // When
         when(searchFlightRepository.findFlights(
-                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, request.toPageable())).thenReturn(emptyPage);
+                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, sortedPageable(request))).thenReturn(emptyPage.getContent());
+        when(flightRouteDaySummaryService.countFlights(
+                new FlightRouteDay(request.getFromAirportId(), request.getToAirportId(), departureStart.toLocalDate()))).thenReturn(0L);
 
         CustomPage<Flight> result = searchFlightService.searchFlights(request);
 
@@ -215,9 +297,758 @@ class SearchFlightServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(result.getContent().isEmpty(), "Result content should be empty");
 
         // Verify
-        verify(searchFlightRepository).findFlights(request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, request.toPageable());
+        verify(searchFlightRepository).findFlights(request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd, sortedPageable(request));
+
+    }
+
+    @Test
+    void givenSlowReturnLeg_whenSearchFlights_thenThrowFlightSearchTimeoutExceptionAndCancelIt() throws InterruptedException {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        when(flightSearchConfigurationParameter.getSearchDeadline()).thenReturn(Duration.ofMillis(100));
+        when(searchFlightRepository.findFlights(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(0L);
+        when(searchFlightRepository.findFlights(eq(request.getToAirportId()), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException exception) {
+                        interrupted.countDown();
+                    }
+                    return List.of();
+                });
+
+        // Then
+        assertThrows(FlightSearchTimeoutException.class, () -> searchFlightService.searchFlights(request));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Slow leg should be cancelled");
+
+        // Verify
+        verifyNoInteractions(airportLookupService);
 
     }
 
+    @Test
+    void givenCursorPagingAndMoreFlights_whenSearchFlights_thenReturnPageAndNextCursor() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(1)
+                .mode(PagingMode.CURSOR)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final FlightSearchCriteria criteria = new FlightSearchCriteria(request.getFromAirportId(), request.getToAirportId(),
+                departureStart, departureStart.plusDays(1).minusNanos(1));
+
+        final FlightEntity firstFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .build();
+        final FlightEntity secondFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 12, 0))
+                .build();
+
+        // When
+        when(searchFlightRepository.findFlightsAfter(criteria, FlightSort.DEPARTURE, FlightCursor.Position.START, 2))
+                .thenReturn(List.of(firstFlight, secondFlight));
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(firstFlight.getId(), result.getContent().get(0).getId());
+        assertNull(result.getTotalElementCount());
+        assertEquals(FlightCursor.Position.after(firstFlight), FlightCursor.decode(result.getNextCursor(), 1).position(0));
+
+        // Verify
+        verify(searchFlightRepository).findFlightsAfter(criteria, FlightSort.DEPARTURE, FlightCursor.Position.START, 2);
+        verify(flightRouteDaySummaryService, never()).countFlights(any());
+
+    }
+
+    @Test
+    void givenCursorPagingOnLastPage_whenRoundTripSearch_thenReturnBothLegsWithoutNextCursor() {
+
+        // Given
+        final FlightEntity lastOutboundFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .build();
+
+        final String cursor = new FlightCursor(List.of(
+                FlightCursor.Position.after(lastOutboundFlight), FlightCursor.Position.END)).encode();
+
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .mode(PagingMode.CURSOR)
+                .cursor(cursor)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final FlightEntity outboundFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 18, 0))
+                .build();
+
+        // When
+        when(searchFlightRepository.findFlightsAfter(any(), any(), eq(FlightCursor.Position.after(lastOutboundFlight)), eq(11)))
+                .thenReturn(List.of(outboundFlight));
+        when(searchFlightRepository.findFlightsAfter(any(), any(), eq(FlightCursor.Position.END), eq(11)))
+                .thenReturn(List.of());
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+
+        // Verify
+        verify(searchFlightRepository, times(2)).findFlightsAfter(any(), any(), any(), eq(11));
+        verify(searchFlightRepository, never()).findFlights(any(), any(), any(), any(), any());
+
+    }
+
+    @Test
+    void givenPriceSortAndFilters_whenSearchFlights_thenQueryMatchingFlightsAndCountThemWithoutIndex() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .maxPrice(200.0)
+                .departureHourFrom(6)
+                .departureHourTo(11)
+                .maxDurationMinutes(180L)
+                .pagination(pagination)
+                .build();
+
+        final FlightSearchCriteria criteria = new FlightSearchCriteria(
+                request.getFromAirportId(),
+                request.getToAirportId(),
+                LocalDateTime.of(2025, 1, 19, 6, 0),
+                LocalDateTime.of(2025, 1, 19, 12, 0).minusNanos(1),
+                200.0,
+                180L);
+
+        final Pageable pageable = PageRequest.of(0, 10, FlightSort.PRICE.toSort());
+
+        final FlightEntity flightEntity = new FlightEntityBuilder()
+                .withValidFields()
+                .withDepartureTime(LocalDateTime.of(2025, 1, 19, 9, 0))
+                .withPrice(150.0)
+                .build();
+
+        // When
+        when(searchFlightRepository.findFlightsMatching(criteria, pageable)).thenReturn(List.of(flightEntity));
+        when(searchFlightRepository.countFlightsMatching(criteria)).thenReturn(1L);
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(flightEntity.getId(), result.getContent().get(0).getId());
+        assertEquals(1L, result.getTotalElementCount());
+
+        // Verify
+        verify(searchFlightRepository).findFlightsMatching(criteria, pageable);
+        verify(searchFlightRepository).countFlightsMatching(criteria);
+        verify(searchFlightRepository, never()).findFlights(any(), any(), any(), any(), any());
+        verifyNoInteractions(directFlightIndexService, flightRouteDaySummaryService);
+
+    }
+
+    @Test
+    void givenCursorPagingByPrice_whenSearchFlights_thenResumeAfterLastPrice() {
+
+        // Given
+        final FlightEntity lastFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withPrice(120.5)
+                .build();
+
+        final FlightCursor.Position after = FlightCursor.Position.after(lastFlight, FlightSort.PRICE);
+
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(1)
+                .mode(PagingMode.CURSOR)
+                .cursor(new FlightCursor(List.of(after)).encode())
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .sortBy(FlightSort.PRICE)
+                .pagination(pagination)
+                .build();
+
+        final FlightEntity firstFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withPrice(130.0)
+                .build();
+        final FlightEntity secondFlight = new FlightEntityBuilder()
+                .withValidFields()
+                .withPrice(140.0)
+                .build();
+
+        // When
+        when(searchFlightRepository.findFlightsAfter(any(), eq(FlightSort.PRICE), eq(after), eq(2)))
+                .thenReturn(List.of(firstFlight, secondFlight));
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(firstFlight.getId(), result.getContent().get(0).getId());
+        assertEquals(new FlightCursor.Position(130.0, firstFlight.getId()),
+                FlightCursor.decode(result.getNextCursor(), 1, FlightSort.PRICE).position(0));
+
+        // Verify
+        verify(searchFlightRepository).findFlightsAfter(any(), eq(FlightSort.PRICE), eq(after), eq(2));
+        verifyNoInteractions(directFlightIndexService);
+
+    }
+
+    @Test
+    void givenSlicePagingAndRoundTrip_whenSearchFlights_thenReturnHasNextAndApproximateTotalWithoutCounting() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(1)
+                .mode(PagingMode.SLICE)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final LocalDateTime departureEnd = departureStart.plusDays(1).minusNanos(1);
+        final LocalDateTime returnStart = LocalDateTime.of(2025, 1, 20, 0, 0);
+        final LocalDateTime returnEnd = returnStart.plusDays(1).minusNanos(1);
+
+        final FlightEntity departureFlight = new FlightEntityBuilder().withValidFields().build();
+        final FlightEntity returnFlight = new FlightEntityBuilder().withValidFields().build();
+
+        final FlightSearchCriteria outbound = new FlightSearchCriteria(
+                request.getFromAirportId(), request.getToAirportId(), departureStart, departureEnd);
+
+        // When
+        when(searchFlightRepository.findFlightSlice(request.getFromAirportId(), request.getToAirportId(),
+                departureStart, departureEnd, sortedPageable(request)))
+                .thenReturn(new SliceImpl<>(List.of(departureFlight), sortedPageable(request), false));
+        when(searchFlightRepository.findFlightSlice(request.getToAirportId(), request.getFromAirportId(),
+                returnStart, returnEnd, sortedPageable(request)))
+                .thenReturn(new SliceImpl<>(List.of(returnFlight), sortedPageable(request), true));
+        when(approximateFlightCountService.getApproximateCount(outbound)).thenReturn(Optional.of(42L));
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.getHasNext());
+        assertEquals(1, result.getPageNumber());
+        assertEquals(42L, result.getApproximateTotalElementCount());
+        assertNull(result.getTotalElementCount());
+        assertNull(result.getTotalPageCount());
+
+        // Verify
+        verify(flightRouteDaySummaryService, never()).countFlights(any());
+        verify(approximateFlightCountService).getApproximateCount(outbound);
+
+    }
+
+    @Test
+    void givenMalformedCursor_whenSearchFlights_thenThrowInvalidCursorException() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .mode(PagingMode.CURSOR)
+                .cursor("not-a-cursor")
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        // Then
+        assertThrows(InvalidCursorException.class, () -> searchFlightService.searchFlights(request));
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository);
+
+    }
+
+    @Test
+    void givenIndexedRoundTrip_whenSearchFlights_thenReturnPageFromIndexWithoutQueries() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(1)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final LocalDateTime returnStart = LocalDateTime.of(2025, 1, 20, 0, 0);
+
+        final FlightSearchCriteria outbound = new FlightSearchCriteria(request.getFromAirportId(),
+                request.getToAirportId(), departureStart, departureStart.plusDays(1).minusNanos(1));
+        final FlightSearchCriteria inbound = new FlightSearchCriteria(request.getToAirportId(),
+                request.getFromAirportId(), returnStart, returnStart.plusDays(1).minusNanos(1));
+
+        final FlightEntity lateDeparture = indexedFlight(request.getFromAirportId(), request.getToAirportId(),
+                departureStart.withHour(18));
+        final FlightEntity earlyDeparture = indexedFlight(request.getFromAirportId(), request.getToAirportId(),
+                departureStart.withHour(8));
+        final FlightEntity returnFlight = indexedFlight(request.getToAirportId(), request.getFromAirportId(),
+                returnStart.withHour(9));
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(departureStart.toLocalDate(), index.beginDayLoad(), List.of(lateDeparture, earlyDeparture));
+        index.completeDayLoad(returnStart.toLocalDate(), index.beginDayLoad(), List.of(returnFlight));
+
+        // When
+        when(directFlightIndexService.find(outbound)).thenReturn(index.find(outbound));
+        when(directFlightIndexService.find(inbound)).thenReturn(index.find(inbound));
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertEquals(List.of(earlyDeparture.getId(), returnFlight.getId()),
+                result.getContent().stream().map(Flight::getId).toList());
+        assertEquals(2L, result.getTotalElementCount());
+        assertEquals(2, result.getTotalPageCount());
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository);
+
+    }
+
+    @Test
+    void givenReturnLegNotIndexed_whenSearchFlights_thenQueryRepositoryForBothLegs() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(1)
+                .pageSize(10)
+                .mode(PagingMode.SLICE)
+                .build();
+
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final FlightSearchCriteria outbound = new FlightSearchCriteria(request.getFromAirportId(),
+                request.getToAirportId(), departureStart, departureStart.plusDays(1).minusNanos(1));
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(departureStart.toLocalDate(), index.beginDayLoad(), List.of());
+
+        // When
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(directFlightIndexService.find(outbound)).thenReturn(index.find(outbound));
+        when(searchFlightRepository.findFlightSlice(any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(), sortedPageable(request), false));
+
+        // Then
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        assertTrue(result.getContent().isEmpty());
+
+        // Verify
+        verify(searchFlightRepository, times(2)).findFlightSlice(any(), any(), any(), any(), any());
+
+    }
+
+    @Test
+    void givenBatchSharingRoute_whenSearchFlightsBatch_thenReadRouteOnceAndReturnResultsInOrder() {
+
+        // Given
+        final String fromAirportId = UUID.randomUUID().toString();
+        final String toAirportId = UUID.randomUUID().toString();
+
+        final SearchFlightRequest firstDay = SearchFlightRequest.builder()
+                .fromAirportId(fromAirportId)
+                .toAirportId(toAirportId)
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final SearchFlightRequest secondDay = SearchFlightRequest.builder()
+                .fromAirportId(fromAirportId)
+                .toAirportId(toAirportId)
+                .departureTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final FlightEntity firstDayFlight = indexedFlight(fromAirportId, toAirportId, LocalDateTime.of(2025, 1, 19, 8, 0));
+        final FlightEntity secondDayFlight = indexedFlight(fromAirportId, toAirportId, LocalDateTime.of(2025, 1, 20, 8, 0));
+
+        // When
+        when(flightSearchConfigurationParameter.getBatchMaxConcurrency()).thenReturn(2);
+        when(flightSearchConfigurationParameter.getBatchMergeMaxFlights()).thenReturn(100);
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(1L);
+        when(searchFlightRepository.findRouteFlightsOnDays(eq(fromAirportId), eq(toAirportId), any()))
+                .thenReturn(List.of(firstDayFlight, secondDayFlight));
+
+        // Then
+        List<BatchSearchResult> results = searchFlightService.searchFlightsBatch(List.of(secondDay, firstDay));
+
+        assertEquals(2, results.size());
+        assertEquals(List.of(secondDayFlight.getId()),
+                results.get(0).getPage().getContent().stream().map(Flight::getId).toList());
+        assertEquals(List.of(firstDayFlight.getId()),
+                results.get(1).getPage().getContent().stream().map(Flight::getId).toList());
+        assertEquals(1L, results.get(1).getPage().getTotalElementCount());
+        assertNull(results.get(0).getError());
+
+        assertEquals(2L, meterRegistry.get(SearchFlightServiceImpl.LEG_TIMER)
+                .tag("leg", "outbound").tag("query", "shared").timer().count());
+
+        // Verify
+        verify(searchFlightRepository).findRouteFlightsOnDays(eq(fromAirportId), eq(toAirportId), any());
+        verify(searchFlightRepository, never()).findFlights(any(), any(), any(), any(), any());
+
+    }
+
+    @Test
+    void givenBatchSharingOnlyOutboundRouteOfRoundTrip_whenSearchFlightsBatch_thenQueryEveryLegOnItsOwn() {
+
+        // Given
+        final String fromAirportId = UUID.randomUUID().toString();
+        final String toAirportId = UUID.randomUUID().toString();
+
+        final SearchFlightRequest roundTrip = SearchFlightRequest.builder()
+                .fromAirportId(fromAirportId)
+                .toAirportId(toAirportId)
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .arrivalTime(LocalDateTime.of(2025, 1, 25, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final SearchFlightRequest oneWay = SearchFlightRequest.builder()
+                .fromAirportId(fromAirportId)
+                .toAirportId(toAirportId)
+                .departureTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        // When
+        when(flightSearchConfigurationParameter.getBatchMaxConcurrency()).thenReturn(2);
+        when(flightSearchConfigurationParameter.getBatchMergeMaxFlights()).thenReturn(100);
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(searchFlightRepository.findFlights(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(0L);
+
+        // Then
+        List<BatchSearchResult> results = searchFlightService.searchFlightsBatch(List.of(roundTrip, oneWay));
+
+        assertEquals(2, results.size());
+        assertNull(results.get(0).getError());
+        assertNull(results.get(1).getError());
+
+        // Verify
+        verify(searchFlightRepository, never()).findRouteFlightsOnDays(any(), any(), any());
+        verify(searchFlightRepository, times(3)).findFlights(any(), any(), any(), any(), any());
+
+    }
+
+    @Test
+    void givenBatchWithMalformedCursor_whenSearchFlightsBatch_thenReportItsErrorAndReturnOtherResults() {
+
+        // Given
+        final SearchFlightRequest valid = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        final SearchFlightRequest malformed = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder()
+                        .pageNumber(1)
+                        .pageSize(10)
+                        .mode(PagingMode.CURSOR)
+                        .cursor("not-a-cursor")
+                        .build())
+                .build();
+
+        // When
+        when(flightSearchConfigurationParameter.getBatchMaxConcurrency()).thenReturn(2);
+        when(flightSearchConfigurationParameter.getBatchMergeMaxFlights()).thenReturn(100);
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(searchFlightRepository.findFlights(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(flightRouteDaySummaryService.countFlights(any())).thenReturn(0L);
+
+        // Then
+        List<BatchSearchResult> results = searchFlightService.searchFlightsBatch(List.of(malformed, valid));
+
+        assertEquals(2, results.size());
+        assertNull(results.get(0).getPage());
+        assertEquals(InvalidCursorException.STATUS, results.get(0).getError().getHttpStatus());
+        assertEquals(CustomError.Header.VALIDATION_ERROR.getName(), results.get(0).getError().getHeader());
+        assertNull(results.get(1).getError());
+        assertTrue(results.get(1).getPage().getContent().isEmpty());
+
+        // Verify
+        verify(searchFlightRepository, never()).findRouteFlightsOnDays(any(), any(), any());
+
+    }
+
+    @Test
+    void givenRoundTripSearchRequest_whenSearchRoundTrips_thenReturnRequestedPageOfCheapestCombinations() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(2)
+                .pageSize(1)
+                .build();
+
+        final RoundTripSearchRequest request = RoundTripSearchRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .returnTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .pagination(pagination)
+                .build();
+
+        final LocalDateTime departureStart = LocalDateTime.of(2025, 1, 19, 0, 0);
+        final LocalDateTime returnStart = LocalDateTime.of(2025, 1, 20, 0, 0);
+
+        final FlightEntity cheapOutbound = roundTripFlight(request.getFromAirportId(), request.getToAirportId(),
+                departureStart.withHour(8), 100.0);
+        final FlightEntity pricyOutbound = roundTripFlight(request.getFromAirportId(), request.getToAirportId(),
+                departureStart.withHour(9), 200.0);
+        final FlightEntity cheapReturn = roundTripFlight(request.getToAirportId(), request.getFromAirportId(),
+                returnStart.withHour(9), 50.0);
+        final FlightEntity pricyReturn = roundTripFlight(request.getToAirportId(), request.getFromAirportId(),
+                returnStart.withHour(18), 75.5);
+
+        final Pageable allFlights = Pageable.unpaged(FlightKeysetRepository.FLIGHT_ORDER);
+
+        // When
+        when(flightSearchConfigurationParameter.getRoundTripMinStay()).thenReturn(Duration.ofHours(2));
+        when(flightSearchConfigurationParameter.getRoundTripMaxCombinations()).thenReturn(1_000);
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(searchFlightRepository.findFlights(request.getFromAirportId(), request.getToAirportId(),
+                departureStart, departureStart.plusDays(1).minusNanos(1), allFlights))
+                .thenReturn(List.of(cheapOutbound, pricyOutbound));
+        when(searchFlightRepository.findFlights(request.getToAirportId(), request.getFromAirportId(),
+                returnStart, returnStart.plusDays(1).minusNanos(1), allFlights))
+                .thenReturn(List.of(cheapReturn, pricyReturn));
+
+        // Then
+        CustomPage<RoundTrip> result = searchFlightService.searchRoundTrips(request);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(cheapOutbound.getId(), result.getContent().get(0).getOutboundFlight().getId());
+        assertEquals(pricyReturn.getId(), result.getContent().get(0).getReturnFlight().getId());
+        assertEquals(175.5, result.getContent().get(0).getTotalPrice());
+        assertEquals(240L, result.getContent().get(0).getTotalDurationMinutes());
+        assertEquals(2, result.getPageNumber());
+        assertEquals(4L, result.getTotalElementCount());
+        assertEquals(4, result.getTotalPageCount());
+
+        // Verify
+        verify(searchFlightRepository, times(2)).findFlights(any(), any(), any(), any(), any());
+        verify(airportLookupService).resolveAirportSnapshots(anyList(), eq("search"));
+
+    }
+
+    @Test
+    void givenMoreCombinationsThanMaximum_whenSearchRoundTrips_thenReportExactTotalAndReturnEmptyPageBeyondIt() {
+
+        // Given
+        final CustomPaging pagination = CustomPaging.builder()
+                .pageNumber(2)
+                .pageSize(1)
+                .build();
+
+        final RoundTripSearchRequest request = RoundTripSearchRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .returnTime(LocalDateTime.of(2025, 1, 20, 10, 0))
+                .sortBy(RoundTripSort.DURATION)
+                .pagination(pagination)
+                .build();
+
+        final FlightEntity outbound = roundTripFlight(request.getFromAirportId(), request.getToAirportId(),
+                LocalDateTime.of(2025, 1, 19, 8, 0), 100.0);
+        final FlightEntity firstReturn = roundTripFlight(request.getToAirportId(), request.getFromAirportId(),
+                LocalDateTime.of(2025, 1, 20, 9, 0), 50.0);
+        final FlightEntity secondReturn = roundTripFlight(request.getToAirportId(), request.getFromAirportId(),
+                LocalDateTime.of(2025, 1, 20, 18, 0), 50.0);
+
+        // When
+        when(flightSearchConfigurationParameter.getRoundTripMinStay()).thenReturn(Duration.ofHours(2));
+        when(flightSearchConfigurationParameter.getRoundTripMaxCombinations()).thenReturn(1);
+        when(directFlightIndexService.find(any())).thenReturn(Optional.empty());
+        when(searchFlightRepository.findFlights(eq(request.getFromAirportId()), any(), any(), any(), any()))
+                .thenReturn(List.of(outbound));
+        when(searchFlightRepository.findFlights(eq(request.getToAirportId()), any(), any(), any(), any()))
+                .thenReturn(List.of(firstReturn, secondReturn));
+
+        // Then
+        CustomPage<RoundTrip> result = searchFlightService.searchRoundTrips(request);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(2L, result.getTotalElementCount());
+        assertEquals(2, result.getTotalPageCount());
+
+    }
+
+
+    @Test
+    void givenUnknownArrivalAirport_whenSearchFlights_thenReturnEmptyPageWithoutQueries() {
+
+        // Given
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId(UUID.randomUUID().toString())
+                .toAirportId("UNKNOWN")
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).build())
+                .build();
+
+        when(airportExistenceService.isDefinitelyMissing("UNKNOWN")).thenReturn(true);
+
+        // When
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(0L, result.getTotalElementCount());
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository, flightRouteDaySummaryService, directFlightIndexService);
+
+    }
+
+    @Test
+    void givenUnknownAirportAndCursorPaging_whenSearchFlights_thenReturnLastEmptyPage() {
+
+        // Given
+        final SearchFlightRequest request = SearchFlightRequest.builder()
+                .fromAirportId("UNKNOWN")
+                .toAirportId(UUID.randomUUID().toString())
+                .departureTime(LocalDateTime.of(2025, 1, 19, 10, 0))
+                .pagination(CustomPaging.builder().pageNumber(1).pageSize(10).mode(PagingMode.CURSOR).build())
+                .build();
+
+        when(airportExistenceService.isDefinitelyMissing("UNKNOWN")).thenReturn(true);
+
+        // When
+        CustomPage<Flight> result = searchFlightService.searchFlights(request);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertNull(result.getNextCursor());
+
+        // Verify
+        verifyNoInteractions(searchFlightRepository, directFlightIndexService);
+
+    }
+
+    private FlightEntity roundTripFlight(final String fromAirportId,
+                                         final String toAirportId,
+                                         final LocalDateTime departureTime,
+                                         final Double price) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder()
+                        .withId(fromAirportId).withName("Origin Airport").withCityName("Origin City").build())
+                .withToAirport(new AirportEntityBuilder()
+                        .withId(toAirportId).withName("Destination Airport").withCityName("Destination City").build())
+                .withDepartureTime(departureTime)
+                .withArrivalTime(departureTime.plusHours(2))
+                .withPrice(price)
+                .build();
+    }
+
+    private FlightEntity indexedFlight(final String fromAirportId,
+                                       final String toAirportId,
+                                       final LocalDateTime departureTime) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withFromAirport(new AirportEntityBuilder()
+                        .withId(fromAirportId).withName("Origin Airport").withCityName("Origin City").build())
+                .withToAirport(new AirportEntityBuilder()
+                        .withId(toAirportId).withName("Destination Airport").withCityName("Destination City").build())
+                .withDepartureTime(departureTime)
+                .build();
+    }
+
+    private Pageable sortedPageable(final SearchFlightRequest request) {
+        final Pageable pageable = request.toPageable();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), FlightKeysetRepository.FLIGHT_ORDER);
+    }
 
-}
\ No newline at end of file
+}
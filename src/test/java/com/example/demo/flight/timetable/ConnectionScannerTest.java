@@ -0,0 +1,143 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link ConnectionScanner}.
+ * This class verifies that the scan returns the Pareto-optimal journeys under the connection constraints.
+ */
+class ConnectionScannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    private static final long MIN_CONNECTION = Duration.ofMinutes(45).toSeconds();
+
+    @Test
+    void givenDirectAndCheaperConnectingFlights_whenScan_thenReturnBothParetoJourneys() {
+
+        // Given
+        final FlightEntity direct = flight("d", "IST", "LHR", 8, 0, 12, 0, 300.0);
+        final FlightEntity firstLeg = flight("f", "IST", "AMS", 7, 0, 10, 0, 80.0);
+        final FlightEntity secondLeg = flight("s", "AMS", "LHR", 11, 0, 12, 30, 70.0);
+        final FlightEntity pricierLater = flight("p", "IST", "LHR", 14, 0, 18, 0, 350.0);
+
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(direct, firstLeg, secondLeg, pricierLater));
+
+        // When
+        final List<Journey> journeys = ConnectionScanner.scan(timetable, query(timetable, "IST", "LHR", 3));
+
+        // Then
+        assertEquals(2, journeys.size());
+        assertEquals(List.of("d"), ids(timetable, journeys.get(0)));
+        assertEquals(30_000L, journeys.get(0).price());
+        assertEquals(List.of("f", "s"), ids(timetable, journeys.get(1)));
+        assertEquals(15_000L, journeys.get(1).price());
+
+    }
+
+    @Test
+    void givenConnectionShorterThanMinimum_whenScan_thenSkipIt() {
+
+        // Given
+        final FlightEntity firstLeg = flight("f", "IST", "AMS", 7, 0, 10, 0, 80.0);
+        final FlightEntity tightLeg = flight("t", "AMS", "LHR", 10, 30, 12, 0, 70.0);
+        final FlightEntity laterLeg = flight("l", "AMS", "LHR", 11, 0, 12, 30, 90.0);
+
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(firstLeg, tightLeg, laterLeg));
+
+        // When
+        final List<Journey> journeys = ConnectionScanner.scan(timetable, query(timetable, "IST", "LHR", 3));
+
+        // Then
+        assertEquals(1, journeys.size());
+        assertEquals(List.of("f", "l"), ids(timetable, journeys.get(0)));
+
+    }
+
+    @Test
+    void givenTwoStopJourney_whenMaxLegsIsTwo_thenReturnNothing() {
+
+        // Given
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(
+                flight("a", "IST", "AMS", 6, 0, 8, 0, 50.0),
+                flight("b", "AMS", "CDG", 9, 0, 10, 0, 50.0),
+                flight("c", "CDG", "LHR", 11, 0, 12, 0, 50.0)
+        ));
+
+        // Then
+        assertEquals(1, ConnectionScanner.scan(timetable, query(timetable, "IST", "LHR", 3)).size());
+        assertTrue(ConnectionScanner.scan(timetable, query(timetable, "IST", "LHR", 2)).isEmpty());
+
+    }
+
+    @Test
+    void givenFirstFlightOnNextDay_whenScan_thenDoNotDepartOutsideTheDay() {
+
+        // Given
+        final FlightEntity nextDay = flight("n", "IST", "LHR", 8, 0, 12, 0, 100.0);
+        nextDay.setDepartureTime(nextDay.getDepartureTime().plusDays(1));
+        nextDay.setArrivalTime(nextDay.getArrivalTime().plusDays(1));
+
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(nextDay));
+
+        // Then
+        assertTrue(ConnectionScanner.scan(timetable, query(timetable, "IST", "LHR", 3)).isEmpty());
+
+    }
+
+    @Test
+    void givenUnknownAirport_whenScan_thenReturnNothing() {
+
+        // Given
+        final ConnectionTimetable timetable = ConnectionTimetable.of(List.of(flight("d", "IST", "LHR", 8, 0, 12, 0, 300.0)));
+
+        // Then
+        assertTrue(ConnectionScanner.scan(timetable, query(timetable, "IST", "JFK", 3)).isEmpty());
+
+    }
+
+    private ConnectionScanQuery query(final ConnectionTimetable timetable, final String from, final String to, final int maxLegs) {
+        final LocalDateTime start = DAY.atStartOfDay();
+        return new ConnectionScanQuery(
+                timetable.stopOf(from),
+                timetable.stopOf(to),
+                ConnectionTimetable.toEpochSecond(start),
+                ConnectionTimetable.toEpochSecond(start.plusDays(1)) - 1,
+                ConnectionTimetable.toEpochSecond(start.plusDays(2)) - 1,
+                maxLegs,
+                MIN_CONNECTION
+        );
+    }
+
+    private List<String> ids(final ConnectionTimetable timetable, final Journey journey) {
+        return Arrays.stream(journey.connections())
+                .mapToObj(connection -> timetable.flight(connection).getId())
+                .toList();
+    }
+
+    private FlightEntity flight(final String id, final String from, final String to,
+                                final int departureHour, final int departureMinute,
+                                final int arrivalHour, final int arrivalMinute,
+                                final double price) {
+        return new FlightEntityBuilder()
+                .withId(id)
+                .withFromAirport(new AirportEntityBuilder().withId(from).withName(from).build())
+                .withToAirport(new AirportEntityBuilder().withId(to).withName(to).build())
+                .withDepartureTime(DAY.atTime(departureHour, departureMinute))
+                .withArrivalTime(DAY.atTime(arrivalHour, arrivalMinute))
+                .withPrice(price)
+                .build();
+    }
+
+}
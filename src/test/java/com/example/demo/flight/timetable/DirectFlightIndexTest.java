@@ -0,0 +1,230 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.model.FlightCursor;
+import com.example.demo.flight.model.FlightRouteDay;
+import com.example.demo.flight.model.FlightSearchCriteria;
+import com.example.demo.flight.model.entity.AirportSnapshot;
+import com.example.demo.flight.model.entity.FlightEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link DirectFlightIndex}.
+ * This class verifies lookups, pagination, change tracking and the memory footprint of the index.
+ */
+class DirectFlightIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 19);
+
+    private static final FlightSearchCriteria IST_LHR = new FlightSearchCriteria(
+            "IST", "LHR", DAY.atStartOfDay(), DAY.atStartOfDay().plusDays(1).minusNanos(1));
+
+    @Test
+    void givenLoadedDay_whenFind_thenReturnRouteFlightsInSearchOrder() {
+
+        // Given
+        final String sharedTimeId = UUID.randomUUID().toString();
+        final FlightEntity late = flight(UUID.randomUUID().toString(), "IST", "LHR", DAY.atTime(18, 0), 120.55);
+        final FlightEntity early = flight("legacy-id", "IST", "LHR", DAY.atTime(8, 0), 99.99);
+        final FlightEntity sameTime = flight(sharedTimeId, "IST", "LHR", DAY.atTime(18, 0), null);
+        final FlightEntity otherRoute = flight(UUID.randomUUID().toString(), "IST", "AMS", DAY.atTime(9, 0), 50.0);
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+
+        // When
+        assertTrue(index.completeDayLoad(DAY, index.beginDayLoad(), List.of(late, early, sameTime, otherRoute)));
+
+        // Then
+        final FlightRange range = index.find(IST_LHR).orElseThrow();
+        final List<FlightEntity> flights = range.flights(0, 10);
+
+        assertEquals(3, range.size());
+        assertEquals(List.of(early.getId(), ordered(late, sameTime).get(0).getId(), ordered(late, sameTime).get(1).getId()),
+                flights.stream().map(FlightEntity::getId).toList());
+        assertEquals(early.getDepartureTime(), flights.get(0).getDepartureTime());
+        assertEquals(early.getArrivalTime(), flights.get(0).getArrivalTime());
+        assertEquals(99.99, flights.get(0).getPrice());
+        assertEquals("Airport IST", flights.get(0).getFromAirport().getName());
+        assertEquals(1, index.find(new FlightSearchCriteria(
+                "IST", "LHR", DAY.atTime(7, 0), DAY.atTime(8, 0))).orElseThrow().size());
+
+    }
+
+    @Test
+    void givenLoadedDay_whenFindUnknownRoute_thenReturnEmptyRange() {
+
+        // Given
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of());
+
+        // When
+        final FlightRange range = index.find(IST_LHR).orElseThrow();
+
+        // Then
+        assertEquals(0, range.size());
+        assertTrue(range.flights(0, 10).isEmpty());
+
+    }
+
+    @Test
+    void givenDayNotLoadedOrCriteriaSpanningDays_whenFind_thenMiss() {
+
+        // Given
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of());
+
+        // Then
+        assertTrue(index.find(new FlightSearchCriteria(
+                "IST", "LHR", DAY.plusDays(1).atStartOfDay(), DAY.plusDays(2).atStartOfDay().minusNanos(1))).isEmpty());
+        assertTrue(index.find(new FlightSearchCriteria(
+                "IST", "LHR", DAY.atStartOfDay(), DAY.plusDays(1).atTime(12, 0))).isEmpty());
+
+    }
+
+    @Test
+    void givenPosition_whenFlightsAfter_thenResumeAfterThatFlight() {
+
+        // Given
+        final FlightEntity first = flight("a", "IST", "LHR", DAY.atTime(8, 0), 10.0);
+        final FlightEntity second = flight("b", "IST", "LHR", DAY.atTime(8, 0), 10.0);
+        final FlightEntity third = flight("c", "IST", "LHR", DAY.atTime(9, 0), 10.0);
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of(third, second, first));
+        final FlightRange range = index.find(IST_LHR).orElseThrow();
+
+        // Then
+        assertEquals(List.of("b", "c"), range.flightsAfter(FlightCursor.Position.after(first), 10).stream()
+                .map(FlightEntity::getId).toList());
+        assertEquals(List.of("a"), range.flightsAfter(FlightCursor.Position.START, 1).stream()
+                .map(FlightEntity::getId).toList());
+        assertTrue(range.flightsAfter(FlightCursor.Position.END, 10).isEmpty());
+
+    }
+
+    @Test
+    void givenChangedRouteDay_whenFind_thenMissUntilReloadCompletes() {
+
+        // Given
+        final FlightRouteDay routeDay = new FlightRouteDay("IST", "LHR", DAY);
+        final FlightEntity added = flight("a", "IST", "LHR", DAY.atTime(8, 0), 10.0);
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of());
+
+        // When
+        final long stale = index.markChanged(routeDay);
+        final long latest = index.markChanged(routeDay);
+
+        // Then
+        assertTrue(index.find(IST_LHR).isEmpty());
+
+        index.completeRouteDay(routeDay, stale, List.of());
+        assertTrue(index.find(IST_LHR).isEmpty());
+
+        index.completeRouteDay(routeDay, latest, List.of(added));
+        assertEquals(1, index.find(IST_LHR).orElseThrow().size());
+
+    }
+
+    @Test
+    void givenChangeDuringDayLoad_whenCompleteDayLoad_thenDiscardLoad() {
+
+        // Given
+        final DirectFlightIndex index = new DirectFlightIndex();
+        final long token = index.beginDayLoad();
+
+        // When
+        assertEquals(-1L, index.markChanged(new FlightRouteDay("IST", "LHR", DAY)));
+
+        // Then
+        assertFalse(index.completeDayLoad(DAY, token, List.of()));
+        assertFalse(index.isLoaded(DAY));
+        assertTrue(index.completeDayLoad(DAY, index.beginDayLoad(), List.of()));
+
+    }
+
+    @Test
+    void givenRenamedAirport_whenUpdateAirport_thenRenderFlightsWithNewName() {
+
+        // Given
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of(flight("a", "IST", "LHR", DAY.atTime(8, 0), 10.0)));
+
+        // When
+        index.updateAirport(AirportSnapshot.builder().id("IST").name("Istanbul Airport").cityName("Istanbul").build());
+
+        // Then
+        assertEquals("Istanbul Airport",
+                index.find(IST_LHR).orElseThrow().flights(0, 1).get(0).getFromAirport().getName());
+
+    }
+
+    @Test
+    void givenPastDays_whenEvictDaysBefore_thenKeepOnlyLaterDays() {
+
+        // Given
+        final DirectFlightIndex index = new DirectFlightIndex();
+        index.completeDayLoad(DAY, index.beginDayLoad(), List.of(flight("a", "IST", "LHR", DAY.atTime(8, 0), 10.0)));
+        index.completeDayLoad(DAY.plusDays(1), index.beginDayLoad(),
+                List.of(flight("b", "IST", "LHR", DAY.plusDays(1).atTime(8, 0), 10.0)));
+
+        // When
+        index.evictDaysBefore(DAY.plusDays(1));
+
+        // Then
+        assertFalse(index.isLoaded(DAY));
+        assertTrue(index.isLoaded(DAY.plusDays(1)));
+        assertEquals(1L, index.flightCount());
+
+    }
+
+    @Test
+    void givenUuidFlights_whenEstimatedBytes_thenStayWellBelowEntityGraph() {
+
+        // Given
+        final List<FlightEntity> flights = new ArrayList<>();
+        for (int minute = 0; minute < 1_000; minute++) {
+            flights.add(flight(UUID.randomUUID().toString(), "IST", "LHR", DAY.atStartOfDay().plusMinutes(minute), 10.0));
+        }
+
+        final DirectFlightIndex index = new DirectFlightIndex();
+
+        // When
+        index.completeDayLoad(DAY, index.beginDayLoad(), flights);
+
+        // Then
+        assertEquals(1_000L, index.flightCount());
+        assertTrue(index.estimatedBytes() / index.flightCount() <= 40L);
+
+    }
+
+    private static List<FlightEntity> ordered(final FlightEntity first, final FlightEntity second) {
+        return first.getId().compareTo(second.getId()) < 0 ? List.of(first, second) : List.of(second, first);
+    }
+
+    private static FlightEntity flight(final String id,
+                                       final String from,
+                                       final String to,
+                                       final LocalDateTime departureTime,
+                                       final Double price) {
+        return new FlightEntityBuilder()
+                .withId(id)
+                .withFromAirport(new AirportEntityBuilder().withId(from).withName("Airport " + from).build())
+                .withToAirport(new AirportEntityBuilder().withId(to).withName("Airport " + to).build())
+                .withDepartureTime(departureTime)
+                .withArrivalTime(departureTime.plusHours(3).plusNanos(123_000_000))
+                .withPrice(price)
+                .build();
+    }
+
+}
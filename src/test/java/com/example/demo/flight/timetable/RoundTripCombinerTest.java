@@ -0,0 +1,171 @@
+package com.example.demo.flight.timetable;
+
+import com.example.demo.builder.AirportEntityBuilder;
+import com.example.demo.builder.FlightEntityBuilder;
+import com.example.demo.flight.model.entity.FlightEntity;
+import com.example.demo.flight.model.enums.RoundTripSort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link RoundTripCombiner}.
+ * This class verifies that the best combinations respect the minimum stay, match a full ranking of the cross product,
+ * and that combinations are counted without pairing the flights.
+ */
+class RoundTripCombinerTest {
+
+    private static final LocalDate DEPARTURE_DAY = LocalDate.of(2025, 1, 19);
+
+    private static final LocalDate RETURN_DAY = LocalDate.of(2025, 1, 20);
+
+    private static final Duration MIN_STAY = Duration.ofHours(2);
+
+    @Test
+    void givenReturnFlightWithinMinimumStay_whenBest_thenSkipIt() {
+
+        // Given
+        final FlightEntity outbound = flight("o", "IST", "LHR", DEPARTURE_DAY, 20, 23, 100.0);
+        final FlightEntity tooSoon = flight("r1", "LHR", "IST", RETURN_DAY, 0, 4, 10.0);
+        final FlightEntity afterStay = flight("r2", "LHR", "IST", RETURN_DAY, 1, 5, 50.0);
+
+        // When
+        final List<RoundTripCombiner.Pair> pairs = RoundTripCombiner.best(
+                List.of(outbound), List.of(tooSoon, afterStay), MIN_STAY, RoundTripSort.PRICE, 10);
+
+        // Then
+        assertEquals(1, pairs.size());
+        assertEquals("r2", pairs.get(0).inbound().getId());
+        assertEquals(1L, RoundTripCombiner.count(List.of(outbound), List.of(tooSoon, afterStay), MIN_STAY));
+
+    }
+
+    @Test
+    void givenDurationSort_whenBest_thenReturnShortestCombinationsFirst() {
+
+        // Given
+        final FlightEntity cheapSlow = flight("o1", "IST", "LHR", DEPARTURE_DAY, 6, 12, 50.0);
+        final FlightEntity pricyFast = flight("o2", "IST", "LHR", DEPARTURE_DAY, 7, 9, 300.0);
+        final FlightEntity returnFlight = flight("r", "LHR", "IST", RETURN_DAY, 10, 14, 80.0);
+
+        // When
+        final List<RoundTripCombiner.Pair> pairs = RoundTripCombiner.best(
+                List.of(cheapSlow, pricyFast), List.of(returnFlight), MIN_STAY, RoundTripSort.DURATION, 1);
+
+        // Then
+        assertEquals(1, pairs.size());
+        assertEquals("o2", pairs.get(0).outbound().getId());
+
+    }
+
+    @Test
+    void givenUnpricedFlight_whenBestByPrice_thenRankItLast() {
+
+        // Given
+        final FlightEntity unpriced = flight("o1", "IST", "LHR", DEPARTURE_DAY, 6, 9, null);
+        final FlightEntity priced = flight("o2", "IST", "LHR", DEPARTURE_DAY, 7, 10, 900.0);
+        final FlightEntity returnFlight = flight("r", "LHR", "IST", RETURN_DAY, 10, 14, 80.0);
+
+        // When
+        final List<RoundTripCombiner.Pair> pairs = RoundTripCombiner.best(
+                List.of(unpriced, priced), List.of(returnFlight), MIN_STAY, RoundTripSort.PRICE, 2);
+
+        // Then
+        assertEquals(List.of("o2", "o1"), pairs.stream().map(pair -> pair.outbound().getId()).toList());
+
+    }
+
+    @Test
+    void givenManyFlightsPerLeg_whenBest_thenMatchRankingOfCrossProduct() {
+
+        // Given
+        final Random random = new Random(42);
+        final List<FlightEntity> outbound = randomFlights(random, "o", "IST", "LHR", DEPARTURE_DAY, 200);
+        final List<FlightEntity> inbound = randomFlights(random, "r", "LHR", "IST", DEPARTURE_DAY, 200);
+
+        final List<RoundTripCombiner.Pair> crossProduct = new ArrayList<>();
+        for (FlightEntity out : outbound) {
+            for (FlightEntity in : inbound) {
+                if (!in.getDepartureTime().isBefore(out.getArrivalTime().plus(MIN_STAY))) {
+                    crossProduct.add(new RoundTripCombiner.Pair(out, in));
+                }
+            }
+        }
+        crossProduct.sort(Comparator
+                .comparingLong((RoundTripCombiner.Pair pair) -> RoundTripCombiner.cost(pair.outbound(), RoundTripSort.PRICE)
+                        + RoundTripCombiner.cost(pair.inbound(), RoundTripSort.PRICE))
+                .thenComparingLong(pair -> RoundTripCombiner.cost(pair.outbound(), RoundTripSort.PRICE))
+                .thenComparing(pair -> pair.outbound().getId())
+                .thenComparing(pair -> pair.inbound().getId()));
+
+        // When
+        final List<RoundTripCombiner.Pair> pairs = RoundTripCombiner.best(
+                outbound, inbound, MIN_STAY, RoundTripSort.PRICE, 50);
+
+        // Then
+        assertEquals(crossProduct.subList(0, 50), pairs);
+        assertEquals(crossProduct.size(), RoundTripCombiner.count(outbound, inbound, MIN_STAY));
+
+    }
+
+    @Test
+    void givenNoReturnFlight_whenBest_thenReturnNothing() {
+
+        // Given
+        final FlightEntity outbound = flight("o", "IST", "LHR", DEPARTURE_DAY, 6, 9, 100.0);
+
+        // When
+        final List<RoundTripCombiner.Pair> pairs = RoundTripCombiner.best(
+                List.of(outbound), List.of(), MIN_STAY, RoundTripSort.PRICE, 10);
+
+        // Then
+        assertTrue(pairs.isEmpty());
+        assertEquals(0L, RoundTripCombiner.count(List.of(outbound), List.of(), MIN_STAY));
+
+    }
+
+    private static List<FlightEntity> randomFlights(final Random random,
+                                                    final String prefix,
+                                                    final String from,
+                                                    final String to,
+                                                    final LocalDate day,
+                                                    final int count) {
+
+        final List<FlightEntity> flights = new ArrayList<>(count);
+
+        for (int index = 0; index < count; index++) {
+            final int departureHour = random.nextInt(20);
+            flights.add(flight(prefix + index, from, to, day, departureHour, departureHour + 1 + random.nextInt(3),
+                    (double) (50 + random.nextInt(20))));
+        }
+
+        return flights;
+
+    }
+
+    private static FlightEntity flight(final String id,
+                                       final String from,
+                                       final String to,
+                                       final LocalDate day,
+                                       final int departureHour,
+                                       final int arrivalHour,
+                                       final Double price) {
+        return new FlightEntityBuilder()
+                .withValidFields()
+                .withId(id)
+                .withFromAirport(new AirportEntityBuilder().withId(from).withName(from).build())
+                .withToAirport(new AirportEntityBuilder().withId(to).withName(to).build())
+                .withDepartureTime(day.atTime(departureHour, 0))
+                .withArrivalTime(day.atTime(arrivalHour, 0))
+                .withPrice(price)
+                .build();
+    }
+
+}
@@ -2,6 +2,7 @@ package com.example.demo.flight.utils.validator;
 
 import com.example.demo.base.AbstractBaseServiceTest;
 import com.example.demo.flight.model.dto.request.flight.CreateFlightRequest;
+import com.example.demo.flight.model.dto.request.flight.RoundTripSearchRequest;
 import com.example.demo.flight.model.dto.request.flight.UpdateFlightRequest;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -200,6 +201,21 @@ class ArrivalTimeValidatorTest extends AbstractBaseServiceTest {
         assertTrue(isValid, "Arrival time should be valid if it is equal to departure time.");
     }
 
+    @Test
+    void testInvalidReturnTimeBeforeDepartureTime() {
+        // Given
+        RoundTripSearchRequest invalidRequest = RoundTripSearchRequest.builder()
+                .departureTime(LocalDateTime.of(2025, 1, 13, 0, 0))
+                .returnTime(LocalDateTime.of(2025, 1, 12, 0, 0))
+                .build();
+
+        // When
+        boolean isValid = arrivalTimeValidator.isValid(invalidRequest, context);
+
+        // Then
+        assertFalse(isValid, "Return time cannot be earlier than departure time.");
+    }
+
     @Test
     void testNullValue() {
 